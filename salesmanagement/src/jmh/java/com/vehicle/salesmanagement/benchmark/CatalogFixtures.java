@@ -0,0 +1,80 @@
+package com.vehicle.salesmanagement.benchmark;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.service.VehicleSpecParser;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic catalog shared by the benchmarks.
+ */
+final class CatalogFixtures {
+
+    static final String[] FUEL_TYPES = {"Petrol", "Diesel", "Hybrid", "Electric"};
+    static final String[] TRANSMISSIONS = {"Manual", "Automatic", "CVT"};
+    static final String[] COLOURS = {"Super White", "Attitude Black", "Silver Metallic", "Grey Metallic",
+            "Red Mica", "Blue Metallic", "Bronze", "Pearl White"};
+    static final String[] VARIANT_NAMES = {"E", "G", "GX", "V", "VX", "ZX", "S", "Limited"};
+    static final String[] POWER = {"103 bhp @ 6000 rpm", "148 PS", "110 kW", "201.15 bhp"};
+    static final String[] SPEED = {"180 km/h", "112 mph", "165 kmph", "190"};
+    static final String[] LENGTH = {"4,265 mm", "426.5 cm", "4.27 m", "168 in"};
+
+    private CatalogFixtures() {
+    }
+
+    static List<VehicleModel> models(int count) {
+        List<VehicleModel> models = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            models.add(new VehicleModel((long) i, "Model-" + i));
+        }
+        return models;
+    }
+
+    static List<VehicleVariant> variants(List<VehicleModel> models, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<VehicleVariant> variants = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            VehicleModel model = models.get(random.nextInt(models.size()));
+            VehicleVariant variant = new VehicleVariant();
+            variant.setVehicleVariantId((long) i);
+            variant.setVehicleModelId(model);
+            variant.setModelName(model.getModelName());
+            variant.setVariant(pick(random, VARIANT_NAMES));
+            variant.setSuffix("S" + random.nextInt(20));
+            variant.setFuelType(pick(random, FUEL_TYPES));
+            variant.setTransmissionType(pick(random, TRANSMISSIONS));
+            variant.setColour(pick(random, COLOURS) + ", " + pick(random, COLOURS) + ", " + pick(random, COLOURS));
+            variant.setEngineColour(pick(random, COLOURS));
+            variant.setInteriorColour(pick(random, COLOURS));
+            variant.setEngineCapacity((1000 + random.nextInt(1500)) + " cc");
+            variant.setPrice(BigDecimal.valueOf(500_000 + random.nextInt(4_500_000)));
+            variant.setYearOfManufacture(2018 + random.nextInt(8));
+            variant.setBodyType(random.nextBoolean() ? "SUV" : "Sedan");
+            variant.setFuelTankCapacity(BigDecimal.valueOf(35 + random.nextInt(45)));
+            variant.setSeatingCapacity(4 + random.nextInt(4));
+            variant.setMaxPower(pick(random, POWER));
+            variant.setMaxTorque((150 + random.nextInt(300)) + " Nm");
+            variant.setTopSpeed(pick(random, SPEED));
+            variant.setWheelBase((2400 + random.nextInt(500)) + " mm");
+            variant.setWidth((1650 + random.nextInt(300)) + " mm");
+            variant.setLength(pick(random, LENGTH));
+            variant.setSafetyFeature("ABS, EBD, ESP, Hill Assist");
+            variant.setComfort("Climate Control, Cruise Control, Ventilated Seats");
+            variant.setInfotainment("9-inch touchscreen");
+            variant.setNumberOfAirBags(2 + random.nextInt(8));
+            variant.setMileageCity(BigDecimal.valueOf(8 + random.nextInt(17)));
+            variant.setMileageHighway(BigDecimal.valueOf(10 + random.nextInt(18)));
+            VehicleSpecParser.applyParsedSpecs(variant);
+            variants.add(variant);
+        }
+        return variants;
+    }
+
+    static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,84 @@
+package com.vehicle.salesmanagement.benchmark;
+
+import com.vehicle.salesmanagement.domain.dto.apiresponse.VehicleAttributesResponse;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.repository.*;
+import com.vehicle.salesmanagement.service.CatalogAutocompleteIndex;
+import com.vehicle.salesmanagement.service.CatalogSnapshotService;
+import com.vehicle.salesmanagement.service.VariantSimilarityIndex;
+import com.vehicle.salesmanagement.service.VehicleModelService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@link VehicleModelService#getDropdownData} aggregation over growing variant sets, with the repositories answered
+ * from memory so only the grouping/distinct/sort work is measured. The catalog snapshot is left unmapped, which is the
+ * database read path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DropdownDataBenchmark {
+
+    private static final int MODELS = 20;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int variants;
+
+    private VehicleModelService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<VehicleModel> models = CatalogFixtures.models(MODELS);
+        List<VehicleVariant> catalog = CatalogFixtures.variants(models, variants, 42);
+        Map<String, List<VehicleVariant>> byModelName = catalog.stream()
+                .collect(Collectors.groupingBy(VehicleVariant::getModelName));
+
+        VehicleModelRepository modelRepository = RepositoryStubs.stub(VehicleModelRepository.class, Map.of(
+                "findAll", args -> models,
+                "findById", args -> models.stream().filter(m -> m.getVehicleModelId().equals(args[0])).findFirst(),
+                "findByModelNameIgnoreCase", args -> models.stream()
+                        .filter(m -> m.getModelName().equalsIgnoreCase((String) args[0]))
+                        .collect(Collectors.toList())));
+        VehicleVariantRepository variantRepository = RepositoryStubs.stub(VehicleVariantRepository.class, Map.of(
+                "findAll", args -> catalog,
+                "findByVehicleModelId_ModelName", args -> byModelName.getOrDefault((String) args[0], List.of()),
+                "findByVehicleModelId_ModelNameAndVariant", args -> byModelName.getOrDefault((String) args[0], List.of())
+                        .stream()
+                        .filter(v -> v.getVariant().equals(args[1]))
+                        .collect(Collectors.toList()),
+                "findById", args -> Optional.ofNullable(catalog.get((int) ((Long) args[0] - 1)))));
+
+        CatalogSnapshotService snapshotService = new CatalogSnapshotService(modelRepository, variantRepository,
+                RepositoryStubs.stub(CatalogVersionRepository.class, Map.of()), event -> { });
+        service = new VehicleModelService(modelRepository, variantRepository,
+                RepositoryStubs.stub(StockDetailsRepository.class, Map.of()),
+                RepositoryStubs.stub(MddpStockRepository.class, Map.of()),
+                RepositoryStubs.stub(ManufacturerOrderRepository.class, Map.of()),
+                RepositoryStubs.stub(FinanceDetailsRepository.class, Map.of()),
+                new VariantSimilarityIndex(),
+                new CatalogAutocompleteIndex(),
+                snapshotService);
+    }
+
+    @Benchmark
+    public VehicleAttributesResponse modelNamesOnly() {
+        return service.getDropdownData(null, null, null, null);
+    }
+
+    @Benchmark
+    public VehicleAttributesResponse singleModel() {
+        return service.getDropdownData("Model-1", null, null, null);
+    }
+
+    @Benchmark
+    public VehicleAttributesResponse singleModelAndVariant() {
+        return service.getDropdownData("Model-1", "VX", null, null);
+    }
+}
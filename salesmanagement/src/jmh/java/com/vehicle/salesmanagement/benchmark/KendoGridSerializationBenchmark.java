@@ -0,0 +1,57 @@
+package com.vehicle.salesmanagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.KendoGridResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.VehicleOrderGridDTO;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the {@link KendoGridResponse} payloads returned by the grid endpoints, using an
+ * {@link ObjectMapper} configured the way Spring MVC builds its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KendoGridSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private KendoGridResponse<VehicleOrderGridDTO> orderGrid;
+    private KendoGridResponse<VehicleVariant> variantGrid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        OrderStatus[] statuses = OrderStatus.values();
+        List<VehicleOrderGridDTO> orders = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            orders.add(new VehicleOrderGridDTO(String.format("TYT-2025-%03d", i), "Customer " + i, "Model-" + (i % 20),
+                    1 + i % 3, "VX", statuses[i % statuses.length], "2025-12-01"));
+        }
+        orderGrid = new KendoGridResponse<>(orders, orders.size(), null, null);
+
+        List<VehicleVariant> variants = CatalogFixtures.variants(CatalogFixtures.models(20), rows, 42);
+        variantGrid = new KendoGridResponse<>(variants, variants.size(), null, null);
+    }
+
+    @Benchmark
+    public byte[] orderGrid() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orderGrid);
+    }
+
+    @Benchmark
+    public byte[] variantGrid() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(variantGrid);
+    }
+}
@@ -0,0 +1,62 @@
+package com.vehicle.salesmanagement.benchmark;
+
+import com.vehicle.salesmanagement.domain.dto.apirequest.OrderRequest;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.VehicleOrderGridDTO;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.service.VehicleOrderService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO mapping in {@link VehicleOrderService}: a single request-to-response mapping and the order grid
+ * projection over a growing order table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderMappingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int orders;
+
+    private VehicleOrderService service;
+    private OrderRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        VehicleVariant variant = OrderServiceFixtures.variant();
+        OrderStatus[] statuses = OrderStatus.values();
+        List<VehicleOrderDetails> rows = new ArrayList<>(orders);
+        for (int i = 1; i <= orders; i++) {
+            VehicleOrderDetails order = new VehicleOrderDetails();
+            order.setCustomerOrderId(String.format("TYT-2025-%03d", i));
+            order.setVehicleModelId(OrderServiceFixtures.MODEL);
+            order.setVehicleVariantId(variant);
+            order.setCustomerName("Customer " + i);
+            order.setModelName(OrderServiceFixtures.MODEL.getModelName());
+            order.setVariant(variant.getVariant());
+            order.setQuantity(1 + i % 3);
+            order.setOrderStatus(statuses[i % statuses.length]);
+            order.setExpectedDeliveryDate("2025-12-01");
+            rows.add(order);
+        }
+        service = OrderServiceFixtures.orderService(variant, List.of(), rows);
+        request = OrderServiceFixtures.orderRequest("TYT-2025-001");
+    }
+
+    @Benchmark
+    public OrderResponse mapToOrderResponse() {
+        return service.mapToOrderResponse(request);
+    }
+
+    @Benchmark
+    public List<VehicleOrderGridDTO> allOrdersGrid() {
+        return service.getAllOrders();
+    }
+}
@@ -0,0 +1,68 @@
+package com.vehicle.salesmanagement.benchmark;
+
+import com.vehicle.salesmanagement.config.SalesMetrics;
+import com.vehicle.salesmanagement.domain.dto.apirequest.OrderRequest;
+import com.vehicle.salesmanagement.domain.entity.model.StockDetails;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.repository.*;
+import com.vehicle.salesmanagement.service.HistoryService;
+import com.vehicle.salesmanagement.service.VehicleOrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Wires a {@link VehicleOrderService} against in-memory repositories.
+ */
+final class OrderServiceFixtures {
+
+    static final VehicleModel MODEL = new VehicleModel(1L, "Model-1");
+
+    private OrderServiceFixtures() {
+    }
+
+    static VehicleVariant variant() {
+        VehicleVariant variant = new VehicleVariant();
+        variant.setVehicleVariantId(1L);
+        variant.setVehicleModelId(MODEL);
+        variant.setModelName(MODEL.getModelName());
+        variant.setVariant("VX");
+        return variant;
+    }
+
+    static VehicleOrderService orderService(VehicleVariant variant, List<StockDetails> stock, List<VehicleOrderDetails> orders) {
+        HistoryService historyService = new HistoryService(
+                RepositoryStubs.stub(VehicleOrderDetailsHistoryRepository.class, Map.of("save", RepositoryStubs.returnFirstArgument())),
+                RepositoryStubs.stub(FinanceDetailsHistoryRepository.class, Map.of("save", RepositoryStubs.returnFirstArgument())),
+                RepositoryStubs.stub(DispatchDetailsHistoryRepository.class, Map.of("save", RepositoryStubs.returnFirstArgument())),
+                RepositoryStubs.stub(DeliveryDetailsHistoryRepository.class, Map.of("save", RepositoryStubs.returnFirstArgument())),
+                RepositoryStubs.stub(StockDetailsHistoryRepository.class, Map.of("save", RepositoryStubs.returnFirstArgument())));
+
+        return new VehicleOrderService(
+                RepositoryStubs.stub(StockDetailsRepository.class, Map.of(
+                        "findByModelNameAndVehicleVariantIdAndStockStatus", args -> stock,
+                        "reserveQuantity", args -> 1,
+                        "findById", args -> stock.stream().filter(s -> s.getStockId().equals(args[0])).findFirst(),
+                        "save", RepositoryStubs.returnFirstArgument())),
+                RepositoryStubs.stub(MddpStockRepository.class, Map.of()),
+                RepositoryStubs.stub(ManufacturerOrderRepository.class, Map.of()),
+                RepositoryStubs.stub(VehicleOrderDetailsRepository.class, Map.of("findAll", args -> orders)),
+                RepositoryStubs.stub(VehicleVariantRepository.class, Map.of("findById", args -> Optional.of(variant))),
+                RepositoryStubs.stub(VehicleModelRepository.class, Map.of("findById", args -> Optional.of(MODEL))),
+                historyService,
+                null,
+                RepositoryStubs.stub(FinanceDetailsRepository.class, Map.of()),
+                RepositoryStubs.stub(DeliveryDetailsRepository.class, Map.of()),
+                new SalesMetrics(new SimpleMeterRegistry(), 50, 200));
+    }
+
+    static OrderRequest orderRequest(String customerOrderId) {
+        return new OrderRequest(customerOrderId, MODEL.getVehicleModelId(), 1L, "Asha Rao", "9876543210",
+                "asha@example.com", "12 MG Road, Bengaluru", "12 MG Road, Bengaluru", "123412341234", "ABCDE1234F",
+                MODEL.getModelName(), "Petrol", "Super White", "Automatic", "VX", 1, "Cash", null);
+    }
+}
@@ -0,0 +1,38 @@
+package com.vehicle.salesmanagement.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for Spring Data repositories so service methods can be benchmarked without a database.
+ * Only the methods a benchmark names are answered; anything else fails loudly.
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    static <T> T stub(Class<T> repositoryType, Map<String, Function<Object[], Object>> answers) {
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (self, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "equals" -> self == args[0];
+                            case "hashCode" -> System.identityHashCode(self);
+                            default -> repositoryType.getSimpleName() + " stub";
+                        };
+                    }
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName());
+                    }
+                    return answer.apply(args);
+                });
+        return repositoryType.cast(proxy);
+    }
+
+    static Function<Object[], Object> returnFirstArgument() {
+        return args -> args[0];
+    }
+}
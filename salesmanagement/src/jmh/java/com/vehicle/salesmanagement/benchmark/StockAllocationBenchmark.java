@@ -0,0 +1,77 @@
+package com.vehicle.salesmanagement.benchmark;
+
+import com.vehicle.salesmanagement.domain.dto.apirequest.OrderRequest;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
+import com.vehicle.salesmanagement.domain.entity.model.StockDetails;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.enums.StockStatus;
+import com.vehicle.salesmanagement.service.VehicleOrderService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The attribute filter and oldest-first sort in {@link VehicleOrderService#checkAndBlockStock} over the rows the
+ * repository returns for one model/variant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StockAllocationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int stockRows;
+
+    private VehicleOrderService service;
+    private OrderRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        VehicleVariant variant = OrderServiceFixtures.variant();
+        List<StockDetails> stock = new ArrayList<>(stockRows);
+        for (long id = 1; id < stockRows; id++) {
+            stock.add(stockRow(id, variant,
+                    CatalogFixtures.pick(random, CatalogFixtures.VARIANT_NAMES),
+                    CatalogFixtures.pick(random, CatalogFixtures.COLOURS),
+                    CatalogFixtures.pick(random, CatalogFixtures.TRANSMISSIONS),
+                    CatalogFixtures.pick(random, CatalogFixtures.FUEL_TYPES),
+                    random.nextInt(4),
+                    String.format("2025-%02d-%02d", 1 + random.nextInt(12), 1 + random.nextInt(28))));
+        }
+        // One row that always covers the order, so every invocation takes the blocking path
+        stock.add(stockRow(stockRows, variant, "VX", "Super White", "Automatic", "Petrol",
+                Integer.MAX_VALUE, "2025-06-15"));
+        Collections.shuffle(stock, new Random(42));
+
+        service = OrderServiceFixtures.orderService(variant, stock, List.of());
+        request = OrderServiceFixtures.orderRequest("TYT-2025-001");
+    }
+
+    @Benchmark
+    public OrderResponse checkAndBlockStock() {
+        return service.checkAndBlockStock(request);
+    }
+
+    private static StockDetails stockRow(long id, VehicleVariant variant, String variantName, String colour,
+                                         String transmission, String fuelType, int quantity, String arrivalDate) {
+        StockDetails row = new StockDetails();
+        row.setStockId(id);
+        row.setVehicleModelId(OrderServiceFixtures.MODEL);
+        row.setVehicleVariantId(variant);
+        row.setModelName(OrderServiceFixtures.MODEL.getModelName());
+        row.setVariant(variantName);
+        row.setColour(colour);
+        row.setTransmissionType(transmission);
+        row.setFuelType(fuelType);
+        row.setQuantity(quantity);
+        row.setStockStatus(StockStatus.AVAILABLE);
+        row.setStockArrivalDate(arrivalDate);
+        return row;
+    }
+}
@@ -0,0 +1,63 @@
+package com.vehicle.salesmanagement.benchmark;
+
+import com.vehicle.salesmanagement.service.VariantSimilarityIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VariantSimilarityIndexBenchmark {
+
+    private static final int FEATURES = 11;
+
+    @Param({"10000", "100000", "1000000"})
+    public int variants;
+
+    @Param({"10"})
+    public int k;
+
+    private VariantSimilarityIndex index;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        index = new VariantSimilarityIndex();
+        for (long id = 1; id <= variants; id++) {
+            index.upsert(id, randomFeatures(random));
+        }
+    }
+
+    @Benchmark
+    public List<Long> nearestById() {
+        return index.nearest(1 + random.nextLong(variants), k);
+    }
+
+    @Benchmark
+    public void upsertExisting() {
+        index.upsert(1 + random.nextLong(variants), randomFeatures(random));
+    }
+
+    private static double[] randomFeatures(SplittableRandom random) {
+        double[] features = new double[FEATURES];
+        features[0] = 500_000 + random.nextDouble() * 4_500_000;   // price
+        features[1] = 8 + random.nextDouble() * 17;                 // mileage city
+        features[2] = 10 + random.nextDouble() * 18;                // mileage highway
+        features[3] = 35 + random.nextDouble() * 45;                // fuel tank
+        features[4] = 2 + random.nextInt(8);                        // airbags
+        features[5] = 4 + random.nextInt(4);                        // seating
+        features[6] = 70 + random.nextDouble() * 230;               // max power
+        features[7] = 140 + random.nextDouble() * 110;              // top speed
+        features[8] = 2400 + random.nextDouble() * 500;             // wheel base
+        features[9] = 1650 + random.nextDouble() * 300;             // width
+        features[10] = 3800 + random.nextDouble() * 1300;           // length
+        if (random.nextInt(10) == 0) {
+            features[random.nextInt(FEATURES)] = Double.NaN;
+        }
+        return features;
+    }
+}
@@ -0,0 +1,51 @@
+package com.vehicle.salesmanagement.benchmark;
+
+import com.vehicle.salesmanagement.service.VehicleSpecParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Free-text spec parsing. This replaced the old {@code parseInteger} helper in getDropdownData and still runs for
+ * every saved variant and during the startup backfill.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VehicleSpecParserBenchmark {
+
+    private static final String[] MULTI_VALUED = {
+            "Super White, Attitude Black, Silver Metallic",
+            "ABS, EBD, ESP, Hill Assist, ABS",
+            "Climate Control,Cruise Control,  Ventilated Seats",
+            "Red Mica"
+    };
+
+    private int cursor;
+
+    @Benchmark
+    public void parseLengthMm(Blackhole blackhole) {
+        blackhole.consume(VehicleSpecParser.parseLengthMm(next(CatalogFixtures.LENGTH)));
+    }
+
+    @Benchmark
+    public void parseSpeedKmph(Blackhole blackhole) {
+        blackhole.consume(VehicleSpecParser.parseSpeedKmph(next(CatalogFixtures.SPEED)));
+    }
+
+    @Benchmark
+    public void parsePowerBhp(Blackhole blackhole) {
+        blackhole.consume(VehicleSpecParser.parsePowerBhp(next(CatalogFixtures.POWER)));
+    }
+
+    @Benchmark
+    public void splitMultiValued(Blackhole blackhole) {
+        blackhole.consume(VehicleSpecParser.splitMultiValued(next(MULTI_VALUED)));
+    }
+
+    private String next(String[] values) {
+        cursor = (cursor + 1) & Integer.MAX_VALUE;
+        return values[cursor % values.length];
+    }
+}
@@ -0,0 +1,108 @@
+package com.vehicle.salesmanagement.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Measures what {@code since=<changeToken>} saves on the order grid: a refresh after a few writes must cost a small
+ * fraction of a full reload. What the refresh carries is checked by {@code OrderGridChangeFeedTest}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ChangeFeedTest {
+
+    private static final String PREFIX = "CHANGES-";
+    private static final int ORDERS = 2_000;
+    private static final int UPDATED = 20;
+    private static final int DELETED = 5;
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        LoadTestInfrastructure.register(registry);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+        fixtures.seedOrders(fixtures.seedSku("Changes-Model", "CX"), PREFIX, ORDERS);
+    }
+
+    @AfterAll
+    void removeOrders() {
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void refreshIsSmallAgainstFullGrid() throws Exception {
+        byte[] fullBody = mockMvc.perform(get("/api/vehicleorders")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode full = objectMapper.readTree(fullBody);
+        String token = full.path("changeToken").asText();
+
+        for (int i = 0; i < UPDATED; i++) {
+            jdbcTemplate.update("UPDATE sales_tracking.vehicle_order_details SET order_status = ? WHERE customer_order_id = ?",
+                    OrderStatus.BLOCKED.name(), orderId(i));
+        }
+        for (int i = UPDATED; i < UPDATED + DELETED; i++) {
+            jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id = ?", orderId(i));
+        }
+
+        byte[] refreshBody = mockMvc.perform(get("/api/vehicleorders").param("since", token))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray();
+        JsonNode refreshed = objectMapper.readTree(refreshBody);
+
+        System.out.printf(Locale.ROOT, "%nOrder grid of %d rows: full %d bytes, refresh after %d updates and %d deletes "
+                        + "%d rows / %d bytes%n",
+                full.path("total").asLong(), fullBody.length, UPDATED, DELETED, refreshed.path("data").size(),
+                refreshBody.length);
+        assertTrue(refreshBody.length * 20 < fullBody.length, "Refresh of " + refreshBody.length
+                + " bytes is not small against " + fullBody.length + " bytes for the full grid");
+    }
+
+    private static String orderId(int i) {
+        return OrderFixtures.orderId(PREFIX, i);
+    }
+}
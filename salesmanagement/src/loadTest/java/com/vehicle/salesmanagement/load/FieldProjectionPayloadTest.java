@@ -0,0 +1,138 @@
+package com.vehicle.salesmanagement.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.service.FieldProjectionService;
+import com.vehicle.salesmanagement.service.GridProjection;
+import com.vehicle.salesmanagement.service.VehicleOrderService;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Measures what {@code fields=default} saves on the list endpoints: response bytes over MockMvc, and the time Jackson
+ * spends serializing the projected rows against the full DTOs. That a projection hydrates no entities is checked by
+ * {@code FieldProjectionServiceTest}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+class FieldProjectionPayloadTest {
+
+    private static final String PREFIX = "FIELDS-";
+    private static final int ORDERS = 500;
+    private static final int SERIALIZATIONS = 50;
+    private static final String ADDRESS = "Flat 1204, Tower B, Prestige Lakeside Habitat, Varthur Hobli, "
+            + "Whitefield - Sarjapur Road, Bengaluru Urban District, Karnataka 560087, India.";
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        LoadTestInfrastructure.register(registry);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FieldProjectionService fieldProjectionService;
+
+    @Autowired
+    private VehicleOrderService vehicleOrderService;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @BeforeEach
+    void seed() {
+        if (orderRepository.findByCustomerOrderId(orderId(0)).isEmpty()) {
+            OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+            fixtures.seedOrders(fixtures.seedSku("Fields-Model", "LX"), PREFIX, ORDERS, (order, i) -> {
+                order.setPermanentAddress(ADDRESS);
+                order.setCurrentAddress(ADDRESS);
+            });
+        }
+    }
+
+    @Test
+    void defaultFieldsShrinkEveryGridResponse() throws Exception {
+        StringBuilder report = new StringBuilder("%nResponse bytes, full vs fields=default:%n".formatted());
+        for (String path : List.of("/api/vehicleorders", "/api/stockdetails", "/api/financedetails",
+                "/api/order/dispatchdetails", "/api/order/deliverydetails", "/api/vehiclevariants")) {
+            int full = responseBytes(path, null);
+            int projected = responseBytes(path, FieldProjectionService.DEFAULT_FIELDS);
+            report.append(String.format(Locale.ROOT, "  %-28s %9d -> %9d bytes%n", path, full, projected));
+            assertTrue(projected <= full, path + " grew from " + full + " to " + projected + " bytes");
+        }
+        System.out.print(report);
+
+        // The variant grid is the widest response, so its default columns must at least halve it
+        int full = responseBytes("/api/vehiclevariants", null);
+        int projected = responseBytes("/api/vehiclevariants", FieldProjectionService.DEFAULT_FIELDS);
+        assertTrue(projected * 2 < full, "Variant grid shrank only from " + full + " to " + projected + " bytes");
+    }
+
+    @Test
+    void projectedRowsSerializeFasterThanFullDtos() throws Exception {
+        List<?> full = vehicleOrderService.getAllOrders();
+        List<Map<String, Object>> projected = fieldProjectionService.findAll(GridProjection.VEHICLE_ORDERS,
+                FieldProjectionService.DEFAULT_FIELDS);
+
+        // Warm both paths up so serializer lookup is not measured
+        serialize(full, 5);
+        serialize(projected, 5);
+        long fullNanos = serialize(full, SERIALIZATIONS);
+        long projectedNanos = serialize(projected, SERIALIZATIONS);
+
+        System.out.printf(Locale.ROOT, "%nSerializing %d orders: full %.2f ms, fields=default %.2f ms%n",
+                full.size(), fullNanos / 1e6 / SERIALIZATIONS, projectedNanos / 1e6 / SERIALIZATIONS);
+        assertTrue(projectedNanos < fullNanos, "Projected rows took " + projectedNanos + " ns against "
+                + fullNanos + " ns for full DTOs");
+    }
+
+    private int responseBytes(String path, String fields) throws Exception {
+        var request = get(path);
+        if (fields != null) {
+            request.param("fields", fields);
+        }
+        return mockMvc.perform(request).andExpect(status().isOk()).andReturn()
+                .getResponse().getContentAsByteArray().length;
+    }
+
+    private long serialize(Object value, int times) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < times; i++) {
+            objectMapper.writeValueAsBytes(value);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static String orderId(int i) {
+        return OrderFixtures.orderId(PREFIX, i);
+    }
+}
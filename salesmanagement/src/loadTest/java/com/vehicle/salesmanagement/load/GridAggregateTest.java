@@ -0,0 +1,94 @@
+package com.vehicle.salesmanagement.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Measures the {@code aggregate=} response against the rows the browser used to sum: its size depends on the groups
+ * rather than the rows. That the totals match the rows is checked by {@code GridAggregateServiceTest}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GridAggregateTest {
+
+    private static final String PREFIX = "AGGREGATE-";
+    private static final int ORDERS = 3_000;
+    private static final List<OrderStatus> STATUSES = List.of(OrderStatus.PENDING, OrderStatus.ALLOTTED,
+            OrderStatus.DISPATCHED, OrderStatus.DELIVERED);
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        LoadTestInfrastructure.register(registry);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+        fixtures.seedOrders(fixtures.seedSku("Aggregate-Model", "AX"), PREFIX, ORDERS, (order, i) -> {
+            order.setQuantity(1 + i % 3);
+            order.setOrderStatus(STATUSES.get(i % STATUSES.size()));
+        });
+    }
+
+    @AfterAll
+    void removeOrders() {
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void aggregatesAreSmallAgainstTheRows() throws Exception {
+        byte[] fullBody = mockMvc.perform(get("/api/vehicleorders").param("fields", "orderStatus,quantity"))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray();
+        byte[] aggregateBody = mockMvc.perform(get("/api/aggregates/vehicle-orders")
+                        .param("aggregate", "quantity:sum,quantity:max,customerOrderId:count").param("group", "orderStatus"))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray();
+
+        System.out.printf(Locale.ROOT, "%nOrder totals by status over %d orders: %d bytes of rows vs %d bytes of aggregates%n",
+                objectMapper.readTree(aggregateBody).path("total").asLong(), fullBody.length, aggregateBody.length);
+        assertTrue(aggregateBody.length * 50 < fullBody.length, "Aggregates took " + aggregateBody.length
+                + " bytes against " + fullBody.length + " bytes of rows");
+    }
+}
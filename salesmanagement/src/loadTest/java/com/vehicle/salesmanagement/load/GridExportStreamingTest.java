@@ -0,0 +1,162 @@
+package com.vehicle.salesmanagement.load;
+
+import com.vehicle.salesmanagement.export.ExportFormat;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.service.GridExportService;
+import com.vehicle.salesmanagement.service.GridProjection;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exports a large order grid and samples the heap while rows are being written. Holding the grid in memory, as the
+ * list endpoints do, would grow the heap with the row count; a streamed export must stay flat. The samples are taken
+ * after a GC, so they measure what the export retains rather than what it allocates. That each format holds every
+ * row is checked by {@code GridExportFormatTest}.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GridExportStreamingTest {
+
+    private static final String PREFIX = "EXPORT-";
+    private static final int ORDERS = 200_000;
+    private static final long SAMPLE_EVERY_BYTES = 4L * 1024 * 1024;
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        LoadTestInfrastructure.register(registry);
+    }
+
+    @Autowired
+    private GridExportService gridExportService;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+        fixtures.seedOrders(fixtures.seedSku("Export-Model", "EX"), PREFIX, 1,
+                (order, i) -> order.setCustomerName("Export Customer, \"Reconciliation\""));
+        cloneTemplate(1, ORDERS);
+    }
+
+    // The other load tests list every order; leaving these behind would slow them down
+    @AfterAll
+    void removeOrders() {
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void csvExportKeepsHeapFlat() throws Exception {
+        List<String> columns = gridExportService.columns(GridProjection.VEHICLE_ORDERS, null);
+
+        HeapSamplingOutputStream full = new HeapSamplingOutputStream();
+        long rows = gridExportService.export(GridProjection.VEHICLE_ORDERS, columns, ExportFormat.CSV, false, full);
+
+        HeapSamplingOutputStream subset = new HeapSamplingOutputStream();
+        gridExportService.export(GridProjection.VEHICLE_ORDERS, List.of("customerOrderId"), ExportFormat.CSV, false, subset);
+
+        System.out.printf(Locale.ROOT, "%nCSV export of %d orders: %.1f MB written, heap growth %.1f MB "
+                        + "(key column only: %.1f MB written, heap growth %.1f MB)%n",
+                rows, full.bytes / 1e6, full.maxGrowth() / 1e6, subset.bytes / 1e6, subset.maxGrowth() / 1e6);
+        assertTrue(full.maxGrowth() < MAX_HEAP_GROWTH_BYTES, "Heap grew by " + full.maxGrowth()
+                + " bytes while exporting " + rows + " orders");
+    }
+
+    private static String orderId(int i) {
+        return OrderFixtures.orderId(PREFIX, i);
+    }
+
+    /**
+     * Copies the template order server-side; inserting this many rows through JPA would dominate the test.
+     */
+    private void cloneTemplate(int from, int to) {
+        List<String> columns = jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns WHERE table_schema = 'sales_tracking' "
+                        + "AND table_name = 'vehicle_order_details' ORDER BY ordinal_position", String.class);
+        String select = columns.stream()
+                .map(column -> column.equals("customer_order_id")
+                        ? "'" + PREFIX + "' || lpad(g::text, 7, '0')" : "t." + column)
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.update("INSERT INTO sales_tracking.vehicle_order_details (" + String.join(", ", columns) + ") "
+                + "SELECT " + select + " FROM sales_tracking.vehicle_order_details t, generate_series(?, ?) g "
+                + "WHERE t.customer_order_id = ?", from, to - 1, orderId(0));
+    }
+
+    /**
+     * Discards what is written but counts bytes, and every few megabytes records the used heap after a
+     * GC relative to the heap when the export started.
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long baseline;
+        private long bytes;
+        private long nextSample = SAMPLE_EVERY_BYTES;
+        private long maxUsed;
+
+        HeapSamplingOutputStream() {
+            this.baseline = usedAfterGc();
+            this.maxUsed = baseline;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            sample();
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+            sample();
+        }
+
+        long maxGrowth() {
+            return maxUsed - baseline;
+        }
+
+        private void sample() {
+            if (bytes >= nextSample) {
+                maxUsed = Math.max(maxUsed, usedAfterGc());
+                nextSample = bytes + SAMPLE_EVERY_BYTES;
+            }
+        }
+
+        private long usedAfterGc() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
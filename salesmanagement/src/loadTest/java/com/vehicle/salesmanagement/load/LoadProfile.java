@@ -0,0 +1,35 @@
+package com.vehicle.salesmanagement.load;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Load parameters, read from {@code -Dload.*} system properties so CI can size a run without code changes.
+ *
+ * @param orders             full order flows to drive
+ * @param concurrency        flows in flight at once
+ * @param skus               distinct model/variant combinations orders are spread over
+ * @param fullFlow           drive finance, dispatch and delivery after the order, not just order placement
+ * @param stageTimeout       how long to wait for a stage to reach its expected status
+ * @param minOrdersPerSecond release gate; 0 only reports
+ * @param maxErrorRate       release gate on failed flows, as a fraction
+ * @param maxConnectionHold  longest any request may keep a pooled connection; below the order endpoint's Temporal wait
+ * @param reportDir          where the JSON report is written
+ */
+record LoadProfile(int orders, int concurrency, int skus, boolean fullFlow, Duration stageTimeout,
+                   double minOrdersPerSecond, double maxErrorRate, Duration maxConnectionHold, Path reportDir) {
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("load.orders", 200),
+                Integer.getInteger("load.concurrency", 32),
+                Integer.getInteger("load.skus", 4),
+                Boolean.parseBoolean(System.getProperty("load.full-flow", "true")),
+                Duration.ofSeconds(Long.getLong("load.stage-timeout-seconds", 60)),
+                Double.parseDouble(System.getProperty("load.min-orders-per-second", "0")),
+                Double.parseDouble(System.getProperty("load.max-error-rate", "0")),
+                Duration.ofMillis(Long.getLong("load.max-connection-hold-ms", 2000)),
+                Paths.get(System.getProperty("load.report-dir", "build/reports/loadtest")));
+    }
+}
@@ -0,0 +1,62 @@
+package com.vehicle.salesmanagement.load;
+
+import com.vehicle.salesmanagement.support.TestDatabase;
+import io.temporal.testserver.TestServer;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * Process-local stand-ins for the two external services: the embedded Postgres of {@link TestDatabase} and
+ * Temporal's port-bound test server. Both start once per JVM and stop on exit, so the harness runs on a single box
+ * without network access.
+ */
+final class LoadTestInfrastructure {
+
+    private static LoadTestInfrastructure instance;
+
+    private final TestServer.PortBoundTestServer temporal;
+    private final int temporalPort;
+
+    private LoadTestInfrastructure() throws IOException {
+        temporalPort = freePort();
+        temporal = TestServer.createPortBoundServer(temporalPort);
+    }
+
+    static synchronized LoadTestInfrastructure get() {
+        if (instance == null) {
+            try {
+                instance = new LoadTestInfrastructure();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::close, "load-test-infrastructure-shutdown"));
+        }
+        return instance;
+    }
+
+    /**
+     * Points the application context at the embedded services; call from a {@code @DynamicPropertySource}.
+     */
+    static void register(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+        registry.add("temporal.target", get()::temporalTarget);
+    }
+
+    String temporalTarget() {
+        return "localhost:" + temporalPort;
+    }
+
+    private void close() {
+        temporal.close();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.vehicle.salesmanagement.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.vehicle.salesmanagement.domain.entity.model.StockDetails;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.enums.StockStatus;
+import com.vehicle.salesmanagement.repository.StockDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives concurrent order → finance → dispatch → delivery flows through the REST API. The real workflows and
+ * activities run on workers polling Temporal's in-process test server, against an embedded Postgres.
+ * <p>
+ * Run with {@code ./gradlew loadTest -Dload.orders=500 -Dload.concurrency=64}. It prints per-stage throughput and
+ * p50/p95/p99 and writes them to {@code build/reports/loadtest/order-throughput.json}, along with Hikari pool wait
+ * and connection hold times. The run fails if {@code load.min-orders-per-second} or {@code load.max-error-rate} is
+ * not met, or if any connection was held longer than {@code load.max-connection-hold-ms}, which catches a connection
+ * pinned across the order endpoint's Temporal calls.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderThroughputLoadTest {
+
+    private static final LoadProfile PROFILE = LoadProfile.fromSystemProperties();
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        LoadTestInfrastructure.register(registry);
+    }
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private StockDetailsRepository stockDetailsRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<VehicleVariant> skus = new ArrayList<>();
+
+    @BeforeAll
+    void seedCatalog() {
+        int stockPerSku = PROFILE.orders() / PROFILE.skus() + 1;
+        for (int i = 1; i <= PROFILE.skus(); i++) {
+            VehicleModel model = vehicleModelRepository.save(new VehicleModel(null, "Load-Model-" + i));
+            VehicleVariant variant = new VehicleVariant();
+            variant.setVehicleModelId(model);
+            variant.setModelName(model.getModelName());
+            variant.setVariant("VX");
+            variant.setColour("Super White");
+            variant.setFuelType("Petrol");
+            variant.setTransmissionType("Automatic");
+            variant = vehicleVariantRepository.save(variant);
+            skus.add(variant);
+
+            StockDetails stock = new StockDetails();
+            stock.setVehicleModelId(model);
+            stock.setVehicleVariantId(variant);
+            stock.setModelName(model.getModelName());
+            stock.setVariant(variant.getVariant());
+            stock.setColour(variant.getColour());
+            stock.setFuelType(variant.getFuelType());
+            stock.setTransmissionType(variant.getTransmissionType());
+            stock.setQuantity(stockPerSku);
+            stock.setStockStatus(StockStatus.AVAILABLE);
+            stock.setStockArrivalDate(LocalDate.now().minusDays(30).toString());
+            stockDetailsRepository.save(stock);
+        }
+    }
+
+    @Test
+    void orderThroughput() throws Exception {
+        StageLatencies latencies = new StageLatencies();
+        ExecutorService pool = Executors.newFixedThreadPool(PROFILE.concurrency());
+        long start = System.nanoTime();
+        List<Future<?>> flows = new ArrayList<>(PROFILE.orders());
+        for (int i = 0; i < PROFILE.orders(); i++) {
+            VehicleVariant sku = skus.get(i % skus.size());
+            int index = i;
+            flows.add(pool.submit(() -> runFlow(index, sku, latencies)));
+        }
+        for (Future<?> flow : flows) {
+            flow.get();
+        }
+        long wallClock = System.nanoTime() - start;
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+
+        Map<String, StageLatencies.Summary> summaries = latencies.summarise(wallClock);
+        Timer poolWait = meterRegistry.get("hikaricp.connections.acquire").timer();
+        Timer connectionHold = meterRegistry.get("hikaricp.connections.usage").timer();
+        System.out.printf(Locale.ROOT, "%nOrder throughput: %d flows, concurrency %d, %.1f s wall clock%n%s"
+                        + "Pool wait mean %.2f ms, max %.2f ms; connection hold mean %.2f ms, max %.2f ms%n",
+                PROFILE.orders(), PROFILE.concurrency(), wallClock / 1e9, StageLatencies.format(summaries),
+                poolWait.mean(TimeUnit.MILLISECONDS), poolWait.max(TimeUnit.MILLISECONDS),
+                connectionHold.mean(TimeUnit.MILLISECONDS), connectionHold.max(TimeUnit.MILLISECONDS));
+        Map<String, Object> settings = StageLatencies.settings(PROFILE);
+        settings.put("poolWaitMeanMs", poolWait.mean(TimeUnit.MILLISECONDS));
+        settings.put("poolWaitMaxMs", poolWait.max(TimeUnit.MILLISECONDS));
+        settings.put("connectionHoldMeanMs", connectionHold.mean(TimeUnit.MILLISECONDS));
+        settings.put("connectionHoldMaxMs", connectionHold.max(TimeUnit.MILLISECONDS));
+        StageLatencies.writeJson(PROFILE.reportDir().resolve("order-throughput.json"), settings, summaries);
+
+        double errorRate = (double) latencies.failures() / PROFILE.orders();
+        assertTrue(errorRate <= PROFILE.maxErrorRate(),
+                "Error rate " + errorRate + " exceeds load.max-error-rate " + PROFILE.maxErrorRate());
+        StageLatencies.Summary orders = summaries.get(StageLatencies.ORDER);
+        double ordersPerSecond = orders == null ? 0 : orders.throughput();
+        assertTrue(ordersPerSecond >= PROFILE.minOrdersPerSecond(),
+                "Order throughput " + ordersPerSecond + "/s is below load.min-orders-per-second " + PROFILE.minOrdersPerSecond());
+        assertTrue(connectionHold.max(TimeUnit.MILLISECONDS) <= PROFILE.maxConnectionHold().toMillis(),
+                "A connection was held for " + connectionHold.max(TimeUnit.MILLISECONDS)
+                        + " ms, over load.max-connection-hold-ms " + PROFILE.maxConnectionHold().toMillis());
+    }
+
+    private void runFlow(int index, VehicleVariant sku, StageLatencies latencies) {
+        long flowStart = System.nanoTime();
+        String customerOrderId = stage(StageLatencies.ORDER, latencies, () -> placeOrder(index, sku));
+        if (customerOrderId == null || !PROFILE.fullFlow()) {
+            return;
+        }
+        // Each transition is a workflow update that returns once it is recorded, so the responses carry the new status
+        boolean ok = stage(StageLatencies.FINANCE, latencies, () -> {
+            post("/api/order/financeInitiate", financeRequest(customerOrderId, sku));
+            return orderStatus(post("/api/order/financeApprove", Map.of("customerOrderId", customerOrderId, "approvedBy", "load-test")),
+                    OrderStatus.ALLOTTED);
+        }) != null
+                && stage(StageLatencies.DISPATCH, latencies, () -> orderStatus(
+                post("/api/order/initiateDispatch", Map.of("customerOrderId", customerOrderId, "dispatchedBy", "load-test")),
+                OrderStatus.DISPATCHED)) != null
+                && stage(StageLatencies.DELIVERY, latencies, () -> orderStatus(
+                post("/api/order/confirmDelivery", Map.of("customerOrderId", customerOrderId,
+                        "deliveredBy", "load-test", "recipientName", "Customer " + index)),
+                OrderStatus.DELIVERED)) != null;
+        if (ok) {
+            latencies.record(StageLatencies.END_TO_END, System.nanoTime() - flowStart);
+        }
+    }
+
+    private String placeOrder(int index, VehicleVariant sku) {
+        Map<String, Object> order = new LinkedHashMap<>();
+        order.put("vehicleModelId", sku.getVehicleModelId().getVehicleModelId());
+        order.put("vehicleVariantId", sku.getVehicleVariantId());
+        order.put("customerName", "Customer " + index);
+        order.put("phoneNumber", String.format("9%09d", index));
+        order.put("email", "customer" + index + "@example.com");
+        order.put("permanentAddress", "12 MG Road, Bengaluru");
+        order.put("currentAddress", "12 MG Road, Bengaluru");
+        order.put("aadharNo", String.format("%012d", 100_000_000_000L + index));
+        order.put("panNo", "ABCDE1234F");
+        order.put("modelName", sku.getModelName());
+        order.put("fuelType", sku.getFuelType());
+        order.put("colour", sku.getColour());
+        order.put("transmissionType", sku.getTransmissionType());
+        order.put("variant", sku.getVariant());
+        order.put("quantity", 1);
+        order.put("paymentMode", "Finance");
+        order.put("expectedDeliveryDate", LocalDate.now().plusDays(30).toString());
+
+        JsonNode body = post("/api/placeOrder", order);
+        String customerOrderId = body.path("data").path("customerOrderId").asText(null);
+        if (customerOrderId == null) {
+            throw new IllegalStateException("placeOrder returned no customerOrderId: " + body);
+        }
+        return awaitStatus(customerOrderId, OrderStatus.BLOCKED) != null ? customerOrderId : null;
+    }
+
+    private Map<String, Object> financeRequest(String customerOrderId, VehicleVariant sku) {
+        Map<String, Object> finance = new LinkedHashMap<>();
+        finance.put("customerOrderId", customerOrderId);
+        finance.put("customerName", "Load Customer");
+        finance.put("vehicleModelId", sku.getVehicleModelId().getVehicleModelId());
+        finance.put("vehicleVariantId", sku.getVehicleVariantId());
+        finance.put("modelName", sku.getModelName());
+        finance.put("variant", sku.getVariant());
+        finance.put("colour", sku.getColour());
+        finance.put("fuelType", sku.getFuelType());
+        finance.put("transmissionType", sku.getTransmissionType());
+        finance.put("quantity", 1);
+        finance.put("paymentMode", "Finance");
+        return finance;
+    }
+
+    private JsonNode post(String path, Object payload) {
+        ResponseEntity<JsonNode> response = rest.postForEntity(path, payload, JsonNode.class);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new IllegalStateException(path + " returned " + response.getStatusCode() + ": " + response.getBody());
+        }
+        return response.getBody();
+    }
+
+    private static OrderStatus orderStatus(JsonNode body, OrderStatus expected) {
+        String current = body.path("data").path("orderStatus").asText(null);
+        if (!expected.name().equals(current)) {
+            throw new IllegalStateException("Expected " + expected + " but got: " + body);
+        }
+        return expected;
+    }
+
+    private OrderStatus awaitStatus(String customerOrderId, OrderStatus expected) {
+        long deadline = System.nanoTime() + PROFILE.stageTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            OrderStatus current = orderRepository.findByCustomerOrderId(customerOrderId)
+                    .map(VehicleOrderDetails::getOrderStatus)
+                    .orElse(null);
+            if (current == expected) {
+                return current;
+            }
+            if (current == OrderStatus.FAILED || current == OrderStatus.CANCELED) {
+                throw new IllegalStateException(customerOrderId + " ended in " + current + " waiting for " + expected);
+            }
+            pause();
+        }
+        throw new IllegalStateException(customerOrderId + " did not reach " + expected + " within " + PROFILE.stageTimeout());
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(25);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the next stage", e);
+        }
+    }
+
+    private <T> T stage(String name, StageLatencies latencies, Supplier<T> body) {
+        long start = System.nanoTime();
+        try {
+            T result = body.get();
+            latencies.record(name, System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            latencies.fail(name);
+            System.err.printf("%s stage failed: %s%n", name, e.getMessage());
+            return null;
+        }
+    }
+}
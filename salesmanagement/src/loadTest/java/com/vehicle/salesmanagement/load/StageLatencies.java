@@ -0,0 +1,115 @@
+package com.vehicle.salesmanagement.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-stage latencies and failures from concurrent flows and summarises them as throughput and
+ * p50/p95/p99.
+ */
+final class StageLatencies {
+
+    static final String ORDER = "order";
+    static final String FINANCE = "finance";
+    static final String DISPATCH = "dispatch";
+    static final String DELIVERY = "delivery";
+    static final String END_TO_END = "end-to-end";
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> samples = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    void record(String stage, long nanos) {
+        samples.computeIfAbsent(stage, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+    }
+
+    void fail(String stage) {
+        failures.computeIfAbsent(stage, key -> new LongAdder()).increment();
+    }
+
+    long failures() {
+        return failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    long completed(String stage) {
+        ConcurrentLinkedQueue<Long> values = samples.get(stage);
+        return values == null ? 0 : values.size();
+    }
+
+    Map<String, Summary> summarise(long wallClockNanos) {
+        return summarise(wallClockNanos, ORDER, FINANCE, DISPATCH, DELIVERY, END_TO_END);
+    }
+
+    Map<String, Summary> summarise(long wallClockNanos, String... stages) {
+        Map<String, Summary> summaries = new LinkedHashMap<>();
+        for (String stage : stages) {
+            ConcurrentLinkedQueue<Long> values = samples.get(stage);
+            LongAdder failed = failures.get(stage);
+            if (values == null && failed == null) {
+                continue;
+            }
+            long[] sorted = values == null ? new long[0] : values.stream().mapToLong(Long::longValue).sorted().toArray();
+            summaries.put(stage, new Summary(sorted.length, failed == null ? 0 : failed.sum(),
+                    sorted.length / (wallClockNanos / 1e9),
+                    percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95), percentileMillis(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6));
+        }
+        return summaries;
+    }
+
+    static String format(Map<String, Summary> summaries) {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT, "%-11s %8s %7s %9s %9s %9s %9s %9s%n",
+                "stage", "ok", "failed", "ops/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        summaries.forEach((stage, s) -> out.append(String.format(Locale.ROOT,
+                "%-11s %8d %7d %9.2f %9.1f %9.1f %9.1f %9.1f%n",
+                stage, s.completed(), s.failed(), s.throughput(), s.p50Millis(), s.p95Millis(), s.p99Millis(), s.maxMillis())));
+        return out.toString();
+    }
+
+    static Map<String, Object> settings(LoadProfile profile) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("orders", profile.orders());
+        settings.put("concurrency", profile.concurrency());
+        settings.put("skus", profile.skus());
+        settings.put("fullFlow", profile.fullFlow());
+        return settings;
+    }
+
+    /**
+     * Writes {@code settings} as top-level fields (numbers and booleans unquoted) followed by the stage summaries.
+     */
+    static void writeJson(Path file, Map<String, ?> settings, Map<String, Summary> summaries) throws IOException {
+        StringBuilder json = new StringBuilder("{\n");
+        settings.forEach((key, value) -> json.append(String.format(Locale.ROOT, "  \"%s\": %s,%n", key,
+                value instanceof Number || value instanceof Boolean ? value : "\"" + value + "\"")));
+        json.append("  \"stages\": {\n");
+        String stages = summaries.entrySet().stream()
+                .map(e -> String.format(Locale.ROOT,
+                        "    \"%s\": {\"completed\": %d, \"failed\": %d, \"throughput\": %.3f, \"p50Ms\": %.3f, \"p95Ms\": %.3f, \"p99Ms\": %.3f, \"maxMs\": %.3f}",
+                        e.getKey(), e.getValue().completed(), e.getValue().failed(), e.getValue().throughput(),
+                        e.getValue().p50Millis(), e.getValue().p95Millis(), e.getValue().p99Millis(), e.getValue().maxMillis()))
+                .reduce((a, b) -> a + ",\n" + b)
+                .orElse("");
+        json.append(stages).append("\n  }\n}\n");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, json);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    record Summary(long completed, long failed, double throughput,
+                   double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,164 @@
+package com.vehicle.salesmanagement.load;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.profiling.SqlAccounting;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures what a status transition writes now that {@link VehicleOrderDetails} is bytecode-enhanced, declared
+ * {@code @DynamicUpdate} and loads its addresses lazily.
+ * <p>
+ * The baseline is the statement Hibernate sends for an entity without {@code @DynamicUpdate}: every mapped column
+ * bound on every update. It is replayed over JDBC with the row's current values, so both sides hit the same rows
+ * and indexes. Bytes are the SQL text plus the text form of each bound value; time is JDBC execution time, and the
+ * enhanced side also reports the whole flush. That the transition marks only the status dirty is checked by
+ * {@code VehicleOrderDetailsStatusUpdateTest}.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class StatusTransitionWriteTest {
+
+    private static final String PREFIX = "WRITE-";
+    private static final int ORDERS = 300;
+    private static final String ADDRESS = "Flat 1204, Tower B, Prestige Lakeside Habitat, Varthur Hobli, "
+            + "Whitefield - Sarjapur Road, Near Gunjur Lake, Bengaluru Urban District, Karnataka 560087, India. "
+            + "Landmark: opposite the Gunjur Panchayat office, second gate after the Shell petrol pump.";
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        LoadTestInfrastructure.register(registry);
+    }
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (orderRepository.findByCustomerOrderId(orderId(0)).isEmpty()) {
+            OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+            fixtures.seedOrders(fixtures.seedSku("Write-Model", "ZX"), PREFIX, ORDERS, (order, i) -> {
+                order.setPermanentAddress(ADDRESS);
+                order.setCurrentAddress(ADDRESS);
+            });
+        }
+    }
+
+    @Test
+    void statusTransitionWritesFewerBytesThanFullRowUpdate() {
+        List<String> columns = jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns WHERE table_schema = 'sales_tracking' "
+                        + "AND table_name = 'vehicle_order_details' AND column_name <> 'customer_order_id' "
+                        + "ORDER BY ordinal_position", String.class);
+        String fullRowSql = "update sales_tracking.vehicle_order_details set "
+                + columns.stream().map(column -> column + "=?").collect(Collectors.joining(","))
+                + " where customer_order_id=?";
+        String dynamicSql = "update sales_tracking.vehicle_order_details set order_status=? where customer_order_id=?";
+
+        long fullRowBytes = 0;
+        long fullRowNanos = 0;
+        for (int i = 0; i < ORDERS; i++) {
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT * FROM sales_tracking.vehicle_order_details WHERE customer_order_id = ?", orderId(i));
+            List<Object> values = new ArrayList<>();
+            for (String column : columns) {
+                values.add("order_status".equals(column) ? next(OrderStatus.valueOf((String) row.get(column))).name()
+                        : row.get(column));
+            }
+            values.add(orderId(i));
+            fullRowBytes += bytes(fullRowSql, values);
+            long start = System.nanoTime();
+            jdbcTemplate.update(fullRowSql, values.toArray());
+            fullRowNanos += System.nanoTime() - start;
+        }
+
+        long dynamicBytes = 0;
+        long dynamicJdbcNanos = 0;
+        long dynamicFlushNanos = 0;
+        for (int i = 0; i < ORDERS; i++) {
+            String id = orderId(i);
+            long[] measured = transactionTemplate.execute(status -> {
+                VehicleOrderDetails order = entityManager.find(VehicleOrderDetails.class, id);
+                order.setOrderStatus(next(order.getOrderStatus()));
+                try (SqlAccounting.Scope scope = SqlAccounting.open("test", "flush")) {
+                    long start = System.nanoTime();
+                    entityManager.flush();
+                    return new long[]{bytes(dynamicSql, List.of(order.getOrderStatus().name(), id)),
+                            scope.jdbcNanos(), System.nanoTime() - start};
+                }
+            });
+            dynamicBytes += measured[0];
+            dynamicJdbcNanos += measured[1];
+            dynamicFlushNanos += measured[2];
+        }
+
+        System.out.printf(Locale.ROOT, "%nStatus transition writes over %d orders:%n"
+                        + "  full-row update : %7.1f bytes/update, %6.1f us JDBC/update%n"
+                        + "  dynamic update  : %7.1f bytes/update, %6.1f us JDBC/update, %6.1f us flush/update%n",
+                ORDERS, (double) fullRowBytes / ORDERS, fullRowNanos / 1e3 / ORDERS,
+                (double) dynamicBytes / ORDERS, dynamicJdbcNanos / 1e3 / ORDERS, dynamicFlushNanos / 1e3 / ORDERS);
+
+        assertTrue(dynamicBytes * 5 < fullRowBytes, "Dynamic update wrote " + dynamicBytes
+                + " bytes against " + fullRowBytes + " for full-row updates");
+    }
+
+    private static long bytes(String sql, List<?> values) {
+        long bytes = sql.getBytes(StandardCharsets.UTF_8).length;
+        for (Object value : values) {
+            if (value != null) {
+                bytes += String.valueOf(value).getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return bytes;
+    }
+
+    private static OrderStatus next(OrderStatus current) {
+        return current == OrderStatus.PENDING ? OrderStatus.ALLOTTED : OrderStatus.PENDING;
+    }
+
+    private static String orderId(int i) {
+        return OrderFixtures.orderId(PREFIX, i);
+    }
+}
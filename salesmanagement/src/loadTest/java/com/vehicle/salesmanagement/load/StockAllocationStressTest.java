@@ -0,0 +1,321 @@
+package com.vehicle.salesmanagement.load;
+
+import com.vehicle.salesmanagement.domain.dto.apirequest.OrderRequest;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
+import com.vehicle.salesmanagement.domain.entity.model.MddpStock;
+import com.vehicle.salesmanagement.domain.entity.model.StockDetails;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.enums.StockStatus;
+import com.vehicle.salesmanagement.repository.MddpStockRepository;
+import com.vehicle.salesmanagement.repository.StockDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.service.VehicleOrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Races thousands of stock allocations and duplicate cancellations for a few hot variants against a real Postgres,
+ * calling {@link VehicleOrderService} directly so nothing but the database serialises them.
+ * <p>
+ * Afterwards, for every variant, units left in stock and MDDP plus units held by BLOCKED orders must equal what was
+ * seeded, no row may go negative, and every cancelled order must have been restored by exactly one of its two
+ * cancel calls. Run with {@code ./gradlew loadTest --tests '*StockAllocationStressTest' -Dstress.allocations=5000}.
+ * Throughput, p50/p95/p99 and the time spent in conditional stock updates (row lock wait included) are printed and
+ * written to {@code build/reports/loadtest/stock-allocation-stress.json}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StockAllocationStressTest {
+
+    private static final StressProfile PROFILE = StressProfile.fromSystemProperties();
+    private static final String ALLOCATE = "allocate";
+    private static final String CANCEL = "cancel";
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        LoadTestInfrastructure.register(registry);
+    }
+
+    @Autowired
+    private VehicleOrderService vehicleOrderService;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private StockDetailsRepository stockDetailsRepository;
+
+    @Autowired
+    private MddpStockRepository mddpStockRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<VehicleVariant> skus = new ArrayList<>();
+
+    @BeforeAll
+    void seedHotSkus() {
+        for (int i = 1; i <= PROFILE.hotSkus(); i++) {
+            VehicleModel model = vehicleModelRepository.save(new VehicleModel(null, "Stress-Model-" + i));
+            VehicleVariant variant = new VehicleVariant();
+            variant.setVehicleModelId(model);
+            variant.setModelName(model.getModelName());
+            variant.setVariant("VX");
+            variant.setColour("Super White");
+            variant.setFuelType("Petrol");
+            variant.setTransmissionType("Automatic");
+            variant = vehicleVariantRepository.save(variant);
+            skus.add(variant);
+
+            for (int row = 0; row < PROFILE.stockRows(); row++) {
+                StockDetails stock = new StockDetails();
+                stock.setVehicleModelId(model);
+                stock.setVehicleVariantId(variant);
+                stock.setModelName(model.getModelName());
+                stock.setVariant(variant.getVariant());
+                stock.setColour(variant.getColour());
+                stock.setFuelType(variant.getFuelType());
+                stock.setTransmissionType(variant.getTransmissionType());
+                stock.setQuantity(PROFILE.stockPerRow());
+                stock.setStockStatus(StockStatus.AVAILABLE);
+                stock.setStockArrivalDate(LocalDate.now().minusDays(30 + row).toString());
+                stockDetailsRepository.save(stock);
+            }
+
+            MddpStock mddp = new MddpStock();
+            mddp.setVehicleModelId(model);
+            mddp.setVehicleVariantId(variant);
+            mddp.setModelName(model.getModelName());
+            mddp.setVariant(variant.getVariant());
+            mddp.setColour(variant.getColour());
+            mddp.setFuelType(variant.getFuelType());
+            mddp.setTransmissionType(variant.getTransmissionType());
+            mddp.setQuantity(PROFILE.mddpQuantity());
+            mddp.setStockStatus(StockStatus.AVAILABLE);
+            mddp.setExpectedDispatchDate(LocalDateTime.now().plusDays(7));
+            mddp.setExpectedDeliveryDate(LocalDateTime.now().plusDays(14));
+            mddpStockRepository.save(mddp);
+        }
+    }
+
+    @Test
+    void concurrentAllocationsNeverOversell() throws Exception {
+        StageLatencies latencies = new StageLatencies();
+        Map<String, AtomicInteger> successfulCancels = new ConcurrentHashMap<>();
+        Queue<Future<?>> cancels = new ConcurrentLinkedQueue<>();
+        ExecutorService allocationPool = Executors.newFixedThreadPool(PROFILE.threads());
+        ExecutorService cancelPool = Executors.newFixedThreadPool(Math.max(2, PROFILE.threads() / 4));
+        SplittableRandom random = new SplittableRandom(42);
+
+        long start = System.nanoTime();
+        List<Future<?>> allocations = new ArrayList<>(PROFILE.allocations());
+        for (int i = 0; i < PROFILE.allocations(); i++) {
+            VehicleVariant sku = skus.get(i % skus.size());
+            String customerOrderId = String.format("STRESS-%06d", i);
+            boolean viaMddp = random.nextDouble() < PROFILE.mddpFraction();
+            boolean cancel = random.nextDouble() < PROFILE.cancelFraction();
+            allocations.add(allocationPool.submit(() -> {
+                if (allocate(customerOrderId, sku, viaMddp, latencies) && cancel) {
+                    // Two cancels for the same order race each other and the allocations still running
+                    successfulCancels.put(customerOrderId, new AtomicInteger());
+                    for (int attempt = 0; attempt < 2; attempt++) {
+                        cancels.add(cancelPool.submit(() -> cancel(customerOrderId, successfulCancels, latencies)));
+                    }
+                }
+            }));
+        }
+        for (Future<?> allocation : allocations) {
+            allocation.get();
+        }
+        for (Future<?> cancel : cancels) {
+            cancel.get();
+        }
+        long wallClock = System.nanoTime() - start;
+        allocationPool.shutdown();
+        cancelPool.shutdown();
+        allocationPool.awaitTermination(1, TimeUnit.MINUTES);
+        cancelPool.awaitTermination(1, TimeUnit.MINUTES);
+
+        Map<String, StageLatencies.Summary> summaries = latencies.summarise(wallClock, ALLOCATE, CANCEL);
+        System.out.printf("%nStock allocation stress: %d allocations over %d hot SKUs, %d threads, %.1f s wall clock%n%s%n%s%n",
+                PROFILE.allocations(), PROFILE.hotSkus(), PROFILE.threads(), wallClock / 1e9,
+                StageLatencies.format(summaries), reservationReport());
+        StageLatencies.writeJson(PROFILE.reportDir().resolve("stock-allocation-stress.json"), settings(), summaries);
+
+        successfulCancels.forEach((customerOrderId, restores) -> assertEquals(1, restores.get(),
+                customerOrderId + " was cancelled " + restores.get() + " times"));
+        assertEquals(0, latencies.failures(), "Allocations or cancels failed unexpectedly");
+        assertStockConserved();
+    }
+
+    private boolean allocate(String customerOrderId, VehicleVariant sku, boolean viaMddp, StageLatencies latencies) {
+        long start = System.nanoTime();
+        try {
+            // The order row commits with the stock it holds, as the order activity does
+            Boolean blocked = transactionTemplate.execute(status -> {
+                OrderRequest request = orderRequest(customerOrderId, sku);
+                OrderResponse response = viaMddp
+                        ? vehicleOrderService.checkAndReserveMddpStock(request)
+                        : vehicleOrderService.checkAndBlockStock(request);
+                if (response.getOrderStatus() != OrderStatus.BLOCKED) {
+                    return false;
+                }
+                orderRepository.save(orderDetails(request, sku));
+                return true;
+            });
+            latencies.record(ALLOCATE, System.nanoTime() - start);
+            return Boolean.TRUE.equals(blocked);
+        } catch (RuntimeException e) {
+            latencies.fail(ALLOCATE);
+            System.err.printf("allocation %s failed: %s%n", customerOrderId, e);
+            return false;
+        }
+    }
+
+    private void cancel(String customerOrderId, Map<String, AtomicInteger> successfulCancels, StageLatencies latencies) {
+        long start = System.nanoTime();
+        try {
+            vehicleOrderService.cancelOrder(customerOrderId);
+            successfulCancels.get(customerOrderId).incrementAndGet();
+            latencies.record(CANCEL, System.nanoTime() - start);
+        } catch (IllegalStateException e) {
+            // The duplicate loses the race; that is the expected outcome, not a failure
+            latencies.record(CANCEL, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            latencies.fail(CANCEL);
+            System.err.printf("cancel %s failed: %s%n", customerOrderId, e);
+        }
+    }
+
+    private void assertStockConserved() {
+        List<StockDetails> stock = stockDetailsRepository.findAll();
+        List<MddpStock> mddp = mddpStockRepository.findAll();
+        List<VehicleOrderDetails> orders = orderRepository.findAll();
+        for (VehicleVariant sku : skus) {
+            Long variantId = sku.getVehicleVariantId();
+            int available = 0;
+            for (StockDetails row : stock) {
+                if (variantId.equals(row.getVehicleVariantId().getVehicleVariantId())) {
+                    assertTrue(row.getQuantity() >= 0, "Stock row " + row.getStockId() + " went negative: " + row.getQuantity());
+                    available += row.getQuantity();
+                }
+            }
+            int inMddp = 0;
+            for (MddpStock row : mddp) {
+                if (variantId.equals(row.getVehicleVariantId().getVehicleVariantId())) {
+                    assertTrue(row.getQuantity() >= 0, "MDDP row " + row.getMddpId() + " went negative: " + row.getQuantity());
+                    inMddp += row.getQuantity();
+                }
+            }
+            int blocked = orders.stream()
+                    .filter(o -> o.getOrderStatus() == OrderStatus.BLOCKED)
+                    .filter(o -> variantId.equals(o.getVehicleVariantId().getVehicleVariantId()))
+                    .mapToInt(VehicleOrderDetails::getQuantity)
+                    .sum();
+            System.out.printf("%s: %d in stock + %d in MDDP + %d blocked = %d (seeded %d)%n", sku.getModelName(),
+                    available, inMddp, blocked, available + inMddp + blocked, PROFILE.initialUnitsPerSku());
+            assertEquals(PROFILE.initialUnitsPerSku(), available + inMddp + blocked,
+                    "Units for " + sku.getModelName() + " were not conserved");
+        }
+    }
+
+    private String reservationReport() {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT, "%-6s %-9s %8s %9s %9s%n",
+                "source", "result", "count", "mean ms", "max ms"));
+        for (Timer timer : meterRegistry.find("salesmanagement.stock.reservation").timers()) {
+            out.append(String.format(Locale.ROOT, "%-6s %-9s %8d %9.2f %9.2f%n",
+                    timer.getId().getTag("source"), timer.getId().getTag("result"), timer.count(),
+                    timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS)));
+        }
+        return out.toString();
+    }
+
+    private Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("allocations", PROFILE.allocations());
+        settings.put("threads", PROFILE.threads());
+        settings.put("hotSkus", PROFILE.hotSkus());
+        settings.put("initialUnitsPerSku", PROFILE.initialUnitsPerSku());
+        settings.put("mddpFraction", PROFILE.mddpFraction());
+        settings.put("cancelFraction", PROFILE.cancelFraction());
+        for (Timer timer : meterRegistry.find("salesmanagement.stock.reservation").timers()) {
+            String key = "reservation." + timer.getId().getTag("source") + "." + timer.getId().getTag("result");
+            settings.put(key + ".count", timer.count());
+            settings.put(key + ".meanMs", timer.mean(TimeUnit.MILLISECONDS));
+            settings.put(key + ".maxMs", timer.max(TimeUnit.MILLISECONDS));
+        }
+        return settings;
+    }
+
+    private static OrderRequest orderRequest(String customerOrderId, VehicleVariant sku) {
+        return new OrderRequest(customerOrderId, sku.getVehicleModelId().getVehicleModelId(), sku.getVehicleVariantId(),
+                "Stress Customer", "9876543210", "stress@example.com", "12 MG Road, Bengaluru", "12 MG Road, Bengaluru",
+                "123412341234", "ABCDE1234F", sku.getModelName(), sku.getFuelType(), sku.getColour(),
+                sku.getTransmissionType(), sku.getVariant(), 1, "Cash", null);
+    }
+
+    private static VehicleOrderDetails orderDetails(OrderRequest request, VehicleVariant sku) {
+        VehicleOrderDetails order = new VehicleOrderDetails();
+        order.setCustomerOrderId(request.getCustomerOrderId());
+        order.setVehicleModelId(sku.getVehicleModelId());
+        order.setVehicleVariantId(sku);
+        order.setCustomerName(request.getCustomerName());
+        order.setPhoneNumber(request.getPhoneNumber());
+        order.setEmail(request.getEmail());
+        order.setAadharNo(request.getAadharNo());
+        order.setPanNo(request.getPanNo());
+        order.setModelName(request.getModelName());
+        order.setVariant(request.getVariant());
+        order.setColour(request.getColour());
+        order.setFuelType(request.getFuelType());
+        order.setTransmissionType(request.getTransmissionType());
+        order.setQuantity(request.getQuantity());
+        order.setPaymentMode(request.getPaymentMode());
+        order.setOrderStatus(OrderStatus.BLOCKED);
+        return order;
+    }
+}
@@ -0,0 +1,43 @@
+package com.vehicle.salesmanagement.load;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Stock contention parameters, read from {@code -Dstress.*} system properties.
+ *
+ * @param allocations     orders that try to block stock
+ * @param threads         allocations in flight at once
+ * @param hotSkus         variants every allocation is spread over
+ * @param stockRows       available stock rows seeded per variant
+ * @param stockPerRow     quantity on each seeded stock row
+ * @param mddpQuantity    quantity on the single MDDP row seeded per variant
+ * @param mddpFraction    share of allocations that go through the MDDP transfer path
+ * @param cancelFraction  share of blocked orders that are then cancelled twice, concurrently
+ * @param reportDir       where the JSON report is written
+ */
+record StressProfile(int allocations, int threads, int hotSkus, int stockRows, int stockPerRow, int mddpQuantity,
+                     double mddpFraction, double cancelFraction, Path reportDir) {
+
+    static StressProfile fromSystemProperties() {
+        int allocations = Integer.getInteger("stress.allocations", 2000);
+        int hotSkus = Integer.getInteger("stress.hot-skus", 3);
+        int stockRows = Integer.getInteger("stress.stock-rows", 4);
+        // By default only about half the demand can be met, so most rows run dry while orders are still racing for them
+        int perSku = Math.max(1, allocations / hotSkus / 2);
+        return new StressProfile(
+                allocations,
+                Integer.getInteger("stress.threads", 64),
+                hotSkus,
+                stockRows,
+                Integer.getInteger("stress.stock-per-row", Math.max(1, perSku * 3 / 4 / stockRows)),
+                Integer.getInteger("stress.mddp-quantity", Math.max(1, perSku / 4)),
+                Double.parseDouble(System.getProperty("stress.mddp-fraction", "0.25")),
+                Double.parseDouble(System.getProperty("stress.cancel-fraction", "0.3")),
+                Paths.get(System.getProperty("stress.report-dir", "build/reports/loadtest")));
+    }
+
+    int initialUnitsPerSku() {
+        return stockRows * stockPerRow + mddpQuantity;
+    }
+}
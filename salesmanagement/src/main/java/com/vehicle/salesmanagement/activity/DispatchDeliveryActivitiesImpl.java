@@ -5,7 +5,6 @@ import com.vehicle.salesmanagement.domain.dto.apirequest.DispatchRequest;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.DeliveryResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.DispatchResponse;
 import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
-import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
 import com.vehicle.salesmanagement.service.DispatchDeliveryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +18,6 @@ import java.util.Optional;
 public class DispatchDeliveryActivitiesImpl implements DispatchDeliveryActivities {
 
     private final DispatchDeliveryService dispatchDeliveryService;
-    private final VehicleOrderDetailsRepository vehicleOrderDetailsRepository;
 
     @Override
     public DispatchResponse initiateDispatch(DispatchRequest dispatchRequest) {
@@ -36,6 +34,6 @@ public class DispatchDeliveryActivitiesImpl implements DispatchDeliveryActivitie
     @Override
     public Optional<VehicleOrderDetails> getVehicleOrderDetails(String orderId) {
         log.info("Activity: Fetching vehicle order details for order ID: {}", orderId);
-        return vehicleOrderDetailsRepository.findByCustomerOrderId(orderId);
+        return dispatchDeliveryService.getOrderDetails(orderId);
     }
 }
\ No newline at end of file
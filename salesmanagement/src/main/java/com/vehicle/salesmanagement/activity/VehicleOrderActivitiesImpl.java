@@ -1,9 +1,12 @@
 package com.vehicle.salesmanagement.activity;
 
+import com.vehicle.salesmanagement.config.SalesMetrics;
+import com.vehicle.salesmanagement.config.SalesMetrics.AllocationOutcome;
 import com.vehicle.salesmanagement.domain.dto.apirequest.OrderRequest;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
 import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
 import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.profiling.StockAllocationEvent;
 import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
 import com.vehicle.salesmanagement.service.VehicleOrderService;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.function.Function;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -18,6 +23,7 @@ public class VehicleOrderActivitiesImpl implements VehicleOrderActivities {
 
     private final VehicleOrderDetailsRepository vehicleOrderDetailsRepository;
     private final VehicleOrderService vehicleOrderService;
+    private final SalesMetrics salesMetrics;
 
     @Override
     public void saveOrderDetails(VehicleOrderDetails vehicleOrderDetails) {
@@ -37,18 +43,20 @@ public class VehicleOrderActivitiesImpl implements VehicleOrderActivities {
         try {
             log.info("Checking stock availability for order: {}", orderRequest.getCustomerName());
             validateOrderRequest(orderRequest);
-            OrderResponse response = vehicleOrderService.checkAndBlockStock(orderRequest);
+            OrderResponse response = allocate("stock", orderRequest, vehicleOrderService::checkAndBlockStock);
             if (response.getOrderStatus() == OrderStatus.BLOCKED) {
                 log.info("Stock available in stock_details and successfully blocked for customer: {}", orderRequest.getCustomerName());
+                salesMetrics.allocation(AllocationOutcome.STOCK, orderRequest.getModelName(), orderRequest.getVariant());
                 return response;
             } else {
                 log.warn("Vehicle not available in stock_details for model: {} and variant: {}",
                         orderRequest.getModelName(), orderRequest.getVariant());
             }
 
-            response = vehicleOrderService.checkAndReserveMddpStock(orderRequest);
+            response = allocate("mddp", orderRequest, vehicleOrderService::checkAndReserveMddpStock);
             if (response.getOrderStatus() == OrderStatus.BLOCKED) {
                 log.info("Stock transferred from mddp_stock to stock_details and blocked for customer: {}", orderRequest.getCustomerName());
+                salesMetrics.allocation(AllocationOutcome.MDDP, orderRequest.getModelName(), orderRequest.getVariant());
                 return response;
             } else {
                 log.warn("Vehicle not available in mddp_stock for model: {} and variant: {}",
@@ -58,6 +66,7 @@ public class VehicleOrderActivitiesImpl implements VehicleOrderActivities {
             log.info("Placing manufacturer order as stock not available in either table for customer: {}", orderRequest.getCustomerName());
             response = vehicleOrderService.placeManufacturerOrder(orderRequest);
             log.info("Manufacturer order placed with status: {}", response.getOrderStatus());
+            salesMetrics.allocation(AllocationOutcome.MANUFACTURER, orderRequest.getModelName(), orderRequest.getVariant());
             return response;
         } catch (IllegalArgumentException e) {
             log.error("Invalid order request: {}", e.getMessage());
@@ -69,6 +78,28 @@ public class VehicleOrderActivitiesImpl implements VehicleOrderActivities {
     }
 
 
+    private OrderResponse allocate(String source, OrderRequest orderRequest, Function<OrderRequest, OrderResponse> step) {
+        StockAllocationEvent event = new StockAllocationEvent();
+        event.begin();
+        OrderResponse response = null;
+        try {
+            response = step.apply(orderRequest);
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.customerOrderId = orderRequest.getCustomerOrderId();
+                event.modelName = orderRequest.getModelName();
+                event.variant = orderRequest.getVariant();
+                event.quantity = orderRequest.getQuantity() != null ? orderRequest.getQuantity() : 0;
+                event.source = source;
+                event.orderStatus = response != null && response.getOrderStatus() != null
+                        ? response.getOrderStatus().name() : "FAILED";
+                event.commit();
+            }
+        }
+    }
+
     @Override
     public OrderResponse confirmOrder(OrderResponse orderResponse) {
         try {
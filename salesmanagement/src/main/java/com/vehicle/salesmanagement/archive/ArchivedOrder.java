@@ -0,0 +1,15 @@
+package com.vehicle.salesmanagement.archive;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One order read back from the cold archive: its {@code vehicle_order_details} row and the related rows of every
+ * other archived table, keyed by table name. Rows are column-name to value maps as they were written.
+ */
+public record ArchivedOrder(String customerOrderId, Map<String, Object> order, Map<String, List<Map<String, Object>>> related) {
+
+    public List<Map<String, Object>> rows(String table) {
+        return related.getOrDefault(table, List.of());
+    }
+}
@@ -0,0 +1,210 @@
+package com.vehicle.salesmanagement.archive;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.salesmanagement.config.OrderArchiveProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * File layout of the cold order archive and its index.
+ * <p>
+ * Each archived chunk is a directory holding one gzip-compressed JSON Lines file per table. Every file has the rows
+ * of a single table with the same columns on each line, so a chunk loads straight into a columnar engine (DuckDB,
+ * Spark) table by table. The {@code archived_order} table maps each archived order ID to its chunk, so a lookup reads
+ * only that chunk's files. Every archived table carries {@code customer_order_id}, which is how rows are matched on
+ * the way back.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OrderArchiveProperties.class)
+public class OrderArchiveStore {
+
+    public static final String ORDER_TABLE = "vehicle_order_details";
+
+    /**
+     * Tables archived with each order, children before parents so they can be deleted in this order.
+     */
+    public static final List<String> RELATED_TABLES = List.of("vehicle_order_details_history",
+            "finance_details_history", "finance_details", "dispatch_details_history", "dispatch_details",
+            "delivery_details_history", "delivery_details");
+
+    private static final String FILE_SUFFIX = ".jsonl.gz";
+    private static final TypeReference<Map<String, Object>> ROW = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    public OrderArchiveStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, OrderArchiveProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        // Unset while the archiver is disabled; OrderArchiveProperties refuses to start it without one
+        this.directory = properties.hasDirectory() ? Paths.get(properties.getDirectory()) : null;
+    }
+
+    /**
+     * Writes a chunk and makes it visible under its final name only once every file is on disk. Returns once the
+     * rename itself is durable, since the caller deletes the database rows next.
+     */
+    public void writeChunk(String chunk, Map<String, List<Map<String, Object>>> rowsByTable) {
+        Path target = directory().resolve(chunk);
+        Path staging = directory.resolve(chunk + ".tmp");
+        try {
+            Files.createDirectories(staging);
+            for (Map.Entry<String, List<Map<String, Object>>> table : rowsByTable.entrySet()) {
+                writeTable(staging.resolve(table.getKey() + FILE_SUFFIX), table.getValue());
+            }
+            forceDirectory(staging);
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+            // The rename is an entry in the archive directory; without this a crash can undo it after the DELETE
+            forceDirectory(directory);
+        } catch (IOException e) {
+            deleteQuietly(staging);
+            throw new UncheckedIOException("Failed to write archive chunk " + chunk, e);
+        }
+    }
+
+    /**
+     * Removes a chunk whose rows were not deleted from the database after all, e.g. because the transaction
+     * rolled back.
+     */
+    public void discardChunk(String chunk) {
+        deleteQuietly(directory().resolve(chunk));
+    }
+
+    public boolean isArchived(String customerOrderId) {
+        return chunkOf(customerOrderId).isPresent();
+    }
+
+    public Optional<ArchivedOrder> find(String customerOrderId) {
+        Optional<String> chunk = chunkOf(customerOrderId);
+        if (chunk.isEmpty()) {
+            return Optional.empty();
+        }
+        Path chunkDirectory = directory().resolve(chunk.get());
+        try {
+            List<Map<String, Object>> orderRows = readRows(chunkDirectory, ORDER_TABLE, customerOrderId);
+            if (orderRows.isEmpty()) {
+                log.warn("Order {} is indexed in archive chunk {} but missing from its files", customerOrderId, chunk.get());
+                return Optional.empty();
+            }
+            Map<String, List<Map<String, Object>>> related = new LinkedHashMap<>();
+            for (String table : RELATED_TABLES) {
+                related.put(table, readRows(chunkDirectory, table, customerOrderId));
+            }
+            return Optional.of(new ArchivedOrder(customerOrderId, orderRows.get(0), related));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive chunk " + chunk.get(), e);
+        }
+    }
+
+    private Optional<String> chunkOf(String customerOrderId) {
+        return jdbcTemplate.query("SELECT archive_chunk FROM sales_tracking.archived_order WHERE customer_order_id = ?",
+                (rs, rowNum) -> rs.getString(1), customerOrderId).stream().findFirst();
+    }
+
+    private Path directory() {
+        if (directory == null) {
+            throw new IllegalStateException("salesmanagement.archive.directory is not set");
+        }
+        return directory;
+    }
+
+    private static void forceDirectory(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private void writeTable(Path file, List<Map<String, Object>> rows) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+            for (Map<String, Object> row : rows) {
+                writer.write(objectMapper.writeValueAsString(normalize(row)));
+                writer.newLine();
+            }
+            writer.flush();
+            gzip.finish();
+            // The database rows are deleted right after this; the file has to survive a crash first
+            channel.force(true);
+        }
+    }
+
+    private List<Map<String, Object>> readRows(Path chunkDirectory, String table, String customerOrderId) throws IOException {
+        Path file = chunkDirectory.resolve(table + FILE_SUFFIX);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        String needle = "\"" + customerOrderId + "\"";
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Cheap pre-filter; most lines of a chunk belong to other orders
+                if (!line.contains(needle)) {
+                    continue;
+                }
+                Map<String, Object> row = objectMapper.readValue(line, ROW);
+                if (customerOrderId.equals(row.get("customer_order_id"))) {
+                    rows.add(row);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return List.of();
+        }
+        return rows;
+    }
+
+    private static Map<String, Object> normalize(Map<String, Object> row) {
+        Map<String, Object> normalized = new LinkedHashMap<>(row.size());
+        row.forEach((column, value) -> normalized.put(column,
+                value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value));
+        return normalized;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("Could not delete {}: {}", file, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.vehicle.salesmanagement.archive;
+
+import com.vehicle.salesmanagement.config.OrderArchiveProperties;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves delivered and canceled orders whose last status change is older than
+ * {@code salesmanagement.archive.closed-for-days} out of the hot tables, together with their finance, dispatch,
+ * delivery and history rows.
+ * <p>
+ * Candidates are read in keyset pages of one chunk each. Chunks run on a small pool, each in its own transaction:
+ * lock the orders (skipping any that changed status since selection), write the chunk files, index the IDs in
+ * {@code archived_order}, then delete the rows. A failed chunk rolls back and removes its files, leaving the orders
+ * where they were. Chunks only start inside the configured night window and are paced to
+ * {@code max-orders-per-second}, so the job stays out of the way of order traffic.
+ */
+@Slf4j
+@Component
+public class OrderArchiver {
+
+    private static final List<String> CLOSED_STATUSES = List.of(OrderStatus.DELIVERED.name(), OrderStatus.CANCELED.name());
+    private static final DateTimeFormatter CHUNK_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private static final String CANDIDATES = """
+            SELECT o.customer_order_id
+            FROM sales_tracking.vehicle_order_details o
+            WHERE o.order_status IN (:closed)
+              AND o.customer_order_id > :after
+              AND (SELECT max(h.changed_at) FROM sales_tracking.vehicle_order_details_history h
+                   WHERE h.customer_order_id = o.customer_order_id) < :closedBefore
+            ORDER BY o.customer_order_id
+            LIMIT :limit""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderArchiveStore orderArchiveStore;
+    private final OrderArchiveProperties properties;
+    private final Counter archivedOrders;
+    private final Counter failedChunks;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private long nextChunkSlotNanos;
+
+    public OrderArchiver(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                         OrderArchiveStore orderArchiveStore, OrderArchiveProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.orderArchiveStore = orderArchiveStore;
+        this.properties = properties;
+        this.archivedOrders = Counter.builder("salesmanagement.archive.orders")
+                .description("Orders moved to the cold archive")
+                .register(meterRegistry);
+        this.failedChunks = Counter.builder("salesmanagement.archive.chunks.failed")
+                .description("Archive chunks rolled back")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${salesmanagement.archive.cron:0 0 * * * *}")
+    public void scheduledRun() {
+        if (properties.isEnabled()) {
+            archiveClosedOrders();
+        }
+    }
+
+    /**
+     * Archives eligible orders until none are left or the window closes; returns how many were archived.
+     */
+    public int archiveClosedOrders() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Order archiving is already running");
+            return 0;
+        }
+        try {
+            int archived = runChunks(LocalDateTime.now().minusDays(properties.getClosedForDays()));
+            if (archived > 0) {
+                log.info("Archived {} orders closed more than {} days ago", archived, properties.getClosedForDays());
+            }
+            return archived;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int runChunks(LocalDateTime closedBefore) {
+        ExecutorService pool = Executors.newFixedThreadPool(properties.getParallelism(), r -> {
+            Thread thread = new Thread(r, "order-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(properties.getParallelism());
+        List<Future<Integer>> chunks = new ArrayList<>();
+        String after = "";
+        try {
+            while (properties.isInWindow(LocalTime.now())) {
+                List<String> ids = candidates(after, closedBefore);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                after = ids.get(ids.size() - 1);
+                pace(ids.size());
+                inFlight.acquire();
+                chunks.add(pool.submit(() -> {
+                    try {
+                        return archiveChunk(ids);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdown();
+        }
+
+        int archived = 0;
+        for (Future<Integer> chunk : chunks) {
+            try {
+                archived += chunk.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                // Already counted and logged by the chunk
+            }
+        }
+        return archived;
+    }
+
+    private List<String> candidates(String after, LocalDateTime closedBefore) {
+        return jdbcTemplate.queryForList(CANDIDATES, new MapSqlParameterSource()
+                .addValue("closed", CLOSED_STATUSES)
+                .addValue("after", after)
+                .addValue("closedBefore", Timestamp.valueOf(closedBefore))
+                .addValue("limit", properties.getChunkSize()), String.class);
+    }
+
+    private int archiveChunk(List<String> candidateIds) {
+        // Unique across nodes sharing the archive directory
+        String chunk = LocalDateTime.now().format(CHUNK_TIME) + "-" + UUID.randomUUID().toString().substring(0, 8);
+        AtomicBoolean written = new AtomicBoolean();
+        try {
+            Integer archived = transactionTemplate.execute(status -> {
+                // Orders reopened or already archived by another node since selection drop out here
+                List<Map<String, Object>> orders = jdbcTemplate.queryForList(
+                        "SELECT * FROM sales_tracking.vehicle_order_details "
+                                + "WHERE customer_order_id IN (:ids) AND order_status IN (:closed) "
+                                + "ORDER BY customer_order_id FOR UPDATE SKIP LOCKED",
+                        new MapSqlParameterSource("ids", candidateIds).addValue("closed", CLOSED_STATUSES));
+                if (orders.isEmpty()) {
+                    return 0;
+                }
+                List<String> ids = orders.stream().map(row -> (String) row.get("customer_order_id")).toList();
+                MapSqlParameterSource byIds = new MapSqlParameterSource("ids", ids);
+
+                Map<String, List<Map<String, Object>>> rowsByTable = new LinkedHashMap<>();
+                rowsByTable.put(OrderArchiveStore.ORDER_TABLE, orders);
+                for (String table : OrderArchiveStore.RELATED_TABLES) {
+                    rowsByTable.put(table, jdbcTemplate.queryForList(
+                            "SELECT * FROM sales_tracking." + table + " WHERE customer_order_id IN (:ids)", byIds));
+                }
+                orderArchiveStore.writeChunk(chunk, rowsByTable);
+                written.set(true);
+
+                jdbcTemplate.update("INSERT INTO sales_tracking.archived_order "
+                        + "(customer_order_id, order_status, closed_at, archived_at, archive_chunk) "
+                        + "SELECT o.customer_order_id, o.order_status, "
+                        + "(SELECT max(h.changed_at) FROM sales_tracking.vehicle_order_details_history h "
+                        + "WHERE h.customer_order_id = o.customer_order_id), now(), :chunk "
+                        + "FROM sales_tracking.vehicle_order_details o WHERE o.customer_order_id IN (:ids)",
+                        new MapSqlParameterSource("ids", ids).addValue("chunk", chunk));
+                for (String table : OrderArchiveStore.RELATED_TABLES) {
+                    jdbcTemplate.update("DELETE FROM sales_tracking." + table + " WHERE customer_order_id IN (:ids)", byIds);
+                }
+                jdbcTemplate.update("DELETE FROM sales_tracking." + OrderArchiveStore.ORDER_TABLE
+                        + " WHERE customer_order_id IN (:ids)", byIds);
+                return ids.size();
+            });
+            int count = archived != null ? archived : 0;
+            archivedOrders.increment(count);
+            return count;
+        } catch (RuntimeException e) {
+            failedChunks.increment();
+            if (written.get()) {
+                orderArchiveStore.discardChunk(chunk);
+            }
+            log.error("Archive chunk {} ({} orders from {}) rolled back: {}", chunk, candidateIds.size(),
+                    candidateIds.get(0), e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Holds the caller until the next chunk fits under {@code max-orders-per-second}.
+     */
+    private void pace(int orders) throws InterruptedException {
+        long now = System.nanoTime();
+        long start = Math.max(now, nextChunkSlotNanos);
+        nextChunkSlotNanos = start + TimeUnit.SECONDS.toNanos(orders) / properties.getMaxOrdersPerSecond();
+        if (start > now) {
+            TimeUnit.NANOSECONDS.sleep(start - now);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.vehicle.salesmanagement.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * {@code since=<changeToken>} refreshes of the grids, bound from {@code salesmanagement.changefeed.*}.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "salesmanagement.changefeed")
+public class ChangeFeedProperties {
+
+    /**
+     * Tombstones of deleted rows are kept this long; older tokens are refused with 410 and the grid reloads in full.
+     */
+    @NotNull
+    private Duration tombstoneRetention = Duration.ofDays(7);
+
+    @Min(60000)
+    private long purgeIntervalMs = 3600000;
+}
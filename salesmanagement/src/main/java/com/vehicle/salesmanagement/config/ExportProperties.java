@@ -0,0 +1,29 @@
+package com.vehicle.salesmanagement.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Streaming grid exports ({@code /api/export}), bound from {@code salesmanagement.export.*}.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "salesmanagement.export")
+public class ExportProperties {
+
+    /**
+     * Rows read per keyset page; this bounds the rows in memory at any time. Each page is a separate read-only
+     * transaction, so a pooled connection is held for one page query only (well under the pool's 10-second
+     * leak-detection threshold), never for the whole export.
+     */
+    @Min(1)
+    private int pageSize = 1000;
+
+    /**
+     * Bytes buffered before a write to the response (and before gzip, when requested).
+     */
+    @Min(1024)
+    private int bufferSize = 64 * 1024;
+}
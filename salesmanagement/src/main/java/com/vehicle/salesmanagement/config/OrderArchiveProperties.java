@@ -0,0 +1,77 @@
+package com.vehicle.salesmanagement.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.LocalTime;
+
+/**
+ * Cold archive of closed orders, bound from {@code salesmanagement.archive.*}. The archive directory holds the only
+ * copy of archived rows; with more than one node it must be shared storage so every node can serve archived IDs.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "salesmanagement.archive")
+public class OrderArchiveProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Required when the archiver is enabled, and never a temporary directory: the rows are deleted from the database
+     * once their chunk is written here. Startup fails when the archiver is enabled without it.
+     */
+    private String directory;
+
+    /**
+     * Delivered and canceled orders are archived once their last status change is older than this.
+     */
+    @Min(1)
+    private int closedForDays = 180;
+
+    /**
+     * Orders per chunk; each chunk is one transaction and one archive directory.
+     */
+    @Min(1)
+    private int chunkSize = 500;
+
+    /**
+     * Chunks archived concurrently.
+     */
+    @Min(1)
+    private int parallelism = 2;
+
+    /**
+     * Upper bound on archived orders per second across all chunks.
+     */
+    @Min(1)
+    private int maxOrdersPerSecond = 200;
+
+    /**
+     * The archiver only starts chunks between these local times; the window may wrap past midnight.
+     */
+    @NotNull
+    private LocalTime windowStart = LocalTime.of(22, 0);
+
+    @NotNull
+    private LocalTime windowEnd = LocalTime.of(6, 0);
+
+    @AssertTrue(message = "salesmanagement.archive.directory (ARCHIVE_DIR) must be set when the archiver is enabled")
+    public boolean isDirectorySetWhenEnabled() {
+        return !enabled || hasDirectory();
+    }
+
+    public boolean hasDirectory() {
+        return directory != null && !directory.isBlank();
+    }
+
+    public boolean isInWindow(LocalTime now) {
+        if (windowStart.isBefore(windowEnd)) {
+            return !now.isBefore(windowStart) && now.isBefore(windowEnd);
+        }
+        return !now.isBefore(windowStart) || now.isBefore(windowEnd);
+    }
+}
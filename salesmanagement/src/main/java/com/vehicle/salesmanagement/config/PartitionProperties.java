@@ -0,0 +1,40 @@
+package com.vehicle.salesmanagement.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * How far ahead order and history partitions are created and how long history partitions are kept, bound from
+ * {@code salesmanagement.partitions.*}.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "salesmanagement.partitions")
+public class PartitionProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Monthly history partitions are kept ready for this many months after the current one.
+     */
+    @Min(1)
+    private int historyMonthsAhead = 3;
+
+    /**
+     * Yearly order partitions are kept ready for this many years after the current one.
+     */
+    @Min(1)
+    private int orderYearsAhead = 1;
+
+    /**
+     * History partitions that ended more than this many months before the current month are dropped; 0 keeps
+     * all history.
+     */
+    @Min(0)
+    private int historyRetentionMonths = 0;
+
+    @Min(60000)
+    private long maintenanceIntervalMs = 3600000;
+}
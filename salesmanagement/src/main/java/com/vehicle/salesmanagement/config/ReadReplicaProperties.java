@@ -0,0 +1,40 @@
+package com.vehicle.salesmanagement.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Read replica pool and routing limits, bound from {@code salesmanagement.datasource.replica.*}. The primary pool
+ * keeps using {@code spring.datasource.*}.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "salesmanagement.datasource.replica")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    @Min(1)
+    private int maximumPoolSize = 10;
+
+    /**
+     * Read-only transactions fall back to the primary while the replica is further behind than this.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * How often replication lag is sampled.
+     */
+    @Min(100)
+    private long lagCheckIntervalMs = 5000;
+}
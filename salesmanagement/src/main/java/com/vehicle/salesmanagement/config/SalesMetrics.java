@@ -0,0 +1,102 @@
+package com.vehicle.salesmanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Business counters for the order allocation path.
+ * <p>
+ * Model and variant names come from request payloads, so only the first {@code max-model-tags} models and
+ * {@code max-variant-tags} variants seen get their own tag value; everything after that is reported as {@code other}
+ * to keep the series count bounded.
+ */
+@Slf4j
+@Component
+public class SalesMetrics {
+
+    public static final String OTHER = "other";
+    public static final String UNKNOWN = "unknown";
+
+    public enum AllocationOutcome {
+        STOCK, MDDP, MANUFACTURER;
+
+        String tagValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int maxModelTags;
+    private final int maxVariantTags;
+    private final Set<String> modelTags = ConcurrentHashMap.newKeySet();
+    private final Set<String> variantTags = ConcurrentHashMap.newKeySet();
+
+    public SalesMetrics(MeterRegistry meterRegistry,
+                        @Value("${salesmanagement.metrics.max-model-tags:50}") int maxModelTags,
+                        @Value("${salesmanagement.metrics.max-variant-tags:200}") int maxVariantTags) {
+        this.meterRegistry = meterRegistry;
+        this.maxModelTags = maxModelTags;
+        this.maxVariantTags = maxVariantTags;
+    }
+
+    public void allocation(AllocationOutcome outcome, String modelName, String variant) {
+        Counter.builder("salesmanagement.order.allocation")
+                .description("Orders allocated, by where the vehicle came from")
+                .tag("outcome", outcome.tagValue())
+                .tag("model", boundedTag(modelTags, maxModelTags, modelName))
+                .tag("variant", boundedTag(variantTags, maxVariantTags, variant))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Matching stock existed but did not have enough quantity left for the order.
+     */
+    public void oversellConflict(String modelName, String variant) {
+        Counter.builder("salesmanagement.order.oversell.conflicts")
+                .description("Allocations that found matching stock without enough quantity")
+                .tag("model", boundedTag(modelTags, maxModelTags, modelName))
+                .tag("variant", boundedTag(variantTags, maxVariantTags, variant))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Times a conditional stock update, which includes any wait for the row lock held by a competing allocation.
+     */
+    public int reservation(String source, IntSupplier update) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int updated = update.getAsInt();
+        sample.stop(Timer.builder("salesmanagement.stock.reservation")
+                .description("Conditional stock updates, including row lock wait")
+                .tag("source", source)
+                .tag("result", updated > 0 ? "reserved" : "lost")
+                .register(meterRegistry));
+        return updated;
+    }
+
+    private String boundedTag(Set<String> seen, int limit, String raw) {
+        if (raw == null || raw.isBlank()) {
+            return UNKNOWN;
+        }
+        String value = raw.trim().toLowerCase(Locale.ROOT);
+        if (seen.contains(value)) {
+            return value;
+        }
+        if (seen.size() >= limit) {
+            return OTHER;
+        }
+        // Racing threads may overshoot the limit by a few entries, which is harmless
+        seen.add(value);
+        return value;
+    }
+}
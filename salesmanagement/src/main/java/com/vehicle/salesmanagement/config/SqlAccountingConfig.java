@@ -0,0 +1,96 @@
+package com.vehicle.salesmanagement.config;
+
+import com.vehicle.salesmanagement.profiling.SqlAccounting;
+import com.vehicle.salesmanagement.profiling.SqlAccountingIntegrator;
+import com.vehicle.salesmanagement.profiling.SqlAccountingSessionListener;
+import com.vehicle.salesmanagement.profiling.SqlAccountingStatementInspector;
+import com.vehicle.salesmanagement.profiling.SqlBudget;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Hooks {@link SqlAccounting} into Hibernate and opens one accounting scope per HTTP request. Temporal activities
+ * get theirs from {@link TemporalActivitySqlInterceptor}.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SqlAccountingProperties.class)
+public class SqlAccountingConfig implements WebMvcConfigurer {
+
+    private static final String SCOPE_ATTRIBUTE = SqlAccountingConfig.class.getName() + ".scope";
+
+    private final SqlAccountingMetrics sqlAccountingMetrics;
+    private final SqlAccountingProperties sqlAccountingProperties;
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlAccountingHibernateCustomizer() {
+        return properties -> {
+            if (!sqlAccountingProperties.isEnabled()) {
+                return;
+            }
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlAccountingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlAccountingSessionListener.class.getName());
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> List.of(new SqlAccountingIntegrator()));
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!sqlAccountingProperties.isEnabled()) {
+            return;
+        }
+        registry.addInterceptor(new AsyncHandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String name = request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+                request.setAttribute(SCOPE_ATTRIBUTE, SqlAccounting.open("http", name));
+                return true;
+            }
+
+            @Override
+            public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                // The servlet thread is released here; the async dispatch opens its own scope
+                closeScope(request, handler);
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                closeScope(request, handler);
+            }
+        });
+    }
+
+    private void closeScope(HttpServletRequest request, Object handler) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof SqlAccounting.Scope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+            sqlAccountingMetrics.record(scope, budget(handler));
+        }
+    }
+
+    private int budget(Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            SqlBudget declared = method.getMethodAnnotation(SqlBudget.class);
+            if (declared != null) {
+                return declared.statements();
+            }
+        }
+        return sqlAccountingProperties.getDefaultBudget();
+    }
+}
@@ -0,0 +1,55 @@
+package com.vehicle.salesmanagement.config;
+
+import com.vehicle.salesmanagement.profiling.SqlAccounting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes a closed {@link SqlAccounting.Scope} as meters tagged by scope kind ({@code http} or {@code activity})
+ * and name (URI template or activity type), and warns when it went over budget.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlAccountingMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(SqlAccounting.Scope scope, int budget) {
+        DistributionSummary.builder("salesmanagement.sql.statements")
+                .description("SQL statements prepared per request or activity")
+                .tag("kind", scope.kind())
+                .tag("name", scope.name())
+                .register(meterRegistry)
+                .record(scope.statements());
+        DistributionSummary.builder("salesmanagement.sql.entities.loaded")
+                .description("Entities read from result sets per request or activity")
+                .tag("kind", scope.kind())
+                .tag("name", scope.name())
+                .register(meterRegistry)
+                .record(scope.entitiesLoaded());
+        Timer.builder("salesmanagement.sql.jdbc")
+                .description("Time spent executing JDBC statements per request or activity")
+                .tag("kind", scope.kind())
+                .tag("name", scope.name())
+                .register(meterRegistry)
+                .record(scope.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (budget > 0 && scope.statements() > budget) {
+            Counter.builder("salesmanagement.sql.budget.exceeded")
+                    .description("Requests or activities that ran more SQL statements than their budget")
+                    .tag("kind", scope.kind())
+                    .tag("name", scope.name())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} exceeded its SQL budget of {}: {}", scope.kind(), scope.name(), budget, scope);
+        }
+    }
+}
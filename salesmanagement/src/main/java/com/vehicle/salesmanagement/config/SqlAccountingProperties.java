@@ -0,0 +1,35 @@
+package com.vehicle.salesmanagement.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL statement budgets, bound from {@code salesmanagement.sql.*}. A budget of 0 disables the warning.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "salesmanagement.sql")
+public class SqlAccountingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Budget for endpoints without {@code @SqlBudget} and activities without an entry below.
+     */
+    @Min(0)
+    private int defaultBudget = 25;
+
+    /**
+     * Budgets keyed by Temporal activity type, e.g. {@code CheckStockAvailability}.
+     */
+    private Map<String, Integer> activityBudgets = new LinkedHashMap<>();
+
+    public int activityBudget(String activityType) {
+        return activityBudgets.getOrDefault(activityType, defaultBudget);
+    }
+}
@@ -0,0 +1,58 @@
+package com.vehicle.salesmanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.temporal.activity.ActivityExecutionContext;
+import io.temporal.activity.ActivityInfo;
+import io.temporal.common.interceptors.ActivityInboundCallsInterceptor;
+import io.temporal.common.interceptors.ActivityInboundCallsInterceptorBase;
+import io.temporal.common.interceptors.WorkerInterceptorBase;
+
+/**
+ * Counts activity retries and failures per activity type and task queue.
+ * <p>
+ * The SDK reports execution latency and failures, but not which attempt an execution was, so retry pressure on
+ * {@code VehicleOrderActivities}, {@code FinanceActivities} and {@code DispatchDeliveryActivities} is recorded here.
+ */
+public class TemporalActivityMetricsInterceptor extends WorkerInterceptorBase {
+
+    private final MeterRegistry meterRegistry;
+
+    public TemporalActivityMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ActivityInboundCallsInterceptor interceptActivity(ActivityInboundCallsInterceptor next) {
+        return new ActivityInboundCallsInterceptorBase(next) {
+            private ActivityExecutionContext context;
+
+            @Override
+            public void init(ActivityExecutionContext context) {
+                this.context = context;
+                super.init(context);
+            }
+
+            @Override
+            public ActivityOutput execute(ActivityInput input) {
+                ActivityInfo info = context.getInfo();
+                if (info.getAttempt() > 1) {
+                    counter("salesmanagement.temporal.activity.retries", info).increment();
+                }
+                try {
+                    return super.execute(input);
+                } catch (RuntimeException e) {
+                    counter("salesmanagement.temporal.activity.failures", info).increment();
+                    throw e;
+                }
+            }
+        };
+    }
+
+    private Counter counter(String name, ActivityInfo info) {
+        return Counter.builder(name)
+                .tag("activity_type", info.getActivityType())
+                .tag("task_queue", info.getActivityTaskQueue())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.vehicle.salesmanagement.config;
+
+import com.vehicle.salesmanagement.datasource.ReplicaRouting;
+import io.temporal.common.interceptors.ActivityInboundCallsInterceptor;
+import io.temporal.common.interceptors.ActivityInboundCallsInterceptorBase;
+import io.temporal.common.interceptors.WorkerInterceptorBase;
+
+/**
+ * Runs every activity execution pinned to the primary.
+ * <p>
+ * Workflows decide their next step from what an activity read: the parent workflow checks the order status from
+ * {@code getVehicleOrderDetails} before dispatch and delivery. A replica inside {@code max-lag} still counts as
+ * healthy, so a read-only activity routed there could see BLOCKED after finance allotted the order and fail it for
+ * good. Activities are therefore never served from the replica, whatever transaction their services open.
+ */
+public class TemporalActivityPrimaryReadInterceptor extends WorkerInterceptorBase {
+
+    @Override
+    public ActivityInboundCallsInterceptor interceptActivity(ActivityInboundCallsInterceptor next) {
+        return new ActivityInboundCallsInterceptorBase(next) {
+            @Override
+            public ActivityOutput execute(ActivityInput input) {
+                return ReplicaRouting.onPrimary(() -> super.execute(input));
+            }
+        };
+    }
+}
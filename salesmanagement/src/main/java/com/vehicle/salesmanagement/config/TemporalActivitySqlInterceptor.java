@@ -0,0 +1,48 @@
+package com.vehicle.salesmanagement.config;
+
+import com.vehicle.salesmanagement.profiling.SqlAccounting;
+import io.temporal.activity.ActivityExecutionContext;
+import io.temporal.common.interceptors.ActivityInboundCallsInterceptor;
+import io.temporal.common.interceptors.ActivityInboundCallsInterceptorBase;
+import io.temporal.common.interceptors.WorkerInterceptorBase;
+
+/**
+ * Opens a {@link SqlAccounting} scope around each activity execution, so statement counts and JDBC time are
+ * reported per activity type alongside the HTTP endpoints.
+ */
+public class TemporalActivitySqlInterceptor extends WorkerInterceptorBase {
+
+    private final SqlAccountingMetrics sqlAccountingMetrics;
+    private final SqlAccountingProperties sqlAccountingProperties;
+
+    public TemporalActivitySqlInterceptor(SqlAccountingMetrics sqlAccountingMetrics,
+                                          SqlAccountingProperties sqlAccountingProperties) {
+        this.sqlAccountingMetrics = sqlAccountingMetrics;
+        this.sqlAccountingProperties = sqlAccountingProperties;
+    }
+
+    @Override
+    public ActivityInboundCallsInterceptor interceptActivity(ActivityInboundCallsInterceptor next) {
+        return new ActivityInboundCallsInterceptorBase(next) {
+            private ActivityExecutionContext context;
+
+            @Override
+            public void init(ActivityExecutionContext context) {
+                this.context = context;
+                super.init(context);
+            }
+
+            @Override
+            public ActivityOutput execute(ActivityInput input) {
+                String activityType = context.getInfo().getActivityType();
+                SqlAccounting.Scope scope = SqlAccounting.open("activity", activityType);
+                try {
+                    return super.execute(input);
+                } finally {
+                    scope.close();
+                    sqlAccountingMetrics.record(scope, sqlAccountingProperties.activityBudget(activityType));
+                }
+            }
+        };
+    }
+}
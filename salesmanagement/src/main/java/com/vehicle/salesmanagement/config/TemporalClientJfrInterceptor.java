@@ -0,0 +1,60 @@
+package com.vehicle.salesmanagement.config;
+
+import com.vehicle.salesmanagement.profiling.WorkflowCallEvent;
+import io.temporal.common.interceptors.WorkflowClientCallsInterceptor;
+import io.temporal.common.interceptors.WorkflowClientCallsInterceptorBase;
+import io.temporal.common.interceptors.WorkflowClientInterceptorBase;
+
+/**
+ * Emits a {@link WorkflowCallEvent} around every workflow start and query made through the {@code WorkflowClient}.
+ * <p>
+ * Events are only materialised while a JFR recording has them enabled, so this stays installed permanently.
+ */
+public class TemporalClientJfrInterceptor extends WorkflowClientInterceptorBase {
+
+    @Override
+    public WorkflowClientCallsInterceptor workflowClientCallsInterceptor(WorkflowClientCallsInterceptor next) {
+        return new WorkflowClientCallsInterceptorBase(next) {
+
+            @Override
+            public WorkflowStartOutput start(WorkflowStartInput input) {
+                WorkflowCallEvent event = new WorkflowCallEvent();
+                event.begin();
+                try {
+                    return super.start(input);
+                } catch (RuntimeException e) {
+                    event.failed = true;
+                    throw e;
+                } finally {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.operation = "start";
+                        event.workflowType = input.getWorkflowType();
+                        event.workflowId = input.getWorkflowId();
+                        event.commit();
+                    }
+                }
+            }
+
+            @Override
+            public <R> QueryOutput<R> query(QueryInput<R> input) {
+                WorkflowCallEvent event = new WorkflowCallEvent();
+                event.begin();
+                try {
+                    return super.query(input);
+                } catch (RuntimeException e) {
+                    event.failed = true;
+                    throw e;
+                } finally {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.operation = "query";
+                        event.workflowId = input.getWorkflowExecution().getWorkflowId();
+                        event.queryType = input.getQueryType();
+                        event.commit();
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package com.vehicle.salesmanagement.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Temporal connection, worker factory and per-task-queue worker settings, bound from {@code temporal.*}.
+ * <p>
+ * Anything left unset falls back to the SDK default, so an environment only needs to override what it sizes.
+ * {@code temporal.workers.<queue>} keys must name a task queue a worker polls; a misspelt queue would otherwise leave
+ * that worker on the defaults without a word.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "temporal")
+public class TemporalProperties {
+
+    public static final String VEHICLE_ORDER_TASK_QUEUE = "vehicle-order-task-queue";
+    public static final String FINANCE_TASK_QUEUE = "finance-task-queue";
+    public static final String DISPATCH_DELIVERY_TASK_QUEUE = "dispatch-delivery-task-queue";
+
+    /**
+     * The task queues the application registers workers on.
+     */
+    public static final List<String> TASK_QUEUES =
+            List.of(VEHICLE_ORDER_TASK_QUEUE, FINANCE_TASK_QUEUE, DISPATCH_DELIVERY_TASK_QUEUE);
+
+    @NotBlank
+    private String target = "localhost:7233";
+
+    @NotBlank
+    private String namespace = "default";
+
+    @NotNull
+    private Duration rpcTimeout = Duration.ofSeconds(120);
+
+    @NotNull
+    private Duration rpcLongPollTimeout = Duration.ofSeconds(90);
+
+    @NotNull
+    private Duration connectionBackoffResetFrequency = Duration.ofSeconds(10);
+
+    @Valid
+    private Factory factory = new Factory();
+
+    @Valid
+    private Map<String, WorkerSettings> workers = new LinkedHashMap<>();
+
+    public WorkerSettings worker(String taskQueue) {
+        return workers.getOrDefault(taskQueue, new WorkerSettings());
+    }
+
+    @AssertTrue(message = "temporal.workers keys must be one of vehicle-order-task-queue, finance-task-queue, "
+            + "dispatch-delivery-task-queue")
+    public boolean isWorkersForRegisteredTaskQueues() {
+        return TASK_QUEUES.containsAll(workers.keySet());
+    }
+
+    @Data
+    public static class Factory {
+
+        @Min(1)
+        private Integer workflowCacheSize;
+
+        @Min(1)
+        private Integer maxWorkflowThreadCount;
+    }
+
+    @Data
+    public static class WorkerSettings {
+
+        @Min(1)
+        private Integer maxConcurrentActivityExecutionSize;
+
+        @Min(1)
+        private Integer maxConcurrentWorkflowTaskExecutionSize;
+
+        @Min(1)
+        private Integer maxConcurrentLocalActivityExecutionSize;
+
+        @Min(2)
+        private Integer maxConcurrentWorkflowTaskPollers;
+
+        @Min(1)
+        private Integer maxConcurrentActivityTaskPollers;
+
+        @Positive
+        private Double maxWorkerActivitiesPerSecond;
+
+        @Positive
+        private Double maxTaskQueueActivitiesPerSecond;
+
+        private Duration stickyQueueScheduleToStartTimeout;
+
+        @Valid
+        private ResourceBased resourceBased = new ResourceBased();
+
+        @AssertTrue(message = "resource-based slot suppliers cannot be combined with fixed max-concurrent-* sizes")
+        public boolean isSlotConfigurationExclusive() {
+            return !resourceBased.isEnabled()
+                    || (maxConcurrentActivityExecutionSize == null
+                    && maxConcurrentWorkflowTaskExecutionSize == null
+                    && maxConcurrentLocalActivityExecutionSize == null);
+        }
+    }
+
+    @Data
+    public static class ResourceBased {
+
+        private boolean enabled;
+
+        @DecimalMin("0.1")
+        @DecimalMax("1.0")
+        private double targetMemoryUsage = 0.8;
+
+        @DecimalMin("0.1")
+        @DecimalMax("1.0")
+        private double targetCpuUsage = 0.9;
+
+        @Min(1)
+        private int minimumActivitySlots = 1;
+
+        @Min(1)
+        private int maximumActivitySlots = 500;
+
+        @Min(1)
+        private int minimumWorkflowSlots = 2;
+
+        @Min(1)
+        private int maximumWorkflowSlots = 500;
+
+        @NotNull
+        private Duration activityRampThrottle = Duration.ofMillis(50);
+
+        @AssertTrue(message = "minimum slots must not exceed maximum slots")
+        public boolean isSlotRangeValid() {
+            return minimumActivitySlots <= maximumActivitySlots && minimumWorkflowSlots <= maximumWorkflowSlots;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.vehicle.salesmanagement.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.temporal.api.enums.v1.TaskQueueType;
+import io.temporal.api.taskqueue.v1.TaskQueue;
+import io.temporal.api.workflowservice.v1.DescribeTaskQueueRequest;
+import io.temporal.api.workflowservice.v1.DescribeTaskQueueResponse;
+import io.temporal.serviceclient.WorkflowServiceStubs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the server-side backlog hint and poller count of each task queue as gauges.
+ * <p>
+ * Worker-side SDK metrics only show latency once a task is picked up; the backlog is what shows a queue
+ * falling behind before that happens.
+ */
+@Slf4j
+public class TemporalTaskQueueMetrics {
+
+    private final WorkflowServiceStubs workflowServiceStubs;
+    private final MeterRegistry meterRegistry;
+    private final String namespace;
+    private final List<String> taskQueues;
+    private final Map<String, AtomicLong> values = new ConcurrentHashMap<>();
+
+    public TemporalTaskQueueMetrics(WorkflowServiceStubs workflowServiceStubs, MeterRegistry meterRegistry,
+                                    String namespace, List<String> taskQueues) {
+        this.workflowServiceStubs = workflowServiceStubs;
+        this.meterRegistry = meterRegistry;
+        this.namespace = namespace;
+        this.taskQueues = taskQueues;
+    }
+
+    @Scheduled(fixedDelayString = "${temporal.metrics.task-queue-poll-interval-ms:30000}")
+    public void refresh() {
+        for (String taskQueue : taskQueues) {
+            for (TaskQueueType type : List.of(TaskQueueType.TASK_QUEUE_TYPE_WORKFLOW, TaskQueueType.TASK_QUEUE_TYPE_ACTIVITY)) {
+                try {
+                    DescribeTaskQueueResponse response = workflowServiceStubs.blockingStub().describeTaskQueue(
+                            DescribeTaskQueueRequest.newBuilder()
+                                    .setNamespace(namespace)
+                                    .setTaskQueue(TaskQueue.newBuilder().setName(taskQueue).build())
+                                    .setTaskQueueType(type)
+                                    .setIncludeTaskQueueStatus(true)
+                                    .build());
+                    String kind = type == TaskQueueType.TASK_QUEUE_TYPE_WORKFLOW ? "workflow" : "activity";
+                    gauge("temporal.task_queue.backlog", taskQueue, kind)
+                            .set(response.getTaskQueueStatus().getBacklogCountHint());
+                    gauge("temporal.task_queue.pollers", taskQueue, kind)
+                            .set(response.getPollersCount());
+                } catch (Exception e) {
+                    log.warn("Failed to describe task queue {} ({}): {}", taskQueue, type, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private AtomicLong gauge(String name, String taskQueue, String kind) {
+        return values.computeIfAbsent(name + "|" + taskQueue + "|" + kind, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(name, value, AtomicLong::get)
+                    .tag("task_queue", taskQueue)
+                    .tag("task_queue_type", kind)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+}
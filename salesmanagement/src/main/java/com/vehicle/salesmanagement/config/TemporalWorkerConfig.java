@@ -6,48 +6,76 @@ import com.vehicle.salesmanagement.activity.VehicleOrderActivitiesImpl;
 import com.vehicle.salesmanagement.workflow.FinanceWorkflowImpl;
 import com.vehicle.salesmanagement.workflow.VehicleOrderWorkflowImpl;
 import com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflowImpl;
+import com.uber.m3.tally.RootScopeBuilder;
+import com.uber.m3.tally.Scope;
+import com.uber.m3.util.Duration;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.temporal.client.WorkflowClient;
 import io.temporal.client.WorkflowClientOptions;
+import io.temporal.common.interceptors.WorkerInterceptor;
+import io.temporal.common.reporter.MicrometerClientStatsReporter;
 import io.temporal.serviceclient.WorkflowServiceStubs;
 import io.temporal.serviceclient.WorkflowServiceStubsOptions;
 import io.temporal.worker.Worker;
 import io.temporal.worker.WorkerFactory;
+import io.temporal.worker.WorkerFactoryOptions;
+import io.temporal.worker.WorkerOptions;
+import io.temporal.worker.tuning.ResourceBasedControllerOptions;
+import io.temporal.worker.tuning.ResourceBasedSlotOptions;
+import io.temporal.worker.tuning.ResourceBasedTuner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.vehicle.salesmanagement.config.TemporalProperties.DISPATCH_DELIVERY_TASK_QUEUE;
+import static com.vehicle.salesmanagement.config.TemporalProperties.FINANCE_TASK_QUEUE;
+import static com.vehicle.salesmanagement.config.TemporalProperties.VEHICLE_ORDER_TASK_QUEUE;
 
 @Slf4j
 @Configuration
 @EnableScheduling
 @RequiredArgsConstructor
 @Profile("!test")
+@EnableConfigurationProperties(TemporalProperties.class)
 public class TemporalWorkerConfig {
 
     private final VehicleOrderActivitiesImpl vehicleOrderActivities;
     private final FinanceActivitiesImpl financeActivities;
     private final DispatchDeliveryActivitiesImpl dispatchDeliveryActivities;
+    private final TemporalProperties temporalProperties;
 
     private Worker vehicleOrderWorker;
     private Worker financeWorker;
     private Worker dispatchDeliveryWorker;
 
+    @Bean(destroyMethod = "close")
+    public Scope temporalMetricsScope(MeterRegistry meterRegistry) {
+        return new RootScopeBuilder()
+                .reporter(new MicrometerClientStatsReporter(meterRegistry))
+                .reportEvery(Duration.ofSeconds(10));
+    }
+
     @Bean
-    public WorkflowServiceStubs workflowServiceStubs() {
-        log.info("Creating WorkflowServiceStubs for Temporal connection");
+    public WorkflowServiceStubs workflowServiceStubs(Scope temporalMetricsScope) {
+        log.info("Creating WorkflowServiceStubs for Temporal connection to {}", temporalProperties.getTarget());
         try {
             return WorkflowServiceStubs.newServiceStubs(
                     WorkflowServiceStubsOptions.newBuilder()
-                            .setTarget("localhost:7233")
-                            .setRpcTimeout(Duration.ofSeconds(120)) // Increased timeout
-                            .setRpcLongPollTimeout(Duration.ofSeconds(90)) // Explicit long poll timeout
-                            .setConnectionBackoffResetFrequency(Duration.ofSeconds(10)) // Retry connection
+                            .setTarget(temporalProperties.getTarget())
+                            .setRpcTimeout(temporalProperties.getRpcTimeout())
+                            .setRpcLongPollTimeout(temporalProperties.getRpcLongPollTimeout())
+                            .setConnectionBackoffResetFrequency(temporalProperties.getConnectionBackoffResetFrequency())
+                            .setMetricsScope(temporalMetricsScope)
                             .build()
             );
         } catch (Exception e) {
@@ -58,26 +86,48 @@ public class TemporalWorkerConfig {
 
     @Bean
     public WorkflowClient workflowClient(WorkflowServiceStubs workflowServiceStubs) {
-        log.info("Creating WorkflowClient for Vehicle Order");
+        log.info("Creating WorkflowClient for namespace {}", temporalProperties.getNamespace());
         return WorkflowClient.newInstance(
                 workflowServiceStubs,
                 WorkflowClientOptions.newBuilder()
-                        .setNamespace("default") // Kept as default per previous working setup
+                        .setNamespace(temporalProperties.getNamespace())
+                        .setInterceptors(new TemporalClientJfrInterceptor())
                         .build()
         );
     }
 
     @Bean
-    public WorkerFactory workerFactory(WorkflowClient workflowClient) {
-        log.info("Creating WorkerFactory for Vehicle Order");
-        return WorkerFactory.newInstance(workflowClient);
+    public WorkerFactory workerFactory(WorkflowClient workflowClient, MeterRegistry meterRegistry,
+                                       SqlAccountingMetrics sqlAccountingMetrics,
+                                       SqlAccountingProperties sqlAccountingProperties) {
+        TemporalProperties.Factory factory = temporalProperties.getFactory();
+        List<WorkerInterceptor> interceptors = new ArrayList<>(List.of(
+                new TemporalActivityPrimaryReadInterceptor(),
+                new TemporalActivityMetricsInterceptor(meterRegistry)));
+        if (sqlAccountingProperties.isEnabled()) {
+            interceptors.add(new TemporalActivitySqlInterceptor(sqlAccountingMetrics, sqlAccountingProperties));
+        }
+        WorkerFactoryOptions.Builder options = WorkerFactoryOptions.newBuilder()
+                .setWorkerInterceptors(interceptors.toArray(WorkerInterceptor[]::new));
+        setIfPresent(factory.getWorkflowCacheSize(), options::setWorkflowCacheSize);
+        setIfPresent(factory.getMaxWorkflowThreadCount(), options::setMaxWorkflowThreadCount);
+        WorkerFactoryOptions factoryOptions = options.build();
+        log.info("Creating WorkerFactory with workflowCacheSize={}, maxWorkflowThreadCount={}",
+                factoryOptions.getWorkflowCacheSize(), factoryOptions.getMaxWorkflowThreadCount());
+        return WorkerFactory.newInstance(workflowClient, factoryOptions);
+    }
+
+    @Bean
+    public TemporalTaskQueueMetrics temporalTaskQueueMetrics(WorkflowServiceStubs workflowServiceStubs, MeterRegistry meterRegistry) {
+        return new TemporalTaskQueueMetrics(workflowServiceStubs, meterRegistry, temporalProperties.getNamespace(),
+                TemporalProperties.TASK_QUEUES);
     }
 
     @Bean
     public Worker vehicleOrderWorker(WorkerFactory workerFactory) {
         log.info("Configuring Temporal worker for task queue: vehicle-order-task-queue");
         try {
-            Worker worker = workerFactory.newWorker("vehicle-order-task-queue");
+            Worker worker = workerFactory.newWorker(VEHICLE_ORDER_TASK_QUEUE, workerOptions(VEHICLE_ORDER_TASK_QUEUE));
             worker.registerWorkflowImplementationTypes(
                     VehicleSalesParentWorkflowImpl.class,
                     VehicleOrderWorkflowImpl.class
@@ -95,7 +145,7 @@ public class TemporalWorkerConfig {
     public Worker financeWorker(WorkerFactory workerFactory) {
         log.info("Configuring Temporal worker for task queue: finance-task-queue");
         try {
-            Worker worker = workerFactory.newWorker("finance-task-queue");
+            Worker worker = workerFactory.newWorker(FINANCE_TASK_QUEUE, workerOptions(FINANCE_TASK_QUEUE));
             worker.registerWorkflowImplementationTypes(FinanceWorkflowImpl.class);
             worker.registerActivitiesImplementations(financeActivities);
             this.financeWorker = worker;
@@ -110,7 +160,7 @@ public class TemporalWorkerConfig {
     public Worker dispatchDeliveryWorker(WorkerFactory workerFactory) {
         log.info("Configuring Temporal worker for task queue: dispatch-delivery-task-queue");
         try {
-            Worker worker = workerFactory.newWorker("dispatch-delivery-task-queue");
+            Worker worker = workerFactory.newWorker(DISPATCH_DELIVERY_TASK_QUEUE, workerOptions(DISPATCH_DELIVERY_TASK_QUEUE));
             worker.registerActivitiesImplementations(dispatchDeliveryActivities);
             this.dispatchDeliveryWorker = worker;
             return worker;
@@ -130,22 +180,56 @@ public class TemporalWorkerConfig {
 
     @Scheduled(fixedRate = 60_000)
     public void logWorkerStatus() {
-        if (vehicleOrderWorker != null) {
-            log.info("VehicleOrderWorker for task queue 'vehicle-order-task-queue' is active");
-        } else {
-            log.error("VehicleOrderWorker for task queue 'vehicle-order-task-queue' is not initialized");
+        logWorkerStatus(VEHICLE_ORDER_TASK_QUEUE, vehicleOrderWorker);
+        logWorkerStatus(FINANCE_TASK_QUEUE, financeWorker);
+        logWorkerStatus(DISPATCH_DELIVERY_TASK_QUEUE, dispatchDeliveryWorker);
+    }
+
+    private void logWorkerStatus(String taskQueue, Worker worker) {
+        if (worker == null) {
+            log.error("Worker for task queue '{}' is not initialized", taskQueue);
+            return;
         }
+        log.info("Worker for task queue '{}' is {}; settings: {}", taskQueue,
+                worker.isSuspended() ? "suspended" : "polling", temporalProperties.worker(taskQueue));
+    }
+
+    private WorkerOptions workerOptions(String taskQueue) {
+        TemporalProperties.WorkerSettings settings = temporalProperties.worker(taskQueue);
+        WorkerOptions.Builder options = WorkerOptions.newBuilder();
+        setIfPresent(settings.getMaxConcurrentActivityExecutionSize(), options::setMaxConcurrentActivityExecutionSize);
+        setIfPresent(settings.getMaxConcurrentWorkflowTaskExecutionSize(), options::setMaxConcurrentWorkflowTaskExecutionSize);
+        setIfPresent(settings.getMaxConcurrentLocalActivityExecutionSize(), options::setMaxConcurrentLocalActivityExecutionSize);
+        setIfPresent(settings.getMaxConcurrentWorkflowTaskPollers(), options::setMaxConcurrentWorkflowTaskPollers);
+        setIfPresent(settings.getMaxConcurrentActivityTaskPollers(), options::setMaxConcurrentActivityTaskPollers);
+        setIfPresent(settings.getMaxWorkerActivitiesPerSecond(), options::setMaxWorkerActivitiesPerSecond);
+        setIfPresent(settings.getMaxTaskQueueActivitiesPerSecond(), options::setMaxTaskQueueActivitiesPerSecond);
+        setIfPresent(settings.getStickyQueueScheduleToStartTimeout(), options::setStickyQueueScheduleToStartTimeout);
 
-        if (financeWorker != null) {
-            log.info("FinanceWorker for task queue 'finance-task-queue' is active");
-        } else {
-            log.error("FinanceWorker for task queue 'finance-task-queue' is not initialized");
+        TemporalProperties.ResourceBased resourceBased = settings.getResourceBased();
+        if (resourceBased.isEnabled()) {
+            options.setWorkerTuner(ResourceBasedTuner.newBuilder()
+                    .setControllerOptions(ResourceBasedControllerOptions
+                            .newBuilder(resourceBased.getTargetMemoryUsage(), resourceBased.getTargetCpuUsage())
+                            .build())
+                    .setActivitySlotOptions(ResourceBasedSlotOptions.newBuilder()
+                            .setMinimumSlots(resourceBased.getMinimumActivitySlots())
+                            .setMaximumSlots(resourceBased.getMaximumActivitySlots())
+                            .setRampThrottle(resourceBased.getActivityRampThrottle())
+                            .build())
+                    .setWorkflowSlotOptions(ResourceBasedSlotOptions.newBuilder()
+                            .setMinimumSlots(resourceBased.getMinimumWorkflowSlots())
+                            .setMaximumSlots(resourceBased.getMaximumWorkflowSlots())
+                            .build())
+                    .build());
         }
+        log.info("Worker options for task queue '{}': {}", taskQueue, settings);
+        return options.build();
+    }
 
-        if (dispatchDeliveryWorker != null) {
-            log.info("DispatchDeliveryWorker for task queue 'dispatch-delivery-task-queue' is active");
-        } else {
-            log.error("DispatchDeliveryWorker for task queue 'dispatch-delivery-task-queue' is not initialized");
+    private static <T> void setIfPresent(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package com.vehicle.salesmanagement.controller;
+
+import com.vehicle.salesmanagement.domain.dto.apiresponse.KendoGridResponse;
+import com.vehicle.salesmanagement.service.GridAggregateService;
+import com.vehicle.salesmanagement.service.GridProjection;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collections;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/aggregates")
+@Tag(name = "Aggregates", description = "Grid totals computed in SQL, without the rows")
+public class AggregateController {
+
+    private final GridAggregateService gridAggregateService;
+
+    @GetMapping("/{grid}")
+    @Operation(summary = "Aggregate a grid", description = "Returns only aggregateResults for the grid (vehicle-orders, stock-details, mddp-stock, finance-details, dispatch-details, delivery-details, manufacturer-orders or vehicle-variants), with total set to the number of rows aggregated. aggregate=field:sum|count|min|max|average,... as on the grid endpoint; group=field returns one entry per value of that field, e.g. aggregate=quantity:sum&group=modelName.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Aggregates computed successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown grid, field or aggregate",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class)))
+    })
+    public ResponseEntity<KendoGridResponse<?>> aggregate(@PathVariable String grid,
+                                                          @RequestParam(value = "aggregate") String aggregate,
+                                                          @RequestParam(value = "group", required = false) String group) {
+        log.info("Received request to aggregate {} by {} grouped by {}", grid, aggregate, group);
+        try {
+            GridAggregateService.Result result = gridAggregateService.aggregate(GridProjection.of(grid), aggregate, group);
+            return ResponseEntity.ok(new KendoGridResponse<>(Collections.emptyList(), result.rows(), result.results(), null));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid aggregate request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new KendoGridResponse<>(Collections.emptyList(), 0L, null, Collections.singletonList(e.getMessage())));
+        } catch (Exception e) {
+            log.error("Error aggregating {}: {}", grid, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new KendoGridResponse<>(Collections.emptyList(), 0L, null, Collections.singletonList("Error aggregating " + grid + ": " + e.getMessage())));
+        }
+    }
+}
@@ -5,7 +5,14 @@ import com.vehicle.salesmanagement.domain.dto.apirequest.DispatchRequest;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.DeliveryResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.DispatchResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.KendoGridResponse;
+import com.vehicle.salesmanagement.errorhandling.ChangeTokenExpiredException;
+import com.vehicle.salesmanagement.profiling.SqlBudget;
+import com.vehicle.salesmanagement.service.ChangeFeedService;
 import com.vehicle.salesmanagement.service.DispatchDeliveryService;
+import com.vehicle.salesmanagement.service.FieldProjectionService;
+import com.vehicle.salesmanagement.service.GridAggregateService;
+import com.vehicle.salesmanagement.service.GridProjection;
+import com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflow;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,7 +21,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.temporal.client.WorkflowClient;
 import io.temporal.client.WorkflowNotFoundException;
-import io.temporal.client.WorkflowStub;
+import io.temporal.client.WorkflowUpdateException;
+import io.temporal.failure.ApplicationFailure;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +34,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 @Slf4j
@@ -37,48 +46,57 @@ public class DispatchDeliveryController {
 
     private final @Qualifier("dispatchDeliveryWorkflowClient") WorkflowClient workflowClient;
     private final DispatchDeliveryService dispatchDeliveryService;
+    private final FieldProjectionService fieldProjectionService;
+    private final GridAggregateService gridAggregateService;
+    private final ChangeFeedService changeFeedService;
 
     @PostMapping("/initiateDispatch")
-    @Operation(summary = "Initiate dispatch process", description = "Signals the parent workflow to initiate the dispatch process for a vehicle order")
+    @Operation(summary = "Initiate dispatch process", description = "Has the parent workflow dispatch a vehicle order and returns the dispatch details once it is recorded")
     @ApiResponses({
             @ApiResponse(responseCode = "202", description = "Dispatch process initiated successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data, or order not ready for dispatch"),
+            @ApiResponse(responseCode = "404", description = "Parent workflow not found; order dispatched without it"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<DispatchResponse> initiateDispatch(@Valid @RequestBody DispatchRequest dispatchRequest) {
         log.info("Initiating dispatch process for order ID: {}", dispatchRequest.getCustomerOrderId());
 
-        DispatchResponse dispatchResponse;
-        try {
-            dispatchResponse = dispatchDeliveryService.initiateDispatch(dispatchRequest);
-        } catch (Exception e) {
-            log.error("Failed to initiate dispatch for order ID: {}: {}", dispatchRequest.getCustomerOrderId(), e.getMessage());
-            return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
-                    HttpStatus.BAD_REQUEST.value(),
-                    "Failed to initiate dispatch: " + e.getMessage(),
-                    null
-            );
-        }
-
-        // Signal the parent workflow to initiate dispatch
+        // The parent workflow validates the transition and dispatches in one update
         String parentWorkflowId = "parent-" + dispatchRequest.getCustomerOrderId();
+        DispatchResponse dispatchResponse;
         try {
-            WorkflowStub workflow = workflowClient.newUntypedWorkflowStub(parentWorkflowId);
-            workflow.signal("initiateDispatch", dispatchRequest);
-            log.info("Dispatch initiation signal sent to parent workflow for order ID: {}", dispatchRequest.getCustomerOrderId());
+            VehicleSalesParentWorkflow parentWorkflow = workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, parentWorkflowId);
+            dispatchResponse = parentWorkflow.requestDispatch(dispatchRequest);
         } catch (WorkflowNotFoundException e) {
             log.error("Parent workflow not found for order ID: {}: {}", dispatchRequest.getCustomerOrderId(), e.getMessage());
+            try {
+                dispatchResponse = dispatchDeliveryService.initiateDispatch(dispatchRequest);
+            } catch (Exception ex) {
+                log.error("Failed to initiate dispatch for order ID: {}: {}", dispatchRequest.getCustomerOrderId(), ex.getMessage());
+                return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
+                        HttpStatus.BAD_REQUEST.value(),
+                        "Failed to initiate dispatch: " + ex.getMessage(),
+                        null
+                );
+            }
             return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
                     HttpStatus.NOT_FOUND.value(),
                     "Parent workflow not found for workflowId='" + parentWorkflowId + "'",
+                    dispatchResponse
+            );
+        } catch (WorkflowUpdateException e) {
+            log.error("Failed to initiate dispatch for order ID: {}: {}", dispatchRequest.getCustomerOrderId(), updateFailure(e));
+            return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Failed to initiate dispatch: " + updateFailure(e),
                     null
             );
         } catch (Exception e) {
-            log.error("Failed to signal parent workflow for order ID: {}: {}", dispatchRequest.getCustomerOrderId(), e.getMessage());
+            log.error("Failed to request dispatch from parent workflow for order ID: {}: {}", dispatchRequest.getCustomerOrderId(), e.getMessage());
             return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
                     HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    "Failed to signal parent workflow to initiate dispatch: " + e.getMessage(),
-                    dispatchResponse
+                    "Failed to request dispatch from parent workflow: " + e.getMessage(),
+                    null
             );
         }
 
@@ -91,54 +109,59 @@ public class DispatchDeliveryController {
     }
 
     @PostMapping("/confirmDelivery")
-    @Operation(summary = "Confirm vehicle delivery", description = "Signals the parent workflow to confirm delivery and updates order status")
+    @Operation(summary = "Confirm vehicle delivery", description = "Has the parent workflow confirm delivery and returns the delivery details once it is recorded")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Delivery confirmed successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data, or order not dispatched"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<DeliveryResponse> confirmDelivery(@Valid @RequestBody DeliveryRequest deliveryRequest) {
         log.info("Confirming delivery for order ID: {}", deliveryRequest.getCustomerOrderId());
 
-        DeliveryResponse deliveryResponse;
-        try {
-            deliveryResponse = dispatchDeliveryService.confirmDelivery(deliveryRequest);
-        } catch (IllegalStateException e) {
-            log.error("Failed to confirm delivery for order ID: {}: {}", deliveryRequest.getCustomerOrderId(), e.getMessage());
-            return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
-                    HttpStatus.BAD_REQUEST.value(),
-                    "Failed to confirm delivery: " + e.getMessage(),
-                    null
-            );
-        } catch (Exception e) {
-            log.error("Failed to confirm delivery for order ID: {}: {}", deliveryRequest.getCustomerOrderId(), e.getMessage());
-            return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
-                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    "Failed to confirm delivery: " + e.getMessage(),
-                    null
-            );
-        }
-
-        // Signal the parent workflow to confirm delivery
         String parentWorkflowId = "parent-" + deliveryRequest.getCustomerOrderId();
+        DeliveryResponse deliveryResponse;
         try {
-            WorkflowStub workflow = workflowClient.newUntypedWorkflowStub(parentWorkflowId);
-            workflow.signal("confirmDelivery", deliveryRequest);
-            log.info("Delivery confirmation signal sent to parent workflow for order ID: {}", deliveryRequest.getCustomerOrderId());
+            VehicleSalesParentWorkflow parentWorkflow = workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, parentWorkflowId);
+            deliveryResponse = parentWorkflow.recordDelivery(deliveryRequest);
         } catch (WorkflowNotFoundException e) {
-            log.warn("Parent workflow not found for order ID: {}: workflowId='{}', attempting to query workflow history",
+            // The workflow gives up on delivery after an hour; late deliveries are still recorded
+            log.warn("Parent workflow not found for order ID: {}: workflowId='{}', confirming delivery directly",
                     deliveryRequest.getCustomerOrderId(), parentWorkflowId);
+            try {
+                deliveryResponse = dispatchDeliveryService.confirmDelivery(deliveryRequest);
+            } catch (IllegalStateException ex) {
+                log.error("Failed to confirm delivery for order ID: {}: {}", deliveryRequest.getCustomerOrderId(), ex.getMessage());
+                return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
+                        HttpStatus.BAD_REQUEST.value(),
+                        "Failed to confirm delivery: " + ex.getMessage(),
+                        null
+                );
+            } catch (Exception ex) {
+                log.error("Failed to confirm delivery for order ID: {}: {}", deliveryRequest.getCustomerOrderId(), ex.getMessage());
+                return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
+                        HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        "Failed to confirm delivery: " + ex.getMessage(),
+                        null
+                );
+            }
             return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
                     HttpStatus.OK.value(),
                     "Delivery confirmed, but parent workflow not found for workflowId='" + parentWorkflowId + "'. Check workflow history for details.",
                     deliveryResponse
             );
+        } catch (WorkflowUpdateException e) {
+            log.error("Failed to confirm delivery for order ID: {}: {}", deliveryRequest.getCustomerOrderId(), updateFailure(e));
+            return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Failed to confirm delivery: " + updateFailure(e),
+                    null
+            );
         } catch (Exception e) {
-            log.error("Failed to signal parent workflow for delivery confirmation for order ID: {}: {}", deliveryRequest.getCustomerOrderId(), e.getMessage());
+            log.error("Failed to request delivery confirmation from parent workflow for order ID: {}: {}", deliveryRequest.getCustomerOrderId(), e.getMessage());
             return new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse<>(
-                    HttpStatus.OK.value(),
-                    "Delivery confirmed, but failed to signal parent workflow: " + e.getMessage(),
-                    deliveryResponse
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Failed to confirm delivery: " + e.getMessage(),
+                    null
             );
         }
 
@@ -150,21 +173,43 @@ public class DispatchDeliveryController {
         );
     }
     @GetMapping("/dispatchdetails")
-    @Operation(summary = "Get all dispatch details", description = "Retrieves all dispatch details")
+    @SqlBudget(statements = 5)
+    @Operation(summary = "Get all dispatch details", description = "Retrieves all dispatch details. fields=a,b,... (or fields=default for the grid's columns) returns only those fields; since=<changeToken> returns only rows changed or deleted after that response; aggregate=field:sum|count|min|max|average,... (optionally with group=field) adds aggregateResults computed in SQL")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Dispatch details retrieved successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class))),
+            @ApiResponse(responseCode = "410", description = "Change token too old; reload without since",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class)))
     })
-    public ResponseEntity<KendoGridResponse<DispatchResponse>> getAllDispatchDetails() {
+    public ResponseEntity<KendoGridResponse<?>> getAllDispatchDetails(@RequestParam(value = "fields", required = false) String fields,
+                                                                      @RequestParam(value = "since", required = false) String since,
+                                                                      @RequestParam(value = "aggregate", required = false) String aggregate,
+                                                                      @RequestParam(value = "group", required = false) String group) {
         log.info("Received request to retrieve all dispatch details at {}", java.time.LocalDateTime.now());
         try {
-            List<DispatchResponse> dispatchDetails = dispatchDeliveryService.getAllDispatchDetails();
-            log.info("Successfully retrieved {} dispatch records", dispatchDetails.size());
-            return ResponseEntity.ok(new KendoGridResponse<>(dispatchDetails, (long) dispatchDetails.size(), null, null));
+            Object aggregates = aggregateResults(GridProjection.DISPATCH_DETAILS, aggregate, group);
+            if (since != null) {
+                return changedSince(GridProjection.DISPATCH_DETAILS, fields, since, aggregates);
+            }
+            // The token is taken in the read's transaction, so rows written while it runs are in the next refresh
+            return changeFeedService.readWithToken(changeToken -> {
+                if (fields != null) {
+                    return projectedGrid(fieldProjectionService.findAll(GridProjection.DISPATCH_DETAILS, fields), changeToken, aggregates);
+                }
+                List<DispatchResponse> dispatchDetails = dispatchDeliveryService.getAllDispatchDetails();
+                log.info("Successfully retrieved {} dispatch records", dispatchDetails.size());
+                KendoGridResponse<DispatchResponse> response = new KendoGridResponse<>(dispatchDetails, (long) dispatchDetails.size(), aggregates, null);
+                response.setChangeToken(changeToken);
+                return ResponseEntity.ok(response);
+            });
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return invalidGridRequest(e);
         } catch (Exception e) {
             log.error("Error retrieving dispatch details: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -172,21 +217,43 @@ public class DispatchDeliveryController {
         }
     }
     @GetMapping("/deliverydetails")
-    @Operation(summary = "Get all delivery details", description = "Retrieves all delivery details")
+    @SqlBudget(statements = 5)
+    @Operation(summary = "Get all delivery details", description = "Retrieves all delivery details. fields=a,b,... (or fields=default for the grid's columns) returns only those fields; since=<changeToken> returns only rows changed or deleted after that response; aggregate=field:sum|count|min|max|average,... (optionally with group=field) adds aggregateResults computed in SQL")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Delivery details retrieved successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class))),
+            @ApiResponse(responseCode = "410", description = "Change token too old; reload without since",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class)))
     })
-    public ResponseEntity<KendoGridResponse<DeliveryResponse>> getAllDeliveryDetails() {
+    public ResponseEntity<KendoGridResponse<?>> getAllDeliveryDetails(@RequestParam(value = "fields", required = false) String fields,
+                                                                      @RequestParam(value = "since", required = false) String since,
+                                                                      @RequestParam(value = "aggregate", required = false) String aggregate,
+                                                                      @RequestParam(value = "group", required = false) String group) {
         log.info("Received request to retrieve all delivery details at {}", java.time.LocalDateTime.now());
         try {
-            List<DeliveryResponse> deliveryDetails = dispatchDeliveryService.getAllDeliveryDetails();
-            log.info("Successfully retrieved {} delivery records", deliveryDetails.size());
-            return ResponseEntity.ok(new KendoGridResponse<>(deliveryDetails, (long) deliveryDetails.size(), null, null));
+            Object aggregates = aggregateResults(GridProjection.DELIVERY_DETAILS, aggregate, group);
+            if (since != null) {
+                return changedSince(GridProjection.DELIVERY_DETAILS, fields, since, aggregates);
+            }
+            // The token is taken in the read's transaction, so rows written while it runs are in the next refresh
+            return changeFeedService.readWithToken(changeToken -> {
+                if (fields != null) {
+                    return projectedGrid(fieldProjectionService.findAll(GridProjection.DELIVERY_DETAILS, fields), changeToken, aggregates);
+                }
+                List<DeliveryResponse> deliveryDetails = dispatchDeliveryService.getAllDeliveryDetails();
+                log.info("Successfully retrieved {} delivery records", deliveryDetails.size());
+                KendoGridResponse<DeliveryResponse> response = new KendoGridResponse<>(deliveryDetails, (long) deliveryDetails.size(), aggregates, null);
+                response.setChangeToken(changeToken);
+                return ResponseEntity.ok(response);
+            });
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return invalidGridRequest(e);
         } catch (Exception e) {
             log.error("Error retrieving delivery details: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -247,4 +314,44 @@ public class DispatchDeliveryController {
                     .body(new KendoGridResponse<>(Collections.emptyList(), 0L, "Internal error: " + e.getMessage(), null));
         }
     }
+
+    private ResponseEntity<KendoGridResponse<?>> projectedGrid(List<Map<String, Object>> rows, String changeToken, Object aggregates) {
+        log.info("Successfully retrieved {} projected rows", rows.size());
+        KendoGridResponse<Map<String, Object>> response = new KendoGridResponse<>(rows, (long) rows.size(), aggregates, null);
+        response.setChangeToken(changeToken);
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<KendoGridResponse<?>> changedSince(GridProjection grid, String fields, String since, Object aggregates) {
+        try {
+            KendoGridResponse<Map<String, Object>> changes = changeFeedService.changesSince(grid, fields, since);
+            changes.setAggregateResults(aggregates);
+            log.info("Successfully retrieved {} changed and {} deleted {} rows", changes.getTotal(), changes.getDeleted().size(), grid);
+            return ResponseEntity.ok(changes);
+        } catch (ChangeTokenExpiredException e) {
+            log.warn("Expired change token for {}: {}", grid, e.getMessage());
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(new KendoGridResponse<>(Collections.emptyList(), 0L, null, Collections.singletonList(e.getMessage())));
+        }
+    }
+
+    private Object aggregateResults(GridProjection grid, String aggregate, String group) {
+        if (aggregate == null && group == null) {
+            return null;
+        }
+        return gridAggregateService.aggregate(grid, aggregate, group).results();
+    }
+
+    private static ResponseEntity<KendoGridResponse<?>> invalidGridRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new KendoGridResponse<>(Collections.emptyList(), 0L, null, Collections.singletonList(e.getMessage())));
+    }
+
+    /**
+     * Why the parent workflow refused or failed an update: the validator's or handler's message rather than Temporal's
+     * wrapper around it.
+     */
+    private static String updateFailure(WorkflowUpdateException e) {
+        return e.getCause() instanceof ApplicationFailure failure ? failure.getOriginalMessage() : e.getMessage();
+    }
 }
\ No newline at end of file
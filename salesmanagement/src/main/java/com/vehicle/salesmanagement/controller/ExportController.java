@@ -0,0 +1,75 @@
+package com.vehicle.salesmanagement.controller;
+
+import com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse;
+import com.vehicle.salesmanagement.export.ExportFormat;
+import com.vehicle.salesmanagement.service.GridExportService;
+import com.vehicle.salesmanagement.service.GridProjection;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/export")
+@Tag(name = "Exports", description = "Streaming full-grid exports for reconciliation")
+public class ExportController {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final GridExportService gridExportService;
+
+    @GetMapping("/{grid}")
+    @Operation(summary = "Export a grid", description = "Streams every row of the grid (vehicle-orders, stock-details, mddp-stock, finance-details, dispatch-details, delivery-details, manufacturer-orders or vehicle-variants) as ndjson, csv or xlsx, ordered by key. fields=a,b,... limits the columns as on the grid endpoint. gzip=true compresses ndjson and csv; xlsx is already compressed and is sent as is.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Export file",
+                    content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unknown grid, format or field",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<?> export(@PathVariable String grid,
+                                    @RequestParam(value = "format", defaultValue = "csv") String format,
+                                    @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+                                    @RequestParam(value = "fields", required = false) String fields) {
+        try {
+            GridProjection projection = GridProjection.of(grid);
+            ExportFormat exportFormat = ExportFormat.of(format);
+            List<String> columns = gridExportService.columns(projection, fields);
+            boolean compress = gzip && !exportFormat.isCompressed();
+
+            String filename = projection.name().toLowerCase(Locale.ROOT).replace('_', '-') + "-"
+                    + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + exportFormat.extension() + (compress ? ".gz" : "");
+            log.info("Starting {} export of {} with columns {}", exportFormat, projection, columns);
+            StreamingResponseBody body = out -> gridExportService.export(projection, columns, exportFormat, compress, out);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                    .contentType(MediaType.parseMediaType(compress ? "application/gzip" : exportFormat.contentType()))
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid export request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("Failed to start export of {}: {}", grid, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal server error: " + e.getMessage(), null));
+        }
+    }
+}
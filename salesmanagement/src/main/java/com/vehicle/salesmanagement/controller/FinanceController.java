@@ -8,6 +8,7 @@ import com.vehicle.salesmanagement.domain.dto.apirequest.RejectFinanceRequest;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.FinanceResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.KendoGridResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
 import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
 import com.vehicle.salesmanagement.enums.OrderStatus;
 import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
@@ -17,9 +18,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.temporal.client.WorkflowClient;
-import io.temporal.client.WorkflowFailedException;
 import io.temporal.client.WorkflowNotFoundException;
-import io.temporal.client.WorkflowStub;
+import io.temporal.client.WorkflowUpdateException;
+import io.temporal.failure.ApplicationFailure;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +31,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -45,10 +45,10 @@ public class FinanceController {
     private final ObjectMapper objectMapper;
 
     @PostMapping("/financeInitiate")
-    @Operation(summary = "Initiate finance details", description = "Creates finance details for a vehicle order and signals the parent workflow to start the finance workflow")
+    @Operation(summary = "Initiate finance details", description = "Creates finance details for a vehicle order and has the parent workflow start the finance workflow, returning once it is running")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Finance workflow started successfully"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request or order not in BLOCKED status"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request, order not in BLOCKED status or parent workflow not ready for finance"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<ApiResponse<FinanceResponse>> initiateFinance(@Valid @RequestBody FinanceRequest financeRequest) {
@@ -77,42 +77,38 @@ public class FinanceController {
             ));
         }
 
-        // Signal the parent workflow to initiate finance
+        // One update checks that the parent workflow is waiting for finance and starts it
         String parentWorkflowId = "parent-" + financeRequest.getCustomerOrderId();
-        log.info("Attempting to signal parent workflow with ID: {} for order ID: {}", parentWorkflowId, financeRequest.getCustomerOrderId());
-
-        // Check if the parent workflow is running
-        WorkflowStub stub = workflowClient.newUntypedWorkflowStub(
-                parentWorkflowId
-        );
+        log.info("Requesting finance from parent workflow with ID: {} for order ID: {}", parentWorkflowId, financeRequest.getCustomerOrderId());
         try {
-            String status = stub.query("getWorkflowStatus", String.class);
-            log.info("Parent workflow with ID: {} is running with status: {}", parentWorkflowId, status);
-        } catch (Exception e) {
+            VehicleSalesParentWorkflow parentWorkflow = workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, parentWorkflowId);
+            OrderResponse orderResponse = parentWorkflow.requestFinance(financeRequest);
+            log.info("Parent workflow started finance for order ID: {}, order status: {}",
+                    financeRequest.getCustomerOrderId(), orderResponse.getOrderStatus());
+        } catch (WorkflowNotFoundException e) {
             log.error("Parent workflow with ID: {} is not running for order ID: {}. Error: {}",
                     parentWorkflowId, financeRequest.getCustomerOrderId(), e.getMessage());
+            discardFinanceDetails(financeRequest.getCustomerOrderId());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse<>(
                     HttpStatus.BAD_REQUEST.value(),
                     "Cannot initiate finance: Parent workflow is not running for order ID: " + financeRequest.getCustomerOrderId(),
                     null
             ));
-        }
-
-        // If the workflow is running, proceed to signal
-        try {
-            VehicleSalesParentWorkflow parentWorkflow = workflowClient.newWorkflowStub(
-                    VehicleSalesParentWorkflow.class,
-                    parentWorkflowId,
-                    Optional.of("vehicle-order-task-queue")
-            );
-            parentWorkflow.initiateFinance(financeRequest);
-            log.info("Signaled parent workflow to initiate finance for order ID: {}", financeRequest.getCustomerOrderId());
+        } catch (WorkflowUpdateException e) {
+            log.error("Parent workflow with ID: {} refused finance for order ID: {}: {}",
+                    parentWorkflowId, financeRequest.getCustomerOrderId(), updateFailure(e));
+            discardFinanceDetails(financeRequest.getCustomerOrderId());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse<>(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Cannot initiate finance: " + updateFailure(e),
+                    null
+            ));
         } catch (Exception e) {
-            log.error("Failed to signal parent workflow for order ID: {}, workflowId: {}: {}",
+            log.error("Failed to request finance from parent workflow for order ID: {}, workflowId: {}: {}",
                     financeRequest.getCustomerOrderId(), parentWorkflowId, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new ApiResponse<>(
                     HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    "Failed to signal parent workflow to initiate finance: " + e.getMessage(),
+                    "Failed to request finance from parent workflow: " + e.getMessage(),
                     null
             ));
         }
@@ -133,23 +129,21 @@ public class FinanceController {
     }
 
     @PostMapping("/financeApprove")
-    @Operation(summary = "Approve finance for an order", description = "Approves the finance workflow for a vehicle order")
+    @Operation(summary = "Approve finance for an order", description = "Approves the finance workflow for a vehicle order through its parent workflow and returns the approved finance details")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Finance approved successfully"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request data, or finance not started or already decided"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Parent workflow not found"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<ApiResponse<FinanceResponse>> approveFinance(@Valid @RequestBody ApproveFinanceRequest request) {
         log.info("Approving finance for order ID: {}", request.getCustomerOrderId());
-        String workflowId = "finance-" + request.getCustomerOrderId();
+        String workflowId = "parent-" + request.getCustomerOrderId();
 
         try {
-            // Use an untyped workflow stub to signal the existing workflow
-            WorkflowStub workflow = workflowClient.newUntypedWorkflowStub(workflowId);
-            workflow.signal("approveFinance", request.getApprovedBy());
-
-            // Wait for the workflow to complete and get the result
-            FinanceResponse financeResponse = workflow.getResult(FinanceResponse.class);
+            // The update returns once the finance workflow has recorded the approval
+            VehicleSalesParentWorkflow parentWorkflow = workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, workflowId);
+            FinanceResponse financeResponse = parentWorkflow.approveFinanceRequest(request.getApprovedBy());
             log.info("Finance approved, order status set to ALLOTTED for order ID: {}", request.getCustomerOrderId());
 
             return ResponseEntity.ok(new ApiResponse<>(
@@ -158,17 +152,17 @@ public class FinanceController {
                     financeResponse
             ));
         } catch (WorkflowNotFoundException e) {
-            log.error("Finance workflow not found for order ID: {}, workflowId: {}", request.getCustomerOrderId(), workflowId, e);
+            log.error("Parent workflow not found for order ID: {}, workflowId: {}", request.getCustomerOrderId(), workflowId, e);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(
                     HttpStatus.NOT_FOUND.value(),
-                    "Finance workflow not found for workflowId='" + workflowId + "'",
+                    "Parent workflow not found for workflowId='" + workflowId + "'",
                     null
             ));
-        } catch (WorkflowFailedException e) {
-            log.error("Workflow failed for order ID: {}, workflowId: {}: {}", request.getCustomerOrderId(), workflowId, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new ApiResponse<>(
-                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    "Failed to approve finance: Workflow execution failed for workflowId='" + workflowId + "': " + e.getMessage(),
+        } catch (WorkflowUpdateException e) {
+            log.error("Finance approval refused for order ID: {}, workflowId: {}: {}", request.getCustomerOrderId(), workflowId, updateFailure(e));
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse<>(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Cannot approve finance: " + updateFailure(e),
                     null
             ));
         } catch (Exception e) {
@@ -182,21 +176,20 @@ public class FinanceController {
     }
 
     @PostMapping("/financeReject")
-    @Operation(summary = "Reject finance for an order", description = "Rejects the finance workflow for a vehicle order")
+    @Operation(summary = "Reject finance for an order", description = "Rejects the finance workflow for a vehicle order through its parent workflow and returns the rejected finance details")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Finance rejected successfully"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request data, or finance not started or already decided"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Parent workflow not found"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<ApiResponse<FinanceResponse>> rejectFinance(@Valid @RequestBody RejectFinanceRequest request) {
         log.info("Rejecting finance for order ID: {}", request.getCustomerOrderId());
-        String workflowId = "finance-" + request.getCustomerOrderId();
+        String workflowId = "parent-" + request.getCustomerOrderId();
 
         try {
-            WorkflowStub workflow = workflowClient.newUntypedWorkflowStub(workflowId);
-            workflow.signal("rejectFinance", request.getRejectedBy());
-
-            FinanceResponse financeResponse = workflow.getResult(FinanceResponse.class);
+            VehicleSalesParentWorkflow parentWorkflow = workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, workflowId);
+            FinanceResponse financeResponse = parentWorkflow.rejectFinanceRequest(request.getRejectedBy());
             log.info("Finance rejected, order status set to PENDING for order ID: {}", request.getCustomerOrderId());
 
             return ResponseEntity.ok(new ApiResponse<>(
@@ -205,17 +198,17 @@ public class FinanceController {
                     financeResponse
             ));
         } catch (WorkflowNotFoundException e) {
-            log.error("Finance workflow not found for order ID: {}, workflowId: {}", request.getCustomerOrderId(), workflowId);
+            log.error("Parent workflow not found for order ID: {}, workflowId: {}", request.getCustomerOrderId(), workflowId);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(
                     HttpStatus.NOT_FOUND.value(),
-                    "Finance workflow not found for workflowId='" + workflowId + "'",
+                    "Parent workflow not found for workflowId='" + workflowId + "'",
                     null
             ));
-        } catch (WorkflowFailedException e) {
-            log.error("Workflow failed for order ID: {}: {}", request.getCustomerOrderId(), e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new ApiResponse<>(
-                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    "Failed to reject finance: Workflow execution failed for workflowId='" + workflowId + "': " + e.getMessage(),
+        } catch (WorkflowUpdateException e) {
+            log.error("Finance rejection refused for order ID: {}: {}", request.getCustomerOrderId(), updateFailure(e));
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse<>(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Cannot reject finance: " + updateFailure(e),
                     null
             ));
         } catch (Exception e) {
@@ -266,4 +259,23 @@ public class FinanceController {
                     .body(new KendoGridResponse<>(Collections.emptyList(), 0L, "Unexpected error: " + e.getMessage(), null));
         }
     }
+
+    /**
+     * Drops the finance record created for an initiation the parent workflow refused, so a retry is not blocked by it.
+     */
+    private void discardFinanceDetails(String customerOrderId) {
+        try {
+            financeService.discardPendingFinanceDetails(customerOrderId);
+        } catch (Exception e) {
+            log.error("Failed to discard finance details for order ID: {}: {}", customerOrderId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Why the parent workflow refused or failed an update: the validator's or handler's message rather than Temporal's
+     * wrapper around it.
+     */
+    private static String updateFailure(WorkflowUpdateException e) {
+        return e.getCause() instanceof ApplicationFailure failure ? failure.getOriginalMessage() : e.getMessage();
+    }
 }
\ No newline at end of file
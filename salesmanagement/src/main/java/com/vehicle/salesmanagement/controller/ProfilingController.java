@@ -0,0 +1,101 @@
+package com.vehicle.salesmanagement.controller;
+
+import com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.JfrRecordingStatus;
+import com.vehicle.salesmanagement.profiling.JfrRecordingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/jfr")
+@Tag(name = "Profiling", description = "On-demand JFR recordings of order and catalog hot paths")
+public class ProfilingController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    @PostMapping("/start")
+    @Operation(summary = "Start a JFR recording", description = "Starts a bounded recording with the application events plus CPU and allocation sampling. It stops on its own after the given duration.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Recording started",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Duration out of range",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "A recording is already running",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<JfrRecordingStatus>> start(
+            @RequestParam(value = "durationSeconds", required = false) Long durationSeconds) {
+        try {
+            JfrRecordingStatus status = jfrRecordingService.start(
+                    durationSeconds != null ? Duration.ofSeconds(durationSeconds) : null);
+            return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), "JFR recording started", status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ApiResponse<>(HttpStatus.CONFLICT.value(), e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("Failed to start JFR recording: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal server error: " + e.getMessage(), null));
+        }
+    }
+
+    @GetMapping("/status")
+    @Operation(summary = "JFR recording status", description = "Returns the state of the current or last recording")
+    public ResponseEntity<ApiResponse<JfrRecordingStatus>> status() {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), "JFR recording status", jfrRecordingService.status()));
+    }
+
+    @PostMapping("/stop")
+    @Operation(summary = "Stop and download the JFR recording", description = "Stops the recording if it is still running and streams the .jfr file back")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Recording file",
+                    content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "No recording has been started"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> stop() {
+        try {
+            Path file = jfrRecordingService.stopAndDump();
+            StreamingResponseBody body = out -> {
+                try {
+                    Files.copy(file, out);
+                } finally {
+                    Files.deleteIfExists(file);
+                }
+            };
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                    .contentLength(Files.size(file))
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(body);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            log.error("Failed to stop JFR recording: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -4,9 +4,16 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vehicle.salesmanagement.domain.dto.apirequest.*;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.AutocompleteSuggestion;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.KendoGridResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.VehicleAttributesResponse;
 import com.vehicle.salesmanagement.domain.entity.model.*;
+import com.vehicle.salesmanagement.errorhandling.ChangeTokenExpiredException;
+import com.vehicle.salesmanagement.profiling.SqlBudget;
+import com.vehicle.salesmanagement.service.ChangeFeedService;
+import com.vehicle.salesmanagement.service.FieldProjectionService;
+import com.vehicle.salesmanagement.service.GridAggregateService;
+import com.vehicle.salesmanagement.service.GridProjection;
 import com.vehicle.salesmanagement.service.VehicleModelService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -24,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,6 +42,9 @@ import java.util.stream.Collectors;
 public class VehicleModelController {
 
     private final VehicleModelService vehicleModelService;
+    private final FieldProjectionService fieldProjectionService;
+    private final GridAggregateService gridAggregateService;
+    private final ChangeFeedService changeFeedService;
     private final ObjectMapper objectMapper;
 
     private <T> List<T> normalizeToList(Object payload, Class<T> clazz) {
@@ -47,6 +58,7 @@ public class VehicleModelController {
     }
 
     @GetMapping("/dropdownData")
+    @SqlBudget(statements = 3)
     @Operation(summary = "Fetch dropdown data", description = "Fetches all data required for dropdowns including models, variants, fuel types, colors, etc., optionally filtered by model name and variant")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Dropdown data retrieved successfully",
@@ -507,21 +519,41 @@ public class VehicleModelController {
     }
 
     @GetMapping("/stockdetails")
-    @Operation(summary = "Get all stock details", description = "Retrieves all stock details")
+    @SqlBudget(statements = 5)
+    @Operation(summary = "Get all stock details", description = "Retrieves all stock details. fields=a,b,... (or fields=default for the grid's columns) returns only those fields; since=<changeToken> returns only rows changed or deleted after that response; aggregate=field:sum|count|min|max|average,... (optionally with group=field) adds aggregateResults computed in SQL")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Stock details retrieved successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "410", description = "Change token too old; reload without since",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class)))
     })
-    public ResponseEntity<KendoGridResponse<StockDetailsDTO>> getAllStockDetails() {
+    public ResponseEntity<KendoGridResponse<?>> getAllStockDetails(@RequestParam(value = "fields", required = false) String fields,
+                                                                   @RequestParam(value = "since", required = false) String since,
+                                                                   @RequestParam(value = "aggregate", required = false) String aggregate,
+                                                                   @RequestParam(value = "group", required = false) String group) {
         log.info("Received request to fetch all stock details at {}", java.time.LocalDateTime.now());
         try {
-            List<StockDetailsDTO> stockDetails = vehicleModelService.getAllStockDetails();
-            log.info("Successfully retrieved {} stock details", stockDetails.size());
-            return ResponseEntity.ok(new KendoGridResponse<>(stockDetails, (long) stockDetails.size(), null, null));
+            Object aggregates = aggregateResults(GridProjection.STOCK_DETAILS, aggregate, group);
+            if (since != null) {
+                return changedSince(GridProjection.STOCK_DETAILS, fields, since, aggregates);
+            }
+            // The token is taken in the read's transaction, so rows written while it runs are in the next refresh
+            return changeFeedService.readWithToken(changeToken -> {
+                if (fields != null) {
+                    return projectedGrid(fieldProjectionService.findAll(GridProjection.STOCK_DETAILS, fields), changeToken, aggregates);
+                }
+                List<StockDetailsDTO> stockDetails = vehicleModelService.getAllStockDetails();
+                log.info("Successfully retrieved {} stock details", stockDetails.size());
+                return ResponseEntity.ok(withChangeToken(new KendoGridResponse<>(stockDetails, (long) stockDetails.size(), aggregates, null), changeToken));
+            });
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return invalidGridRequest(e);
         } catch (Exception e) {
             log.error("Error retrieving stock details: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -530,22 +562,42 @@ public class VehicleModelController {
     }
 
     @GetMapping("/mddpstock")
-    @Operation(summary = "Get all MDDP stock details", description = "Retrieves all MDDP stock details")
+    @SqlBudget(statements = 5)
+    @Operation(summary = "Get all MDDP stock details", description = "Retrieves all MDDP stock details. fields=a,b,... (or fields=default for the grid's columns) returns only those fields; since=<changeToken> returns only rows changed or deleted after that response; aggregate=field:sum|count|min|max|average,... (optionally with group=field) adds aggregateResults computed in SQL")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "MDDP stock details retrieved successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "410", description = "Change token too old; reload without since",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class)))
     })
-    public ResponseEntity<KendoGridResponse<MddpStockDTO>> getAllMddpStock() {
+    public ResponseEntity<KendoGridResponse<?>> getAllMddpStock(@RequestParam(value = "fields", required = false) String fields,
+                                                                @RequestParam(value = "since", required = false) String since,
+                                                                @RequestParam(value = "aggregate", required = false) String aggregate,
+                                                                @RequestParam(value = "group", required = false) String group) {
         log.info("Received request to fetch all MDDP stock details at {}", java.time.LocalDateTime.now());
         try {
-            KendoGridResponse<MddpStockDTO> serviceResponse = vehicleModelService.getAllMddpStock();
-            List<MddpStockDTO> mddpStock = serviceResponse.getData();
-            log.info("Successfully retrieved {} MDDP stock details", mddpStock.size());
-            return ResponseEntity.ok(new KendoGridResponse<>(mddpStock, (long) mddpStock.size(), null, null));
+            Object aggregates = aggregateResults(GridProjection.MDDP_STOCK, aggregate, group);
+            if (since != null) {
+                return changedSince(GridProjection.MDDP_STOCK, fields, since, aggregates);
+            }
+            // The token is taken in the read's transaction, so rows written while it runs are in the next refresh
+            return changeFeedService.readWithToken(changeToken -> {
+                if (fields != null) {
+                    return projectedGrid(fieldProjectionService.findAll(GridProjection.MDDP_STOCK, fields), changeToken, aggregates);
+                }
+                KendoGridResponse<MddpStockDTO> serviceResponse = vehicleModelService.getAllMddpStock();
+                List<MddpStockDTO> mddpStock = serviceResponse.getData();
+                log.info("Successfully retrieved {} MDDP stock details", mddpStock.size());
+                return ResponseEntity.ok(withChangeToken(new KendoGridResponse<>(mddpStock, (long) mddpStock.size(), aggregates, null), changeToken));
+            });
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return invalidGridRequest(e);
         } catch (Exception e) {
             log.error("Error retrieving MDDP stock details: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -554,22 +606,41 @@ public class VehicleModelController {
     }
 
     @GetMapping("/financedetails")
-    @Operation(summary = "Get all finance details", description = "Retrieves all finance details")
+    @Operation(summary = "Get all finance details", description = "Retrieves all finance details. fields=a,b,... (or fields=default for the grid's columns) returns only those fields; since=<changeToken> returns only rows changed or deleted after that response; aggregate=field:sum|count|min|max|average,... (optionally with group=field) adds aggregateResults computed in SQL")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Finance details retrieved successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "410", description = "Change token too old; reload without since",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class)))
     })
-    public ResponseEntity<KendoGridResponse<FinanceDTO>> getAllFinanceDetails() {
+    public ResponseEntity<KendoGridResponse<?>> getAllFinanceDetails(@RequestParam(value = "fields", required = false) String fields,
+                                                                     @RequestParam(value = "since", required = false) String since,
+                                                                     @RequestParam(value = "aggregate", required = false) String aggregate,
+                                                                     @RequestParam(value = "group", required = false) String group) {
         log.info("Received request to fetch all finance details at {}", java.time.LocalDateTime.now());
         try {
-            KendoGridResponse<FinanceDTO> serviceResponse = vehicleModelService.getAllFinanceDetails();
-            List<FinanceDTO> financeDetails = serviceResponse.getData();
-            log.info("Successfully retrieved {} finance details", financeDetails.size());
-            return ResponseEntity.ok(new KendoGridResponse<>(financeDetails, (long) financeDetails.size(), null, null));
+            Object aggregates = aggregateResults(GridProjection.FINANCE_DETAILS, aggregate, group);
+            if (since != null) {
+                return changedSince(GridProjection.FINANCE_DETAILS, fields, since, aggregates);
+            }
+            // The token is taken in the read's transaction, so rows written while it runs are in the next refresh
+            return changeFeedService.readWithToken(changeToken -> {
+                if (fields != null) {
+                    return projectedGrid(fieldProjectionService.findAll(GridProjection.FINANCE_DETAILS, fields), changeToken, aggregates);
+                }
+                KendoGridResponse<FinanceDTO> serviceResponse = vehicleModelService.getAllFinanceDetails();
+                List<FinanceDTO> financeDetails = serviceResponse.getData();
+                log.info("Successfully retrieved {} finance details", financeDetails.size());
+                return ResponseEntity.ok(withChangeToken(new KendoGridResponse<>(financeDetails, (long) financeDetails.size(), aggregates, null), changeToken));
+            });
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return invalidGridRequest(e);
         } catch (Exception e) {
             log.error("Error retrieving finance details: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -578,22 +649,41 @@ public class VehicleModelController {
     }
 
     @GetMapping("/manufacturerorders")
-    @Operation(summary = "Get all manufacturer orders", description = "Retrieves all manufacturer orders")
+    @Operation(summary = "Get all manufacturer orders", description = "Retrieves all manufacturer orders. fields=a,b,... (or fields=default for the grid's columns) returns only those fields; since=<changeToken> returns only rows changed or deleted after that response; aggregate=field:sum|count|min|max|average,... (optionally with group=field) adds aggregateResults computed in SQL")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Manufacturer orders retrieved successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "410", description = "Change token too old; reload without since",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class)))
     })
-    public ResponseEntity<KendoGridResponse<ManufacturerOrderDTO>> getAllManufacturerOrders() {
+    public ResponseEntity<KendoGridResponse<?>> getAllManufacturerOrders(@RequestParam(value = "fields", required = false) String fields,
+                                                                         @RequestParam(value = "since", required = false) String since,
+                                                                         @RequestParam(value = "aggregate", required = false) String aggregate,
+                                                                         @RequestParam(value = "group", required = false) String group) {
         log.info("Received request to fetch all manufacturer orders at {}", java.time.LocalDateTime.now());
         try {
-            KendoGridResponse<ManufacturerOrderDTO> serviceResponse = vehicleModelService.getAllManufacturerOrders();
-            List<ManufacturerOrderDTO> orders = serviceResponse.getData();
-            log.info("Successfully retrieved {} manufacturer orders", orders.size());
-            return ResponseEntity.ok(new KendoGridResponse<>(orders, (long) orders.size(), null, null));
+            Object aggregates = aggregateResults(GridProjection.MANUFACTURER_ORDERS, aggregate, group);
+            if (since != null) {
+                return changedSince(GridProjection.MANUFACTURER_ORDERS, fields, since, aggregates);
+            }
+            // The token is taken in the read's transaction, so rows written while it runs are in the next refresh
+            return changeFeedService.readWithToken(changeToken -> {
+                if (fields != null) {
+                    return projectedGrid(fieldProjectionService.findAll(GridProjection.MANUFACTURER_ORDERS, fields), changeToken, aggregates);
+                }
+                KendoGridResponse<ManufacturerOrderDTO> serviceResponse = vehicleModelService.getAllManufacturerOrders();
+                List<ManufacturerOrderDTO> orders = serviceResponse.getData();
+                log.info("Successfully retrieved {} manufacturer orders", orders.size());
+                return ResponseEntity.ok(withChangeToken(new KendoGridResponse<>(orders, (long) orders.size(), aggregates, null), changeToken));
+            });
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return invalidGridRequest(e);
         } catch (Exception e) {
             log.error("Error retrieving manufacturer orders: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -602,7 +692,7 @@ public class VehicleModelController {
     }
 
     @GetMapping("/vehiclevariants")
-    @Operation(summary = "Get all vehicle variants", description = "Retrieves all vehicle variants")
+    @Operation(summary = "Get all vehicle variants", description = "Retrieves all vehicle variants. fields=a,b,... (or fields=default for the grid's columns) returns only those fields, with the model flattened to vehicleModelId; aggregate=field:sum|count|min|max|average,... (optionally with group=field) adds aggregateResults computed in SQL")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Vehicle variants retrieved successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -611,13 +701,22 @@ public class VehicleModelController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class)))
     })
-    public ResponseEntity<KendoGridResponse<VehicleVariant>> getAllVehicleVariants() {
+    public ResponseEntity<KendoGridResponse<?>> getAllVehicleVariants(@RequestParam(value = "fields", required = false) String fields,
+                                                                      @RequestParam(value = "aggregate", required = false) String aggregate,
+                                                                      @RequestParam(value = "group", required = false) String group) {
         log.info("Received request to fetch all vehicle variants at {}", java.time.LocalDateTime.now());
         try {
+            Object aggregates = aggregateResults(GridProjection.VEHICLE_VARIANTS, aggregate, group);
+            if (fields != null) {
+                return projectedGrid(fieldProjectionService.findAllVariants(fields), null, aggregates);
+            }
             KendoGridResponse<VehicleVariant> serviceResponse = vehicleModelService.getAllVehicleVariants();
             List<VehicleVariant> variants = serviceResponse.getData();
             log.info("Successfully retrieved {} vehicle variants", variants.size());
-            return ResponseEntity.ok(new KendoGridResponse<>(variants, (long) variants.size(), null, null));
+            return ResponseEntity.ok(new KendoGridResponse<>(variants, (long) variants.size(), aggregates, null));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return invalidGridRequest(e);
         } catch (Exception e) {
             log.error("Error retrieving vehicle variants: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -625,8 +724,146 @@ public class VehicleModelController {
         }
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete catalog search", description = "Returns ranked model, variant, suffix and feature suggestions whose name or any word in it starts with the query")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Empty query or invalid limit",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class)))
+    })
+    public ResponseEntity<KendoGridResponse<AutocompleteSuggestion>> autocomplete(
+            @RequestParam(value = "q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(vehicleModelService.autocomplete(query, limit));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            KendoGridResponse<AutocompleteSuggestion> response = new KendoGridResponse<>();
+            response.setData(Collections.emptyList());
+            response.setTotal(0);
+            response.setErrors(Collections.singletonList(e.getMessage()));
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @GetMapping("/vehiclevariants/range")
+    @Operation(summary = "Filter vehicle variants by spec ranges", description = "Retrieves vehicle variants whose power (bhp), top speed (km/h), wheel base, width or length (mm) fall within the given bounds")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Vehicle variants retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid range provided",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class)))
+    })
+    public ResponseEntity<KendoGridResponse<VehicleVariant>> getVehicleVariantsBySpecRange(@ModelAttribute VariantSpecRangeRequest request) {
+        log.info("Received request to fetch vehicle variants by spec range: {}", request);
+        try {
+            KendoGridResponse<VehicleVariant> response = vehicleModelService.getVehicleVariantsBySpecRange(request);
+            log.info("Successfully retrieved {} vehicle variants by spec range", response.getTotal());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            KendoGridResponse<VehicleVariant> response = new KendoGridResponse<>();
+            response.setData(Collections.emptyList());
+            response.setTotal(0);
+            response.setErrors(Collections.singletonList(e.getMessage()));
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            log.error("Error retrieving vehicle variants by spec range: {}", e.getMessage(), e);
+            KendoGridResponse<VehicleVariant> response = new KendoGridResponse<>();
+            response.setData(Collections.emptyList());
+            response.setTotal(0);
+            response.setErrors(Collections.singletonList(e.getMessage()));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @GetMapping("/vehiclevariants/byfeature")
+    @Operation(summary = "Filter vehicle variants by colour or feature", description = "Retrieves vehicle variants offered in the given colour and/or carrying the given safety or comfort feature")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Vehicle variants retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "No filter provided",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class)))
+    })
+    public ResponseEntity<KendoGridResponse<VehicleVariant>> getVehicleVariantsByFeature(
+            @RequestParam(value = "colour", required = false) String colour,
+            @RequestParam(value = "safetyFeature", required = false) String safetyFeature,
+            @RequestParam(value = "comfort", required = false) String comfort) {
+        log.info("Received request to fetch vehicle variants by colour: {}, safetyFeature: {}, comfort: {}", colour, safetyFeature, comfort);
+        try {
+            KendoGridResponse<VehicleVariant> response = vehicleModelService.getVehicleVariantsByFeature(colour, safetyFeature, comfort);
+            log.info("Successfully retrieved {} vehicle variants by feature", response.getTotal());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            KendoGridResponse<VehicleVariant> response = new KendoGridResponse<>();
+            response.setData(Collections.emptyList());
+            response.setTotal(0);
+            response.setErrors(Collections.singletonList(e.getMessage()));
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            log.error("Error retrieving vehicle variants by feature: {}", e.getMessage(), e);
+            KendoGridResponse<VehicleVariant> response = new KendoGridResponse<>();
+            response.setData(Collections.emptyList());
+            response.setTotal(0);
+            response.setErrors(Collections.singletonList(e.getMessage()));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @GetMapping("/vehiclevariants/similar")
+    @Operation(summary = "Get similar vehicle variants", description = "Retrieves the variants whose normalized specifications are closest to the given vehicle variant")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Similar vehicle variants retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid variant ID or limit",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = KendoGridResponse.class)))
+    })
+    public ResponseEntity<KendoGridResponse<VehicleVariant>> getSimilarVehicleVariants(
+            @RequestParam(value = "vehicleVariantId") Long vehicleVariantId,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        log.info("Received request to fetch {} variants similar to vehicleVariantId: {}", limit, vehicleVariantId);
+        try {
+            KendoGridResponse<VehicleVariant> response = vehicleModelService.getSimilarVehicleVariants(vehicleVariantId, limit);
+            log.info("Successfully retrieved {} similar vehicle variants", response.getTotal());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            KendoGridResponse<VehicleVariant> response = new KendoGridResponse<>();
+            response.setData(Collections.emptyList());
+            response.setTotal(0);
+            response.setErrors(Collections.singletonList(e.getMessage()));
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            log.error("Error retrieving similar vehicle variants: {}", e.getMessage(), e);
+            KendoGridResponse<VehicleVariant> response = new KendoGridResponse<>();
+            response.setData(Collections.emptyList());
+            response.setTotal(0);
+            response.setErrors(Collections.singletonList(e.getMessage()));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     @GetMapping("/stockdetails/find")
-    @Operation(summary = "Get stock detail by model and variant", description = "Retrieves stock detail for a specific model name and vehicle variant ID")
+    @Operation(summary = "Get stock detail by model and variant", description = "Retrieves stock detail for a specific model name and vehicle variant ID. fields=a,b,... (or fields=default) returns only those fields")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Stock detail retrieved successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -641,11 +878,15 @@ public class VehicleModelController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class)))
     })
-    public ResponseEntity<KendoGridResponse<StockDetailsDTO>> getStockDetailByModelAndVariant(
+    public ResponseEntity<KendoGridResponse<?>> getStockDetailByModelAndVariant(
             @RequestParam(value = "modelName") String modelName,
-            @RequestParam(value = "vehicleVariantId") Long vehicleVariantId) {
+            @RequestParam(value = "vehicleVariantId") Long vehicleVariantId,
+            @RequestParam(value = "fields", required = false) String fields) {
         log.info("Received request to fetch stock detail for modelName: {} and vehicleVariantId: {}", modelName, vehicleVariantId);
         try {
+            if (fields != null) {
+                return projectedFind(GridProjection.STOCK_DETAILS, fields, modelName, vehicleVariantId);
+            }
             StockDetailsDTO stockDetail = vehicleModelService.getStockDetailByModelAndVariant(modelName, vehicleVariantId);
             KendoGridResponse<StockDetailsDTO> response = new KendoGridResponse<>();
             if (stockDetail == null) {
@@ -776,7 +1017,7 @@ public class VehicleModelController {
     }
 
     @GetMapping("/vehiclevariants/find")
-    @Operation(summary = "Get vehicle variant by model and variant", description = "Retrieves vehicle variant for a specific model name and vehicle variant ID")
+    @Operation(summary = "Get vehicle variant by model and variant", description = "Retrieves vehicle variant for a specific model name and vehicle variant ID. fields=a,b,... (or fields=default) returns only those fields")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Vehicle variant retrieved successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -791,11 +1032,15 @@ public class VehicleModelController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = KendoGridResponse.class)))
     })
-    public ResponseEntity<KendoGridResponse<VehicleVariantDTO>> getVehicleVariantByModelAndVariant(
+    public ResponseEntity<KendoGridResponse<?>> getVehicleVariantByModelAndVariant(
             @RequestParam(value = "modelName") String modelName,
-            @RequestParam(value = "vehicleVariantId") Long vehicleVariantId) {
+            @RequestParam(value = "vehicleVariantId") Long vehicleVariantId,
+            @RequestParam(value = "fields", required = false) String fields) {
         log.info("Received request to fetch vehicle variant for modelName: {} and vehicleVariantId: {}", modelName, vehicleVariantId);
         try {
+            if (fields != null) {
+                return projectedFind(GridProjection.VEHICLE_VARIANTS, fields, modelName, vehicleVariantId);
+            }
             VehicleVariantDTO variant = vehicleModelService.getVehicleVariantByModelAndVariant(modelName, vehicleVariantId);
             KendoGridResponse<VehicleVariantDTO> response = new KendoGridResponse<>();
             if (variant == null) {
@@ -824,4 +1069,52 @@ public class VehicleModelController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<KendoGridResponse<?>> projectedGrid(List<Map<String, Object>> rows, String changeToken, Object aggregates) {
+        log.info("Successfully retrieved {} projected rows", rows.size());
+        return ResponseEntity.ok(withChangeToken(new KendoGridResponse<>(rows, (long) rows.size(), aggregates, null), changeToken));
+    }
+
+    private static <T> KendoGridResponse<T> withChangeToken(KendoGridResponse<T> response, String changeToken) {
+        response.setChangeToken(changeToken);
+        return response;
+    }
+
+    private ResponseEntity<KendoGridResponse<?>> changedSince(GridProjection grid, String fields, String since, Object aggregates) {
+        try {
+            KendoGridResponse<Map<String, Object>> changes = changeFeedService.changesSince(grid, fields, since);
+            changes.setAggregateResults(aggregates);
+            log.info("Successfully retrieved {} changed and {} deleted {} rows", changes.getTotal(), changes.getDeleted().size(), grid);
+            return ResponseEntity.ok(changes);
+        } catch (ChangeTokenExpiredException e) {
+            log.warn("Expired change token for {}: {}", grid, e.getMessage());
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(new KendoGridResponse<>(Collections.emptyList(), 0L, null, Collections.singletonList(e.getMessage())));
+        }
+    }
+
+    private Object aggregateResults(GridProjection grid, String aggregate, String group) {
+        if (aggregate == null && group == null) {
+            return null;
+        }
+        return gridAggregateService.aggregate(grid, aggregate, group).results();
+    }
+
+    private ResponseEntity<KendoGridResponse<?>> projectedFind(GridProjection grid, String fields, String modelName, Long vehicleVariantId) {
+        if (modelName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Model name cannot be empty");
+        }
+        List<Map<String, Object>> rows = fieldProjectionService.find(grid, fields,
+                Map.of("modelName", modelName, "vehicleVariantId", vehicleVariantId), 1);
+        if (rows.isEmpty()) {
+            log.warn("No {} row found for modelName: {} and vehicleVariantId: {}", grid, modelName, vehicleVariantId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new KendoGridResponse<>(Collections.emptyList(), 0L, null, null));
+        }
+        return ResponseEntity.ok(new KendoGridResponse<>(rows, 1L, null, null));
+    }
+
+    private static ResponseEntity<KendoGridResponse<?>> invalidGridRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new KendoGridResponse<>(Collections.emptyList(), 0L, null, Collections.singletonList(e.getMessage())));
+    }
+}
@@ -7,13 +7,21 @@ import com.vehicle.salesmanagement.domain.dto.apirequest.OrderStatsResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.KendoGridResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.MultiOrderResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderTimelineEntry;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.VehicleOrderGridDTO;
 import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
 import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.errorhandling.ChangeTokenExpiredException;
+import com.vehicle.salesmanagement.profiling.SqlBudget;
 import com.vehicle.salesmanagement.repository.VehicleModelRepository;
 import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
 import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.service.ChangeFeedService;
+import com.vehicle.salesmanagement.service.FieldProjectionService;
+import com.vehicle.salesmanagement.service.GridAggregateService;
+import com.vehicle.salesmanagement.service.GridProjection;
 import com.vehicle.salesmanagement.service.OrderIdGeneratorService;
+import com.vehicle.salesmanagement.service.OrderLookupService;
 import com.vehicle.salesmanagement.service.VehicleOrderService;
 import com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflow;
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,7 +41,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
@@ -55,6 +62,10 @@ public class VehicleOrderController {
     private final VehicleOrderService vehicleOrderService;
     private final ObjectMapper objectMapper;
     private final OrderIdGeneratorService orderIdGeneratorService;
+    private final OrderLookupService orderLookupService;
+    private final FieldProjectionService fieldProjectionService;
+    private final GridAggregateService gridAggregateService;
+    private final ChangeFeedService changeFeedService;
 
     @PostMapping("/placeOrder")
     @Operation(
@@ -222,6 +233,7 @@ public class VehicleOrderController {
         orderRequest.setCustomerOrderId(customerOrderId);
         log.debug("Generated and set customerOrderId: {}", customerOrderId);
 
+        // Each repository call commits and returns its connection; none is held across the Temporal calls below
         VehicleOrderDetails orderDetails = mapOrderRequestToEntity(orderRequest);
         orderDetails = orderRepository.saveAndFlush(orderDetails);
 
@@ -283,7 +295,7 @@ public class VehicleOrderController {
         } catch (Exception e) {
             log.error("Failed to start or query VehicleSalesParentWorkflow with ID: {} for customerOrderId: {}. Error: {}", workflowId, customerOrderId, e.getMessage(), e);
             orderDetails.setOrderStatus(OrderStatus.FAILED);
-            orderRepository.save(orderDetails);
+            orderRepository.updateOrderStatus(customerOrderId, OrderStatus.FAILED);
             com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse apiResponse = new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse(
                     HttpStatus.INTERNAL_SERVER_ERROR.value(),
                     "Failed to start or query parent workflow for customerOrderId: " + customerOrderId + ". Order marked as FAILED. Error: " + e.getMessage(),
@@ -293,7 +305,7 @@ public class VehicleOrderController {
         }
 
         orderDetails.setOrderStatus(response.getOrderStatus());
-        orderRepository.save(orderDetails);
+        orderRepository.updateOrderStatus(customerOrderId, response.getOrderStatus());
 
         response = mapOrderDetailsToResponse(orderDetails, response.getOrderStatus());
 
@@ -468,14 +480,14 @@ public class VehicleOrderController {
                 log.error("Failed to start or query VehicleSalesParentWorkflow with ID: {} for customerOrderId: {} at index: {}. Model: {}. Error: {}",
                         workflowId, customerOrderId, orderIndex, orderRequest.getModelName(), e.getMessage(), e);
                 orderDetails.setOrderStatus(OrderStatus.FAILED);
-                orderRepository.save(orderDetails);
+                orderRepository.updateOrderStatus(customerOrderId, OrderStatus.FAILED);
                 failedCustomerOrderIds.add(customerOrderId);
                 orderIndex++;
                 continue;
             }
 
             orderDetails.setOrderStatus(response.getOrderStatus());
-            orderRepository.save(orderDetails);
+            orderRepository.updateOrderStatus(customerOrderId, response.getOrderStatus());
 
             response = mapOrderDetailsToResponse(orderDetails, response.getOrderStatus());
             orderResponses.add(response);
@@ -556,6 +568,7 @@ public class VehicleOrderController {
     }
 
     @GetMapping("/orderStats")
+    @SqlBudget(statements = 6)
     @Operation(summary = "Get order statistics", description = "Returns total, pending, finance pending, and closed order counts")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Order stats retrieved successfully"),
@@ -590,9 +603,10 @@ public class VehicleOrderController {
     }
 
     @GetMapping("/vehicleorders")
+    @SqlBudget(statements = 5)
     @Operation(
             summary = "Get all vehicle orders for Kendo Grid",
-            description = "Fetches all customer vehicle orders to be displayed in a Kendo UI Grid.",
+            description = "Fetches all customer vehicle orders to be displayed in a Kendo UI Grid. fields=a,b,... (or fields=default for the grid's columns) returns only those fields. since=<changeToken> returns only orders changed or deleted after that response. aggregate=field:sum|count|min|max|average,... (optionally with group=field, e.g. aggregate=customerOrderId:count&group=orderStatus) adds aggregateResults computed in SQL.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -602,6 +616,14 @@ public class VehicleOrderController {
                                     schema = @Schema(implementation = KendoGridResponse.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "410",
+                            description = "Change token too old; reload without since",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = KendoGridResponse.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "500",
                             description = "Internal server error",
@@ -612,11 +634,41 @@ public class VehicleOrderController {
                     )
             }
     )
-    public ResponseEntity<KendoGridResponse<VehicleOrderGridDTO>> getVehicleOrdersForGrid() {
+    public ResponseEntity<KendoGridResponse<?>> getVehicleOrdersForGrid(@RequestParam(value = "fields", required = false) String fields,
+                                                                        @RequestParam(value = "since", required = false) String since,
+                                                                        @RequestParam(value = "aggregate", required = false) String aggregate,
+                                                                        @RequestParam(value = "group", required = false) String group) {
         try {
-            List<VehicleOrderGridDTO> gridData = vehicleOrderService.getAllOrders();
-            log.info("Retrieved {} vehicle orders for Kendo Grid", gridData.size());
-            return ResponseEntity.ok(new KendoGridResponse<>(gridData, (long) gridData.size(), null, null));
+            Object aggregates = aggregateResults(GridProjection.VEHICLE_ORDERS, aggregate, group);
+            if (since != null) {
+                KendoGridResponse<Map<String, Object>> changes = changeFeedService.changesSince(GridProjection.VEHICLE_ORDERS, fields, since);
+                changes.setAggregateResults(aggregates);
+                log.info("Retrieved {} changed and {} deleted vehicle orders for Kendo Grid", changes.getTotal(), changes.getDeleted().size());
+                return ResponseEntity.ok(changes);
+            }
+            // The token is taken in the read's transaction, so rows written while it runs are in the next refresh
+            return changeFeedService.readWithToken(changeToken -> {
+                if (fields != null) {
+                    List<Map<String, Object>> rows = fieldProjectionService.findAll(GridProjection.VEHICLE_ORDERS, fields);
+                    log.info("Retrieved {} projected vehicle orders for Kendo Grid", rows.size());
+                    KendoGridResponse<Map<String, Object>> response = new KendoGridResponse<>(rows, (long) rows.size(), aggregates, null);
+                    response.setChangeToken(changeToken);
+                    return ResponseEntity.ok(response);
+                }
+                List<VehicleOrderGridDTO> gridData = vehicleOrderService.getAllOrders();
+                log.info("Retrieved {} vehicle orders for Kendo Grid", gridData.size());
+                KendoGridResponse<VehicleOrderGridDTO> response = new KendoGridResponse<>(gridData, (long) gridData.size(), aggregates, null);
+                response.setChangeToken(changeToken);
+                return ResponseEntity.ok(response);
+            });
+        } catch (ChangeTokenExpiredException e) {
+            log.warn("Expired change token for vehicle orders: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(new KendoGridResponse<>(Collections.emptyList(), 0L, null, Collections.singletonList(e.getMessage())));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new KendoGridResponse<>(Collections.emptyList(), 0L, null, Collections.singletonList(e.getMessage())));
         } catch (Exception e) {
             log.error("Failed to retrieve vehicle orders for Kendo Grid: {}", e.getMessage(), e);
             com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse apiResponse = new com.vehicle.salesmanagement.domain.dto.apiresponse.ApiResponse(
@@ -629,7 +681,13 @@ public class VehicleOrderController {
         }
     }
 
-    @Transactional
+    private Object aggregateResults(GridProjection grid, String aggregate, String group) {
+        if (aggregate == null && group == null) {
+            return null;
+        }
+        return gridAggregateService.aggregate(grid, aggregate, group).results();
+    }
+
     private VehicleOrderDetails mapOrderRequestToEntity(OrderRequest request) {
         try {
             VehicleOrderDetails order = new VehicleOrderDetails();
@@ -683,9 +741,9 @@ public class VehicleOrderController {
 
     @GetMapping("/orderstatus/{orderId}")
     public ResponseEntity<KendoGridResponse<OrderResponse>> getOrderStatusProgress(@PathVariable String orderId) {
-        return orderRepository.findByCustomerOrderId(orderId)
-                .map(order -> {
-                    OrderResponse response = mapOrderDetailsToResponse(order, order.getOrderStatus());
+        return vehicleOrderService.findOrder(orderId)
+                .or(() -> orderLookupService.findArchivedOrder(orderId))
+                .map(response -> {
                     List<OrderResponse> result = List.of(response);
                     return ResponseEntity.ok(new KendoGridResponse<>(result, result.size(), null, null));
                 })
@@ -693,6 +751,23 @@ public class VehicleOrderController {
                         .body(new KendoGridResponse<>(Collections.emptyList(), 0, null, null)));
     }
 
+    @GetMapping("/orderstatus/{orderId}/timeline")
+    @Operation(summary = "Get order timeline", description = "Returns the order, finance, dispatch and delivery status changes of an order, oldest first, including archived orders")
+    public ResponseEntity<KendoGridResponse<OrderTimelineEntry>> getOrderTimeline(@PathVariable String orderId) {
+        try {
+            List<OrderTimelineEntry> timeline = orderLookupService.getTimeline(orderId);
+            if (timeline.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new KendoGridResponse<>(Collections.emptyList(), 0, null, null));
+            }
+            return ResponseEntity.ok(new KendoGridResponse<>(timeline, timeline.size(), null, null));
+        } catch (Exception e) {
+            log.error("Error fetching timeline for order {}: {}", orderId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new KendoGridResponse<>(Collections.emptyList(), 0, null, List.of("Error fetching order timeline: " + e.getMessage())));
+        }
+    }
+
     private OrderResponse mapOrderDetailsToResponse(VehicleOrderDetails orderDetails, OrderStatus status) {
         OrderResponse order = new OrderResponse();
         order.setCustomerOrderId(orderDetails.getCustomerOrderId());
@@ -0,0 +1,104 @@
+package com.vehicle.salesmanagement.datagen;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Streams rows into one table with {@code COPY ... FROM STDIN (FORMAT csv)}, sending a chunk every
+ * {@code chunkRows} rows so memory stays flat however many rows are written.
+ * <p>
+ * {@code null} is written as an unquoted empty field, which COPY reads as SQL NULL; empty strings are quoted.
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private final CopyIn copyIn;
+    private final int chunkRows;
+    private final StringBuilder buffer = new StringBuilder(1 << 16);
+    private int bufferedRows;
+
+    CopyWriter(CopyManager copyManager, String table, List<String> columns, int chunkRows) throws SQLException {
+        this.copyIn = copyManager.copyIn("COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN (FORMAT csv)");
+        this.chunkRows = chunkRows;
+    }
+
+    void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            appendField(values[i]);
+        }
+        buffer.append('\n');
+        if (++bufferedRows >= chunkRows) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends what is left and completes the COPY, returning the number of rows the server accepted.
+     */
+    long finish() throws SQLException {
+        flush();
+        return copyIn.endCopy();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    /**
+     * Formats a Postgres {@code text[]} literal, e.g. {@code {"Super White","Grey"}}.
+     */
+    static String textArray(List<String> values) {
+        StringBuilder literal = new StringBuilder("{");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append('"').append(values.get(i).replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        }
+        return literal.append('}').toString();
+    }
+
+    private void appendField(Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quote = text.isEmpty();
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            buffer.append(text);
+            return;
+        }
+        buffer.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+
+    private void flush() throws SQLException {
+        if (bufferedRows == 0) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+        bufferedRows = 0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.vehicle.salesmanagement.datagen;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Volumes and distributions for the synthetic dataset, bound from {@code datagen.*}.
+ * <p>
+ * Row counts are totals for one run. Variants are drawn from a Zipf distribution with exponent {@code skew}, so a
+ * handful of variants take most of the stock and orders, as they do in production.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "datagen")
+public class DataGeneratorProperties {
+
+    private long seed = 42L;
+
+    @Min(1)
+    private int models = 2_000;
+
+    @Min(1)
+    private int variantsPerModel = 8;
+
+    @Min(0)
+    private long stockLots = 2_000_000L;
+
+    @Min(0)
+    private long mddpLots = 200_000L;
+
+    @Min(0)
+    private long manufacturerOrders = 200_000L;
+
+    @Min(0)
+    private long orders = 1_000_000L;
+
+    /**
+     * Stock history rows written per stock lot, on average.
+     */
+    @DecimalMin("0.0")
+    private double stockHistoryPerLot = 1.5;
+
+    /**
+     * Zipf exponent over variants; 0 is uniform, around 1 matches observed order popularity.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("3.0")
+    private double skew = 1.1;
+
+    /**
+     * Rows buffered per COPY chunk sent to the server.
+     */
+    @Min(1)
+    private int copyChunkRows = 10_000;
+
+    /**
+     * Run {@code ANALYZE} on every loaded table so plans reflect the new volumes straight away.
+     */
+    private boolean analyze = true;
+
+    /**
+     * Shut the application down once the dataset is loaded.
+     */
+    private boolean exitWhenDone = true;
+}
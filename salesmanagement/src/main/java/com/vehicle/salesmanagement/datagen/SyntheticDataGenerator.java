@@ -0,0 +1,503 @@
+package com.vehicle.salesmanagement.datagen;
+
+import com.vehicle.salesmanagement.domain.entity.model.CatalogVersion;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.enums.StockStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads a consistent, production-shaped dataset with COPY: models, variants, stock lots with history, MDDP
+ * stock, manufacturer orders, and customer orders with their status history.
+ * <p>
+ * Run with {@code --spring.profiles.active=datagen} and override volumes with {@code --datagen.*}. Everything is
+ * written in one transaction with explicit keys following the current maximum, so the run either lands completely
+ * or not at all, and identity sequences are moved past the new rows afterwards. Dates are spread back from the
+ * moment the run starts; everything else depends only on the seed.
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@EnableConfigurationProperties(DataGeneratorProperties.class)
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String SCHEMA = "sales_tracking";
+    private static final String ORDER_ID_PREFIX = "SYN-";
+
+    private static final String[] MODEL_FAMILIES = {"Corolla", "Innova", "Fortuner", "Camry", "Glanza", "Hyryder",
+            "Hilux", "Vellfire", "Rumion", "Yaris", "Etios", "Land Cruiser"};
+    private static final String[] VARIANT_NAMES = {"E", "G", "GX", "S", "V", "VX", "ZX", "ZX(O)", "Limited", "Hybrid"};
+    private static final String[] COLOURS = {"Super White", "Silver Metallic", "Grey Metallic", "Attitude Black",
+            "Red Mica", "Blue Metallic", "Sportin Red", "Platinum Pearl White", "Avant Garde Bronze"};
+    private static final String[] INTERIOR_COLOURS = {"Black", "Beige", "Chestnut", "Flaxen"};
+    private static final String[] ENGINE_COLOURS = {"Black", "Silver", "Grey"};
+    private static final String[] FUEL_TYPES = {"Petrol", "Diesel", "Hybrid", "CNG", "Electric"};
+    private static final String[] TRANSMISSIONS = {"Manual", "Automatic", "CVT"};
+    private static final String[] BODY_TYPES = {"Sedan", "SUV", "MPV", "Hatchback", "Pickup"};
+    private static final String[] SAFETY_FEATURES = {"ABS", "EBD", "ESP", "Hill Assist", "ISOFIX", "360 Camera",
+            "Lane Assist", "Adaptive Cruise"};
+    private static final String[] COMFORT_FEATURES = {"Climate Control", "Ventilated Seats", "Sunroof",
+            "Wireless Charging", "Ambient Lighting", "Power Tailgate"};
+    private static final String[] FIRST_NAMES = {"Asha", "Rahul", "Priya", "Vikram", "Meera", "Arjun", "Kavya",
+            "Rohan", "Ananya", "Siddharth", "Divya", "Karthik"};
+    private static final String[] LAST_NAMES = {"Rao", "Sharma", "Iyer", "Patel", "Reddy", "Nair", "Gupta", "Menon",
+            "Singh", "Kulkarni"};
+    private static final String[] CITIES = {"Bengaluru", "Chennai", "Hyderabad", "Pune", "Mumbai", "Delhi", "Kochi",
+            "Ahmedabad"};
+    private static final String[] PLANTS = {"Bidadi Plant 1", "Bidadi Plant 2", "Chennai Assembly", "Pune Assembly"};
+    private static final String[] PAYMENT_MODES = {"Cash", "Finance", "Finance", "Finance", "Card"};
+
+    // Final order status and how often it occurs; each status's path drives the history rows
+    private static final OrderStatus[] ORDER_OUTCOMES = {OrderStatus.PENDING, OrderStatus.BLOCKED,
+            OrderStatus.ALLOTTED, OrderStatus.DISPATCHED, OrderStatus.DELIVERED, OrderStatus.CANCELED};
+    private static final double[] ORDER_OUTCOME_WEIGHTS = {0.10, 0.15, 0.10, 0.08, 0.45, 0.12};
+
+    private final DataSource dataSource;
+    private final DataGeneratorProperties properties;
+    private final ConfigurableApplicationContext applicationContext;
+
+    private final LocalDateTime anchor = LocalDateTime.now().withNano(0);
+
+    @Override
+    public void run(String... args) throws Exception {
+        log.info("Generating synthetic dataset: {}", properties);
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                generate(connection);
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                log.error("Synthetic data generation failed, nothing was committed: {}", e.getMessage(), e);
+                throw e;
+            }
+            if (properties.isAnalyze()) {
+                analyze(connection);
+            }
+        }
+        log.info("Synthetic dataset loaded in {} s", (System.nanoTime() - start) / 1_000_000_000);
+
+        if (properties.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    private void generate(Connection connection) throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+        // History is spread over the last two years; give it monthly partitions instead of the DEFAULT one
+        preparePartitions(connection);
+        List<Sku> skus = writeCatalog(connection, copyManager);
+        ZipfSampler popularity = new ZipfSampler(skus.size(), properties.getSkew(), new SplittableRandom(properties.getSeed()));
+
+        long firstStockId = nextId(connection, "stock_details", "stock_id");
+        writeStockLots(copyManager, skus, popularity, firstStockId);
+        writeStockHistory(copyManager, skus, popularity, firstStockId);
+        writeMddpStock(connection, copyManager, skus, popularity);
+        writeManufacturerOrders(connection, copyManager, skus, popularity);
+
+        long firstOrder = countSyntheticOrders(connection) + 1;
+        writeOrders(copyManager, skus, popularity, firstOrder);
+        writeOrderHistory(copyManager, skus, popularity, firstOrder);
+
+        // History rows take their keys from the identity default; the rest were written with explicit keys
+        for (String[] identity : new String[][]{{"vehicle_model", "vehicle_model_id"},
+                {"vehicle_variant", "vehicle_variant_id"}, {"stock_details", "stock_id"},
+                {"mddp_stock", "mddp_id"}, {"manufacturer_order", "manufacturer_id"}}) {
+            resetIdentity(connection, identity[0], identity[1]);
+        }
+        // Catalog snapshots are stamped with this version, so nodes rebuild theirs from the new catalog
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE " + SCHEMA + ".catalog_version SET version = version + 1 WHERE id = ?")) {
+            statement.setInt(1, CatalogVersion.SINGLETON_ID);
+            statement.executeUpdate();
+        }
+    }
+
+    private void preparePartitions(Connection connection) throws SQLException {
+        LocalDate firstMonth = anchor.toLocalDate().minusMonths(25).withDayOfMonth(1);
+        LocalDate lastMonth = anchor.toLocalDate().plusMonths(3).withDayOfMonth(1);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT " + SCHEMA + ".create_monthly_partitions(?, ?, ?)")) {
+            for (String table : List.of("stock_details_history", "vehicle_order_details_history")) {
+                statement.setString(1, table);
+                statement.setDate(2, Date.valueOf(firstMonth));
+                statement.setDate(3, Date.valueOf(lastMonth));
+                statement.executeQuery().close();
+            }
+        }
+    }
+
+    private List<Sku> writeCatalog(Connection connection, CopyManager copyManager) throws SQLException {
+        SplittableRandom random = new SplittableRandom(properties.getSeed() + 1);
+        long modelId = nextId(connection, "vehicle_model", "vehicle_model_id");
+        long variantId = nextId(connection, "vehicle_variant", "vehicle_variant_id");
+        List<Sku> skus = new ArrayList<>(properties.getModels() * properties.getVariantsPerModel());
+
+        try (CopyWriter models = copyWriter(copyManager, "vehicle_model", List.of("vehicle_model_id", "model_name"))) {
+            for (int m = 0; m < properties.getModels(); m++, modelId++) {
+                String modelName = MODEL_FAMILIES[m % MODEL_FAMILIES.length] + " " + (m / MODEL_FAMILIES.length + 1);
+                models.row(modelId, modelName);
+                for (int v = 0; v < properties.getVariantsPerModel(); v++) {
+                    skus.add(new Sku(variantId++, modelId, modelName,
+                            VARIANT_NAMES[v % VARIANT_NAMES.length] + (v < VARIANT_NAMES.length ? "" : " " + (v / VARIANT_NAMES.length + 1)),
+                            "S" + (v % 10),
+                            pickSome(random, COLOURS, 2, 5),
+                            pick(random, FUEL_TYPES), pick(random, TRANSMISSIONS),
+                            pick(random, INTERIOR_COLOURS), pick(random, ENGINE_COLOURS)));
+                }
+            }
+            log.info("Copied {} vehicle models", models.finish());
+        }
+
+        try (CopyWriter variants = copyWriter(copyManager, "vehicle_variant", List.of("vehicle_variant_id",
+                "vehicle_model_id", "model_name", "variant", "suffix", "engine_colour", "colour", "colours",
+                "interior_colour", "transmission_type", "engine_capacity", "fuel_type", "price", "year_of_manufacture",
+                "body_type", "seating_capacity", "number_of_airbags", "max_power_bhp", "top_speed_kmph",
+                "mileage_city", "mileage_highway", "safety_feature", "safety_features", "comfort", "comfort_features"))) {
+            for (Sku sku : skus) {
+                List<String> safety = pickSome(random, SAFETY_FEATURES, 2, SAFETY_FEATURES.length);
+                List<String> comfort = pickSome(random, COMFORT_FEATURES, 1, COMFORT_FEATURES.length);
+                variants.row(sku.variantId(), sku.modelId(), sku.modelName(), sku.variant(), sku.suffix(),
+                        sku.engineColour(), String.join(", ", sku.colours()), CopyWriter.textArray(folded(sku.colours())),
+                        sku.interiorColour(), sku.transmissionType(), (1000 + 100 * random.nextInt(20)) + " cc",
+                        sku.fuelType(), money(random, 600_000, 6_000_000), 2020 + random.nextInt(6),
+                        pick(random, BODY_TYPES), 5 + 2 * random.nextInt(2), 2 + 2 * random.nextInt(4),
+                        decimal(random, 80, 300), 150 + random.nextInt(90),
+                        decimal(random, 9, 25), decimal(random, 12, 30),
+                        String.join(", ", safety), CopyWriter.textArray(folded(safety)),
+                        String.join(", ", comfort), CopyWriter.textArray(folded(comfort)));
+            }
+            log.info("Copied {} vehicle variants", variants.finish());
+        }
+        return skus;
+    }
+
+    private void writeStockLots(CopyManager copyManager, List<Sku> skus, ZipfSampler popularity, long firstStockId) throws SQLException {
+        SplittableRandom random = stockRandom();
+        try (CopyWriter stock = copyWriter(copyManager, "stock_details", List.of("stock_id", "vehicle_model_id",
+                "vehicle_variant_id", "model_name", "suffix", "fuel_type", "colour", "engine_colour",
+                "transmission_type", "variant", "quantity", "stock_status", "interior_colour", "stock_arrival_date"))) {
+            for (long n = 0; n < properties.getStockLots(); n++) {
+                StockLot lot = stockLot(random, skus, popularity, firstStockId + n);
+                Sku sku = lot.sku();
+                stock.row(lot.stockId(), sku.modelId(), sku.variantId(), sku.modelName(), sku.suffix(), sku.fuelType(),
+                        lot.colour(), sku.engineColour(), sku.transmissionType(), sku.variant(), lot.quantity(),
+                        lot.status(), sku.interiorColour(), lot.arrival());
+            }
+            log.info("Copied {} stock lots", stock.finish());
+        }
+    }
+
+    private void writeStockHistory(CopyManager copyManager, List<Sku> skus, ZipfSampler popularity, long firstStockId) throws SQLException {
+        // Replays the lot stream from the same seed; one COPY at a time per connection rules out writing both at once
+        SplittableRandom lots = stockRandom();
+        SplittableRandom random = new SplittableRandom(properties.getSeed() + 3);
+        int whole = (int) properties.getStockHistoryPerLot();
+        double fraction = properties.getStockHistoryPerLot() - whole;
+        try (CopyWriter history = copyWriter(copyManager, "stock_details_history", List.of("stock_id", "changed_at",
+                "vehicle_model_id", "vehicle_variant_id", "suffix", "fuel_type", "colour", "model_name",
+                "engine_colour", "transmission_type", "variant", "quantity", "stock_status", "interior_colour",
+                "stock_arrival_date", "stock_history"))) {
+            for (long n = 0; n < properties.getStockLots(); n++) {
+                StockLot lot = stockLot(lots, skus, popularity, firstStockId + n);
+                Sku sku = lot.sku();
+                int entries = whole + (random.nextDouble() < fraction ? 1 : 0);
+                LocalDateTime changedAt = lot.arrival().atTime(9, 0);
+                for (int e = 0; e < entries; e++) {
+                    String message = e == 0 ? "Stock Added" : "Stock Updated";
+                    history.row(lot.stockId(), changedAt, sku.modelId(), sku.variantId(), sku.suffix(), sku.fuelType(),
+                            lot.colour(), sku.modelName(), sku.engineColour(), sku.transmissionType(), sku.variant(),
+                            lot.quantity(), lot.status(), sku.interiorColour(), lot.arrival(), message);
+                    changedAt = changedAt.plusHours(1 + random.nextInt(240));
+                }
+            }
+            log.info("Copied {} stock history rows", history.finish());
+        }
+    }
+
+    private void writeMddpStock(Connection connection, CopyManager copyManager, List<Sku> skus, ZipfSampler popularity) throws SQLException {
+        SplittableRandom random = new SplittableRandom(properties.getSeed() + 4);
+        long mddpId = nextId(connection, "mddp_stock", "mddp_id");
+        // MDDP lookups expect at most one AVAILABLE row per variant, so later lots for a variant are already depleted
+        BitSet available = new BitSet(skus.size());
+        try (CopyWriter mddp = copyWriter(copyManager, "mddp_stock", List.of("mddp_id", "expected_dispatch_date",
+                "expected_delivery_date", "vehicle_model_id", "vehicle_variant_id", "model_name", "suffix",
+                "fuel_type", "colour", "engine_colour", "transmission_type", "variant", "quantity", "stock_status",
+                "interior_colour", "stock_arrival_date"))) {
+            for (long n = 0; n < properties.getMddpLots(); n++, mddpId++) {
+                int index = popularity.sample(random);
+                Sku sku = skus.get(index);
+                boolean first = !available.get(index);
+                available.set(index);
+                LocalDateTime dispatch = anchor.plusDays(random.nextInt(60));
+                mddp.row(mddpId, dispatch, dispatch.plusDays(3 + random.nextInt(10)), sku.modelId(), sku.variantId(),
+                        sku.modelName(), sku.suffix(), sku.fuelType(), pick(random, sku.colours()), sku.engineColour(),
+                        sku.transmissionType(), sku.variant(), first ? 1 + random.nextInt(30) : 0,
+                        first ? StockStatus.AVAILABLE : StockStatus.DEPLETED, sku.interiorColour(),
+                        dispatch.toLocalDate().plusDays(5));
+            }
+            log.info("Copied {} MDDP stock rows", mddp.finish());
+        }
+    }
+
+    private void writeManufacturerOrders(Connection connection, CopyManager copyManager, List<Sku> skus, ZipfSampler popularity) throws SQLException {
+        SplittableRandom random = new SplittableRandom(properties.getSeed() + 5);
+        long manufacturerId = nextId(connection, "manufacturer_order", "manufacturer_id");
+        try (CopyWriter orders = copyWriter(copyManager, "manufacturer_order", List.of("manufacturer_id",
+                "vehicle_variant_id", "manufacturer_location", "model_name", "fuel_type", "colour", "variant",
+                "suffix", "interior_colour", "engine_colour", "transmission_type", "order_status",
+                "estimated_arrival_date"))) {
+            for (long n = 0; n < properties.getManufacturerOrders(); n++, manufacturerId++) {
+                Sku sku = skus.get(popularity.sample(random));
+                double roll = random.nextDouble();
+                OrderStatus status = roll < 0.3 ? OrderStatus.PENDING : roll < 0.6 ? OrderStatus.PROCESSING : OrderStatus.COMPLETED;
+                orders.row(manufacturerId, sku.variantId(), pick(random, PLANTS), sku.modelName(), sku.fuelType(),
+                        pick(random, sku.colours()), sku.variant(), sku.suffix(), sku.interiorColour(),
+                        sku.engineColour(), sku.transmissionType(), status,
+                        anchor.plusDays(random.nextInt(120) - 30));
+            }
+            log.info("Copied {} manufacturer orders", orders.finish());
+        }
+    }
+
+    private void writeOrders(CopyManager copyManager, List<Sku> skus, ZipfSampler popularity, long firstOrder) throws SQLException {
+        SplittableRandom random = orderRandom();
+        try (CopyWriter orders = copyWriter(copyManager, "vehicle_order_details", List.of("customer_order_id",
+                "vehicle_model_id", "vehicle_variant_id", "customer_name", "phone_number", "email", "permanent_address",
+                "current_address", "aadhar_no", "pan_no", "model_name", "fuel_type", "colour", "transmission_type",
+                "variant", "quantity", "payment_mode", "order_status", "expected_delivery_date"))) {
+            for (long n = 0; n < properties.getOrders(); n++) {
+                CustomerOrder order = customerOrder(random, skus, popularity, firstOrder + n);
+                Sku sku = order.sku();
+                orders.row(order.customerOrderId(), sku.modelId(), sku.variantId(), order.customerName(),
+                        order.phoneNumber(), order.email(), order.address(), order.address(), order.aadharNo(),
+                        order.panNo(), sku.modelName(), sku.fuelType(), order.colour(), sku.transmissionType(),
+                        sku.variant(), order.quantity(), order.paymentMode(), order.status(), order.expectedDelivery());
+            }
+            log.info("Copied {} customer orders", orders.finish());
+        }
+    }
+
+    private void writeOrderHistory(CopyManager copyManager, List<Sku> skus, ZipfSampler popularity, long firstOrder) throws SQLException {
+        SplittableRandom orders = orderRandom();
+        SplittableRandom random = new SplittableRandom(properties.getSeed() + 7);
+        try (CopyWriter history = copyWriter(copyManager, "vehicle_order_details_history", List.of("customer_order_id",
+                "changed_at", "aadhar_no", "colour", "current_address", "customer_name", "email", "fuel_type",
+                "model_name", "order_status", "pan_no", "payment_mode", "permanent_address", "phone_number",
+                "quantity", "transmission_type", "variant", "vehicle_model_id", "vehicle_variant_id",
+                "order_status_history", "expected_delivery_date"))) {
+            for (long n = 0; n < properties.getOrders(); n++) {
+                CustomerOrder order = customerOrder(orders, skus, popularity, firstOrder + n);
+                Sku sku = order.sku();
+                List<OrderStatus> path = statusPath(order.status());
+                LocalDateTime changedAt = order.placedAt();
+                OrderStatus previous = OrderStatus.PENDING;
+                for (OrderStatus status : path) {
+                    history.row(order.customerOrderId(), changedAt, order.aadharNo(), order.colour(), order.address(),
+                            order.customerName(), order.email(), sku.fuelType(), sku.modelName(), status,
+                            order.panNo(), order.paymentMode(), order.address(), order.phoneNumber(), order.quantity(),
+                            sku.transmissionType(), sku.variant(), sku.modelId(), sku.variantId(),
+                            String.format("Order status updated from %s to %s at %s", previous, status, changedAt),
+                            order.expectedDelivery());
+                    previous = status;
+                    changedAt = changedAt.plusHours(2 + random.nextInt(96));
+                }
+            }
+            log.info("Copied {} order history rows", history.finish());
+        }
+    }
+
+    private StockLot stockLot(SplittableRandom random, List<Sku> skus, ZipfSampler popularity, long stockId) {
+        Sku sku = skus.get(popularity.sample(random));
+        String colour = pick(random, sku.colours());
+        boolean depleted = random.nextDouble() < 0.25;
+        return new StockLot(stockId, sku, colour, depleted ? 0 : 1 + random.nextInt(20),
+                depleted ? StockStatus.DEPLETED : StockStatus.AVAILABLE,
+                anchor.toLocalDate().minusDays(random.nextInt(730)));
+    }
+
+    private CustomerOrder customerOrder(SplittableRandom random, List<Sku> skus, ZipfSampler popularity, long sequence) {
+        Sku sku = skus.get(popularity.sample(random));
+        String first = pick(random, FIRST_NAMES);
+        String last = pick(random, LAST_NAMES);
+        LocalDateTime placedAt = anchor.minusMinutes(random.nextLong(60L * 24 * 730));
+        return new CustomerOrder(
+                String.format("%s%012d", ORDER_ID_PREFIX, sequence),
+                sku,
+                pick(random, sku.colours()),
+                first + " " + last,
+                String.format("9%09d", random.nextInt(1_000_000_000)),
+                first.toLowerCase(Locale.ROOT) + "." + last.toLowerCase(Locale.ROOT) + sequence + "@example.com",
+                (1 + random.nextInt(400)) + " Main Road, " + pick(random, CITIES),
+                String.format("%012d", 100_000_000_000L + random.nextLong(900_000_000_000L)),
+                panNumber(random),
+                random.nextDouble() < 0.95 ? 1 : 2,
+                pick(random, PAYMENT_MODES),
+                weightedOutcome(random),
+                placedAt,
+                placedAt.toLocalDate().plusDays(15 + random.nextInt(45)).toString());
+    }
+
+    private static List<OrderStatus> statusPath(OrderStatus outcome) {
+        return switch (outcome) {
+            case PENDING -> List.of(OrderStatus.PENDING);
+            case BLOCKED -> List.of(OrderStatus.BLOCKED);
+            case ALLOTTED -> List.of(OrderStatus.BLOCKED, OrderStatus.ALLOTTED);
+            case DISPATCHED -> List.of(OrderStatus.BLOCKED, OrderStatus.ALLOTTED, OrderStatus.DISPATCHED);
+            case DELIVERED -> List.of(OrderStatus.BLOCKED, OrderStatus.ALLOTTED, OrderStatus.DISPATCHED, OrderStatus.DELIVERED);
+            case CANCELED -> List.of(OrderStatus.BLOCKED, OrderStatus.CANCELED);
+            default -> List.of(outcome);
+        };
+    }
+
+    private static OrderStatus weightedOutcome(SplittableRandom random) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < ORDER_OUTCOMES.length; i++) {
+            roll -= ORDER_OUTCOME_WEIGHTS[i];
+            if (roll < 0) {
+                return ORDER_OUTCOMES[i];
+            }
+        }
+        return ORDER_OUTCOMES[ORDER_OUTCOMES.length - 1];
+    }
+
+    private SplittableRandom stockRandom() {
+        return new SplittableRandom(properties.getSeed() + 2);
+    }
+
+    private SplittableRandom orderRandom() {
+        return new SplittableRandom(properties.getSeed() + 6);
+    }
+
+    private CopyWriter copyWriter(CopyManager copyManager, String table, List<String> columns) throws SQLException {
+        return new CopyWriter(copyManager, SCHEMA + "." + table, columns, properties.getCopyChunkRows());
+    }
+
+    private static long nextId(Connection connection, String table, String idColumn) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(" + idColumn + "), 0) + 1 FROM " + SCHEMA + "." + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static long countSyntheticOrders(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM " + SCHEMA + ".vehicle_order_details WHERE customer_order_id LIKE ?")) {
+            statement.setString(1, ORDER_ID_PREFIX + "%");
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static void resetIdentity(Connection connection, String table, String idColumn) throws SQLException {
+        String qualified = SCHEMA + "." + table;
+        try (Statement statement = connection.createStatement();
+             ResultSet ignored = statement.executeQuery("SELECT setval(pg_get_serial_sequence('" + qualified + "', '"
+                     + idColumn + "'), (SELECT COALESCE(MAX(" + idColumn + "), 1) FROM " + qualified + "))")) {
+            log.debug("Moved identity of {}.{} past the generated rows", qualified, idColumn);
+        }
+    }
+
+    private static void analyze(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of("vehicle_model", "vehicle_variant", "stock_details", "stock_details_history",
+                    "mddp_stock", "manufacturer_order", "vehicle_order_details", "vehicle_order_details_history")) {
+                statement.execute("ANALYZE " + SCHEMA + "." + table);
+            }
+        }
+        log.info("Analyzed generated tables");
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String pick(SplittableRandom random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static List<String> pickSome(SplittableRandom random, String[] values, int min, int max) {
+        int count = min + random.nextInt(max - min + 1);
+        List<String> picked = new ArrayList<>(count);
+        int offset = random.nextInt(values.length);
+        for (int i = 0; i < count; i++) {
+            picked.add(values[(offset + i) % values.length]);
+        }
+        return picked;
+    }
+
+    // The text[] columns hold lower-cased values, as VehicleSpecParser.splitMultiValued writes them
+    private static List<String> folded(List<String> values) {
+        List<String> folded = new ArrayList<>(values.size());
+        for (String value : values) {
+            folded.add(value.toLowerCase(Locale.ROOT));
+        }
+        return folded;
+    }
+
+    private static BigDecimal money(SplittableRandom random, long min, long max) {
+        return BigDecimal.valueOf(min + random.nextLong(max - min)).setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private static BigDecimal decimal(SplittableRandom random, double min, double max) {
+        return BigDecimal.valueOf(min + random.nextDouble() * (max - min)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static String panNumber(SplittableRandom random) {
+        StringBuilder pan = new StringBuilder(10);
+        for (int i = 0; i < 5; i++) {
+            pan.append((char) ('A' + random.nextInt(26)));
+        }
+        pan.append(String.format("%04d", random.nextInt(10_000)));
+        return pan.append((char) ('A' + random.nextInt(26))).toString();
+    }
+
+    private record Sku(long variantId, long modelId, String modelName, String variant, String suffix,
+                       List<String> colours, String fuelType, String transmissionType,
+                       String interiorColour, String engineColour) {
+    }
+
+    private record StockLot(long stockId, Sku sku, String colour, int quantity, StockStatus status, LocalDate arrival) {
+    }
+
+    private record CustomerOrder(String customerOrderId, Sku sku, String colour, String customerName,
+                                 String phoneNumber, String email, String address, String aadharNo, String panNo,
+                                 int quantity, String paymentMode, OrderStatus status, LocalDateTime placedAt,
+                                 String expectedDelivery) {
+    }
+}
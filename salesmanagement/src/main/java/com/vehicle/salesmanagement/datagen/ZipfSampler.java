@@ -0,0 +1,47 @@
+package com.vehicle.salesmanagement.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Draws indexes in {@code [0, n)} with probability proportional to {@code 1 / rank^exponent}.
+ * <p>
+ * Ranks are shuffled onto indexes once, so the popular items are spread across models rather than being the
+ * first variants generated.
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+    private final int[] indexByRank;
+
+    ZipfSampler(int n, double exponent, SplittableRandom random) {
+        cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= total;
+        }
+
+        indexByRank = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexByRank[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexByRank[i];
+            indexByRank[i] = indexByRank[j];
+            indexByRank[j] = swap;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        return indexByRank[Math.min(rank, indexByRank.length - 1)];
+    }
+}
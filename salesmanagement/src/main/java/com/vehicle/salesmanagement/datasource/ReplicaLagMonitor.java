@@ -0,0 +1,74 @@
+package com.vehicle.salesmanagement.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Samples how far the replica is behind and decides whether read-only transactions may use it.
+ * <p>
+ * An idle primary produces no WAL, so replay timestamps age without the replica actually being behind; lag is
+ * reported as zero whenever everything received has been replayed. A plain Postgres used as a local stand-in is
+ * not in recovery and always reports zero. Until the first successful sample, and after any failed one, all reads
+ * go to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END""";
+
+    private final DataSource replicaDataSource;
+    private final Duration maxLag;
+    private volatile long lagMillis = -1;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLag = maxLag;
+        Gauge.builder("salesmanagement.datasource.replica.lag", this, monitor -> monitor.lagMillis / 1000.0)
+                .description("Replication lag of the read replica; -1 when it could not be sampled")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("salesmanagement.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${salesmanagement.datasource.replica.lag-check-interval-ms:5000}")
+    public void refresh() {
+        boolean wasUsable = usable;
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+            rs.next();
+            lagMillis = rs.getLong(1);
+            usable = lagMillis <= maxLag.toMillis();
+        } catch (Exception e) {
+            lagMillis = -1;
+            usable = false;
+            log.warn("Failed to sample read replica lag: {}", e.getMessage());
+        }
+        if (usable != wasUsable) {
+            log.info("Read replica {} (lag {} ms, tolerance {} ms)", usable ? "in use" : "bypassed", lagMillis, maxLag.toMillis());
+        }
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+}
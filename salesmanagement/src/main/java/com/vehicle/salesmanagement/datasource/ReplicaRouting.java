@@ -0,0 +1,42 @@
+package com.vehicle.salesmanagement.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes escape hatch: read-only transactions started inside {@link #onPrimary(Supplier)}, or on a thread
+ * marked with {@link #pinToPrimary()}, read from the primary even when the replica is healthy. Temporal activities
+ * always run inside {@code onPrimary} (see {@code TemporalActivityPrimaryReadInterceptor}).
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> body) {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return body.get();
+        } finally {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.vehicle.salesmanagement.domain.dto.apirequest;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class VariantSpecRangeRequest {
+
+    private Long vehicleModelId;
+    private BigDecimal minMaxPowerBhp;
+    private BigDecimal maxMaxPowerBhp;
+    private Integer minTopSpeedKmph;
+    private Integer maxTopSpeedKmph;
+    private Integer minWheelBaseMm;
+    private Integer maxWheelBaseMm;
+    private Integer minWidthMm;
+    private Integer maxWidthMm;
+    private Integer minLengthMm;
+    private Integer maxLengthMm;
+}
@@ -0,0 +1,15 @@
+package com.vehicle.salesmanagement.domain.dto.apiresponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteSuggestion {
+    private String text;
+    private String type;
+    private Long vehicleModelId;
+    private Long vehicleVariantId;
+}
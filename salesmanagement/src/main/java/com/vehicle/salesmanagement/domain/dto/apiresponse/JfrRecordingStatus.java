@@ -0,0 +1,18 @@
+package com.vehicle.salesmanagement.domain.dto.apiresponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JfrRecordingStatus {
+    private Long recordingId;
+    private String state;
+    private Instant startTime;
+    private Long durationSeconds;
+    private Long maxSizeBytes;
+}
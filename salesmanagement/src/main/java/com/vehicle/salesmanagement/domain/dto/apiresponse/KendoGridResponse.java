@@ -1,6 +1,6 @@
 package com.vehicle.salesmanagement.domain.dto.apiresponse;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -8,13 +8,31 @@ import java.util.List;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class KendoGridResponse<T> {
     private List<T> data;
     private long total;
     private Object aggregateResults;
     private List<String> errors;
 
+    /**
+     * Pass as {@code since=} on the next request to get only what changed after this response.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String changeToken;
+
+    /**
+     * Keys of rows deleted since the token of a {@code since=} request.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> deleted;
+
+    public KendoGridResponse(List<T> data, long total, Object aggregateResults, List<String> errors) {
+        this.data = data;
+        this.total = total;
+        this.aggregateResults = aggregateResults;
+        this.errors = errors;
+    }
+
     public List<T> getData() {
         return data;
     }
@@ -46,4 +64,4 @@ public class KendoGridResponse<T> {
     public void setErrors(List<String> errors) {
         this.errors = errors;
     }
-}
\ No newline at end of file
+}
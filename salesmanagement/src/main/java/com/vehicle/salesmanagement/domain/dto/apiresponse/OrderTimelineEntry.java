@@ -0,0 +1,17 @@
+package com.vehicle.salesmanagement.domain.dto.apiresponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderTimelineEntry {
+    private LocalDateTime changedAt;
+    private String stage; // ORDER, FINANCE, DISPATCH, DELIVERY
+    private String status;
+    private String description;
+}
@@ -0,0 +1,26 @@
+package com.vehicle.salesmanagement.domain.entity.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@Table(name = "catalog_version", schema = "sales_tracking")
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogVersion {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
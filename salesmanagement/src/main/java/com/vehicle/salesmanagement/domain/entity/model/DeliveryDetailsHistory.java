@@ -50,6 +50,9 @@ public class DeliveryDetailsHistory {
 //    @Column(name = "updated_by", length = 100)
 //    private String updatedBy;
 
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
     @Column(name = "delivery_status_history")
     private String deliveryStatusHistory;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.vehicle.salesmanagement.domain.entity.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.vehicle.salesmanagement.enums.DispatchStatus;
 import jakarta.persistence.*;
 import lombok.Data;
@@ -31,12 +32,18 @@ public class DispatchDetails {
     @Column(name = "dispatched_by")
     private String dispatchedBy;
 
-//    @Column(name = "created_at")
-//    private LocalDateTime createdAt;
-//
-//    @Column(name = "updated_at")
-//    private LocalDateTime updatedAt;
-//
+    // Maintained by the database (V5 triggers) on every write, in UTC
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    // Top-level transaction that last wrote the row (V7 trigger), compared against the snapshot in a change token
+    @JsonIgnore
+    @Column(name = "updated_xid", insertable = false, updatable = false)
+    private Long updatedXid;
+
 //    @Column(name = "created_by", length = 100)
 //    private String createdBy;
 //
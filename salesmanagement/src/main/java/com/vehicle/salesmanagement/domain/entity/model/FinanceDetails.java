@@ -1,9 +1,12 @@
 package com.vehicle.salesmanagement.domain.entity.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.vehicle.salesmanagement.enums.FinanceStatus;
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 @Entity
 @Table(name = "finance_details",schema="sales_tracking")
@@ -23,9 +26,17 @@ public class FinanceDetails {
     @Column(nullable = false)
     private FinanceStatus financeStatus; // PENDING, APPROVED, REJECTED
 
-//    private LocalDateTime createdAt;
-//
-//    private LocalDateTime updatedAt;
+    // Maintained by the database (V5 triggers) on every write, in UTC
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    // Top-level transaction that last wrote the row (V7 trigger), compared against the snapshot in a change token
+    @JsonIgnore
+    @Column(name = "updated_xid", insertable = false, updatable = false)
+    private Long updatedXid;
 
     private String approvedBy;
 
@@ -1,13 +1,16 @@
 package com.vehicle.salesmanagement.domain.entity.model;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.vehicle.salesmanagement.enums.OrderStatus;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Data
 @Table(name = "manufacturer_order",schema="sales_tracking")
 public class ManufacturerOrder {
@@ -147,22 +150,14 @@ public class ManufacturerOrder {
         this.estimatedArrivalDate = estimatedArrivalDate;
     }
 
-//    public LocalDateTime getCreatedAt() {
-//        return createdAt;
-//    }
-//
-//    public void setCreatedAt(LocalDateTime createdAt) {
-//        this.createdAt = createdAt;
-//    }
-//
-//    public LocalDateTime getUpdatedAt() {
-//        return updatedAt;
-//    }
-//
-//    public void setUpdatedAt(LocalDateTime updatedAt) {
-//        this.updatedAt = updatedAt;
-//    }
-//
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
 //    public String getCreatedBy() {
 //        return createdBy;
 //    }
@@ -186,25 +181,22 @@ public class ManufacturerOrder {
     @Column(name = "estimated_arrival_date")
     private LocalDateTime estimatedArrivalDate;
 
-//    @Column(name = "created_at", updatable = false)
-//    private LocalDateTime createdAt;
-//
-//    @Column(name = "updated_at")
-//    private LocalDateTime updatedAt;
-//
+    // Maintained by the database (V5 triggers) on every write, in UTC
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    // Top-level transaction that last wrote the row (V7 trigger), compared against the snapshot in a change token
+    @JsonIgnore
+    @Column(name = "updated_xid", insertable = false, updatable = false)
+    private Long updatedXid;
+
 //    @Column(name = "created_by", length = 100)
 //    private String createdBy;
 //
 //    @Column(name = "updated_by", length = 100)
 //    private String updatedBy;
 //
-//    @PrePersist
-//    protected void onCreate() {
-//        this.createdAt = LocalDateTime.now();
-//    }
-//
-//    @PreUpdate
-//    protected void onUpdate() {
-//        this.updatedAt = LocalDateTime.now();
-//    }
 }
\ No newline at end of file
@@ -1,13 +1,16 @@
 package com.vehicle.salesmanagement.domain.entity.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.vehicle.salesmanagement.enums.StockStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Table(name = "mddp_stock", schema = "sales_tracking")
 @AllArgsConstructor
 @NoArgsConstructor
@@ -65,6 +68,18 @@ public class MddpStock {
     @Column(name = "stock_arrival_date")
     private String stockArrivalDate;
 
+    // Maintained by the database (V5 triggers) on every write, in UTC
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    // Top-level transaction that last wrote the row (V7 trigger), compared against the snapshot in a change token
+    @JsonIgnore
+    @Column(name = "updated_xid", insertable = false, updatable = false)
+    private Long updatedXid;
+
     public Long getMddpId() {
         return mddpId;
     }
@@ -192,4 +207,12 @@ public class MddpStock {
     public void setStockArrivalDate(String stockArrivalDate) {
         this.stockArrivalDate = stockArrivalDate;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -1,12 +1,17 @@
 package com.vehicle.salesmanagement.domain.entity.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.vehicle.salesmanagement.enums.StockStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Data
 @Table(name = "stock_details", schema = "sales_tracking")
 @AllArgsConstructor
@@ -59,6 +64,18 @@ public class StockDetails {
     @Column(name = "stock_arrival_date")
     private String stockArrivalDate;
 
+    // Maintained by the database (V5 triggers) on every write, in UTC
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    // Top-level transaction that last wrote the row (V7 trigger), compared against the snapshot in a change token
+    @JsonIgnore
+    @Column(name = "updated_xid", insertable = false, updatable = false)
+    private Long updatedXid;
+
     public Long getStockId() {
         return stockId;
     }
@@ -1,5 +1,6 @@
 package com.vehicle.salesmanagement.domain.entity.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.vehicle.salesmanagement.enums.OrderStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -7,8 +8,13 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.LazyGroup;
+
+import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Data
 @Table(name = "vehicle_order_details",schema="sales_tracking")
 @AllArgsConstructor
@@ -41,9 +47,14 @@ public class VehicleOrderDetails {
     @NotBlank(message = "Email is required")
     private String email;
 
+    // Only read for the order detail view and history snapshots; both addresses load together on first access
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("address")
     @Column(name = "permanent_address", columnDefinition = "TEXT")
     private String permanentAddress;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("address")
     @Column(name = "current_address", columnDefinition = "TEXT")
     private String currentAddress;
 
@@ -94,14 +105,18 @@ public class VehicleOrderDetails {
     @Column(name = "expected_delivery_date")
     private String expectedDeliveryDate;
 
-//    @Column(name = "created_at", nullable = false)
-//   // @NotNull(message = "Created at is required")
-//    private LocalDateTime createdAt;
-//
-//    @Column(name = "updated_at", nullable = false)
-//    //@NotNull(message = "Updated at is required")
-//    private LocalDateTime updatedAt;
-//
+    // Maintained by the database (V5 triggers) on every write, in UTC
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    // Top-level transaction that last wrote the row (V7 trigger), compared against the snapshot in a change token
+    @JsonIgnore
+    @Column(name = "updated_xid", insertable = false, updatable = false)
+    private Long updatedXid;
+
 //    @Column(name = "created_by", length = 100, nullable = false)
 //    //@NotBlank(message = "Created by is required")
 //    private String createdBy;
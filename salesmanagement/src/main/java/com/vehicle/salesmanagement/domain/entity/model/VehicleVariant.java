@@ -1,17 +1,31 @@
 package com.vehicle.salesmanagement.domain.entity.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "vehicle_variant",schema="sales_tracking")
+@Table(name = "vehicle_variant", schema = "sales_tracking", indexes = {
+        @Index(name = "idx_vehicle_variant_max_power_bhp", columnList = "max_power_bhp"),
+        @Index(name = "idx_vehicle_variant_top_speed_kmph", columnList = "top_speed_kmph"),
+        @Index(name = "idx_vehicle_variant_wheel_base_mm", columnList = "wheel_base_mm"),
+        @Index(name = "idx_vehicle_variant_width_mm", columnList = "width_mm"),
+        @Index(name = "idx_vehicle_variant_length_mm", columnList = "length_mm")
+})
 public class VehicleVariant {
 
     @Id
@@ -101,6 +115,43 @@ public class VehicleVariant {
     @Column(name = "mileage_highway", precision = 5, scale = 2)
     private BigDecimal mileageHighway;
 
+    // Typed copies of the spec strings above, filled by VehicleSpecParser on every save
+    @Column(name = "max_power_bhp", precision = 7, scale = 2)
+    private BigDecimal maxPowerBhp;
+
+    @Column(name = "top_speed_kmph")
+    private Integer topSpeedKmph;
+
+    @Column(name = "wheel_base_mm")
+    private Integer wheelBaseMm;
+
+    @Column(name = "width_mm")
+    private Integer widthMm;
+
+    @Column(name = "length_mm")
+    private Integer lengthMm;
+
+    // Normalised copies of the comma-separated colour/safety_feature/comfort strings, GIN-indexed for containment lookups
+    @JsonIgnore
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "colours", columnDefinition = "text[]")
+    private List<String> colours;
+
+    @JsonIgnore
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "safety_features", columnDefinition = "text[]")
+    private List<String> safetyFeatures;
+
+    @JsonIgnore
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "comfort_features", columnDefinition = "text[]")
+    private List<String> comfortFeatures;
+
+    // When VehicleSpecParser last filled the typed columns; null rows are picked up by the startup backfill
+    @JsonIgnore
+    @Column(name = "specs_parsed_at")
+    private LocalDateTime specsParsedAt;
+
 //    @Column(name = "created_at", updatable = false)
 //    private LocalDateTime createdAt;
 //
@@ -337,6 +388,78 @@ public class VehicleVariant {
         this.mileageHighway = mileageHighway;
     }
 
+    public BigDecimal getMaxPowerBhp() {
+        return maxPowerBhp;
+    }
+
+    public void setMaxPowerBhp(BigDecimal maxPowerBhp) {
+        this.maxPowerBhp = maxPowerBhp;
+    }
+
+    public Integer getTopSpeedKmph() {
+        return topSpeedKmph;
+    }
+
+    public void setTopSpeedKmph(Integer topSpeedKmph) {
+        this.topSpeedKmph = topSpeedKmph;
+    }
+
+    public Integer getWheelBaseMm() {
+        return wheelBaseMm;
+    }
+
+    public void setWheelBaseMm(Integer wheelBaseMm) {
+        this.wheelBaseMm = wheelBaseMm;
+    }
+
+    public Integer getWidthMm() {
+        return widthMm;
+    }
+
+    public void setWidthMm(Integer widthMm) {
+        this.widthMm = widthMm;
+    }
+
+    public Integer getLengthMm() {
+        return lengthMm;
+    }
+
+    public void setLengthMm(Integer lengthMm) {
+        this.lengthMm = lengthMm;
+    }
+
+    public List<String> getColours() {
+        return colours;
+    }
+
+    public void setColours(List<String> colours) {
+        this.colours = colours;
+    }
+
+    public List<String> getSafetyFeatures() {
+        return safetyFeatures;
+    }
+
+    public void setSafetyFeatures(List<String> safetyFeatures) {
+        this.safetyFeatures = safetyFeatures;
+    }
+
+    public List<String> getComfortFeatures() {
+        return comfortFeatures;
+    }
+
+    public void setComfortFeatures(List<String> comfortFeatures) {
+        this.comfortFeatures = comfortFeatures;
+    }
+
+    public LocalDateTime getSpecsParsedAt() {
+        return specsParsedAt;
+    }
+
+    public void setSpecsParsedAt(LocalDateTime specsParsedAt) {
+        this.specsParsedAt = specsParsedAt;
+    }
+
 //    public LocalDateTime getCreatedAt() {
 //        return createdAt;
 //    }
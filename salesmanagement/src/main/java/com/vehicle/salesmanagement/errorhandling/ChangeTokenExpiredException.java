@@ -0,0 +1,12 @@
+package com.vehicle.salesmanagement.errorhandling;
+
+/**
+ * A {@code since=} change token is older than the retained tombstones, so deletes since then can no longer be
+ * reported; the client has to reload the grid in full.
+ */
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    public ChangeTokenExpiredException(String message) {
+        super(message);
+    }
+}
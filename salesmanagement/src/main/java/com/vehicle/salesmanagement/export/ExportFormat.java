@@ -0,0 +1,62 @@
+package com.vehicle.salesmanagement.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * File formats the grid exports are streamed in.
+ */
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson", false),
+    CSV("text/csv", "csv", false),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx", true);
+
+    private final String contentType;
+    private final String extension;
+    private final boolean compressed;
+
+    ExportFormat(String contentType, String extension, boolean compressed) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.compressed = compressed;
+    }
+
+    public static ExportFormat of(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export format '" + name + "'; supported formats are "
+                    + Arrays.stream(values()).map(format -> format.extension).collect(Collectors.joining(", ")));
+        }
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Whether the format is already compressed, so gzipping it again only costs CPU.
+     */
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    public RowWriter open(OutputStream out, List<String> columns, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonRowWriter(out, columns, objectMapper);
+            case CSV -> new CsvRowWriter(out, columns);
+            case XLSX -> new XlsxRowWriter(out, columns);
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.vehicle.salesmanagement.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * One JSON object per line, keyed by column. Values go through the application's {@link ObjectMapper}, so dates and
+ * enums look the same as in the grid responses.
+ */
+class NdjsonRowWriter implements RowWriter {
+
+    private final JsonGenerator generator;
+    private final List<String> columns;
+
+    NdjsonRowWriter(OutputStream out, List<String> columns, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Rows are separated by the newline written after each one, not by the default space
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+        this.columns = columns;
+    }
+
+    @Override
+    public void write(Object[] row) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            generator.writeFieldName(columns.get(i));
+            generator.writeObject(row[i]);
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.close();
+    }
+}
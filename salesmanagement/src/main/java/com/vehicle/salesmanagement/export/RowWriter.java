@@ -0,0 +1,19 @@
+package com.vehicle.salesmanagement.export;
+
+import java.io.IOException;
+
+/**
+ * Writes exported rows one at a time in a file format; the header, if the format has one, is written on creation.
+ */
+public interface RowWriter {
+
+    /**
+     * Values in column order; any element may be null.
+     */
+    void write(Object[] row) throws IOException;
+
+    /**
+     * Writes what the format needs after the last row and flushes. The target stream is left open.
+     */
+    void finish() throws IOException;
+}
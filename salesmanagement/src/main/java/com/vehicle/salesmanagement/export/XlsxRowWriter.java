@@ -0,0 +1,164 @@
+package com.vehicle.salesmanagement.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Minimal Office Open XML workbook written straight into the zip stream. Cells are inline strings or numbers, so
+ * there is no shared-string table to build up in memory; the workbook and package parts that list the sheets are
+ * written after the last row, when the sheet count is known. A sheet holds at most {@link #MAX_ROWS} rows; further
+ * rows continue on a new sheet that repeats the header.
+ */
+class XlsxRowWriter implements RowWriter {
+
+    /**
+     * Excel's row limit per sheet, header included.
+     */
+    static final int MAX_ROWS = 1_048_576;
+
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELATIONSHIPS_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String OFFICE_RELATIONSHIPS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final List<String> columns;
+    private final int maxRows;
+    private int sheets;
+    private int rowsInSheet;
+
+    XlsxRowWriter(OutputStream out, List<String> columns) throws IOException {
+        this(out, columns, MAX_ROWS);
+    }
+
+    XlsxRowWriter(OutputStream out, List<String> columns, int maxRows) throws IOException {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+        this.columns = columns;
+        this.maxRows = maxRows;
+        startSheet();
+    }
+
+    @Override
+    public void write(Object[] row) throws IOException {
+        if (rowsInSheet == maxRows) {
+            endSheet();
+            startSheet();
+        }
+        writeRow(row);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        endSheet();
+
+        StringBuilder contentTypes = new StringBuilder(XML_HEADER)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>");
+        StringBuilder workbook = new StringBuilder(XML_HEADER)
+                .append("<workbook xmlns=\"").append(MAIN_NS).append("\" xmlns:r=\"").append(OFFICE_RELATIONSHIPS).append("\"><sheets>");
+        StringBuilder workbookRelationships = new StringBuilder(XML_HEADER)
+                .append("<Relationships xmlns=\"").append(RELATIONSHIPS_NS).append("\">");
+        for (int sheet = 1; sheet <= sheets; sheet++) {
+            contentTypes.append("<Override PartName=\"/xl/worksheets/sheet").append(sheet)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+            workbook.append("<sheet name=\"Sheet").append(sheet).append("\" sheetId=\"").append(sheet)
+                    .append("\" r:id=\"rId").append(sheet).append("\"/>");
+            workbookRelationships.append("<Relationship Id=\"rId").append(sheet).append("\" Type=\"")
+                    .append(OFFICE_RELATIONSHIPS).append("/worksheet\" Target=\"worksheets/sheet").append(sheet).append(".xml\"/>");
+        }
+        contentTypes.append("</Types>");
+        workbook.append("</sheets></workbook>");
+        workbookRelationships.append("</Relationships>");
+
+        writeEntry("[Content_Types].xml", contentTypes);
+        writeEntry("_rels/.rels", new StringBuilder(XML_HEADER)
+                .append("<Relationships xmlns=\"").append(RELATIONSHIPS_NS).append("\"><Relationship Id=\"rId1\" Type=\"")
+                .append(OFFICE_RELATIONSHIPS).append("/officeDocument\" Target=\"xl/workbook.xml\"/></Relationships>"));
+        writeEntry("xl/workbook.xml", workbook);
+        writeEntry("xl/_rels/workbook.xml.rels", workbookRelationships);
+        zip.finish();
+    }
+
+    private void startSheet() throws IOException {
+        sheets++;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheets + ".xml"));
+        writer.write(XML_HEADER);
+        writer.write("<worksheet xmlns=\"" + MAIN_NS + "\"><sheetData>");
+        rowsInSheet = 0;
+        writeRow(columns.toArray());
+    }
+
+    private void endSheet() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private void writeEntry(String name, CharSequence content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.append(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private void writeRow(Object[] row) throws IOException {
+        writer.write("<row>");
+        for (Object value : row) {
+            // Cells carry no reference, so an empty one has to be written to keep the following cells in place
+            if (value == null) {
+                writer.write("<c/>");
+            } else if (value instanceof Boolean bool) {
+                writer.write(bool ? "<c t=\"b\"><v>1</v></c>" : "<c t=\"b\"><v>0</v></c>");
+            } else if (isFiniteNumber(value)) {
+                writer.write("<c><v>");
+                writer.write(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString());
+                writer.write("</v></c>");
+            } else {
+                writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                writeText(value.toString());
+                writer.write("</t></is></c>");
+            }
+        }
+        writer.write("</row>");
+        rowsInSheet++;
+    }
+
+    private static boolean isFiniteNumber(Object value) {
+        if (value instanceof Double number) {
+            return Double.isFinite(number);
+        }
+        if (value instanceof Float number) {
+            return Float.isFinite(number);
+        }
+        return value instanceof Number;
+    }
+
+    private void writeText(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                default -> {
+                    // Control characters other than tab and line breaks are not allowed in XML 1.0
+                    if (c >= 0x20 && c != 0xFFFE && c != 0xFFFF || c == '\t' || c == '\n' || c == '\r') {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+    }
+}
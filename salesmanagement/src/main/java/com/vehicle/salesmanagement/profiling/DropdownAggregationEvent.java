@@ -0,0 +1,29 @@
+package com.vehicle.salesmanagement.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.vehicle.salesmanagement.DropdownAggregation")
+@Label("Dropdown Aggregation")
+@Description("Building the dropdown data response from the catalog")
+@Category({"Sales Management", "Catalog"})
+@StackTrace(false)
+public class DropdownAggregationEvent extends Event {
+
+    @Label("Model")
+    public String modelName;
+
+    @Label("Variant")
+    public String variant;
+
+    @Label("Source")
+    @Description("snapshot or database")
+    public String source;
+
+    @Label("Models Returned")
+    public int modelCount;
+}
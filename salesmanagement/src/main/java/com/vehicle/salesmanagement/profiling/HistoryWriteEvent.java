@@ -0,0 +1,22 @@
+package com.vehicle.salesmanagement.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.vehicle.salesmanagement.HistoryWrite")
+@Label("History Write")
+@Description("Writing an order, finance, dispatch, delivery or stock history row")
+@Category({"Sales Management", "History"})
+@StackTrace(false)
+public class HistoryWriteEvent extends Event {
+
+    @Label("History Type")
+    public String historyType;
+
+    @Label("Entity ID")
+    public String entityId;
+}
@@ -0,0 +1,125 @@
+package com.vehicle.salesmanagement.profiling;
+
+import com.vehicle.salesmanagement.domain.dto.apiresponse.JfrRecordingStatus;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Runs at most one bounded JFR recording at a time for the admin profiling endpoint.
+ * <p>
+ * The recording enables this application's events plus sampled CPU and allocation profiling only; it never turns
+ * on per-allocation or lock-profiling events, so it is safe to start against a live node.
+ */
+@Slf4j
+@Service
+public class JfrRecordingService {
+
+    static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+            StockAllocationEvent.class,
+            OrderIdGenerationEvent.class,
+            WorkflowCallEvent.class,
+            HistoryWriteEvent.class,
+            DropdownAggregationEvent.class
+    );
+
+    @Value("${profiling.jfr.default-duration:PT2M}")
+    private Duration defaultDuration;
+
+    @Value("${profiling.jfr.max-duration:PT15M}")
+    private Duration maxDuration;
+
+    @Value("${profiling.jfr.max-size-bytes:268435456}")
+    private long maxSizeBytes;
+
+    @Value("${profiling.jfr.execution-sample-period:20 ms}")
+    private String executionSamplePeriod;
+
+    @Value("${profiling.jfr.allocation-sample-throttle:150/s}")
+    private String allocationSampleThrottle;
+
+    @Value("${profiling.jfr.event-threshold:0ms}")
+    private Duration eventThreshold;
+
+    private Recording recording;
+
+    public synchronized JfrRecordingStatus start(Duration requested) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A JFR recording is already running (id " + recording.getId() + ")");
+        }
+        Duration duration = requested != null ? requested : defaultDuration;
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException("Recording duration must be between 1 second and " + maxDuration);
+        }
+        closeCurrent();
+
+        Recording next = new Recording();
+        next.setName("salesmanagement-profile");
+        next.setToDisk(true);
+        next.setDuration(duration);
+        next.setMaxSize(maxSizeBytes);
+        for (Class<? extends Event> eventClass : APPLICATION_EVENTS) {
+            next.enable(eventClass).withThreshold(eventThreshold);
+        }
+        next.enable("jdk.ExecutionSample").with("period", executionSamplePeriod);
+        next.enable("jdk.NativeMethodSample").with("period", executionSamplePeriod);
+        next.enable("jdk.ObjectAllocationSample").with("throttle", allocationSampleThrottle);
+        next.enable("jdk.GarbageCollection");
+        next.enable("jdk.GCHeapSummary");
+        next.enable("jdk.CPULoad").with("period", "1 s");
+        next.start();
+        recording = next;
+        log.info("Started JFR recording {} for {}", next.getId(), duration);
+        return status();
+    }
+
+    /**
+     * Stops the current recording (if still running) and dumps it to a temporary file owned by the caller.
+     */
+    public synchronized Path stopAndDump() throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("No JFR recording has been started");
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        Path file = Files.createTempFile("salesmanagement-" + recording.getId() + "-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        } finally {
+            closeCurrent();
+        }
+        log.info("Dumped JFR recording to {} ({} bytes)", file, Files.size(file));
+        return file;
+    }
+
+    public synchronized JfrRecordingStatus status() {
+        if (recording == null) {
+            return new JfrRecordingStatus(null, "NONE", null, null, maxSizeBytes);
+        }
+        Duration duration = recording.getDuration();
+        return new JfrRecordingStatus(recording.getId(), recording.getState().name(), recording.getStartTime(),
+                duration != null ? duration.toSeconds() : null, recording.getMaxSize());
+    }
+
+    @PreDestroy
+    public synchronized void closeCurrent() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
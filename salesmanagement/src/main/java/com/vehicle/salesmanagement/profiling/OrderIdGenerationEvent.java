@@ -0,0 +1,19 @@
+package com.vehicle.salesmanagement.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.vehicle.salesmanagement.OrderIdGeneration")
+@Label("Order ID Generation")
+@Description("Locking and incrementing the yearly order ID sequence")
+@Category({"Sales Management", "Orders"})
+@StackTrace(false)
+public class OrderIdGenerationEvent extends Event {
+
+    @Label("Customer Order ID")
+    public String customerOrderId;
+}
@@ -0,0 +1,148 @@
+package com.vehicle.salesmanagement.profiling;
+
+/**
+ * Per-thread tally of the SQL issued while serving one HTTP request or running one Temporal activity.
+ * <p>
+ * Hibernate reports each prepared statement, JDBC execution and loaded entity to whatever scope is open on the
+ * calling thread; with no scope open the calls are ignored. Scopes nest, and a closed scope's totals are added to
+ * the one it was opened inside, so a test scope wrapping a MockMvc call sees everything the request ran.
+ */
+public final class SqlAccounting {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlAccounting() {
+    }
+
+    public static Scope open(String kind, String name) {
+        Scope scope = new Scope(kind, name, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    static void statementPrepared(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count(sql);
+        }
+    }
+
+    static void jdbcExecuted(long nanos) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.jdbcNanos += nanos;
+        }
+    }
+
+    static void entityLoaded() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.entitiesLoaded++;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final String kind;
+        private final String name;
+        private final Scope parent;
+        private int selects;
+        private int inserts;
+        private int updates;
+        private int deletes;
+        private int other;
+        private long jdbcNanos;
+        private long entitiesLoaded;
+        private boolean closed;
+
+        private Scope(String kind, String name, Scope parent) {
+            this.kind = kind;
+            this.name = name;
+            this.parent = parent;
+        }
+
+        public String kind() {
+            return kind;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int statements() {
+            return selects + inserts + updates + deletes + other;
+        }
+
+        public int selects() {
+            return selects;
+        }
+
+        public int inserts() {
+            return inserts;
+        }
+
+        public int updates() {
+            return updates;
+        }
+
+        public int deletes() {
+            return deletes;
+        }
+
+        public long jdbcNanos() {
+            return jdbcNanos;
+        }
+
+        public long entitiesLoaded() {
+            return entitiesLoaded;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            CURRENT.set(parent);
+            if (parent != null) {
+                parent.selects += selects;
+                parent.inserts += inserts;
+                parent.updates += updates;
+                parent.deletes += deletes;
+                parent.other += other;
+                parent.jdbcNanos += jdbcNanos;
+                parent.entitiesLoaded += entitiesLoaded;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d statements (%d select, %d insert, %d update, %d delete, %d other), "
+                            + "%d entities loaded, %.1f ms in JDBC",
+                    statements(), selects, inserts, updates, deletes, other, entitiesLoaded, jdbcNanos / 1e6);
+        }
+
+        private void count(String sql) {
+            String trimmed = sql.stripLeading();
+            if (startsWith(trimmed, "select") || startsWith(trimmed, "with")) {
+                selects++;
+            } else if (startsWith(trimmed, "insert")) {
+                inserts++;
+            } else if (startsWith(trimmed, "update")) {
+                updates++;
+            } else if (startsWith(trimmed, "delete")) {
+                deletes++;
+            } else {
+                other++;
+            }
+        }
+
+        private static boolean startsWith(String sql, String keyword) {
+            return sql.regionMatches(true, 0, keyword, 0, keyword.length());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.vehicle.salesmanagement.profiling;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds JDBC execution time to the current {@link SqlAccounting} scope. Hibernate creates one instance per session,
+ * and a session is only used by one thread at a time, so the start timestamps need no synchronisation.
+ */
+public class SqlAccountingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlAccounting.jdbcExecuted(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlAccounting.jdbcExecuted(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,16 @@
+package com.vehicle.salesmanagement.profiling;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares against the current {@link SqlAccounting} scope. A JDBC batch is
+ * prepared once, so it counts as one statement however many rows it carries.
+ */
+public class SqlAccountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlAccounting.statementPrepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,19 @@
+package com.vehicle.salesmanagement.profiling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many SQL statements one call to a controller method should need. Requests over budget are logged
+ * as warnings and counted; endpoints without it use {@code salesmanagement.sql.default-budget}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int statements();
+}
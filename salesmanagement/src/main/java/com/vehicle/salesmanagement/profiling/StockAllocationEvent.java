@@ -0,0 +1,35 @@
+package com.vehicle.salesmanagement.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.vehicle.salesmanagement.StockAllocation")
+@Label("Stock Allocation")
+@Description("Blocking stock for an order from stock_details or via MDDP transfer")
+@Category({"Sales Management", "Orders"})
+@StackTrace(false)
+public class StockAllocationEvent extends Event {
+
+    @Label("Customer Order ID")
+    public String customerOrderId;
+
+    @Label("Model")
+    public String modelName;
+
+    @Label("Variant")
+    public String variant;
+
+    @Label("Quantity")
+    public int quantity;
+
+    @Label("Source")
+    @Description("stock or mddp")
+    public String source;
+
+    @Label("Resulting Status")
+    public String orderStatus;
+}
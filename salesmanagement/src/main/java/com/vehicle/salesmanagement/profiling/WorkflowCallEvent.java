@@ -0,0 +1,31 @@
+package com.vehicle.salesmanagement.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.vehicle.salesmanagement.WorkflowCall")
+@Label("Workflow Call")
+@Description("A Temporal workflow start or query issued by this service")
+@Category({"Sales Management", "Temporal"})
+@StackTrace(false)
+public class WorkflowCallEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Workflow Type")
+    public String workflowType;
+
+    @Label("Workflow ID")
+    public String workflowId;
+
+    @Label("Query Type")
+    public String queryType;
+
+    @Label("Failed")
+    public boolean failed;
+}
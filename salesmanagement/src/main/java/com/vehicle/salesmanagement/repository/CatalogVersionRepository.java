@@ -0,0 +1,17 @@
+package com.vehicle.salesmanagement.repository;
+
+import com.vehicle.salesmanagement.domain.entity.model.CatalogVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, Integer> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE CatalogVersion c SET c.version = c.version + 1 WHERE c.id = :id")
+    int incrementVersion(Integer id);
+}
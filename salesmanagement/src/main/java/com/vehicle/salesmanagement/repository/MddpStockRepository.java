@@ -4,6 +4,7 @@ import com.vehicle.salesmanagement.domain.entity.model.MddpStock;
 import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
 import com.vehicle.salesmanagement.enums.StockStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,4 +22,13 @@ public interface MddpStockRepository extends JpaRepository<MddpStock, Long> { //
     Optional<MddpStock> findByModelNameAndVehicleVariantIdVariantId(@Param("modelName") String modelName, @Param("vehicleVariantId") Long vehicleVariantId);
 
     List<MddpStock> findAllByVehicleVariantIdAndStockStatus(VehicleVariant vehicleVariantId, StockStatus stockStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MddpStock m SET m.quantity = m.quantity - :quantity, " +
+            "m.stockStatus = CASE WHEN m.quantity = :quantity THEN :depleted ELSE m.stockStatus END " +
+            "WHERE m.mddpId = :mddpId AND m.stockStatus = :available AND m.quantity >= :quantity")
+    int reserveQuantity(@Param("mddpId") Long mddpId,
+                        @Param("quantity") Integer quantity,
+                        @Param("available") StockStatus available,
+                        @Param("depleted") StockStatus depleted);
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
 import com.vehicle.salesmanagement.enums.StockStatus;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -37,4 +38,22 @@ public interface StockDetailsRepository extends JpaRepository<StockDetails, Long
     @Query("SELECT s FROM StockDetails s WHERE s.modelName = :modelName AND s.vehicleVariantId.vehicleVariantId = :vehicleVariantId")
     Optional<StockDetails> findByModelNameAndVehicleVariantIdVariantId(@Param("modelName") String modelName, @Param("vehicleVariantId") Long vehicleVariantId);
 
+    /**
+     * Takes {@code quantity} units from an available row only if it still has them, in one statement. Returns 0 when a
+     * concurrent allocation got there first.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StockDetails s SET s.quantity = s.quantity - :quantity, " +
+            "s.stockStatus = CASE WHEN s.quantity = :quantity THEN :depleted ELSE s.stockStatus END " +
+            "WHERE s.stockId = :stockId AND s.stockStatus = :available AND s.quantity >= :quantity")
+    int reserveQuantity(@Param("stockId") Long stockId,
+                        @Param("quantity") Integer quantity,
+                        @Param("available") StockStatus available,
+                        @Param("depleted") StockStatus depleted);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StockDetails s SET s.quantity = s.quantity + :quantity, s.stockStatus = :available WHERE s.stockId = :stockId")
+    int restoreQuantity(@Param("stockId") Long stockId,
+                        @Param("quantity") Integer quantity,
+                        @Param("available") StockStatus available);
 }
\ No newline at end of file
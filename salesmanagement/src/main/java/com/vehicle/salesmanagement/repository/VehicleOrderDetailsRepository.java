@@ -3,7 +3,11 @@ package com.vehicle.salesmanagement.repository;
 import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
 import com.vehicle.salesmanagement.enums.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -12,4 +16,22 @@ public interface VehicleOrderDetailsRepository extends JpaRepository<VehicleOrde
     long countByOrderStatus(OrderStatus orderStatus);
 
     Optional<VehicleOrderDetails> findByCustomerOrderId(String customerOrderId);
+
+    /**
+     * Moves an order to {@code next} only if it is still in {@code expected}; returns 0 if another transaction changed it.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE VehicleOrderDetails o SET o.orderStatus = :next WHERE o.customerOrderId = :customerOrderId AND o.orderStatus = :expected")
+    int compareAndSetStatus(@Param("customerOrderId") String customerOrderId,
+                            @Param("expected") OrderStatus expected,
+                            @Param("next") OrderStatus next);
+
+    /**
+     * Sets only the status column in its own short transaction, so callers holding a detached copy across a Temporal
+     * call don't overwrite what the workflow's activities wrote to the row meanwhile.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE VehicleOrderDetails o SET o.orderStatus = :status WHERE o.customerOrderId = :customerOrderId")
+    int updateOrderStatus(@Param("customerOrderId") String customerOrderId, @Param("status") OrderStatus status);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.vehicle.salesmanagement.repository;
 import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
 import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,7 +12,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface VehicleVariantRepository extends JpaRepository<VehicleVariant, Long> {
+public interface VehicleVariantRepository extends JpaRepository<VehicleVariant, Long>, JpaSpecificationExecutor<VehicleVariant> {
     @Query("SELECT v FROM VehicleVariant v WHERE v.vehicleModelId = :vehicleModel")
     List<VehicleVariant> findByVehicleModelId(@Param("vehicleModel") VehicleModel vehicleModelId);
 
@@ -28,4 +29,16 @@ public interface VehicleVariantRepository extends JpaRepository<VehicleVariant,
     List<VehicleVariant> findByVehicleModelId_VehicleModelIdIn(List<Long> modelIds);
 
     Optional<VehicleVariant> findByModelNameAndVehicleVariantId(String modelName, Long vehicleVariantId);
+
+    @Query("SELECT v FROM VehicleVariant v WHERE v.specsParsedAt IS NULL")
+    List<VehicleVariant> findWithUnparsedSpecs();
+
+    @Query(value = "SELECT * FROM sales_tracking.vehicle_variant WHERE colours @> ARRAY[CAST(:colour AS text)]", nativeQuery = true)
+    List<VehicleVariant> findByColoursContaining(@Param("colour") String colour);
+
+    @Query(value = "SELECT * FROM sales_tracking.vehicle_variant WHERE safety_features @> ARRAY[CAST(:safetyFeature AS text)]", nativeQuery = true)
+    List<VehicleVariant> findBySafetyFeaturesContaining(@Param("safetyFeature") String safetyFeature);
+
+    @Query(value = "SELECT * FROM sales_tracking.vehicle_variant WHERE comfort_features @> ARRAY[CAST(:comfort AS text)]", nativeQuery = true)
+    List<VehicleVariant> findByComfortFeaturesContaining(@Param("comfort") String comfort);
 }
\ No newline at end of file
@@ -0,0 +1,212 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.dto.apiresponse.AutocompleteSuggestion;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Case-folded prefix trie over model names, variant names, suffixes and feature keywords.
+ * <p>
+ * Every node keeps its own pre-ranked top suggestions, recomputed along the touched path on each write,
+ * so a lookup is a walk of the prefix length with no subtree traversal. Multi-word labels are also
+ * indexed from each word, so "fort" finds "Toyota Fortuner".
+ */
+@Slf4j
+@Component
+public class CatalogAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    // Declaration order is the ranking priority
+    enum Kind { MODEL, VARIANT, SUFFIX, FEATURE }
+
+    private record Entry(String text, Kind kind, Long vehicleModelId, Long vehicleVariantId) {
+        AutocompleteSuggestion toSuggestion() {
+            return new AutocompleteSuggestion(text, kind.name(), vehicleModelId, vehicleVariantId);
+        }
+    }
+
+    private static final Comparator<Entry> RANKING = Comparator.comparing(Entry::kind)
+            .thenComparingInt(e -> e.text().length())
+            .thenComparing(Entry::text, String.CASE_INSENSITIVE_ORDER);
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>(4);
+        final List<Entry> entries = new ArrayList<>(1);
+        List<Entry> top = Collections.emptyList();
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, List<Entry>> entriesByOwner = new HashMap<>();
+    private Node root = new Node();
+
+    public void rebuild(Collection<VehicleModel> models, Collection<VehicleVariant> variants) {
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            entriesByOwner.clear();
+            models.forEach(this::putModel);
+            variants.forEach(this::putVariant);
+            log.info("Catalog autocomplete index rebuilt with {} models and {} variants", models.size(), variants.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsertModels(Collection<VehicleModel> models) {
+        lock.writeLock().lock();
+        try {
+            models.forEach(this::putModel);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsertVariants(Collection<VehicleVariant> variants) {
+        lock.writeLock().lock();
+        try {
+            variants.forEach(this::putVariant);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<AutocompleteSuggestion> suggest(String prefix, int limit) {
+        String key = fold(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            return node.top.stream()
+                    .limit(limit)
+                    .map(Entry::toSuggestion)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putModel(VehicleModel model) {
+        if (model.getVehicleModelId() == null) {
+            return;
+        }
+        List<Entry> entries = new ArrayList<>();
+        addEntry(entries, model.getModelName(), Kind.MODEL, model.getVehicleModelId(), null);
+        replaceOwner("model:" + model.getVehicleModelId(), entries);
+    }
+
+    private void putVariant(VehicleVariant variant) {
+        if (variant.getVehicleVariantId() == null) {
+            return;
+        }
+        Long modelId = variant.getVehicleModelId() != null ? variant.getVehicleModelId().getVehicleModelId() : null;
+        Long variantId = variant.getVehicleVariantId();
+        List<Entry> entries = new ArrayList<>();
+        addEntry(entries, variant.getVariant(), Kind.VARIANT, modelId, variantId);
+        addEntry(entries, variant.getSuffix(), Kind.SUFFIX, modelId, variantId);
+        List<String> features = new ArrayList<>();
+        features.addAll(valuesOf(variant.getSafetyFeature()));
+        features.addAll(valuesOf(variant.getComfort()));
+        features.addAll(valuesOf(variant.getInfotainment()));
+        features.forEach(feature -> addEntry(entries, feature, Kind.FEATURE, modelId, variantId));
+        replaceOwner("variant:" + variantId, entries);
+    }
+
+    // Suggestions show the catalog's own spelling, so split the raw strings rather than the lower-cased arrays
+    private static List<String> valuesOf(String raw) {
+        List<String> split = VehicleSpecParser.splitDisplayValues(raw);
+        return split != null ? split : Collections.emptyList();
+    }
+
+    private static void addEntry(List<Entry> entries, String text, Kind kind, Long modelId, Long variantId) {
+        if (text != null && !text.isBlank()) {
+            Entry entry = new Entry(text.trim(), kind, modelId, variantId);
+            if (!entries.contains(entry)) {
+                entries.add(entry);
+            }
+        }
+    }
+
+    private void replaceOwner(String owner, List<Entry> entries) {
+        List<Entry> previous = entriesByOwner.remove(owner);
+        if (previous != null) {
+            previous.forEach(entry -> keysOf(entry.text()).forEach(key -> update(key, entry, false)));
+        }
+        entries.forEach(entry -> keysOf(entry.text()).forEach(key -> update(key, entry, true)));
+        if (!entries.isEmpty()) {
+            entriesByOwner.put(owner, entries);
+        }
+    }
+
+    private void update(String key, Entry entry, boolean add) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                if (!add) {
+                    return;
+                }
+                child = new Node();
+                node.children.put(key.charAt(i), child);
+            }
+            node = child;
+            path.add(node);
+        }
+        if (add) {
+            node.entries.add(entry);
+        } else {
+            node.entries.remove(entry);
+        }
+
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node current = path.get(depth);
+            if (depth > 0 && current.entries.isEmpty() && current.children.isEmpty()) {
+                path.get(depth - 1).children.remove(key.charAt(depth - 1));
+                continue;
+            }
+            List<Entry> candidates = new ArrayList<>(current.entries);
+            current.children.values().forEach(child -> candidates.addAll(child.top));
+            current.top = candidates.stream()
+                    .distinct()
+                    .sorted(RANKING)
+                    .limit(MAX_SUGGESTIONS)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static Set<String> keysOf(String text) {
+        String folded = fold(text);
+        Set<String> keys = new LinkedHashSet<>();
+        if (folded.isEmpty()) {
+            return keys;
+        }
+        keys.add(folded);
+        for (int i = 1; i < folded.length(); i++) {
+            char previous = folded.charAt(i - 1);
+            if ((previous == ' ' || previous == '-' || previous == '/') && folded.charAt(i) != ' ') {
+                keys.add(folded.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private static String fold(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
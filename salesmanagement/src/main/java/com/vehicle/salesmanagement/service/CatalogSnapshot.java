@@ -0,0 +1,368 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Read-only, memory-mapped binary image of the vehicle catalog.
+ * <p>
+ * Layout (big-endian): a fixed header, a string dictionary (offset table followed by UTF-8 bytes), then
+ * fixed-width model records sorted by id, fixed-width variant records sorted by (model id, variant id), and a
+ * variant id index of (variant id, record number) pairs sorted by variant id.
+ * Every string column is a 4-byte dictionary reference, so lookups by id are binary searches over the
+ * mapped buffer and entities are only materialised for the records a caller actually asks for.
+ */
+public final class CatalogSnapshot {
+
+    private static final int MAGIC = 0x56435331; // "VCS1"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4 + 4 + 4;
+    private static final int MODEL_RECORD_BYTES = 8 + 4;
+    private static final int VARIANT_STRING_FIELDS = 19;
+    private static final int VARIANT_RECORD_BYTES = 8 + 8 + VARIANT_STRING_FIELDS * 4 + 5 * 8 + 7 * 4;
+    private static final int VARIANT_INDEX_BYTES = 8 + 4;
+    private static final int NULL_REF = -1;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private static final List<Function<VehicleVariant, String>> VARIANT_STRINGS = List.of(
+            VehicleVariant::getModelName, VehicleVariant::getVariant, VehicleVariant::getSuffix,
+            VehicleVariant::getSafetyFeature, VehicleVariant::getEngineColour, VehicleVariant::getColour,
+            VehicleVariant::getInteriorColour, VehicleVariant::getTransmissionType, VehicleVariant::getEngineCapacity,
+            VehicleVariant::getFuelType, VehicleVariant::getBodyType, VehicleVariant::getMaxPower,
+            VehicleVariant::getMaxTorque, VehicleVariant::getTopSpeed, VehicleVariant::getWheelBase,
+            VehicleVariant::getWidth, VehicleVariant::getLength, VehicleVariant::getInfotainment,
+            VehicleVariant::getComfort);
+
+    private final ByteBuffer buffer;
+    private final long catalogVersion;
+    private final long createdAt;
+    private final int stringCount;
+    private final int modelCount;
+    private final int variantCount;
+    private final int stringDataPos;
+    private final int modelsPos;
+    private final int variantsPos;
+    private final int variantIndexPos;
+    private final String[] stringCache;
+
+    private CatalogSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Not a catalog snapshot file");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported catalog snapshot format: " + buffer.getInt(4));
+        }
+        this.catalogVersion = buffer.getLong(8);
+        this.createdAt = buffer.getLong(16);
+        this.stringCount = buffer.getInt(24);
+        this.modelCount = buffer.getInt(28);
+        this.variantCount = buffer.getInt(32);
+        this.stringDataPos = HEADER_BYTES + (stringCount + 1) * 4;
+        this.modelsPos = stringDataPos + buffer.getInt(HEADER_BYTES + stringCount * 4);
+        this.variantsPos = modelsPos + modelCount * MODEL_RECORD_BYTES;
+        this.variantIndexPos = variantsPos + variantCount * VARIANT_RECORD_BYTES;
+        if (variantIndexPos + (long) variantCount * VARIANT_INDEX_BYTES != buffer.capacity()) {
+            throw new IllegalStateException("Catalog snapshot is truncated or corrupt");
+        }
+        this.stringCache = new String[stringCount];
+    }
+
+    public static CatalogSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CatalogSnapshot(mapped);
+        }
+    }
+
+    public long catalogVersion() {
+        return catalogVersion;
+    }
+
+    public long createdAt() {
+        return createdAt;
+    }
+
+    public int modelCount() {
+        return modelCount;
+    }
+
+    public int variantCount() {
+        return variantCount;
+    }
+
+    public List<VehicleModel> models() {
+        List<VehicleModel> models = new ArrayList<>(modelCount);
+        for (int i = 0; i < modelCount; i++) {
+            models.add(readModel(i));
+        }
+        return models;
+    }
+
+    public Optional<VehicleModel> model(long vehicleModelId) {
+        int low = 0;
+        int high = modelCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long id = buffer.getLong(modelsPos + mid * MODEL_RECORD_BYTES);
+            if (id < vehicleModelId) {
+                low = mid + 1;
+            } else if (id > vehicleModelId) {
+                high = mid - 1;
+            } else {
+                return Optional.of(readModel(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<VehicleVariant> variants() {
+        List<VehicleVariant> variants = new ArrayList<>(variantCount);
+        for (int i = 0; i < variantCount; i++) {
+            variants.add(readVariant(i));
+        }
+        return variants;
+    }
+
+    public List<VehicleVariant> variantsOfModel(long vehicleModelId) {
+        int low = 0;
+        int high = variantCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (variantModelId(mid) < vehicleModelId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        List<VehicleVariant> variants = new ArrayList<>();
+        for (int i = low; i < variantCount && variantModelId(i) == vehicleModelId; i++) {
+            variants.add(readVariant(i));
+        }
+        return variants;
+    }
+
+    public Optional<VehicleVariant> variant(long vehicleVariantId) {
+        // Records are ordered by model first, so id lookups go through the id-sorted index section
+        int low = 0;
+        int high = variantCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int pos = variantIndexPos + mid * VARIANT_INDEX_BYTES;
+            long id = buffer.getLong(pos);
+            if (id < vehicleVariantId) {
+                low = mid + 1;
+            } else if (id > vehicleVariantId) {
+                high = mid - 1;
+            } else {
+                return Optional.of(readVariant(buffer.getInt(pos + 8)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private long variantModelId(int index) {
+        return buffer.getLong(variantsPos + index * VARIANT_RECORD_BYTES + 8);
+    }
+
+    private VehicleModel readModel(int index) {
+        int pos = modelsPos + index * MODEL_RECORD_BYTES;
+        VehicleModel model = new VehicleModel();
+        model.setVehicleModelId(buffer.getLong(pos));
+        model.setModelName(string(buffer.getInt(pos + 8)));
+        return model;
+    }
+
+    private VehicleVariant readVariant(int index) {
+        int pos = variantsPos + index * VARIANT_RECORD_BYTES;
+        VehicleVariant variant = new VehicleVariant();
+        variant.setVehicleVariantId(buffer.getLong(pos));
+        long modelId = buffer.getLong(pos + 8);
+        variant.setVehicleModelId(model(modelId).orElseGet(() -> {
+            VehicleModel model = new VehicleModel();
+            model.setVehicleModelId(modelId);
+            return model;
+        }));
+        pos += 16;
+        String[] strings = new String[VARIANT_STRING_FIELDS];
+        for (int f = 0; f < VARIANT_STRING_FIELDS; f++, pos += 4) {
+            strings[f] = string(buffer.getInt(pos));
+        }
+        variant.setModelName(strings[0]);
+        variant.setVariant(strings[1]);
+        variant.setSuffix(strings[2]);
+        variant.setSafetyFeature(strings[3]);
+        variant.setEngineColour(strings[4]);
+        variant.setColour(strings[5]);
+        variant.setInteriorColour(strings[6]);
+        variant.setTransmissionType(strings[7]);
+        variant.setEngineCapacity(strings[8]);
+        variant.setFuelType(strings[9]);
+        variant.setBodyType(strings[10]);
+        variant.setMaxPower(strings[11]);
+        variant.setMaxTorque(strings[12]);
+        variant.setTopSpeed(strings[13]);
+        variant.setWheelBase(strings[14]);
+        variant.setWidth(strings[15]);
+        variant.setLength(strings[16]);
+        variant.setInfotainment(strings[17]);
+        variant.setComfort(strings[18]);
+
+        variant.setPrice(decimal(buffer.getLong(pos)));
+        variant.setFuelTankCapacity(decimal(buffer.getLong(pos + 8)));
+        variant.setMileageCity(decimal(buffer.getLong(pos + 16)));
+        variant.setMileageHighway(decimal(buffer.getLong(pos + 24)));
+        variant.setMaxPowerBhp(decimal(buffer.getLong(pos + 32)));
+        pos += 40;
+        variant.setYearOfManufacture(integer(buffer.getInt(pos)));
+        variant.setSeatingCapacity(integer(buffer.getInt(pos + 4)));
+        variant.setNumberOfAirBags(integer(buffer.getInt(pos + 8)));
+        variant.setTopSpeedKmph(integer(buffer.getInt(pos + 12)));
+        variant.setWheelBaseMm(integer(buffer.getInt(pos + 16)));
+        variant.setWidthMm(integer(buffer.getInt(pos + 20)));
+        variant.setLengthMm(integer(buffer.getInt(pos + 24)));
+
+        variant.setColours(VehicleSpecParser.splitMultiValued(variant.getColour()));
+        variant.setSafetyFeatures(VehicleSpecParser.splitMultiValued(variant.getSafetyFeature()));
+        variant.setComfortFeatures(VehicleSpecParser.splitMultiValued(variant.getComfort()));
+        return variant;
+    }
+
+    private String string(int ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        String cached = stringCache[ref];
+        if (cached == null) {
+            int start = buffer.getInt(HEADER_BYTES + ref * 4);
+            int end = buffer.getInt(HEADER_BYTES + (ref + 1) * 4);
+            byte[] bytes = new byte[end - start];
+            buffer.get(stringDataPos + start, bytes);
+            cached = new String(bytes, StandardCharsets.UTF_8);
+            stringCache[ref] = cached;
+        }
+        return cached;
+    }
+
+    private static BigDecimal decimal(long unscaled) {
+        return unscaled == NULL_LONG ? null : BigDecimal.valueOf(unscaled, 2);
+    }
+
+    private static Integer integer(int value) {
+        return value == NULL_INT ? null : value;
+    }
+
+    /**
+     * Writes a snapshot next to {@code target} and atomically moves it into place, so readers that still
+     * have the previous file mapped are unaffected.
+     */
+    public static void write(Path target, long catalogVersion, Collection<VehicleModel> models,
+                             Collection<VehicleVariant> variants) throws IOException {
+        List<VehicleModel> sortedModels = models.stream()
+                .filter(m -> m.getVehicleModelId() != null)
+                .sorted(Comparator.comparing(VehicleModel::getVehicleModelId))
+                .toList();
+        List<VehicleVariant> sortedVariants = variants.stream()
+                .filter(v -> v.getVehicleVariantId() != null && v.getVehicleModelId() != null)
+                .sorted(Comparator.comparing((VehicleVariant v) -> v.getVehicleModelId().getVehicleModelId())
+                        .thenComparing(VehicleVariant::getVehicleVariantId))
+                .toList();
+
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        sortedModels.forEach(m -> ref(dictionary, m.getModelName()));
+        sortedVariants.forEach(v -> VARIANT_STRINGS.forEach(getter -> ref(dictionary, getter.apply(v))));
+        List<byte[]> encoded = dictionary.keySet().stream()
+                .map(s -> s.getBytes(StandardCharsets.UTF_8))
+                .toList();
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, "catalog", ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(catalogVersion);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(encoded.size());
+            out.writeInt(sortedModels.size());
+            out.writeInt(sortedVariants.size());
+
+            int offset = 0;
+            for (byte[] bytes : encoded) {
+                out.writeInt(offset);
+                offset += bytes.length;
+            }
+            out.writeInt(offset);
+            for (byte[] bytes : encoded) {
+                out.write(bytes);
+            }
+
+            for (VehicleModel model : sortedModels) {
+                out.writeLong(model.getVehicleModelId());
+                out.writeInt(ref(dictionary, model.getModelName()));
+            }
+            for (VehicleVariant variant : sortedVariants) {
+                out.writeLong(variant.getVehicleVariantId());
+                out.writeLong(variant.getVehicleModelId().getVehicleModelId());
+                for (Function<VehicleVariant, String> getter : VARIANT_STRINGS) {
+                    out.writeInt(ref(dictionary, getter.apply(variant)));
+                }
+                out.writeLong(unscaled(variant.getPrice()));
+                out.writeLong(unscaled(variant.getFuelTankCapacity()));
+                out.writeLong(unscaled(variant.getMileageCity()));
+                out.writeLong(unscaled(variant.getMileageHighway()));
+                out.writeLong(unscaled(variant.getMaxPowerBhp()));
+                out.writeInt(orNull(variant.getYearOfManufacture()));
+                out.writeInt(orNull(variant.getSeatingCapacity()));
+                out.writeInt(orNull(variant.getNumberOfAirBags()));
+                out.writeInt(orNull(variant.getTopSpeedKmph()));
+                out.writeInt(orNull(variant.getWheelBaseMm()));
+                out.writeInt(orNull(variant.getWidthMm()));
+                out.writeInt(orNull(variant.getLengthMm()));
+            }
+
+            Integer[] byId = new Integer[sortedVariants.size()];
+            for (int i = 0; i < byId.length; i++) {
+                byId[i] = i;
+            }
+            Arrays.sort(byId, Comparator.comparing((Integer i) -> sortedVariants.get(i).getVehicleVariantId()));
+            for (int record : byId) {
+                out.writeLong(sortedVariants.get(record).getVehicleVariantId());
+                out.writeInt(record);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int ref(Map<String, Integer> dictionary, String value) {
+        return value == null ? NULL_REF : dictionary.computeIfAbsent(value, k -> dictionary.size());
+    }
+
+    private static long unscaled(BigDecimal value) {
+        return value == null ? NULL_LONG : value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static int orNull(Integer value) {
+        return value == null ? NULL_INT : value;
+    }
+}
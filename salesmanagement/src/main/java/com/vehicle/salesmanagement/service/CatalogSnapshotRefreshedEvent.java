@@ -0,0 +1,8 @@
+package com.vehicle.salesmanagement.service;
+
+/**
+ * Published by {@link CatalogSnapshotService} after it maps a snapshot for a newer catalog version, whether the
+ * change came from this node or another one. Listeners rebuild any in-memory catalog state from it.
+ */
+public record CatalogSnapshotRefreshedEvent(CatalogSnapshot snapshot) {
+}
@@ -0,0 +1,163 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.entity.model.CatalogVersion;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.repository.CatalogVersionRepository;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Owns the memory-mapped {@link CatalogSnapshot} used to serve catalog reads without touching Postgres.
+ * <p>
+ * The snapshot is mapped at startup, before any request is served. A background check compares its version
+ * stamp with {@code catalog_version} and rewrites the file when another node (or this one) changed the catalog.
+ * The file lives on storage shared by every node (catalog.snapshot.path), so a node that finds another node has
+ * already written the current version maps that file instead of rebuilding it from the database.
+ * Local writes mark the snapshot dirty so this node reads its own writes from the database until the rewrite lands.
+ * Each newer version is announced with a {@link CatalogSnapshotRefreshedEvent} so the in-memory indexes follow it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotService {
+
+    private final VehicleModelRepository vehicleModelRepository;
+    private final VehicleVariantRepository vehicleVariantRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${catalog.snapshot.path:${java.io.tmpdir}/salesmanagement/catalog.snapshot}")
+    private String snapshotPath;
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "catalog-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong localWrites = new AtomicLong();
+    private volatile CatalogSnapshot snapshot;
+    private volatile boolean dirty;
+
+    @PostConstruct
+    public void load() {
+        Path path = Paths.get(snapshotPath);
+        try {
+            long start = System.nanoTime();
+            snapshot = CatalogSnapshot.open(path);
+            log.info("Mapped catalog snapshot v{} with {} models and {} variants in {} µs",
+                    snapshot.catalogVersion(), snapshot.modelCount(), snapshot.variantCount(),
+                    (System.nanoTime() - start) / 1_000);
+        } catch (NoSuchFileException e) {
+            log.info("No catalog snapshot at {}, it will be created in the background", path);
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable catalog snapshot at {}: {}", path, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Returns the snapshot when it can be trusted for reads on this node.
+     */
+    public Optional<CatalogSnapshot> readable() {
+        CatalogSnapshot current = snapshot;
+        return dirty ? Optional.empty() : Optional.ofNullable(current);
+    }
+
+    /**
+     * Bumps the catalog version inside the caller's transaction and schedules a snapshot rewrite after commit.
+     */
+    public void catalogChanged() {
+        localWrites.incrementAndGet();
+        dirty = true;
+        if (catalogVersionRepository.incrementVersion(CatalogVersion.SINGLETON_ID) == 0) {
+            catalogVersionRepository.save(new CatalogVersion(CatalogVersion.SINGLETON_ID, 1L));
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    requestRefresh();
+                }
+            });
+        } else {
+            requestRefresh();
+        }
+    }
+
+    public void requestRefresh() {
+        refreshExecutor.submit(this::refreshIfStale);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${catalog.snapshot.refresh-interval-ms:60000}")
+    public synchronized void refreshIfStale() {
+        long writesSeen = localWrites.get();
+        try {
+            long dbVersion = catalogVersionRepository.findById(CatalogVersion.SINGLETON_ID)
+                    .map(CatalogVersion::getVersion)
+                    .orElse(0L);
+            CatalogSnapshot current = snapshot;
+            if (current != null && current.catalogVersion() == dbVersion) {
+                clearDirty(writesSeen);
+                return;
+            }
+
+            Path path = Paths.get(snapshotPath);
+            CatalogSnapshot refreshed = openIfAtVersion(path, dbVersion);
+            if (refreshed == null) {
+                List<VehicleModel> models = vehicleModelRepository.findAll();
+                List<VehicleVariant> variants = vehicleVariantRepository.findAll();
+                CatalogSnapshot.write(path, dbVersion, models, variants);
+                refreshed = CatalogSnapshot.open(path);
+            }
+            snapshot = refreshed;
+            clearDirty(writesSeen);
+            log.info("Catalog snapshot refreshed to v{} with {} models and {} variants",
+                    dbVersion, refreshed.modelCount(), refreshed.variantCount());
+            eventPublisher.publishEvent(new CatalogSnapshotRefreshedEvent(refreshed));
+        } catch (Exception e) {
+            log.error("Failed to refresh catalog snapshot: {}", e.getMessage(), e);
+        }
+    }
+
+    // Another node sharing the snapshot directory may already have written this version
+    private CatalogSnapshot openIfAtVersion(Path path, long version) {
+        try {
+            CatalogSnapshot onDisk = CatalogSnapshot.open(path);
+            return onDisk.catalogVersion() == version ? onDisk : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void clearDirty(long writesSeen) {
+        // A write that landed while we were rebuilding has its own refresh queued behind this one
+        if (localWrites.get() == writesSeen) {
+            dirty = false;
+        }
+    }
+}
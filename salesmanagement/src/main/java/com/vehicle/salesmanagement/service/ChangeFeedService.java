@@ -0,0 +1,167 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.config.ChangeFeedProperties;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.KendoGridResponse;
+import com.vehicle.salesmanagement.errorhandling.ChangeTokenExpiredException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental grid refreshes. A change token is the database's transaction snapshot at the time it was issued;
+ * {@code since=<token>} returns the rows written by a transaction that was not visible in that snapshot (the
+ * {@code updated_xid} stamped by the V7 trigger), the keys of rows deleted by such a transaction, and the token for
+ * the next refresh. A write is picked up by the first refresh after it commits, however long it ran before that, and
+ * both reads are index scans on {@code updated_xid} and {@code (table_name, deleted_xid)}, so a refresh costs what
+ * changed rather than the size of the table.
+ * <p>
+ * The token and the rows it belongs to are read in one read-only transaction, so both come from the same server: a
+ * replica's snapshot leaves out what it has not replayed yet, and that is then sent by the next refresh. Rows
+ * committed between the snapshot and the read are sent again by the next refresh; clients apply rows as upserts by
+ * key, so a repeat is harmless.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+public class ChangeFeedService {
+
+    private static final String TOKEN_VERSION = "2:";
+
+    private final FieldProjectionService fieldProjectionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeFeedProperties changeFeedProperties;
+
+    /**
+     * Runs a full grid read with the token to hand out with it. The token is taken first and {@code read} joins the
+     * same read-only transaction, so nothing written meanwhile is skipped and a replica never serves rows older than
+     * the token.
+     */
+    @Transactional(readOnly = true)
+    public <T> T readWithToken(Function<String, T> read) {
+        return read.apply(encode(currentSnapshot()));
+    }
+
+    /**
+     * Rows of the grid changed since the token, projected onto {@code fields} (all fields of the grid when null),
+     * with the keys of deleted rows and the next token.
+     *
+     * @throws IllegalArgumentException    when the token is malformed or the grid has no change tracking
+     * @throws ChangeTokenExpiredException when tombstones from that far back have been purged
+     */
+    @Transactional(readOnly = true)
+    public KendoGridResponse<Map<String, Object>> changesSince(GridProjection grid, String fields, String token) {
+        GridProjection.Changes changes = grid.changes()
+                .orElseThrow(() -> new IllegalArgumentException("since is not supported for " + grid));
+        Token since = decode(token);
+        // Before the reads: whatever commits after this is left to the next refresh
+        Token next = currentSnapshot();
+        if (since.issuedAt().isBefore(next.issuedAt().minus(changeFeedProperties.getTombstoneRetention()))) {
+            throw new ChangeTokenExpiredException("Change token is older than "
+                    + changeFeedProperties.getTombstoneRetention() + "; reload the grid without since");
+        }
+
+        TransactionSnapshot snapshot = since.snapshot();
+        List<Map<String, Object>> rows = fieldProjectionService.findChangedSince(grid,
+                fields != null ? fields : String.join(",", grid.fields().keySet()), snapshot);
+        Set<String> present = rows.stream()
+                .map(row -> String.valueOf(row.get(grid.keyField())))
+                .collect(Collectors.toCollection(HashSet::new));
+        List<String> deleted = jdbcTemplate.queryForList(
+                        "SELECT DISTINCT row_key FROM sales_tracking.grid_tombstone WHERE table_name = ? "
+                                + "AND (deleted_xid >= ? OR deleted_xid = ANY (CAST(? AS bigint[])))",
+                        String.class, changes.table(), snapshot.xmax(), arrayLiteral(snapshot.inProgress())).stream()
+                .filter(key -> !present.contains(key))
+                .toList();
+
+        KendoGridResponse<Map<String, Object>> response = new KendoGridResponse<>(rows, rows.size(), null, null);
+        response.setDeleted(deleted);
+        response.setChangeToken(encode(next));
+        log.debug("{} since {}: {} changed, {} deleted", grid, snapshot, rows.size(), deleted.size());
+        return response;
+    }
+
+    @Scheduled(initialDelay = 60000, fixedDelayString = "${salesmanagement.changefeed.purge-interval-ms:3600000}")
+    public void purgeTombstones() {
+        try {
+            int purged = jdbcTemplate.update("DELETE FROM sales_tracking.grid_tombstone "
+                            + "WHERE deleted_at < (clock_timestamp() AT TIME ZONE 'UTC') - CAST(? AS interval)",
+                    changeFeedProperties.getTombstoneRetention().toSeconds() + " seconds");
+            if (purged > 0) {
+                log.info("Purged {} grid tombstones older than {}", purged, changeFeedProperties.getTombstoneRetention());
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to purge grid tombstones: {}", e.getMessage(), e);
+        }
+    }
+
+    private Token currentSnapshot() {
+        return jdbcTemplate.queryForObject("SELECT pg_current_snapshot()::text, clock_timestamp() AT TIME ZONE 'UTC'",
+                (rs, rowNum) -> new Token(TransactionSnapshot.parse(rs.getString(1)),
+                        rs.getObject(2, LocalDateTime.class)));
+    }
+
+    private static String arrayLiteral(List<Long> xids) {
+        return xids.stream().map(String::valueOf).collect(Collectors.joining(",", "{", "}"));
+    }
+
+    /**
+     * The snapshot a token stands for, and when it was issued on the database clock (UTC) for tombstone expiry.
+     */
+    record Token(TransactionSnapshot snapshot, LocalDateTime issuedAt) {
+    }
+
+    static String encode(Token token) {
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), token.issuedAt());
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_VERSION + micros + ":" + token.snapshot()).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @throws ChangeTokenExpiredException for a token of the clock-based format, which can no longer be served
+     */
+    static Token decode(String token) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw invalid(token);
+        }
+        if (decoded.matches("1:\\d+")) {
+            throw new ChangeTokenExpiredException("Change token predates transaction tracking; reload the grid without since");
+        }
+        if (!decoded.startsWith(TOKEN_VERSION)) {
+            throw invalid(token);
+        }
+        String[] parts = decoded.substring(TOKEN_VERSION.length()).split(":", 2);
+        try {
+            long micros = Long.parseLong(parts[0]);
+            return new Token(TransactionSnapshot.parse(parts[1]),
+                    LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(micros, ChronoUnit.MICROS));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            // Also covers NumberFormatException
+            throw invalid(token);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String token) {
+        return new IllegalArgumentException("Invalid change token '" + token + "'; use the changeToken of a previous response");
+    }
+}
@@ -13,6 +13,7 @@ import com.vehicle.salesmanagement.enums.OrderStatus;
 import com.vehicle.salesmanagement.repository.DeliveryDetailsRepository;
 import com.vehicle.salesmanagement.repository.DispatchDetailsRepository;
 import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,10 +23,12 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "salesmanagement.service", histogram = true)
 public class DispatchDeliveryService {
 
     private final DispatchDetailsRepository dispatchDetailsRepository;
@@ -132,6 +135,7 @@ public class DispatchDeliveryService {
         historyService.saveDeliveryHistory(deliveryDetails, request.getDeliveredBy());
         return mapToDeliveryResponse(deliveryDetails, orderDetails);
     }
+    @Transactional(readOnly = true)
     public List<DispatchResponse> getAllDispatchDetails() {
         log.info("Fetching all dispatch records from repository...");
         List<DispatchDetails> dispatchEntities = dispatchDetailsRepository.findAll();
@@ -153,6 +157,7 @@ public class DispatchDeliveryService {
         log.info("Total dispatch records fetched: {}", responses.size());
         return responses;
     }
+    @Transactional(readOnly = true)
     public List<DeliveryResponse> getAllDeliveryDetails() {
         log.info("Fetching all delivery records from repository...");
         List<DeliveryDetails> deliveryEntities = deliveryDetailsRepository.findAll();
@@ -174,6 +179,17 @@ public class DispatchDeliveryService {
         log.info("Total delivery records fetched: {}", responses.size());
         return responses;
     }
+    /**
+     * The whole order entity, for workflows that receive it as an activity result. It is serialized after the
+     * transaction ends, so the lazy address columns are loaded here.
+     */
+    @Transactional(readOnly = true)
+    public Optional<VehicleOrderDetails> getOrderDetails(String customerOrderId) {
+        Optional<VehicleOrderDetails> orderDetails = vehicleOrderDetailsRepository.findByCustomerOrderId(customerOrderId);
+        orderDetails.ifPresent(VehicleOrderDetails::getPermanentAddress);
+        return orderDetails;
+    }
+
     public DispatchResponse getDispatchDetailsByCustomerOrderId(String customerOrderId) {
         DispatchDetails dispatch = dispatchDetailsRepository.findByCustomerOrderId(customerOrderId);
         if (dispatch == null) {
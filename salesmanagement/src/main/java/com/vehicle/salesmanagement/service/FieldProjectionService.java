@@ -0,0 +1,220 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Serves {@code fields=} on the list and find endpoints. The requested fields of a {@link GridProjection} become a
+ * JPQL tuple query that selects only those columns: no entity is loaded, so unselected columns are neither read
+ * from the database nor serialized. Rows are returned as field-name to value maps in the requested order.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FieldProjectionService {
+
+    /**
+     * {@code fields} value that selects the grid's {@link GridProjection#defaultFields()}.
+     */
+    public static final String DEFAULT_FIELDS = "default";
+
+    private final EntityManager entityManager;
+    private final CatalogSnapshotService catalogSnapshotService;
+
+    /**
+     * All rows of the grid, ordered by key.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(GridProjection grid, String fields) {
+        return find(grid, fields, Map.of(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Rows whose fields equal the given values, ordered by key, at most {@code limit} of them. Filter keys are field
+     * names of the grid and need not be among the selected fields.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> find(GridProjection grid, String fields, Map<String, Object> equalTo, int limit) {
+        List<String> selected = resolve(grid, fields);
+        TypedQuery<Tuple> query = query(grid, selected, equalTo, null, null, false);
+        if (limit < Integer.MAX_VALUE) {
+            query.setMaxResults(limit);
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            rows.add(row(tuple, selected));
+        }
+        log.debug("Projected {} {} rows onto {}", rows.size(), grid, selected);
+        return rows;
+    }
+
+    /**
+     * Rows changed after the snapshot {@code since} by any of the grid's {@link GridProjection.Changes#updatedXid()}
+     * expressions, i.e. written by a transaction that was not visible in it, once each and ordered by key. Each
+     * expression is its own query so every one can use its {@code updated_xid} index.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findChangedSince(GridProjection grid, String fields, TransactionSnapshot since) {
+        GridProjection.Changes changes = grid.changes()
+                .orElseThrow(() -> new IllegalArgumentException("since is not supported for " + grid));
+        List<String> selected = resolve(grid, fields);
+        Map<Object, Map<String, Object>> rows = new TreeMap<>();
+        for (String updatedXid : changes.updatedXid()) {
+            for (Tuple tuple : query(grid, selected, Map.of(), updatedXid, since, false).getResultList()) {
+                Map<String, Object> row = row(tuple, selected);
+                rows.putIfAbsent(row.get(grid.keyField()), row);
+            }
+        }
+        log.debug("{} {} rows changed since {}", rows.size(), grid, since);
+        return new ArrayList<>(rows.values());
+    }
+
+    /**
+     * The next {@code limit} rows of the grid after {@code afterKey} (from the first row when null), ordered by key;
+     * each element holds the values of {@code selected} in that order. Every page is its own short transaction that
+     * seeks on the key index, so a long export never holds a pooled connection for more than one page.
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> page(GridProjection grid, List<String> selected, Object afterKey, int limit) {
+        TypedQuery<Tuple> query = query(grid, selected, Map.of(), null, null, afterKey != null)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(limit);
+        if (afterKey != null) {
+            query.setParameter("afterKey", afterKey);
+        }
+        List<Object[]> rows = new ArrayList<>(limit);
+        for (Tuple tuple : query.getResultList()) {
+            rows.add(tuple.toArray());
+        }
+        return rows;
+    }
+
+    /**
+     * Vehicle variants are listed from the catalog snapshot when it is readable, so they are projected in memory;
+     * the database is only queried while the snapshot is unavailable or stale.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAllVariants(String fields) {
+        List<String> selected = resolve(GridProjection.VEHICLE_VARIANTS, fields);
+        return catalogSnapshotService.readable()
+                .map(snapshot -> {
+                    List<VehicleVariant> variants = snapshot.variants();
+                    List<Map<String, Object>> rows = new ArrayList<>(variants.size());
+                    for (VehicleVariant variant : variants) {
+                        BeanWrapper bean = PropertyAccessorFactory.forBeanPropertyAccess(variant);
+                        Map<String, Object> row = new LinkedHashMap<>(selected.size() * 2);
+                        for (String field : selected) {
+                            // Expressions are "v." plus a property path; a missing model reads as null
+                            String path = GridProjection.VEHICLE_VARIANTS.fields().get(field).substring(2);
+                            row.put(field, bean.isReadableProperty(path) ? bean.getPropertyValue(path) : null);
+                        }
+                        rows.add(row);
+                    }
+                    return rows;
+                })
+                .orElseGet(() -> findAll(GridProjection.VEHICLE_VARIANTS, fields));
+    }
+
+    /**
+     * The fields to select, key first and without duplicates; unknown names are rejected with the allowed ones.
+     */
+    public List<String> resolve(GridProjection grid, String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new IllegalArgumentException("fields cannot be empty");
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add(grid.keyField());
+        if (DEFAULT_FIELDS.equals(fields.trim())) {
+            selected.addAll(grid.defaultFields());
+            return new ArrayList<>(selected);
+        }
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!name.isEmpty()) {
+                expression(grid, name);
+                selected.add(name);
+            }
+        }
+        return new ArrayList<>(selected);
+    }
+
+    /**
+     * Selects {@code selected} where each field equals its value in {@code equalTo}, when {@code changedXid} is
+     * given that transaction ID was not visible in {@code since}, and with {@code afterKey} the key is after the
+     * {@code :afterKey} parameter.
+     */
+    private TypedQuery<Tuple> query(GridProjection grid, List<String> selected, Map<String, Object> equalTo,
+                                    String changedXid, TransactionSnapshot since, boolean afterKey) {
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        for (int i = 0; i < selected.size(); i++) {
+            String field = selected.get(i);
+            jpql.append(i > 0 ? ", " : "").append(expression(grid, field)).append(" AS ").append(field);
+        }
+        jpql.append(" FROM ").append(grid.from());
+        List<String> filters = new ArrayList<>(equalTo.keySet());
+        for (int i = 0; i < filters.size(); i++) {
+            jpql.append(i == 0 ? " WHERE " : " AND ").append(expression(grid, filters.get(i))).append(" = :p").append(i);
+        }
+        boolean where = !filters.isEmpty();
+        if (changedXid != null) {
+            jpql.append(where ? " AND " : " WHERE ").append("(").append(changedXid).append(" >= :xmax");
+            if (!since.inProgress().isEmpty()) {
+                jpql.append(" OR ").append(changedXid).append(" IN :inProgress");
+            }
+            jpql.append(")");
+            where = true;
+        }
+        String key = grid.fields().get(grid.keyField());
+        if (afterKey) {
+            jpql.append(where ? " AND " : " WHERE ").append(key).append(" > :afterKey");
+        }
+        jpql.append(" ORDER BY ").append(key);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        for (int i = 0; i < filters.size(); i++) {
+            query.setParameter("p" + i, equalTo.get(filters.get(i)));
+        }
+        if (changedXid != null) {
+            query.setParameter("xmax", since.xmax());
+            if (!since.inProgress().isEmpty()) {
+                query.setParameter("inProgress", since.inProgress());
+            }
+        }
+        return query;
+    }
+
+    private static Map<String, Object> row(Tuple tuple, List<String> selected) {
+        Map<String, Object> row = new LinkedHashMap<>(selected.size() * 2);
+        for (String field : selected) {
+            row.put(field, tuple.get(field));
+        }
+        return row;
+    }
+
+    static String expression(GridProjection grid, String field) {
+        String expression = grid.fields().get(field);
+        if (expression == null) {
+            throw new IllegalArgumentException("Unknown field '" + field + "'; allowed fields are "
+                    + String.join(", ", grid.fields().keySet()));
+        }
+        return expression;
+    }
+}
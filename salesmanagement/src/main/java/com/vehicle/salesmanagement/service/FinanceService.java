@@ -9,6 +9,7 @@ import com.vehicle.salesmanagement.enums.FinanceStatus;
 import com.vehicle.salesmanagement.enums.OrderStatus;
 import com.vehicle.salesmanagement.repository.FinanceDetailsRepository;
 import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "salesmanagement.service", histogram = true)
 public class FinanceService {
 
     private final FinanceDetailsRepository financeDetailsRepository;
@@ -49,6 +51,20 @@ public class FinanceService {
         return mapToFinanceResponse(financeDetails, orderDetails);
     }
 
+    /**
+     * Removes a finance record the parent workflow refused, so finance can be initiated again once it is ready.
+     * Records that have already been approved or rejected are left alone.
+     */
+    @Transactional
+    public void discardPendingFinanceDetails(String customerOrderId) {
+        FinanceDetails financeDetails = financeDetailsRepository.findByCustomerOrderId(customerOrderId);
+        if (financeDetails == null || financeDetails.getFinanceStatus() != FinanceStatus.PENDING) {
+            return;
+        }
+        log.info("Discarding pending finance details for order ID: {}", customerOrderId);
+        financeDetailsRepository.delete(financeDetails);
+    }
+
     @Transactional(readOnly = true)
     public FinanceResponse getFinanceDetails(String customerOrderId) {
         log.info("Retrieving finance details for order ID: {}", customerOrderId);
@@ -0,0 +1,151 @@
+package com.vehicle.salesmanagement.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Serves {@code aggregate=} on the grids: Kendo aggregates over a {@link GridProjection}, computed by one
+ * {@code GROUP BY} query so that totals never need the rows themselves. {@code aggregate=quantity:sum,quantity:max}
+ * yields {@code aggregateResults} shaped as the Kendo DataSource expects, {@code {"quantity":{"sum":..,"max":..}}};
+ * with {@code group=modelName} it is a list of {@code {"field","value","aggregates"}} entries, one per model.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GridAggregateService {
+
+    /**
+     * Kendo aggregate names and the JPQL they become. {@code count} counts rows, as Kendo does, not non-null values.
+     */
+    public enum Aggregate {
+        COUNT("count(*)"),
+        SUM("sum(%s)"),
+        MIN("min(%s)"),
+        MAX("max(%s)"),
+        AVERAGE("avg(%s)");
+
+        private final String jpql;
+
+        Aggregate(String jpql) {
+            this.jpql = jpql;
+        }
+
+        String jpql(String expression) {
+            return jpql.formatted(expression);
+        }
+
+        public String kendoName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Aggregate of(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown aggregate '" + name + "'; aggregates are "
+                        + Arrays.stream(values()).map(Aggregate::kendoName).collect(Collectors.joining(", ")));
+            }
+        }
+    }
+
+    /**
+     * What an aggregate request computed: {@code results} for {@code aggregateResults}, and the number of rows they
+     * cover.
+     */
+    public record Result(Object results, long rows) {
+    }
+
+    private final EntityManager entityManager;
+
+    /**
+     * Aggregates over every row of the grid, grouped by {@code group} when given. {@code aggregate} is a comma
+     * separated list of {@code field:aggregate} pairs.
+     */
+    @Transactional(readOnly = true)
+    public Result aggregate(GridProjection grid, String aggregate, String group) {
+        Map<String, Set<Aggregate>> requested = parse(grid, aggregate);
+        String groupExpression = group != null ? FieldProjectionService.expression(grid, group.trim()) : null;
+
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        if (groupExpression != null) {
+            jpql.append(groupExpression).append(", ");
+        }
+        jpql.append("count(*)");
+        requested.forEach((field, aggregates) -> aggregates.forEach(fn ->
+                jpql.append(", ").append(fn.jpql(FieldProjectionService.expression(grid, field)))));
+        jpql.append(" FROM ").append(grid.from());
+        if (groupExpression != null) {
+            jpql.append(" GROUP BY ").append(groupExpression).append(" ORDER BY ").append(groupExpression);
+        }
+
+        List<Tuple> tuples = entityManager.createQuery(jpql.toString(), Tuple.class).getResultList();
+        if (groupExpression == null) {
+            Tuple totals = tuples.get(0);
+            log.debug("Aggregated {} over {} {} rows", requested, totals.get(0), grid);
+            return new Result(results(totals, requested, 1), ((Number) totals.get(0)).longValue());
+        }
+
+        List<Map<String, Object>> groups = new ArrayList<>(tuples.size());
+        long rows = 0;
+        for (Tuple tuple : tuples) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("field", group.trim());
+            entry.put("value", tuple.get(0));
+            entry.put("aggregates", results(tuple, requested, 2));
+            groups.add(entry);
+            rows += ((Number) tuple.get(1)).longValue();
+        }
+        log.debug("Aggregated {} over {} {} rows in {} groups of {}", requested, rows, grid, groups.size(), group);
+        return new Result(groups, rows);
+    }
+
+    /**
+     * Reads the aggregate columns, which follow the group and row count columns in the order they were requested.
+     */
+    private static Map<String, Map<String, Object>> results(Tuple tuple, Map<String, Set<Aggregate>> requested, int first) {
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        int column = first;
+        for (Map.Entry<String, Set<Aggregate>> entry : requested.entrySet()) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (Aggregate fn : entry.getValue()) {
+                values.put(fn.kendoName(), tuple.get(column++));
+            }
+            results.put(entry.getKey(), values);
+        }
+        return results;
+    }
+
+    private static Map<String, Set<Aggregate>> parse(GridProjection grid, String aggregate) {
+        if (aggregate == null || aggregate.isBlank()) {
+            throw new IllegalArgumentException("aggregate cannot be empty; use field:aggregate pairs such as quantity:sum");
+        }
+        Map<String, Set<Aggregate>> requested = new LinkedHashMap<>();
+        for (String pair : aggregate.split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            int colon = pair.indexOf(':');
+            if (colon < 0) {
+                throw new IllegalArgumentException("Invalid aggregate '" + pair.trim() + "'; expected field:aggregate");
+            }
+            String field = pair.substring(0, colon).trim();
+            FieldProjectionService.expression(grid, field);
+            requested.computeIfAbsent(field, key -> new LinkedHashSet<>()).add(Aggregate.of(pair.substring(colon + 1)));
+        }
+        return requested;
+    }
+}
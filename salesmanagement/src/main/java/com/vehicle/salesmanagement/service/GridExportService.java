@@ -0,0 +1,86 @@
+package com.vehicle.salesmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.salesmanagement.config.ExportProperties;
+import com.vehicle.salesmanagement.export.ExportFormat;
+import com.vehicle.salesmanagement.export.RowWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams a whole grid to an output stream for exports. Rows are read in keyset pages of {@code pageSize} as
+ * projected values, never as entities, and each page is written before the next is read, so memory stays flat
+ * however large the grid is. Every page is its own short read-only transaction, so a slow client holds no pooled
+ * connection while the response drains; the export is therefore not one consistent snapshot, but every row is
+ * written exactly once in key order.
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(ExportProperties.class)
+public class GridExportService {
+
+    private final FieldProjectionService fieldProjectionService;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties exportProperties;
+
+    public GridExportService(FieldProjectionService fieldProjectionService, ObjectMapper objectMapper,
+                             ExportProperties exportProperties) {
+        this.fieldProjectionService = fieldProjectionService;
+        this.objectMapper = objectMapper;
+        this.exportProperties = exportProperties;
+    }
+
+    /**
+     * Columns of the export: the requested fields as for {@code fields=} on the grid, or every field of the grid.
+     * The key is always among them, since the pages are read after the last key written.
+     */
+    public List<String> columns(GridProjection grid, String fields) {
+        return fields == null ? new ArrayList<>(grid.fields().keySet()) : fieldProjectionService.resolve(grid, fields);
+    }
+
+    /**
+     * Writes every row of the grid, ordered by key, and returns the number of rows. The target stream is flushed
+     * but not closed.
+     */
+    public long export(GridProjection grid, List<String> columns, ExportFormat format, boolean gzip, OutputStream out)
+            throws IOException {
+        int keyIndex = columns.indexOf(grid.keyField());
+        if (keyIndex < 0) {
+            throw new IllegalArgumentException("Export columns must include the key field " + grid.keyField());
+        }
+        long start = System.nanoTime();
+        int pageSize = exportProperties.getPageSize();
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(out, exportProperties.getBufferSize()) : null;
+        OutputStream target = new BufferedOutputStream(gzipStream != null ? gzipStream : out, exportProperties.getBufferSize());
+        RowWriter writer = format.open(target, columns, objectMapper);
+        long rows = 0;
+        Object lastKey = null;
+        List<Object[]> page;
+        do {
+            page = fieldProjectionService.page(grid, columns, lastKey, pageSize);
+            for (Object[] row : page) {
+                writer.write(row);
+            }
+            rows += page.size();
+            if (!page.isEmpty()) {
+                lastKey = page.get(page.size() - 1)[keyIndex];
+            }
+        } while (page.size() == pageSize);
+        writer.finish();
+        target.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        log.info("Exported {} {} rows as {}{} in {} ms", rows, grid, format, gzip ? " (gzip)" : "",
+                (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+}
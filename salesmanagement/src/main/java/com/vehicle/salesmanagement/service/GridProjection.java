@@ -0,0 +1,230 @@
+package com.vehicle.salesmanagement.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Fields each list endpoint can return under {@code fields=}, as JPQL select expressions over the grid's
+ * {@code from} clause. Field names match the properties of the endpoint's full response, so a projected row has the
+ * same keys, only fewer of them; an entity reference is flattened to its ID. Only fields the full response already
+ * exposes are listed, so a projection can never return more than the endpoint did.
+ * <p>
+ * The first field is the row key and is always returned. {@link #defaultFields()} are the columns the grid shows,
+ * requested with {@code fields=default}. {@link #changes()} names the table whose tombstones belong to the grid and
+ * the {@code updatedXid} expressions that mark a row changed, for {@code since=} refreshes; a grid that joins another
+ * table lists that table's {@code updatedXid} too, since a change there changes the joined columns.
+ */
+public enum GridProjection {
+
+    VEHICLE_ORDERS("VehicleOrderDetails o", changes("vehicle_order_details", "o.updatedXid"), fields(
+            "customerOrderId", "o.customerOrderId",
+            "customerName", "o.customerName",
+            "modelName", "o.modelName",
+            "quantity", "o.quantity",
+            "variant", "o.variant",
+            "orderStatus", "o.orderStatus",
+            "expectedDeliveryDate", "o.expectedDeliveryDate"),
+            List.of("customerOrderId", "customerName", "modelName", "variant", "orderStatus")),
+
+    STOCK_DETAILS("StockDetails s", changes("stock_details", "s.updatedXid"), fields(
+            "stockId", "s.stockId",
+            "vehicleModelId", "s.vehicleModelId.vehicleModelId",
+            "vehicleVariantId", "s.vehicleVariantId.vehicleVariantId",
+            "modelName", "s.modelName",
+            "variant", "s.variant",
+            "suffix", "s.suffix",
+            "colour", "s.colour",
+            "engineColour", "s.engineColour",
+            "interiorColour", "s.interiorColour",
+            "fuelType", "s.fuelType",
+            "transmissionType", "s.transmissionType",
+            "quantity", "s.quantity",
+            "stockStatus", "s.stockStatus",
+            "stockArrivalDate", "s.stockArrivalDate"),
+            List.of("stockId", "modelName", "variant", "colour", "quantity", "stockStatus")),
+
+    FINANCE_DETAILS("FinanceDetails f", changes("finance_details", "f.updatedXid"), fields(
+            "financeId", "f.financeId",
+            "customerOrderId", "f.customerOrderId",
+            "customerName", "f.customerName",
+            "financeStatus", "f.financeStatus",
+            "approvedBy", "f.approvedBy",
+            "rejectedBy", "f.rejectedBy"),
+            List.of("financeId", "customerOrderId", "customerName", "financeStatus")),
+
+    // Order columns come from an entity join instead of the per-row order lookup of the full listing
+    DISPATCH_DETAILS("DispatchDetails d LEFT JOIN VehicleOrderDetails o ON o.customerOrderId = d.customerOrderId",
+            changes("dispatch_details", "d.updatedXid", "o.updatedXid"), fields(
+            "dispatchId", "d.dispatchId",
+            "customerOrderId", "d.customerOrderId",
+            "customerName", "d.customerName",
+            "dispatchStatus", "d.dispatchStatus",
+            "orderStatus", "o.orderStatus",
+            "modelName", "o.modelName",
+            "variant", "o.variant",
+            "dispatchDate", "d.dispatchDate",
+            "dispatchedBy", "d.dispatchedBy"),
+            List.of("dispatchId", "customerOrderId", "customerName", "dispatchStatus", "dispatchDate")),
+
+    DELIVERY_DETAILS("DeliveryDetails d LEFT JOIN VehicleOrderDetails o ON o.customerOrderId = d.customerOrderId",
+            changes("delivery_details", "d.updatedXid", "o.updatedXid"), fields(
+            "deliveryId", "d.deliveryId",
+            "customerOrderId", "d.customerOrderId",
+            "customerName", "d.customerName",
+            "deliveryStatus", "d.deliveryStatus",
+            "orderStatus", "o.orderStatus",
+            "modelName", "o.modelName",
+            "variant", "o.variant",
+            "deliveryDate", "d.deliveryDate",
+            "deliveredBy", "d.deliveredBy",
+            "recipientName", "d.recipientName"),
+            List.of("deliveryId", "customerOrderId", "customerName", "deliveryStatus", "deliveryDate")),
+
+    MDDP_STOCK("MddpStock m", changes("mddp_stock", "m.updatedXid"), fields(
+            "mddpId", "m.mddpId",
+            "vehicleModelId", "m.vehicleModelId.vehicleModelId",
+            "vehicleVariantId", "m.vehicleVariantId.vehicleVariantId",
+            "modelName", "m.modelName",
+            "variant", "m.variant",
+            "suffix", "m.suffix",
+            "colour", "m.colour",
+            "engineColour", "m.engineColour",
+            "interiorColour", "m.interiorColour",
+            "fuelType", "m.fuelType",
+            "transmissionType", "m.transmissionType",
+            "quantity", "m.quantity",
+            "stockStatus", "m.stockStatus",
+            "expectedDispatchDate", "m.expectedDispatchDate",
+            "expectedDeliveryDate", "m.expectedDeliveryDate",
+            "stockArrivalDate", "m.stockArrivalDate"),
+            List.of("mddpId", "modelName", "variant", "colour", "quantity", "expectedDeliveryDate")),
+
+    MANUFACTURER_ORDERS("ManufacturerOrder mo", changes("manufacturer_order", "mo.updatedXid"), fields(
+            "manufacturerId", "mo.manufacturerId",
+            "vehicleVariantId", "mo.vehicleVariantId.vehicleVariantId",
+            "manufacturerLocation", "mo.manufacturerLocation",
+            "orderStatus", "mo.orderStatus",
+            "estimatedArrivalDate", "mo.estimatedArrivalDate",
+            "modelName", "mo.modelName",
+            "variant", "mo.variant",
+            "suffix", "mo.suffix",
+            "colour", "mo.colour",
+            "engineColour", "mo.engineColour",
+            "interiorColour", "mo.interiorColour",
+            "fuelType", "mo.fuelType",
+            "transmissionType", "mo.transmissionType"),
+            List.of("manufacturerId", "modelName", "variant", "manufacturerLocation", "orderStatus", "estimatedArrivalDate")),
+
+    // Plain attribute paths on v, so the same fields can also be read from the in-memory catalog snapshot.
+    // Variants are not change-tracked; the catalog snapshot already serves their refreshes
+    VEHICLE_VARIANTS("VehicleVariant v", null, fields(
+            "vehicleVariantId", "v.vehicleVariantId",
+            "vehicleModelId", "v.vehicleModelId.vehicleModelId",
+            "modelName", "v.modelName",
+            "variant", "v.variant",
+            "suffix", "v.suffix",
+            "safetyFeature", "v.safetyFeature",
+            "engineColour", "v.engineColour",
+            "colour", "v.colour",
+            "interiorColour", "v.interiorColour",
+            "transmissionType", "v.transmissionType",
+            "engineCapacity", "v.engineCapacity",
+            "fuelType", "v.fuelType",
+            "price", "v.price",
+            "yearOfManufacture", "v.yearOfManufacture",
+            "bodyType", "v.bodyType",
+            "fuelTankCapacity", "v.fuelTankCapacity",
+            "seatingCapacity", "v.seatingCapacity",
+            "maxPower", "v.maxPower",
+            "maxTorque", "v.maxTorque",
+            "topSpeed", "v.topSpeed",
+            "wheelBase", "v.wheelBase",
+            "width", "v.width",
+            "length", "v.length",
+            "infotainment", "v.infotainment",
+            "comfort", "v.comfort",
+            "numberOfAirBags", "v.numberOfAirBags",
+            "mileageCity", "v.mileageCity",
+            "mileageHighway", "v.mileageHighway",
+            "maxPowerBhp", "v.maxPowerBhp",
+            "topSpeedKmph", "v.topSpeedKmph",
+            "wheelBaseMm", "v.wheelBaseMm",
+            "widthMm", "v.widthMm",
+            "lengthMm", "v.lengthMm"),
+            List.of("vehicleVariantId", "modelName", "variant", "suffix", "fuelType", "transmissionType", "price"));
+
+    /**
+     * The table whose deletes are tombstoned for the grid, and the {@code updatedXid} expressions that mark a row
+     * changed.
+     */
+    public record Changes(String table, List<String> updatedXid) {
+    }
+
+    private final String from;
+    private final Changes changes;
+    private final Map<String, String> fields;
+    private final List<String> defaultFields;
+
+    GridProjection(String from, Changes changes, Map<String, String> fields, List<String> defaultFields) {
+        this.from = from;
+        this.changes = changes;
+        this.fields = fields;
+        this.defaultFields = defaultFields;
+    }
+
+    /**
+     * The grid for a name such as {@code vehicle-orders} or {@code STOCK_DETAILS}.
+     */
+    public static GridProjection of(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown grid '" + name + "'; grids are " + Arrays.stream(values())
+                    .map(grid -> grid.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    public String from() {
+        return from;
+    }
+
+    /**
+     * Field name to JPQL select expression, key first.
+     */
+    public Map<String, String> fields() {
+        return fields;
+    }
+
+    public List<String> defaultFields() {
+        return defaultFields;
+    }
+
+    public String keyField() {
+        return fields.keySet().iterator().next();
+    }
+
+    /**
+     * Change tracking of the grid; empty when the grid does not support {@code since=}.
+     */
+    public Optional<Changes> changes() {
+        return Optional.ofNullable(changes);
+    }
+
+    private static Changes changes(String table, String... updatedXid) {
+        return new Changes(table, List.of(updatedXid));
+    }
+
+    private static Map<String, String> fields(String... namesAndExpressions) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndExpressions.length; i += 2) {
+            fields.put(namesAndExpressions[i], namesAndExpressions[i + 1]);
+        }
+        return fields;
+    }
+}
@@ -3,7 +3,9 @@ package com.vehicle.salesmanagement.service;
 import com.vehicle.salesmanagement.domain.entity.model.*;
 import com.vehicle.salesmanagement.enums.FinanceStatus;
 import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.profiling.HistoryWriteEvent;
 import com.vehicle.salesmanagement.repository.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,6 +16,7 @@ import java.time.LocalDateTime;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "salesmanagement.service", histogram = true)
 public class HistoryService {
 
     private final VehicleOrderDetailsHistoryRepository orderHistoryRepository;
@@ -22,6 +25,7 @@ public class HistoryService {
     private final DeliveryDetailsHistoryRepository deliveryHistoryRepository;
     private final StockDetailsHistoryRepository stockDetailsHistoryRepository;
 
+    @Timed(value = "salesmanagement.history.write", extraTags = {"history", "order"}, histogram = true)
     @Transactional
     public void saveOrderHistory(VehicleOrderDetails orderDetails, String updatedBy, OrderStatus newStatus) {
         log.info("Saving history for VehicleOrderDetails with ID: {}",
@@ -57,10 +61,11 @@ public class HistoryService {
         String expectedDeliveryDate = orderDetails.getExpectedDeliveryDate();
         history.setExpectedDeliveryDate(expectedDeliveryDate);
 
-        orderHistoryRepository.save(history);
+        recordWrite("order", orderDetails.getCustomerOrderId(), () -> orderHistoryRepository.save(history));
         log.info("VehicleOrderDetailsHistory saved for order ID: {}", orderDetails.getCustomerOrderId());
     }
 
+    @Timed(value = "salesmanagement.history.write", extraTags = {"history", "finance"}, histogram = true)
     @Transactional
     public void saveFinanceHistory(FinanceDetails financeDetails, String updatedBy, FinanceStatus newStatus) {
         log.info("Saving history for FinanceDetails with ID: {}", financeDetails.getFinanceId());
@@ -74,10 +79,11 @@ public class HistoryService {
         history.setChangedAt(LocalDateTime.now());
         history.setFinanceStatusHistory(String.format("Finance status changed from %s to %s at %s",
                 financeDetails.getFinanceStatus().name(), newStatus.name(), history.getChangedAt()));
-        financeHistoryRepository.save(history);
+        recordWrite("finance", financeDetails.getFinanceId(), () -> financeHistoryRepository.save(history));
         log.info("FinanceDetailsHistory saved for finance ID: {}", financeDetails.getFinanceId());
     }
 
+    @Timed(value = "salesmanagement.history.write", extraTags = {"history", "dispatch"}, histogram = true)
     @Transactional
     public void saveDispatchHistory(DispatchDetails dispatchDetails, String updatedBy) {
         log.info("Saving history for DispatchDetails with ID: {}", dispatchDetails.getDispatchId());
@@ -90,10 +96,11 @@ public class HistoryService {
         history.setDispatchedBy(dispatchDetails.getDispatchedBy());
         history.setChangedAt(LocalDateTime.now());
         history.setDispatchStatusHistory("Dispatch status changed to: " + dispatchDetails.getDispatchStatus().name() + " at " + history.getChangedAt());
-        dispatchHistoryRepository.save(history);
+        recordWrite("dispatch", dispatchDetails.getDispatchId(), () -> dispatchHistoryRepository.save(history));
         log.info("DispatchDetailsHistory saved for dispatch ID: {}", dispatchDetails.getDispatchId());
     }
 
+    @Timed(value = "salesmanagement.history.write", extraTags = {"history", "delivery"}, histogram = true)
     @Transactional
     public void saveDeliveryHistory(DeliveryDetails deliveryDetails, String updatedBy) {
         log.info("Saving history for DeliveryDetails with ID: {}", deliveryDetails.getDeliveryId());
@@ -105,12 +112,14 @@ public class HistoryService {
         history.setDeliveryDate(deliveryDetails.getDeliveryDate());
         history.setDeliveredBy(deliveryDetails.getDeliveredBy());
         history.setRecipientName(deliveryDetails.getRecipientName());
-        history.setDeliveryStatusHistory("Dispatch status changed to: " + deliveryDetails.getDeliveryStatus().name() + " at " );
+        history.setChangedAt(LocalDateTime.now());
+        history.setDeliveryStatusHistory("Dispatch status changed to: " + deliveryDetails.getDeliveryStatus().name() + " at " + history.getChangedAt());
 
-        deliveryHistoryRepository.save(history);
+        recordWrite("delivery", deliveryDetails.getDeliveryId(), () -> deliveryHistoryRepository.save(history));
         log.info("DeliveryDetailsHistory saved for delivery ID: {}", deliveryDetails.getDeliveryId());
     }
 
+    @Timed(value = "salesmanagement.history.write", extraTags = {"history", "stock"}, histogram = true)
     @Transactional
     public void saveStockHistory(StockDetails stock, String historyMessage) {
         StockDetailsHistory history = new StockDetailsHistory();
@@ -131,6 +140,21 @@ public class HistoryService {
        // history.setVinNumber(stock.getVinNumber());
         history.setStockArrivalDate(stock.getStockArrivalDate());
         history.setStockHistory(historyMessage);
-        stockDetailsHistoryRepository.save(history);
+        recordWrite("stock", stock.getStockId(), () -> stockDetailsHistoryRepository.save(history));
+    }
+
+    private void recordWrite(String historyType, Object entityId, Runnable write) {
+        HistoryWriteEvent event = new HistoryWriteEvent();
+        event.begin();
+        try {
+            write.run();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.historyType = historyType;
+                event.entityId = String.valueOf(entityId);
+                event.commit();
+            }
+        }
     }
 }
\ No newline at end of file
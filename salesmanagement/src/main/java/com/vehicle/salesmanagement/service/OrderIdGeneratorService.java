@@ -1,7 +1,9 @@
 package com.vehicle.salesmanagement.service;
 
 import com.vehicle.salesmanagement.domain.entity.model.OrderIdSequence;
+import com.vehicle.salesmanagement.profiling.OrderIdGenerationEvent;
 import com.vehicle.salesmanagement.repository.OrderIdSequenceRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -11,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Year;
 
 @Service
+@Timed(value = "salesmanagement.service", histogram = true)
 public class OrderIdGeneratorService {
 
     private static final String PREFIX = "TYT";
@@ -22,8 +25,25 @@ public class OrderIdGeneratorService {
     @Autowired
     private EntityManager entityManager;
 
+    @Timed(value = "salesmanagement.order_id.generation", histogram = true)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public String generateCustomerOrderId() {
+        OrderIdGenerationEvent event = new OrderIdGenerationEvent();
+        event.begin();
+        String customerOrderId = null;
+        try {
+            customerOrderId = nextCustomerOrderId();
+            return customerOrderId;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.customerOrderId = customerOrderId;
+                event.commit();
+            }
+        }
+    }
+
+    private String nextCustomerOrderId() {
         String currentYear = String.valueOf(Year.now().getValue());
         OrderIdSequence sequence = sequenceRepository.findByYearWithLock(currentYear);
 
@@ -0,0 +1,92 @@
+package com.vehicle.salesmanagement.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.vehicle.salesmanagement.archive.ArchivedOrder;
+import com.vehicle.salesmanagement.archive.OrderArchiveStore;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderTimelineEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serves an order's status and timeline for IDs that may have been moved to the cold archive: the hot tables are
+ * read first, the archive only when the order is no longer there.
+ */
+@Slf4j
+@Service
+public class OrderLookupService {
+
+    private record TimelineSource(String table, String stage, String statusColumn, String descriptionColumn) {
+    }
+
+    private static final List<TimelineSource> TIMELINE_SOURCES = List.of(
+            new TimelineSource("vehicle_order_details_history", "ORDER", "order_status", "order_status_history"),
+            new TimelineSource("finance_details_history", "FINANCE", "finance_status", "finance_status_history"),
+            new TimelineSource("dispatch_details_history", "DISPATCH", "dispatch_status", "dispatch_status_history"),
+            new TimelineSource("delivery_details_history", "DELIVERY", "delivery_status", "delivery_status_history"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderArchiveStore orderArchiveStore;
+    private final ObjectMapper archiveRowMapper;
+
+    public OrderLookupService(JdbcTemplate jdbcTemplate, OrderArchiveStore orderArchiveStore, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderArchiveStore = orderArchiveStore;
+        // Archived rows are keyed by column name
+        this.archiveRowMapper = objectMapper.copy()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    public Optional<OrderResponse> findArchivedOrder(String customerOrderId) {
+        return orderArchiveStore.find(customerOrderId).map(archived -> {
+            OrderResponse response = archiveRowMapper.convertValue(archived.order(), OrderResponse.class);
+            response.setMessage("Order is archived");
+            return response;
+        });
+    }
+
+    /**
+     * Status changes of the order across all workflow stages, oldest first; empty when the ID is unknown.
+     */
+    @Transactional(readOnly = true)
+    public List<OrderTimelineEntry> getTimeline(String customerOrderId) {
+        List<OrderTimelineEntry> timeline = new ArrayList<>();
+        for (TimelineSource source : TIMELINE_SOURCES) {
+            timeline.addAll(jdbcTemplate.query(
+                    "SELECT changed_at, " + source.statusColumn() + ", " + source.descriptionColumn()
+                            + " FROM sales_tracking." + source.table() + " WHERE customer_order_id = ?",
+                    (rs, rowNum) -> new OrderTimelineEntry(rs.getTimestamp(1).toLocalDateTime(), source.stage(),
+                            rs.getString(2), rs.getString(3)),
+                    customerOrderId));
+        }
+        if (timeline.isEmpty()) {
+            orderArchiveStore.find(customerOrderId).ifPresent(archived -> timeline.addAll(archivedTimeline(archived)));
+        }
+        timeline.sort(Comparator.comparing(OrderTimelineEntry::getChangedAt));
+        return timeline;
+    }
+
+    private List<OrderTimelineEntry> archivedTimeline(ArchivedOrder archived) {
+        List<OrderTimelineEntry> timeline = new ArrayList<>();
+        for (TimelineSource source : TIMELINE_SOURCES) {
+            for (Map<String, Object> row : archived.rows(source.table())) {
+                timeline.add(new OrderTimelineEntry(
+                        archiveRowMapper.convertValue(row.get("changed_at"), LocalDateTime.class), source.stage(),
+                        (String) row.get(source.statusColumn()), (String) row.get(source.descriptionColumn())));
+            }
+        }
+        return timeline;
+    }
+}
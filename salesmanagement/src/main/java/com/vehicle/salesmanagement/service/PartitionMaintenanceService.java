@@ -0,0 +1,87 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.config.PartitionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+
+/**
+ * Keeps the range partitions of {@code vehicle_order_details} (by order year) and the history tables (by month)
+ * created ahead of the rows that will land in them, and drops history partitions past retention.
+ * <p>
+ * The work is done by the SQL functions from {@code V3__partition_orders_and_history.sql}, which take an advisory
+ * lock, so every node can run this without coordinating. Rows arriving for a range that was not prepared go to the
+ * table's DEFAULT partition rather than failing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PartitionProperties.class)
+public class PartitionMaintenanceService {
+
+    public static final List<String> HISTORY_TABLES = List.of("vehicle_order_details_history",
+            "stock_details_history", "finance_details_history", "dispatch_details_history", "delivery_details_history");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionProperties partitionProperties;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${salesmanagement.partitions.maintenance-interval-ms:3600000}")
+    public void maintain() {
+        if (!partitionProperties.isEnabled()) {
+            return;
+        }
+        try {
+            LocalDate month = LocalDate.now().withDayOfMonth(1);
+            int year = Year.now().getValue();
+
+            int created = createOrderPartitions(year, year + partitionProperties.getOrderYearsAhead());
+            for (String table : HISTORY_TABLES) {
+                created += createHistoryPartitions(table, month, month.plusMonths(partitionProperties.getHistoryMonthsAhead()));
+            }
+
+            int dropped = 0;
+            if (partitionProperties.getHistoryRetentionMonths() > 0) {
+                LocalDate cutoff = month.minusMonths(partitionProperties.getHistoryRetentionMonths());
+                for (String table : HISTORY_TABLES) {
+                    dropped += dropHistoryPartitionsBefore(table, cutoff);
+                }
+            }
+            if (created > 0 || dropped > 0) {
+                log.info("Partition maintenance created {} and dropped {} partitions", created, dropped);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Partition maintenance failed, rows outside prepared ranges go to DEFAULT partitions: {}",
+                    e.getMessage());
+        }
+    }
+
+    public int createOrderPartitions(int firstYear, int lastYear) {
+        return call("SELECT sales_tracking.create_order_year_partitions(?, ?)", firstYear, lastYear);
+    }
+
+    public int createHistoryPartitions(String table, LocalDate firstMonth, LocalDate lastMonth) {
+        return call("SELECT sales_tracking.create_monthly_partitions(?, ?, ?)",
+                table, Date.valueOf(firstMonth), Date.valueOf(lastMonth));
+    }
+
+    /**
+     * Drops the monthly partitions of {@code table} that end on or before {@code cutoff}.
+     */
+    public int dropHistoryPartitionsBefore(String table, LocalDate cutoff) {
+        return call("SELECT sales_tracking.drop_monthly_partitions_before(?, ?)", table, Date.valueOf(cutoff));
+    }
+
+    private int call(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.vehicle.salesmanagement.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A Postgres transaction snapshot as printed by {@code pg_current_snapshot()::text}, {@code xmin:xmax:xip1,xip2}:
+ * every transaction below {@code xmax} and not in {@code inProgress} had committed (or aborted) when it was taken.
+ * A row stamped with {@code updated_xid} therefore became visible after the snapshot exactly when
+ * {@code updated_xid >= xmax} or {@code updated_xid} is in {@code inProgress}, however long its transaction ran.
+ */
+public record TransactionSnapshot(long xmin, long xmax, List<Long> inProgress) {
+
+    public TransactionSnapshot {
+        inProgress = List.copyOf(inProgress);
+    }
+
+    /**
+     * Parses the text form of {@code pg_snapshot}.
+     *
+     * @throws IllegalArgumentException when the text is not a snapshot
+     */
+    public static TransactionSnapshot parse(String text) {
+        String[] parts = text.split(":", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid transaction snapshot '" + text + "'");
+        }
+        List<Long> inProgress = parts[2].isEmpty() ? List.of() : Arrays.stream(parts[2].split(","))
+                .map(Long::parseLong)
+                .toList();
+        return new TransactionSnapshot(Long.parseLong(parts[0]), Long.parseLong(parts[1]), inProgress);
+    }
+
+    /**
+     * Whether the transaction was still running, or not yet started, when the snapshot was taken; the Java form of
+     * the condition the change queries use.
+     */
+    public boolean notVisible(long xid) {
+        return xid >= xmax || inProgress.contains(xid);
+    }
+
+    @Override
+    public String toString() {
+        return xmin + ":" + xmax + ":" + inProgress.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,245 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory k-nearest-neighbour index over vehicle variant specifications.
+ * <p>
+ * Each variant is reduced to a fixed-width feature vector stored row-major in a single {@code double[]},
+ * so a query is a tight linear scan the JIT can vectorise. Min-max normalisation is kept as a per-feature
+ * scale factor applied inside the distance loop; an upsert that widens a feature's range only updates the
+ * scale instead of rewriting every row.
+ */
+@Slf4j
+@Component
+public class VariantSimilarityIndex {
+
+    static final int FEATURES = 11;
+
+    // Contribution of a feature that is missing on either side, i.e. half of the normalised range.
+    private static final double MISSING_PENALTY = 0.25;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> rowById = new HashMap<>();
+    private final double[] min = new double[FEATURES];
+    private final double[] max = new double[FEATURES];
+    private final double[] scale = new double[FEATURES];
+    private long[] ids = new long[16];
+    private double[] vectors = new double[16 * FEATURES];
+    private int size;
+
+    public VariantSimilarityIndex() {
+        resetBounds();
+    }
+
+    public void rebuild(Collection<VehicleVariant> variants) {
+        lock.writeLock().lock();
+        try {
+            rowById.clear();
+            size = 0;
+            resetBounds();
+            for (VehicleVariant variant : variants) {
+                if (variant.getVehicleVariantId() != null) {
+                    put(variant.getVehicleVariantId(), toFeatures(variant));
+                }
+            }
+            log.info("Variant similarity index rebuilt with {} variants", size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsertAll(Collection<VehicleVariant> variants) {
+        lock.writeLock().lock();
+        try {
+            for (VehicleVariant variant : variants) {
+                if (variant.getVehicleVariantId() != null) {
+                    put(variant.getVehicleVariantId(), toFeatures(variant));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(long vehicleVariantId, double[] features) {
+        if (features.length != FEATURES) {
+            throw new IllegalArgumentException("Expected " + FEATURES + " features but got " + features.length);
+        }
+        lock.writeLock().lock();
+        try {
+            put(vehicleVariantId, features);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long vehicleVariantId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.remove(vehicleVariantId);
+            if (row == null) {
+                return;
+            }
+            int last = size - 1;
+            if (row != last) {
+                ids[row] = ids[last];
+                System.arraycopy(vectors, last * FEATURES, vectors, row * FEATURES, FEATURES);
+                rowById.put(ids[row], row);
+            }
+            size = last;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long vehicleVariantId) {
+        lock.readLock().lock();
+        try {
+            return rowById.containsKey(vehicleVariantId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code k} variant ids ordered from most to least similar, excluding the variant itself.
+     * An unknown id yields an empty list.
+     */
+    public List<Long> nearest(long vehicleVariantId, int k) {
+        lock.readLock().lock();
+        try {
+            Integer row = rowById.get(vehicleVariantId);
+            if (row == null || k <= 0) {
+                return Collections.emptyList();
+            }
+            double[] query = Arrays.copyOfRange(vectors, row * FEATURES, (row + 1) * FEATURES);
+            return scan(query, k, row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> nearest(double[] features, int k) {
+        if (features.length != FEATURES) {
+            throw new IllegalArgumentException("Expected " + FEATURES + " features but got " + features.length);
+        }
+        lock.readLock().lock();
+        try {
+            return k <= 0 ? Collections.emptyList() : scan(features, k, -1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> scan(double[] query, int k, int skipRow) {
+        int limit = Math.min(k, skipRow >= 0 ? size - 1 : size);
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        double[] bestDistances = new double[limit];
+        int[] bestRows = new int[limit];
+        Arrays.fill(bestDistances, Double.POSITIVE_INFINITY);
+
+        final double[] data = vectors;
+        final double[] weights = scale;
+        for (int row = 0; row < size; row++) {
+            if (row == skipRow) {
+                continue;
+            }
+            int offset = row * FEATURES;
+            double distance = 0;
+            for (int f = 0; f < FEATURES; f++) {
+                double diff = (data[offset + f] - query[f]) * weights[f];
+                distance += diff == diff ? diff * diff : MISSING_PENALTY;
+            }
+            if (distance < bestDistances[limit - 1]) {
+                int pos = limit - 1;
+                while (pos > 0 && bestDistances[pos - 1] > distance) {
+                    bestDistances[pos] = bestDistances[pos - 1];
+                    bestRows[pos] = bestRows[pos - 1];
+                    pos--;
+                }
+                bestDistances[pos] = distance;
+                bestRows[pos] = row;
+            }
+        }
+
+        List<Long> result = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            result.add(ids[bestRows[i]]);
+        }
+        return result;
+    }
+
+    private void put(long vehicleVariantId, double[] features) {
+        Integer row = rowById.get(vehicleVariantId);
+        if (row == null) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                vectors = Arrays.copyOf(vectors, size * 2 * FEATURES);
+            }
+            row = size++;
+            ids[row] = vehicleVariantId;
+            rowById.put(vehicleVariantId, row);
+        }
+        System.arraycopy(features, 0, vectors, row * FEATURES, FEATURES);
+        for (int f = 0; f < FEATURES; f++) {
+            double value = features[f];
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            if (value < min[f] || value > max[f]) {
+                min[f] = Math.min(min[f], value);
+                max[f] = Math.max(max[f], value);
+                double range = max[f] - min[f];
+                scale[f] = range > 0 ? 1.0 / range : 0.0;
+            }
+        }
+    }
+
+    private void resetBounds() {
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        Arrays.fill(scale, 0.0);
+    }
+
+    static double[] toFeatures(VehicleVariant variant) {
+        return new double[]{
+                toDouble(variant.getPrice()),
+                toDouble(variant.getMileageCity()),
+                toDouble(variant.getMileageHighway()),
+                toDouble(variant.getFuelTankCapacity()),
+                toDouble(variant.getNumberOfAirBags()),
+                toDouble(variant.getSeatingCapacity()),
+                toDouble(variant.getMaxPowerBhp() != null
+                        ? variant.getMaxPowerBhp() : VehicleSpecParser.parsePowerBhp(variant.getMaxPower())),
+                toDouble(variant.getTopSpeedKmph() != null
+                        ? variant.getTopSpeedKmph() : VehicleSpecParser.parseSpeedKmph(variant.getTopSpeed())),
+                toDouble(variant.getWheelBaseMm() != null
+                        ? variant.getWheelBaseMm() : VehicleSpecParser.parseLengthMm(variant.getWheelBase())),
+                toDouble(variant.getWidthMm() != null
+                        ? variant.getWidthMm() : VehicleSpecParser.parseLengthMm(variant.getWidth())),
+                toDouble(variant.getLengthMm() != null
+                        ? variant.getLengthMm() : VehicleSpecParser.parseLengthMm(variant.getLength()))
+        };
+    }
+
+    private static double toDouble(Number value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+}
@@ -1,16 +1,27 @@
 package com.vehicle.salesmanagement.service;
 
 import com.vehicle.salesmanagement.domain.dto.apirequest.*;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.AutocompleteSuggestion;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.KendoGridResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.VehicleAttributesResponse;
 import com.vehicle.salesmanagement.domain.entity.model.*;
 import com.vehicle.salesmanagement.enums.OrderStatus;
 import com.vehicle.salesmanagement.enums.StockStatus;
+import com.vehicle.salesmanagement.profiling.DropdownAggregationEvent;
 import com.vehicle.salesmanagement.repository.*;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -22,6 +33,7 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "salesmanagement.service", histogram = true)
 public class VehicleModelService {
 
     private final VehicleModelRepository vehicleModelRepository;
@@ -30,23 +42,112 @@ public class VehicleModelService {
     private final MddpStockRepository mddpStockRepository;
     private final ManufacturerOrderRepository manufacturerOrderRepository;
     private final FinanceDetailsRepository financeDetailsRepository;
+    private final VariantSimilarityIndex variantSimilarityIndex;
+    private final CatalogAutocompleteIndex catalogAutocompleteIndex;
+    private final CatalogSnapshotService catalogSnapshotService;
 
+    private static final int MAX_SIMILAR_VARIANTS = 50;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmVariantCatalogIndexes() {
+        try {
+            backfillParsedSpecs();
+            Optional<CatalogSnapshot> snapshot = catalogSnapshotService.readable();
+            List<VehicleModel> models = snapshot.map(CatalogSnapshot::models).orElseGet(vehicleModelRepository::findAll);
+            List<VehicleVariant> variants = snapshot.map(CatalogSnapshot::variants).orElseGet(vehicleVariantRepository::findAll);
+            variantSimilarityIndex.rebuild(variants);
+            catalogAutocompleteIndex.rebuild(models, variants);
+        } catch (Exception e) {
+            log.error("Failed to build variant catalog indexes: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Rebuilds both indexes whenever a newer catalog version is mapped, so writes made on other nodes (and deletes,
+     * which no upsert covers) reach this node's autocomplete and similarity lookups.
+     */
+    @EventListener
+    public void onCatalogSnapshotRefreshed(CatalogSnapshotRefreshedEvent event) {
+        try {
+            List<VehicleVariant> variants = event.snapshot().variants();
+            variantSimilarityIndex.rebuild(variants);
+            catalogAutocompleteIndex.rebuild(event.snapshot().models(), variants);
+        } catch (Exception e) {
+            log.error("Failed to rebuild variant catalog indexes for v{}: {}",
+                    event.snapshot().catalogVersion(), e.getMessage(), e);
+        }
+    }
+
+    // Index upserts wait for the commit, so a rolled-back save never leaves phantom entries behind
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void backfillParsedSpecs() {
+        List<VehicleVariant> unparsed = vehicleVariantRepository.findWithUnparsedSpecs();
+        if (unparsed.isEmpty()) {
+            return;
+        }
+        long changed = unparsed.stream().filter(VehicleSpecParser::applyParsedSpecs).count();
+        vehicleVariantRepository.saveAll(unparsed);
+        // Rows the parser cannot read are only stamped as parsed; the catalog itself did not change for them
+        if (changed > 0) {
+            catalogSnapshotService.catalogChanged();
+        }
+        log.info("Backfilled typed spec columns for {} vehicle variants ({} changed)", unparsed.size(), changed);
+    }
+
+    @Transactional(readOnly = true)
     public VehicleAttributesResponse getDropdownData(String modelName, String variant, Long vehicleModelId, Long vehicleVariantId) {
+        DropdownAggregationEvent event = new DropdownAggregationEvent();
+        event.begin();
+        VehicleAttributesResponse response = null;
+        try {
+            response = aggregateDropdownData(modelName, variant, vehicleModelId, vehicleVariantId);
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.modelName = modelName != null ? modelName : String.valueOf(vehicleModelId);
+                event.variant = variant != null ? variant : String.valueOf(vehicleVariantId);
+                event.source = catalogSnapshotService.readable().isPresent() ? "snapshot" : "database";
+                event.modelCount = response != null && response.getModelNames() != null ? response.getModelNames().size() : 0;
+                event.commit();
+            }
+        }
+    }
+
+    private VehicleAttributesResponse aggregateDropdownData(String modelName, String variant, Long vehicleModelId, Long vehicleVariantId) {
         log.info("Fetching dropdown data with filters: modelName={}, variant={}, vehicleModelId={}, vehicleVariantId={} at {}",
                 modelName, variant, vehicleModelId, vehicleVariantId, LocalDateTime.now());
 
         VehicleAttributesResponse response = new VehicleAttributesResponse();
 
         // Step 1: Fetch models
+        // Served from the mapped catalog snapshot when it is current, otherwise from the database
+        Optional<CatalogSnapshot> snapshot = catalogSnapshotService.readable();
         List<VehicleModel> models;
         if (vehicleModelId != null) {
-            models = vehicleModelRepository.findById(vehicleModelId)
+            models = snapshot.map(snap -> snap.model(vehicleModelId))
+                    .orElseGet(() -> vehicleModelRepository.findById(vehicleModelId))
                     .map(Collections::singletonList)
                     .orElse(Collections.emptyList());
         } else if (modelName != null) {
-            models = vehicleModelRepository.findByModelNameIgnoreCase(modelName);
+            models = snapshot.map(snap -> snap.models().stream()
+                            .filter(m -> modelName.equalsIgnoreCase(m.getModelName()))
+                            .collect(Collectors.toList()))
+                    .orElseGet(() -> vehicleModelRepository.findByModelNameIgnoreCase(modelName));
         } else {
-            models = vehicleModelRepository.findAll();
+            models = snapshot.map(CatalogSnapshot::models).orElseGet(vehicleModelRepository::findAll);
         }
 
         // Set model names for the first dropdown
@@ -78,7 +179,22 @@ public class VehicleModelService {
 
         // Step 2: Fetch variants based on selected model
         List<VehicleVariant> variants;
-        if (vehicleVariantId != null) {
+        if (snapshot.isPresent()) {
+            CatalogSnapshot snap = snapshot.get();
+            if (vehicleVariantId != null) {
+                variants = snap.variant(vehicleVariantId)
+                        .map(Collections::singletonList)
+                        .orElse(Collections.emptyList());
+            } else {
+                // Models were already resolved from the snapshot, so their variants are a range scan each
+                variants = models.stream()
+                        .map(VehicleModel::getVehicleModelId)
+                        .filter(Objects::nonNull)
+                        .flatMap(id -> snap.variantsOfModel(id).stream())
+                        .filter(v -> variant == null || modelName == null || variant.equals(v.getVariant()))
+                        .collect(Collectors.toList());
+            }
+        } else if (vehicleVariantId != null) {
             variants = vehicleVariantRepository.findById(vehicleVariantId)
                     .map(Collections::singletonList)
                     .orElse(Collections.emptyList());
@@ -164,10 +280,9 @@ public class VehicleModelService {
 
             // Populate attributes
             attributes.setColours(filteredVariants.stream()
-                    .map(VehicleVariant::getColour)
+                    .map(v -> VehicleSpecParser.splitDisplayValues(v.getColour()))
                     .filter(Objects::nonNull)
-                    .flatMap(colour -> Arrays.stream(colour.split(",\\s*")))
-                    .filter(colour -> !colour.isEmpty())
+                    .flatMap(List::stream)
                     .distinct()
                     .sorted()
                     .collect(Collectors.toList()));
@@ -289,9 +404,7 @@ public class VehicleModelService {
             log.debug("Max torques: {}", attributes.getMaxTorques());
 
             attributes.setTopSpeeds(filteredVariants.stream()
-                    .map(VehicleVariant::getTopSpeed)
-                    .filter(Objects::nonNull)
-                    .map(this::parseInteger)
+                    .map(VehicleVariant::getTopSpeedKmph)
                     .filter(Objects::nonNull)
                     .distinct()
                     .sorted()
@@ -299,9 +412,7 @@ public class VehicleModelService {
             log.debug("Top speeds: {}", attributes.getTopSpeeds());
 
             attributes.setWheelBases(filteredVariants.stream()
-                    .map(VehicleVariant::getWheelBase)
-                    .filter(Objects::nonNull)
-                    .map(this::parseInteger)
+                    .map(VehicleVariant::getWheelBaseMm)
                     .filter(Objects::nonNull)
                     .distinct()
                     .sorted()
@@ -309,9 +420,7 @@ public class VehicleModelService {
             log.debug("Wheel bases: {}", attributes.getWheelBases());
 
             attributes.setWidths(filteredVariants.stream()
-                    .map(VehicleVariant::getWidth)
-                    .filter(Objects::nonNull)
-                    .map(this::parseInteger)
+                    .map(VehicleVariant::getWidthMm)
                     .filter(Objects::nonNull)
                     .distinct()
                     .sorted()
@@ -319,9 +428,7 @@ public class VehicleModelService {
             log.debug("Widths: {}", attributes.getWidths());
 
             attributes.setLengths(filteredVariants.stream()
-                    .map(VehicleVariant::getLength)
-                    .filter(Objects::nonNull)
-                    .map(this::parseInteger)
+                    .map(VehicleVariant::getLengthMm)
                     .filter(Objects::nonNull)
                     .distinct()
                     .sorted()
@@ -408,6 +515,8 @@ public class VehicleModelService {
 
         try {
             List<VehicleModel> savedModels = vehicleModelRepository.saveAll(vehicleModelsToSave);
+            afterCommit(() -> catalogAutocompleteIndex.upsertModels(savedModels));
+            catalogSnapshotService.catalogChanged();
             log.info("Successfully saved {} vehicle models", savedModels.size());
             return new KendoGridResponse<>(savedModels, (long) savedModels.size(), null, null);
         } catch (Exception e) {
@@ -465,12 +574,18 @@ public class VehicleModelService {
                     variant.setNumberOfAirBags(dto.getNumberOfAirBags());
                     variant.setMileageCity(dto.getMileageCity());
                     variant.setMileageHighway(dto.getMileageHighway());
+                    VehicleSpecParser.applyParsedSpecs(variant);
                     return variant;
                 })
                 .collect(Collectors.toList());
 
         try {
             List<VehicleVariant> savedVariants = vehicleVariantRepository.saveAll(variantsToSave);
+            afterCommit(() -> {
+                variantSimilarityIndex.upsertAll(savedVariants);
+                catalogAutocompleteIndex.upsertVariants(savedVariants);
+            });
+            catalogSnapshotService.catalogChanged();
             log.info("Successfully saved {} vehicle variants", savedVariants.size());
             return new KendoGridResponse<>(savedVariants, (long) savedVariants.size(), null, null);
         } catch (Exception e) {
@@ -578,12 +693,18 @@ public class VehicleModelService {
             if (dto.getMileageHighway() != null) {
                 existingVariant.setMileageHighway(dto.getMileageHighway());
             }
+            VehicleSpecParser.applyParsedSpecs(existingVariant);
 
             updatedVehicleVariants.add(existingVariant);
         }
 
         try {
             List<VehicleVariant> savedVehicleVariants = vehicleVariantRepository.saveAll(updatedVehicleVariants);
+            afterCommit(() -> {
+                variantSimilarityIndex.upsertAll(savedVehicleVariants);
+                catalogAutocompleteIndex.upsertVariants(savedVehicleVariants);
+            });
+            catalogSnapshotService.catalogChanged();
             log.info("Successfully updated {} vehicle variants entries", savedVehicleVariants.size());
             return new KendoGridResponse<>(savedVehicleVariants, (long) savedVehicleVariants.size(), null, null);
         } catch (Exception e) {
@@ -918,6 +1039,7 @@ public class VehicleModelService {
                 });
     }
 
+    @Transactional(readOnly = true)
     public List<StockDetailsDTO> getAllStockDetails() {
         return stockDetailsRepository.findAll().stream().map(stock -> {
             StockDetailsDTO dto = new StockDetailsDTO();
@@ -938,6 +1060,7 @@ public class VehicleModelService {
         }).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public KendoGridResponse<MddpStockDTO> getAllMddpStock() {
         List<MddpStockDTO> dtoList = mddpStockRepository.findAll().stream().map(stock -> {
             MddpStockDTO dto = new MddpStockDTO();
@@ -962,6 +1085,7 @@ public class VehicleModelService {
         return new KendoGridResponse<>(dtoList, dtoList.size(), null, null);
     }
 
+    @Transactional(readOnly = true)
     public KendoGridResponse<FinanceDTO> getAllFinanceDetails() {
         List<FinanceDTO> dtoList = financeDetailsRepository.findAll().stream().map(entity -> {
             FinanceDTO dto = new FinanceDTO();
@@ -977,6 +1101,7 @@ public class VehicleModelService {
         return new KendoGridResponse<>(dtoList, dtoList.size(), null, null);
     }
 
+    @Transactional(readOnly = true)
     public KendoGridResponse<ManufacturerOrderDTO> getAllManufacturerOrders() {
         log.info("Retrieving all manufacturer orders");
 
@@ -1083,27 +1208,124 @@ public class VehicleModelService {
         return dto;
     }
 
+    @Transactional(readOnly = true)
     public KendoGridResponse<VehicleVariant> getAllVehicleVariants() {
-        List<VehicleVariant> variants = vehicleVariantRepository.findAll();
+        List<VehicleVariant> variants = catalogSnapshotService.readable()
+                .map(CatalogSnapshot::variants)
+                .orElseGet(vehicleVariantRepository::findAll);
         return new KendoGridResponse<>(variants, variants.size(), null, null);
     }
 
-    private Integer parseInteger(String value) {
-        if (value == null || value.trim().isEmpty()) {
-            log.warn("Cannot parse null or empty value");
-            return null;
+    public KendoGridResponse<AutocompleteSuggestion> autocomplete(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Query cannot be empty");
         }
-        try {
-            String numericPart = value.replaceAll("[^0-9-]", "");
-            if (numericPart.isEmpty()) {
-                log.warn("No numeric value found in: {}", value);
-                return null;
-            }
-            return Integer.parseInt(numericPart);
-        } catch (NumberFormatException e) {
-            log.warn("Failed to parse integer: {}", value, e);
-            return null;
+        if (limit <= 0 || limit > CatalogAutocompleteIndex.MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + CatalogAutocompleteIndex.MAX_SUGGESTIONS);
+        }
+        List<AutocompleteSuggestion> suggestions = catalogAutocompleteIndex.suggest(query, limit);
+        return new KendoGridResponse<>(suggestions, suggestions.size(), null, null);
+    }
+
+    @Transactional(readOnly = true)
+    public KendoGridResponse<VehicleVariant> getVehicleVariantsBySpecRange(VariantSpecRangeRequest request) {
+        log.info("Fetching vehicle variants by spec range: {}", request);
+        validateRange("maxPowerBhp", request.getMinMaxPowerBhp(), request.getMaxMaxPowerBhp());
+        validateRange("topSpeedKmph", request.getMinTopSpeedKmph(), request.getMaxTopSpeedKmph());
+        validateRange("wheelBaseMm", request.getMinWheelBaseMm(), request.getMaxWheelBaseMm());
+        validateRange("widthMm", request.getMinWidthMm(), request.getMaxWidthMm());
+        validateRange("lengthMm", request.getMinLengthMm(), request.getMaxLengthMm());
+
+        Specification<VehicleVariant> spec = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (request.getVehicleModelId() != null) {
+                predicates.add(cb.equal(root.get("vehicleModelId").get("vehicleModelId"), request.getVehicleModelId()));
+            }
+            addRange(predicates, cb, root.<BigDecimal>get("maxPowerBhp"), request.getMinMaxPowerBhp(), request.getMaxMaxPowerBhp());
+            addRange(predicates, cb, root.<Integer>get("topSpeedKmph"), request.getMinTopSpeedKmph(), request.getMaxTopSpeedKmph());
+            addRange(predicates, cb, root.<Integer>get("wheelBaseMm"), request.getMinWheelBaseMm(), request.getMaxWheelBaseMm());
+            addRange(predicates, cb, root.<Integer>get("widthMm"), request.getMinWidthMm(), request.getMaxWidthMm());
+            addRange(predicates, cb, root.<Integer>get("lengthMm"), request.getMinLengthMm(), request.getMaxLengthMm());
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+
+        List<VehicleVariant> variants = vehicleVariantRepository.findAll(spec);
+        log.info("Found {} vehicle variants in spec range", variants.size());
+        return new KendoGridResponse<>(variants, variants.size(), null, null);
+    }
+
+    @Transactional(readOnly = true)
+    public KendoGridResponse<VehicleVariant> getVehicleVariantsByFeature(String colour, String safetyFeature, String comfort) {
+        log.info("Fetching vehicle variants by feature: colour={}, safetyFeature={}, comfort={}", colour, safetyFeature, comfort);
+        // The arrays hold lower-cased values (VehicleSpecParser.splitMultiValued), so fold the filters the same way
+        String trimmedColour = colour != null && !colour.isBlank() ? colour.trim().toLowerCase(Locale.ROOT) : null;
+        String trimmedSafetyFeature = safetyFeature != null && !safetyFeature.isBlank() ? safetyFeature.trim().toLowerCase(Locale.ROOT) : null;
+        String trimmedComfort = comfort != null && !comfort.isBlank() ? comfort.trim().toLowerCase(Locale.ROOT) : null;
+
+        // Let the GIN index narrow the candidates on one attribute, then check the rest on the loaded arrays
+        List<VehicleVariant> variants;
+        if (trimmedColour != null) {
+            variants = vehicleVariantRepository.findByColoursContaining(trimmedColour);
+        } else if (trimmedSafetyFeature != null) {
+            variants = vehicleVariantRepository.findBySafetyFeaturesContaining(trimmedSafetyFeature);
+        } else if (trimmedComfort != null) {
+            variants = vehicleVariantRepository.findByComfortFeaturesContaining(trimmedComfort);
+        } else {
+            throw new IllegalArgumentException("At least one of colour, safetyFeature or comfort is required");
         }
+
+        List<VehicleVariant> matching = variants.stream()
+                .filter(v -> trimmedSafetyFeature == null
+                        || (v.getSafetyFeatures() != null && v.getSafetyFeatures().contains(trimmedSafetyFeature)))
+                .filter(v -> trimmedComfort == null
+                        || (v.getComfortFeatures() != null && v.getComfortFeatures().contains(trimmedComfort)))
+                .collect(Collectors.toList());
+        log.info("Found {} vehicle variants by feature", matching.size());
+        return new KendoGridResponse<>(matching, matching.size(), null, null);
+    }
+
+    private <T extends Comparable<? super T>> void validateRange(String field, T min, T max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Minimum " + field + " cannot be greater than maximum " + field);
+        }
+    }
+
+    private <T extends Comparable<? super T>> void addRange(List<Predicate> predicates, CriteriaBuilder cb,
+                                                           Path<T> path, T min, T max) {
+        if (min != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, min));
+        }
+        if (max != null) {
+            predicates.add(cb.lessThanOrEqualTo(path, max));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public KendoGridResponse<VehicleVariant> getSimilarVehicleVariants(Long vehicleVariantId, int limit) {
+        log.info("Fetching {} variants similar to vehicleVariantId: {}", limit, vehicleVariantId);
+        if (vehicleVariantId == null) {
+            throw new IllegalArgumentException("Vehicle variant ID cannot be null");
+        }
+        if (limit <= 0 || limit > MAX_SIMILAR_VARIANTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SIMILAR_VARIANTS);
+        }
+        if (!variantSimilarityIndex.contains(vehicleVariantId)) {
+            VehicleVariant variant = getVehicleVariantEntity(vehicleVariantId);
+            variantSimilarityIndex.upsertAll(Collections.singletonList(variant));
+        }
+
+        List<Long> similarIds = variantSimilarityIndex.nearest(vehicleVariantId, limit);
+        Map<Long, VehicleVariant> byId = vehicleVariantRepository.findAllById(similarIds).stream()
+                .collect(Collectors.toMap(VehicleVariant::getVehicleVariantId, v -> v));
+        // Rows deleted since the last rebuild are evicted as soon as a lookup trips over them
+        similarIds.stream()
+                .filter(id -> !byId.containsKey(id))
+                .forEach(variantSimilarityIndex::remove);
+        List<VehicleVariant> similar = similarIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new KendoGridResponse<>(similar, similar.size(), null, null);
     }
 
     private Double parseDouble(String value) {
@@ -1115,6 +1337,7 @@ public class VehicleModelService {
         }
     }
 
+    @Transactional(readOnly = true)
     public StockDetailsDTO getStockDetailByModelAndVariant(String modelName, Long vehicleVariantId) {
         log.info("Fetching stock detail for modelName: {} and vehicleVariantId: {} at {}", modelName, vehicleVariantId, LocalDateTime.now());
         try {
@@ -1156,6 +1379,7 @@ public class VehicleModelService {
         }
     }
 
+    @Transactional(readOnly = true)
     public MddpStockDTO getMddpStockByModelAndVariant(String modelName, Long vehicleVariantId) {
         log.info("Fetching MDDP stock detail for modelName: {} and vehicleVariantId: {} at {}", modelName, vehicleVariantId, LocalDateTime.now());
         try {
@@ -1199,6 +1423,7 @@ public class VehicleModelService {
         }
     }
 
+    @Transactional(readOnly = true)
     public ManufacturerOrderDTO getManufacturerOrderByModelAndVariant(String modelName, Long vehicleVariantId) {
         log.info("Fetching manufacturer order for modelName: {} and vehicleVariantId: {} at {}", modelName, vehicleVariantId, LocalDateTime.now());
         try {
@@ -1227,6 +1452,7 @@ public class VehicleModelService {
         }
     }
 
+    @Transactional(readOnly = true)
     public VehicleVariantDTO getVehicleVariantByModelAndVariant(String modelName, Long vehicleVariantId) {
         log.info("Fetching vehicle variant for modelName: {} and vehicleVariantId: {} at {}", modelName, vehicleVariantId, LocalDateTime.now());
         try {
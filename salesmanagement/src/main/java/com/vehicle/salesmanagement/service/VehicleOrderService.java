@@ -1,5 +1,6 @@
 package com.vehicle.salesmanagement.service;
 
+import com.vehicle.salesmanagement.config.SalesMetrics;
 import com.vehicle.salesmanagement.domain.dto.apirequest.OrderRequest;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.VehicleOrderGridDTO;
@@ -9,6 +10,7 @@ import com.vehicle.salesmanagement.enums.FinanceStatus;
 import com.vehicle.salesmanagement.enums.OrderStatus;
 import com.vehicle.salesmanagement.enums.StockStatus;
 import com.vehicle.salesmanagement.repository.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "salesmanagement.service", histogram = true)
 public class VehicleOrderService {
 
     private final StockDetailsRepository stockRepository;
@@ -35,6 +38,7 @@ public class VehicleOrderService {
     private final OrderIdGeneratorService orderIdGeneratorService;
     private final FinanceDetailsRepository financeDetailsRepository;
     private final DeliveryDetailsRepository deliveryDetailsRepository;
+    private final SalesMetrics salesMetrics;
 
     @Transactional
     public OrderResponse checkAndBlockStock(OrderRequest orderRequest) {
@@ -55,19 +59,42 @@ public class VehicleOrderService {
             return placeManufacturerOrder(orderRequest);
         }
 
-        // Sort stocks by stockArrivalDate (ascending) to prioritize older stock
-        StockDetails stock = stocks.stream()
+        List<StockDetails> matching = stocks.stream()
                 .filter(s -> orderRequest.getVariant().equalsIgnoreCase(s.getVariant()))
                 .filter(s -> orderRequest.getColour().equals(s.getColour()))
                 .filter(s -> orderRequest.getTransmissionType().equals(s.getTransmissionType()))
                 .filter(s -> orderRequest.getFuelType().equals(s.getFuelType()))
+                .collect(Collectors.toList());
+
+        // Sort stocks by stockArrivalDate (ascending) to prioritize older stock
+        List<StockDetails> candidates = matching.stream()
                 .filter(s -> s.getQuantity() >= orderRequest.getQuantity())
                 .sorted(Comparator.comparing(
                         StockDetails::getStockArrivalDate,
                         Comparator.nullsLast(Comparator.naturalOrder())
                 )) // Oldest first
-                .findFirst()
-                .orElse(null);
+                .collect(Collectors.toList());
+
+        // The quantities above may already be stale; the conditional update decides who actually gets the row
+        StockDetails stock = null;
+        for (StockDetails candidate : candidates) {
+            int reserved = salesMetrics.reservation("stock", () -> stockRepository.reserveQuantity(
+                    candidate.getStockId(), orderRequest.getQuantity(), StockStatus.AVAILABLE, StockStatus.DEPLETED));
+            if (reserved > 0) {
+                stock = stockRepository.findById(candidate.getStockId())
+                        .orElseThrow(() -> new IllegalStateException("Stock disappeared after reservation: " + candidate.getStockId()));
+                break;
+            }
+            log.info("Stock ID: {} was taken by a concurrent order before order: {} could block it",
+                    candidate.getStockId(), orderRequest.getCustomerOrderId());
+        }
+
+        if (stock == null && !matching.isEmpty()) {
+            salesMetrics.oversellConflict(orderRequest.getModelName(), orderRequest.getVariant());
+            log.warn("Matching stock for modelName: {}, variant: {} cannot cover quantity {} of order: {}",
+                    orderRequest.getModelName(), orderRequest.getVariant(), orderRequest.getQuantity(),
+                    orderRequest.getCustomerOrderId());
+        }
 
         if (stock == null) {
             log.info("No matching stock found for modelName: {}, vehicleVariantId: {}, variant: {}. Placing manufacturer order.",
@@ -75,14 +102,6 @@ public class VehicleOrderService {
             return placeManufacturerOrder(orderRequest);
         }
 
-        stock.setQuantity(stock.getQuantity() - orderRequest.getQuantity());
-        if (stock.getQuantity() == 0) {
-            stock.setStockStatus(StockStatus.DEPLETED);
-        }
-        stock = stockRepository.save(stock);
-        if (stock.getStockId() == null) {
-            throw new IllegalStateException("Stock ID is null after saving StockDetails");
-        }
         log.info("Stock ID: {} (arrival date: {}) blocked for modelName: {}, variant: {}",
                 stock.getStockId(), stock.getStockArrivalDate(), stock.getModelName(), stock.getVariant());
 
@@ -167,6 +186,14 @@ public OrderResponse checkAndReserveMddpStock(OrderRequest orderRequest) {
                 && mddpStock.getTransmissionType().equalsIgnoreCase(orderRequest.getTransmissionType())
                 && mddpStock.getVariant().equalsIgnoreCase(orderRequest.getVariant());
 
+        // Take the quantity off the MDDP row first so two orders cannot both transfer the same units
+        if (exactMatch && salesMetrics.reservation("mddp", () -> mddpStockRepository.reserveQuantity(
+                mddpStock.getMddpId(), orderRequest.getQuantity(), StockStatus.AVAILABLE, StockStatus.DEPLETED)) == 0) {
+            log.info("MDDP stock ID: {} was taken by a concurrent order before order: {} could reserve it",
+                    mddpStock.getMddpId(), orderRequest.getCustomerOrderId());
+            exactMatch = false;
+        }
+
         if (exactMatch) {
             VehicleModel vehicleModel = vehicleModelRepository.findById(orderRequest.getVehicleModelId())
                     .orElseThrow(() -> new RuntimeException("Vehicle Model not found: " + orderRequest.getVehicleModelId()));
@@ -188,13 +215,6 @@ public OrderResponse checkAndReserveMddpStock(OrderRequest orderRequest) {
             newStock.setStockStatus(StockStatus.AVAILABLE);
             stockRepository.save(newStock);
 
-            // Deduct quantity from MDDP stock
-            mddpStock.setQuantity(mddpStock.getQuantity() - orderRequest.getQuantity());
-            if (mddpStock.getQuantity() == 0) {
-                mddpStock.setStockStatus(StockStatus.DEPLETED);
-            }
-            mddpStockRepository.save(mddpStock);
-
             // Save stock history
             historyService.saveStockHistory(newStock, "Stock Transferred from MDDP for Order: " + orderRequest.getCustomerOrderId());
             log.info("Stock transferred from MDDP to stock_details for order ID: {}", orderRequest.getCustomerOrderId());
@@ -264,6 +284,15 @@ public OrderResponse checkAndReserveMddpStock(OrderRequest orderRequest) {
             throw new IllegalStateException("Order cannot be canceled, current status: " + orderDetails.getOrderStatus());
         }
 
+        // Only the cancel that flips the status restores stock; a concurrent duplicate sees zero rows updated
+        if (orderRepository.compareAndSetStatus(customerOrderId, orderDetails.getOrderStatus(), OrderStatus.CANCELED) == 0) {
+            log.error("Order with customerOrderId: {} was changed concurrently while canceling", customerOrderId);
+            throw new IllegalStateException("Order cannot be canceled, it was changed by another request");
+        }
+        // Snapshot before the stock update below clears the persistence context and detaches the order,
+        // whose lazy address columns could then no longer be read
+        historyService.saveOrderHistory(orderDetails, "system", OrderStatus.CANCELED);
+
         VehicleVariant variant = orderDetails.getVehicleVariantId();
         VehicleModel model = orderDetails.getVehicleModelId();
         List<StockDetails> stocks = stockRepository.findByModelNameAndVehicleVariantIdAndStockStatus(
@@ -282,9 +311,8 @@ public OrderResponse checkAndReserveMddpStock(OrderRequest orderRequest) {
                 .orElse(null);
 
         if (stock != null) {
-            stock.setQuantity(stock.getQuantity() + orderDetails.getQuantity());
-            stock.setStockStatus(StockStatus.AVAILABLE);
-            stockRepository.save(stock);
+            stockRepository.restoreQuantity(stock.getStockId(), orderDetails.getQuantity(), StockStatus.AVAILABLE);
+            stock = stockRepository.findById(stock.getStockId()).orElse(stock);
             historyService.saveStockHistory(stock, "Stock Restored for Canceled Order: " + customerOrderId);
             log.info("Restored stock ID: {} (arrival date: {}) for canceled order: {}", stock.getStockId(), stock.getStockArrivalDate(), customerOrderId);
         } else {
@@ -304,12 +332,11 @@ public OrderResponse checkAndReserveMddpStock(OrderRequest orderRequest) {
             historyService.saveStockHistory(newStock, "Stock Created for Canceled Order: " + customerOrderId);
         }
 
-        historyService.saveOrderHistory(orderDetails, "system", OrderStatus.CANCELED);
         orderDetails.setOrderStatus(OrderStatus.CANCELED);
-        orderRepository.save(orderDetails);
+        VehicleOrderDetails canceled = orderRepository.save(orderDetails);
 
         log.info("Canceled order with customerOrderId: {}", customerOrderId);
-        return mapToOrderResponseFromDetails(orderDetails);
+        return mapToOrderResponseFromDetails(canceled);
     }
 
     public OrderResponse mapToOrderResponse(OrderRequest request) {
@@ -396,22 +423,35 @@ public OrderResponse checkAndReserveMddpStock(OrderRequest orderRequest) {
         return response;
     }
 
+    /**
+     * Maps inside the transaction: the address columns are lazy and cannot be loaded once the entity is detached.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findOrder(String customerOrderId) {
+        return orderRepository.findByCustomerOrderId(customerOrderId).map(this::mapToOrderResponseFromDetails);
+    }
+
+    @Transactional(readOnly = true)
     public long getTotalOrders() {
         return orderRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public long getPendingOrders() {
         return orderRepository.countByOrderStatus(OrderStatus.PENDING);
     }
 
+    @Transactional(readOnly = true)
     public long getFinancePendingOrders() {
         return financeDetailsRepository.countByFinanceStatus(FinanceStatus.PENDING);
     }
 
+    @Transactional(readOnly = true)
     public long getClosedOrders() {
         return deliveryDetailsRepository.countByDeliveryStatus(DeliveryStatus.DELIVERED);
     }
 
+    @Transactional(readOnly = true)
     public List<VehicleOrderGridDTO> getAllOrders() {
         return orderRepository.findAll().stream()
                 .map(order -> new VehicleOrderGridDTO(
@@ -0,0 +1,161 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the free-text specification strings on {@link VehicleVariant} into normalised numeric values.
+ * <p>
+ * Lengths are normalised to millimetres, speeds to km/h and power to bhp, and comma-separated attributes
+ * are split into arrays. The original strings are left untouched for display; only the typed columns are written.
+ */
+public final class VehicleSpecParser {
+
+    private static final Pattern VALUE_WITH_UNIT = Pattern.compile("(\\d[\\d,]*(?:\\.\\d+)?)\\s*([a-zA-Z/\"]+)?");
+
+    private VehicleSpecParser() {
+    }
+
+    /**
+     * Fills the typed columns from the spec strings and stamps {@code specsParsedAt}.
+     *
+     * @return whether any typed or array value differs from what the variant held before
+     */
+    public static boolean applyParsedSpecs(VehicleVariant variant) {
+        BigDecimal maxPowerBhp = parsePowerBhp(variant.getMaxPower());
+        Integer topSpeedKmph = parseSpeedKmph(variant.getTopSpeed());
+        Integer wheelBaseMm = parseLengthMm(variant.getWheelBase());
+        Integer widthMm = parseLengthMm(variant.getWidth());
+        Integer lengthMm = parseLengthMm(variant.getLength());
+        List<String> colours = splitMultiValued(variant.getColour());
+        List<String> safetyFeatures = splitMultiValued(variant.getSafetyFeature());
+        List<String> comfortFeatures = splitMultiValued(variant.getComfort());
+
+        boolean changed = !sameNumber(maxPowerBhp, variant.getMaxPowerBhp())
+                || !Objects.equals(topSpeedKmph, variant.getTopSpeedKmph())
+                || !Objects.equals(wheelBaseMm, variant.getWheelBaseMm())
+                || !Objects.equals(widthMm, variant.getWidthMm())
+                || !Objects.equals(lengthMm, variant.getLengthMm())
+                || !Objects.equals(colours, variant.getColours())
+                || !Objects.equals(safetyFeatures, variant.getSafetyFeatures())
+                || !Objects.equals(comfortFeatures, variant.getComfortFeatures());
+
+        variant.setMaxPowerBhp(maxPowerBhp);
+        variant.setTopSpeedKmph(topSpeedKmph);
+        variant.setWheelBaseMm(wheelBaseMm);
+        variant.setWidthMm(widthMm);
+        variant.setLengthMm(lengthMm);
+        variant.setColours(colours);
+        variant.setSafetyFeatures(safetyFeatures);
+        variant.setComfortFeatures(comfortFeatures);
+        variant.setSpecsParsedAt(LocalDateTime.now());
+        return changed;
+    }
+
+    /**
+     * Splits a comma-separated attribute into trimmed, lower-cased, de-duplicated values in their original order.
+     * This is the form stored in the text[] columns, so containment lookups are case-insensitive.
+     */
+    public static List<String> splitMultiValued(String value) {
+        List<String> values = splitDisplayValues(value);
+        if (values == null) {
+            return null;
+        }
+        Set<String> folded = new LinkedHashSet<>();
+        values.forEach(v -> folded.add(v.toLowerCase(Locale.ROOT)));
+        return new ArrayList<>(folded);
+    }
+
+    /**
+     * Splits a comma-separated attribute into trimmed, de-duplicated values, keeping their case for display.
+     */
+    public static List<String> splitDisplayValues(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Set<String> values = new LinkedHashSet<>();
+        for (String part : value.split(",")) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) {
+                values.add(trimmed);
+            }
+        }
+        return new ArrayList<>(values);
+    }
+
+    /**
+     * Parses a length to millimetres; a bare number is taken as millimetres. Returns {@code null} for a unit it
+     * does not know rather than guessing its scale.
+     */
+    public static Integer parseLengthMm(String value) {
+        Matcher matcher = match(value);
+        if (matcher == null) {
+            return null;
+        }
+        double number = number(matcher);
+        Double millimetres = switch (unit(matcher)) {
+            case "", "mm" -> number;
+            case "cm" -> number * 10;
+            case "m" -> number * 1000;
+            case "in", "inch", "inches", "\"" -> number * 25.4;
+            case "ft", "feet" -> number * 304.8;
+            default -> null;
+        };
+        return millimetres != null ? (int) Math.round(millimetres) : null;
+    }
+
+    public static Integer parseSpeedKmph(String value) {
+        Matcher matcher = match(value);
+        if (matcher == null) {
+            return null;
+        }
+        double number = number(matcher);
+        double kmph = unit(matcher).startsWith("mph") ? number * 1.609344 : number;
+        return (int) Math.round(kmph);
+    }
+
+    public static BigDecimal parsePowerBhp(String value) {
+        Matcher matcher = match(value);
+        if (matcher == null) {
+            return null;
+        }
+        double number = number(matcher);
+        String unit = unit(matcher);
+        double bhp;
+        if (unit.startsWith("kw")) {
+            bhp = number * 1.34102;
+        } else if (unit.startsWith("ps")) {
+            bhp = number * 0.98632;
+        } else {
+            bhp = number;
+        }
+        return BigDecimal.valueOf(bhp).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static boolean sameNumber(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    private static Matcher match(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Matcher matcher = VALUE_WITH_UNIT.matcher(value);
+        return matcher.find() ? matcher : null;
+    }
+
+    private static double number(Matcher matcher) {
+        return Double.parseDouble(matcher.group(1).replace(",", ""));
+    }
+
+    private static String unit(Matcher matcher) {
+        String unit = matcher.group(2);
+        return unit != null ? unit.toLowerCase(Locale.ROOT) : "";
+    }
+}
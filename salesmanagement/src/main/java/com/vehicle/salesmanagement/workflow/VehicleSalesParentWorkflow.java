@@ -4,9 +4,14 @@ import com.vehicle.salesmanagement.domain.dto.apirequest.DeliveryRequest;
 import com.vehicle.salesmanagement.domain.dto.apirequest.DispatchRequest;
 import com.vehicle.salesmanagement.domain.dto.apirequest.FinanceRequest;
 import com.vehicle.salesmanagement.domain.dto.apirequest.OrderRequest;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.DeliveryResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.DispatchResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.FinanceResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
 import io.temporal.workflow.QueryMethod;
 import io.temporal.workflow.SignalMethod;
+import io.temporal.workflow.UpdateMethod;
+import io.temporal.workflow.UpdateValidatorMethod;
 import io.temporal.workflow.WorkflowInterface;
 import io.temporal.workflow.WorkflowMethod;
 
@@ -34,6 +39,56 @@ public interface VehicleSalesParentWorkflow {
     @SignalMethod
     void cancelOrder(String customerOrderId);
 
+    /**
+     * Starts finance and returns once the finance workflow is running. Rejected, without touching history, unless the
+     * order has been placed, is not canceled and has no finance yet.
+     */
+    @UpdateMethod
+    OrderResponse requestFinance(FinanceRequest financeRequest);
+
+    @UpdateValidatorMethod(updateName = "requestFinance")
+    void validateRequestFinance(FinanceRequest financeRequest);
+
+    /**
+     * Approves the running finance workflow and returns its outcome. Rejected unless finance was started and is still
+     * undecided.
+     */
+    @UpdateMethod
+    FinanceResponse approveFinanceRequest(String approvedBy);
+
+    @UpdateValidatorMethod(updateName = "approveFinanceRequest")
+    void validateApproveFinanceRequest(String approvedBy);
+
+    /**
+     * Rejects the running finance workflow and returns its outcome, under the same rules as
+     * {@link #approveFinanceRequest}.
+     */
+    @UpdateMethod
+    FinanceResponse rejectFinanceRequest(String rejectedBy);
+
+    @UpdateValidatorMethod(updateName = "rejectFinanceRequest")
+    void validateRejectFinanceRequest(String rejectedBy);
+
+    /**
+     * Dispatches the order and returns the dispatch record. Rejected unless finance was approved and the order has not
+     * been dispatched.
+     */
+    @UpdateMethod
+    DispatchResponse requestDispatch(DispatchRequest dispatchRequest);
+
+    @UpdateValidatorMethod(updateName = "requestDispatch")
+    void validateRequestDispatch(DispatchRequest dispatchRequest);
+
+    /**
+     * Confirms delivery and returns the delivery record. Rejected unless the order was dispatched and delivery has not
+     * been confirmed.
+     */
+    @UpdateMethod
+    DeliveryResponse recordDelivery(DeliveryRequest deliveryRequest);
+
+    @UpdateValidatorMethod(updateName = "recordDelivery")
+    void validateRecordDelivery(DeliveryRequest deliveryRequest);
+
     @QueryMethod
     OrderResponse getOrderStatus();
 
@@ -7,12 +7,17 @@ import com.vehicle.salesmanagement.domain.dto.apirequest.FinanceRequest;
 import com.vehicle.salesmanagement.domain.dto.apirequest.OrderRequest;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.DeliveryResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.DispatchResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.FinanceResponse;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
 import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
+import com.vehicle.salesmanagement.enums.FinanceStatus;
 import com.vehicle.salesmanagement.enums.OrderStatus;
 import io.temporal.activity.ActivityOptions;
 import io.temporal.common.RetryOptions;
+import io.temporal.failure.ApplicationFailure;
+import io.temporal.workflow.Async;
 import io.temporal.workflow.ChildWorkflowOptions;
+import io.temporal.workflow.Promise;
 import io.temporal.workflow.Workflow;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,6 +25,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Slf4j
 public class VehicleSalesParentWorkflowImpl implements VehicleSalesParentWorkflow {
@@ -34,6 +40,19 @@ public class VehicleSalesParentWorkflowImpl implements VehicleSalesParentWorkflo
     private DispatchRequest dispatchRequest;
     private DeliveryRequest deliveryRequest;
 
+    // Outcomes of each stage, set by processOrder and awaited by the update handlers
+    private boolean isFinanceStarting = false;
+    private boolean isFinanceStarted = false;
+    private boolean isFinanceDecided = false;
+    private boolean isFinanceSettled = false;
+    private FinanceResponse financeOutcome;
+    private boolean isDispatchSettled = false;
+    private DispatchResponse dispatchOutcome;
+    private String dispatchFailure;
+    private boolean isDeliverySettled = false;
+    private DeliveryResponse deliveryOutcome;
+    private String deliveryFailure;
+
     private OrderResponse latestOrderResponse;
 
     private final DispatchDeliveryActivities dispatchDeliveryActivities;
@@ -117,20 +136,32 @@ public class VehicleSalesParentWorkflowImpl implements VehicleSalesParentWorkflo
             return orderResponse;
         }
 
+        // Past the last cancel check: finance will start or fail, and the finance updates wait for that
+        isFinanceStarting = true;
         ChildWorkflowOptions financeOptions = ChildWorkflowOptions.newBuilder()
                 .setWorkflowId("finance-" + customerOrderId)
                 .setTaskQueue("finance-task-queue")
                 .build();
         FinanceWorkflow financeWorkflow = Workflow.newChildWorkflowStub(FinanceWorkflow.class, financeOptions);
         try {
-            Workflow.newDetachedCancellationScope(() -> financeWorkflow.processFinance(financeRequest)).run();
-            log.info("Finance Workflow started with PENDING status for customerOrderId: {}. WorkflowId: finance-{}", customerOrderId, customerOrderId);
+            Workflow.newDetachedCancellationScope(() -> {
+                Promise<FinanceResponse> financeResult = Async.function(financeWorkflow::processFinance, financeRequest);
+                Workflow.getWorkflowExecution(financeWorkflow).get();
+                isFinanceStarted = true;
+                log.info("Finance Workflow started with PENDING status for customerOrderId: {}. WorkflowId: finance-{}", customerOrderId, customerOrderId);
+                financeOutcome = financeResult.get();
+            }).run();
         } catch (Exception e) {
             log.error("Finance Workflow failed to start for customerOrderId: {}. Error: {}", customerOrderId, e.getMessage(), e);
             workflowStatuses.put("Finance", "FAILED");
+            isFinanceSettled = true;
             orderResponse.setOrderStatus(OrderStatus.PENDING);
             return orderResponse;
         }
+        isFinanceSettled = true;
+        if (financeOutcome != null && financeOutcome.getFinanceStatus() != null) {
+            workflowStatuses.put("Finance", financeOutcome.getFinanceStatus().name());
+        }
 
         // Modified: Only update orderStatus based on finance outcome, not default to PENDING
         String financeStatus = workflowStatuses.get("Finance");
@@ -188,6 +219,7 @@ public class VehicleSalesParentWorkflowImpl implements VehicleSalesParentWorkflo
                         log.error("Dispatch failed to set order status to DISPATCHED for customerOrderId: {}", customerOrderId);
                         throw new RuntimeException("Dispatch failed for customerOrderId: " + customerOrderId);
                     }
+                    dispatchOutcome = dispatchResponse;
                     log.info("Dispatch completed, order status updated to DISPATCHED for customerOrderId: {}", customerOrderId);
                 } else if (currentStatus.equals(OrderStatus.DISPATCHED) ||
                         currentStatus.equals(OrderStatus.DELIVERED) ||
@@ -204,9 +236,12 @@ public class VehicleSalesParentWorkflowImpl implements VehicleSalesParentWorkflo
         } catch (Exception e) {
             log.error("Dispatch failed for customerOrderId: {}. Error: {}", customerOrderId, e.getMessage(), e);
             workflowStatuses.put("Dispatch-Delivery", "FAILED");
+            dispatchFailure = failureMessage(e);
+            isDispatchSettled = true;
             orderResponse.setOrderStatus(OrderStatus.FAILED);
             return orderResponse;
         }
+        isDispatchSettled = true;
 
         log.info("Waiting for delivery confirmation for customerOrderId: {}", customerOrderId);
         boolean deliveryAwaitResult = Workflow.await(Duration.ofHours(1), () -> {
@@ -252,6 +287,7 @@ public class VehicleSalesParentWorkflowImpl implements VehicleSalesParentWorkflo
                         log.error("Delivery confirmation failed to set order status to DELIVERED for customerOrderId: {}", customerOrderId);
                         throw new RuntimeException("Delivery confirmation failed for customerOrderId: " + customerOrderId);
                     }
+                    deliveryOutcome = deliveryResponse;
                     log.info("Delivery completed, order status updated to DELIVERED for customerOrderId: {}", customerOrderId);
                     workflowStatuses.put("Dispatch-Delivery", "DELIVERED");
                 } else if (currentStatus.equals(OrderStatus.DELIVERED) ||
@@ -269,9 +305,12 @@ public class VehicleSalesParentWorkflowImpl implements VehicleSalesParentWorkflo
         } catch (Exception e) {
             log.error("Delivery confirmation failed for customerOrderId: {}. Error: {}", customerOrderId, e.getMessage(), e);
             workflowStatuses.put("Dispatch-Delivery", "FAILED");
+            deliveryFailure = failureMessage(e);
+            isDeliverySettled = true;
             orderResponse.setOrderStatus(OrderStatus.FAILED);
             return orderResponse;
         }
+        isDeliverySettled = true;
 
         if (workflowStatuses.get("Dispatch-Delivery").equals("DELIVERED")) {
             orderResponse.setOrderStatus(OrderStatus.DELIVERED);
@@ -333,6 +372,182 @@ public class VehicleSalesParentWorkflowImpl implements VehicleSalesParentWorkflo
         workflowStatuses.put("Dispatch-Delivery", "CANCELED");
     }
 
+    @Override
+    public void validateRequestFinance(FinanceRequest financeRequest) {
+        requireOrder(financeRequest.getCustomerOrderId());
+        if (isFinanceInitiated) {
+            throw new IllegalStateException("Finance has already been initiated for order " + customerOrderId);
+        }
+    }
+
+    @Override
+    public OrderResponse requestFinance(FinanceRequest financeRequest) {
+        initiateFinance(financeRequest);
+        Workflow.await(this::isFinanceResolved);
+        if (isFinanceStarted) {
+            return getOrderStatus();
+        }
+        if (!isFinanceSettled) {
+            throw ApplicationFailure.newFailure("Order " + customerOrderId + " was canceled before finance started", "OrderCanceled");
+        }
+        throw ApplicationFailure.newFailure("Finance workflow failed to start for order " + customerOrderId, "FinanceFailed");
+    }
+
+    @Override
+    public void validateApproveFinanceRequest(String approvedBy) {
+        requireUndecidedFinance(approvedBy);
+    }
+
+    @Override
+    public FinanceResponse approveFinanceRequest(String approvedBy) {
+        String previousStatus = workflowStatuses.get("Finance");
+        approveFinance(approvedBy);
+        return decideFinance(previousStatus, finance -> finance.approveFinance(approvedBy));
+    }
+
+    @Override
+    public void validateRejectFinanceRequest(String rejectedBy) {
+        requireUndecidedFinance(rejectedBy);
+    }
+
+    @Override
+    public FinanceResponse rejectFinanceRequest(String rejectedBy) {
+        String previousStatus = workflowStatuses.get("Finance");
+        rejectFinance(rejectedBy);
+        return decideFinance(previousStatus, finance -> finance.rejectFinance(rejectedBy));
+    }
+
+    @Override
+    public void validateRequestDispatch(DispatchRequest dispatchRequest) {
+        requireOrder(dispatchRequest.getCustomerOrderId());
+        if (!isFinanceSettled || financeOutcome == null || financeOutcome.getFinanceStatus() != FinanceStatus.APPROVED) {
+            throw new IllegalStateException("Order must be ALLOTTED: finance for order " + customerOrderId + " is "
+                    + workflowStatuses.get("Finance"));
+        }
+        if (isDispatchInitiated) {
+            throw new IllegalStateException("Dispatch has already been initiated for order " + customerOrderId);
+        }
+    }
+
+    @Override
+    public DispatchResponse requestDispatch(DispatchRequest dispatchRequest) {
+        initiateDispatch(dispatchRequest);
+        Workflow.await(() -> isDispatchSettled || isCanceled);
+        if (dispatchFailure != null) {
+            throw ApplicationFailure.newFailure(dispatchFailure, "DispatchFailed");
+        }
+        if (!isDispatchSettled) {
+            throw ApplicationFailure.newFailure("Order " + customerOrderId + " was canceled before dispatch", "OrderCanceled");
+        }
+        return dispatchOutcome;
+    }
+
+    @Override
+    public void validateRecordDelivery(DeliveryRequest deliveryRequest) {
+        requireOrder(deliveryRequest.getCustomerOrderId());
+        if (!isDispatchSettled || dispatchFailure != null) {
+            throw new IllegalStateException("Order must be DISPATCHED: dispatch for order " + customerOrderId + " is "
+                    + workflowStatuses.get("Dispatch-Delivery"));
+        }
+        if (isDeliveryConfirmed) {
+            throw new IllegalStateException("Delivery has already been confirmed for order " + customerOrderId);
+        }
+    }
+
+    @Override
+    public DeliveryResponse recordDelivery(DeliveryRequest deliveryRequest) {
+        confirmDelivery(deliveryRequest);
+        Workflow.await(() -> isDeliverySettled || isCanceled);
+        if (deliveryFailure != null) {
+            throw ApplicationFailure.newFailure(deliveryFailure, "DeliveryFailed");
+        }
+        if (!isDeliverySettled) {
+            throw ApplicationFailure.newFailure("Order " + customerOrderId + " was canceled before delivery", "OrderCanceled");
+        }
+        return deliveryOutcome;
+    }
+
+    /**
+     * Rejects an update for another order, or one that arrives before the order was placed or after it was canceled.
+     */
+    private void requireOrder(String requestedOrderId) {
+        if (customerOrderId == null) {
+            throw new IllegalStateException("Order " + requestedOrderId + " is still being placed");
+        }
+        if (!customerOrderId.equals(requestedOrderId)) {
+            throw new IllegalArgumentException("Request is for order " + requestedOrderId + " but this workflow handles " + customerOrderId);
+        }
+        if (isCanceled) {
+            throw new IllegalStateException("Order " + customerOrderId + " has been canceled");
+        }
+    }
+
+    private void requireUndecidedFinance(String decidedBy) {
+        if (decidedBy == null || decidedBy.isBlank()) {
+            throw new IllegalArgumentException("Finance decision must name who made it");
+        }
+        if (customerOrderId == null || !isFinanceInitiated) {
+            throw new IllegalStateException("Finance has not been initiated for order " + customerOrderId);
+        }
+        if (isCanceled) {
+            throw new IllegalStateException("Order " + customerOrderId + " has been canceled");
+        }
+        if (isFinanceDecided || isFinanceSettled) {
+            throw new IllegalStateException("Finance for order " + customerOrderId + " has already been "
+                    + workflowStatuses.get("Finance"));
+        }
+    }
+
+    /**
+     * Finance is running or over, or the order was canceled before processOrder got as far as starting it.
+     */
+    private boolean isFinanceResolved() {
+        return isFinanceStarted || isFinanceSettled || (isCanceled && !isFinanceStarting);
+    }
+
+    /**
+     * Hands the decision to the finance child once it is running and waits for the finance record it leaves behind.
+     * If the child cannot be signalled the decision is released, so the order can still be approved or rejected.
+     */
+    private FinanceResponse decideFinance(String previousStatus, Consumer<FinanceWorkflow> decision) {
+        isFinanceDecided = true;
+        Workflow.await(this::isFinanceResolved);
+        if (!isFinanceStarted && !isFinanceSettled) {
+            isFinanceDecided = false;
+            throw ApplicationFailure.newFailure("Order " + customerOrderId + " was canceled before finance started", "OrderCanceled");
+        }
+        if (!isFinanceSettled) {
+            try {
+                decision.accept(Workflow.newExternalWorkflowStub(FinanceWorkflow.class, "finance-" + customerOrderId));
+            } catch (Exception e) {
+                isFinanceDecided = false;
+                if (previousStatus == null) {
+                    workflowStatuses.remove("Finance");
+                } else {
+                    workflowStatuses.put("Finance", previousStatus);
+                }
+                throw ApplicationFailure.newFailure("Failed to signal finance-" + customerOrderId + ": " + failureMessage(e), "FinanceFailed");
+            }
+            Workflow.await(() -> isFinanceSettled);
+        }
+        if (financeOutcome == null) {
+            throw ApplicationFailure.newFailure("Finance workflow failed for order " + customerOrderId, "FinanceFailed");
+        }
+        return financeOutcome;
+    }
+
+    /**
+     * The message an activity or child raised, rather than Temporal's wrapper around it.
+     */
+    private static String failureMessage(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApplicationFailure failure) {
+                return failure.getOriginalMessage();
+            }
+        }
+        return e.getMessage();
+    }
+
     @Override
     public String getWorkflowStatus() {
         log.info("Querying workflow status for customerOrderId: {}. Current status: {}", customerOrderId, workflowStatuses.get("Order"));
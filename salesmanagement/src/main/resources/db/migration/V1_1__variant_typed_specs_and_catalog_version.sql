@@ -0,0 +1,44 @@
+-- Typed spec columns, multi-valued feature arrays and the shared catalog version. Runs on fresh databases and on
+-- those baselined at V1, so every statement tolerates a schema that already has some of it from ddl-auto=update.
+
+ALTER TABLE sales_tracking.vehicle_variant
+    ADD COLUMN IF NOT EXISTS max_power_bhp    numeric(7, 2),
+    ADD COLUMN IF NOT EXISTS top_speed_kmph   integer,
+    ADD COLUMN IF NOT EXISTS wheel_base_mm    integer,
+    ADD COLUMN IF NOT EXISTS width_mm         integer,
+    ADD COLUMN IF NOT EXISTS length_mm        integer,
+    ADD COLUMN IF NOT EXISTS colours          text[],
+    ADD COLUMN IF NOT EXISTS safety_features  text[],
+    ADD COLUMN IF NOT EXISTS comfort_features text[];
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_variant_max_power_bhp ON sales_tracking.vehicle_variant (max_power_bhp);
+CREATE INDEX IF NOT EXISTS idx_vehicle_variant_top_speed_kmph ON sales_tracking.vehicle_variant (top_speed_kmph);
+CREATE INDEX IF NOT EXISTS idx_vehicle_variant_wheel_base_mm ON sales_tracking.vehicle_variant (wheel_base_mm);
+CREATE INDEX IF NOT EXISTS idx_vehicle_variant_width_mm ON sales_tracking.vehicle_variant (width_mm);
+CREATE INDEX IF NOT EXISTS idx_vehicle_variant_length_mm ON sales_tracking.vehicle_variant (length_mm);
+
+-- Split the comma-separated strings into lower-cased arrays, matching VehicleSpecParser.splitMultiValued. Arrays
+-- written earlier by the init script kept their original case, so every row is recomputed from its source string.
+-- The typed spec columns are filled by the application backfill.
+UPDATE sales_tracking.vehicle_variant
+SET colours = ARRAY(SELECT DISTINCT lower(trim(c)) FROM unnest(string_to_array(colour, ',')) AS c WHERE trim(c) <> '')
+WHERE colour IS NOT NULL AND trim(colour) <> '';
+
+UPDATE sales_tracking.vehicle_variant
+SET safety_features = ARRAY(SELECT DISTINCT lower(trim(s)) FROM unnest(string_to_array(safety_feature, ',')) AS s WHERE trim(s) <> '')
+WHERE safety_feature IS NOT NULL AND trim(safety_feature) <> '';
+
+UPDATE sales_tracking.vehicle_variant
+SET comfort_features = ARRAY(SELECT DISTINCT lower(trim(f)) FROM unnest(string_to_array(comfort, ',')) AS f WHERE trim(f) <> '')
+WHERE comfort IS NOT NULL AND trim(comfort) <> '';
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_variant_colours ON sales_tracking.vehicle_variant USING GIN (colours);
+CREATE INDEX IF NOT EXISTS idx_vehicle_variant_safety_features ON sales_tracking.vehicle_variant USING GIN (safety_features);
+CREATE INDEX IF NOT EXISTS idx_vehicle_variant_comfort_features ON sales_tracking.vehicle_variant USING GIN (comfort_features);
+
+CREATE TABLE IF NOT EXISTS sales_tracking.catalog_version (
+    id      integer PRIMARY KEY,
+    version bigint NOT NULL
+);
+
+INSERT INTO sales_tracking.catalog_version (id, version) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
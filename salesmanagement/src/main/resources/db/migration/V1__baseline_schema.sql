@@ -0,0 +1,227 @@
+-- Baseline: exactly the schema Hibernate's ddl-auto=update had built before the typed spec, array and catalog_version
+-- additions. Databases created before migrations existed are baselined at this version and skip it, so everything
+-- added since then lives in V1_1 onwards.
+
+CREATE TABLE sales_tracking.vehicle_model (
+    vehicle_model_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    model_name       varchar(255) NOT NULL
+);
+
+CREATE TABLE sales_tracking.vehicle_variant (
+    vehicle_variant_id  bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    vehicle_model_id    bigint       NOT NULL REFERENCES sales_tracking.vehicle_model (vehicle_model_id),
+    model_name          varchar(50),
+    variant             varchar(100) NOT NULL,
+    suffix              varchar(50),
+    safety_feature      varchar(500),
+    engine_colour       varchar(50),
+    colour              varchar(255),
+    interior_colour     varchar(100),
+    transmission_type   varchar(100),
+    engine_capacity     varchar(50),
+    fuel_type           varchar(50),
+    price               numeric(15, 2),
+    year_of_manufacture integer,
+    body_type           varchar(100),
+    fuel_tank_capacity  numeric(5, 2),
+    seating_capacity    integer,
+    max_power           varchar(50),
+    max_torque          varchar(50),
+    top_speed           varchar(50),
+    wheel_base          varchar(50),
+    width               varchar(50),
+    length              varchar(50),
+    infotainment        varchar(100),
+    comfort             varchar(255),
+    number_of_airbags   integer,
+    mileage_city        numeric(5, 2),
+    mileage_highway     numeric(5, 2)
+);
+
+CREATE TABLE sales_tracking.stock_details (
+    stock_id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    vehicle_model_id   bigint NOT NULL REFERENCES sales_tracking.vehicle_model (vehicle_model_id),
+    vehicle_variant_id bigint NOT NULL REFERENCES sales_tracking.vehicle_variant (vehicle_variant_id),
+    model_name         varchar(50),
+    suffix             varchar(10),
+    fuel_type          varchar(50),
+    colour             varchar(50),
+    engine_colour      varchar(50),
+    transmission_type  varchar(50),
+    variant            varchar(50),
+    quantity           integer,
+    stock_status       varchar(255),
+    interior_colour    varchar(50),
+    stock_arrival_date varchar(255)
+);
+
+CREATE TABLE sales_tracking.stock_details_history (
+    history_id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    stock_id           bigint       NOT NULL REFERENCES sales_tracking.stock_details (stock_id),
+    changed_at         timestamp(6) NOT NULL,
+    vehicle_model_id   bigint REFERENCES sales_tracking.vehicle_model (vehicle_model_id),
+    vehicle_variant_id bigint REFERENCES sales_tracking.vehicle_variant (vehicle_variant_id),
+    suffix             varchar(255),
+    fuel_type          varchar(255),
+    colour             varchar(255),
+    model_name         varchar(255),
+    engine_colour      varchar(255),
+    transmission_type  varchar(255),
+    variant            varchar(255),
+    quantity           integer,
+    stock_status       varchar(255),
+    interior_colour    varchar(255),
+    stock_arrival_date varchar(255),
+    stock_history      varchar(255)
+);
+
+CREATE TABLE sales_tracking.mddp_stock (
+    mddp_id                bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    expected_dispatch_date timestamp(6) NOT NULL,
+    expected_delivery_date timestamp(6) NOT NULL,
+    vehicle_model_id       bigint       NOT NULL REFERENCES sales_tracking.vehicle_model (vehicle_model_id),
+    vehicle_variant_id     bigint       NOT NULL REFERENCES sales_tracking.vehicle_variant (vehicle_variant_id),
+    model_name             varchar(50),
+    suffix                 varchar(50),
+    fuel_type              varchar(50),
+    colour                 varchar(50),
+    engine_colour          varchar(50),
+    transmission_type      varchar(50),
+    variant                varchar(50),
+    quantity               integer      NOT NULL,
+    stock_status           varchar(255),
+    interior_colour        varchar(50),
+    stock_arrival_date     varchar(255)
+);
+
+CREATE TABLE sales_tracking.manufacturer_order (
+    manufacturer_id        bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    vehicle_variant_id     bigint       NOT NULL REFERENCES sales_tracking.vehicle_variant (vehicle_variant_id),
+    manufacturer_location  varchar(255) NOT NULL,
+    model_name             varchar(50),
+    fuel_type              varchar(50),
+    colour                 varchar(50),
+    variant                varchar(50),
+    suffix                 varchar(10),
+    interior_colour        varchar(50),
+    engine_colour          varchar(50),
+    transmission_type      varchar(50),
+    order_status           varchar(255) NOT NULL,
+    estimated_arrival_date timestamp(6)
+);
+
+CREATE TABLE sales_tracking.vehicle_order_details (
+    customer_order_id      varchar(20) PRIMARY KEY,
+    vehicle_model_id       bigint       NOT NULL REFERENCES sales_tracking.vehicle_model (vehicle_model_id),
+    vehicle_variant_id     bigint       NOT NULL REFERENCES sales_tracking.vehicle_variant (vehicle_variant_id),
+    customer_name          varchar(100) NOT NULL,
+    phone_number           varchar(15)  NOT NULL,
+    email                  varchar(100) NOT NULL,
+    permanent_address      text,
+    current_address        text,
+    aadhar_no              varchar(20)  NOT NULL,
+    pan_no                 varchar(20)  NOT NULL,
+    model_name             varchar(100) NOT NULL,
+    fuel_type              varchar(50),
+    colour                 varchar(50),
+    transmission_type      varchar(50),
+    variant                varchar(50),
+    quantity               integer      NOT NULL,
+    payment_mode           varchar(50)  NOT NULL,
+    order_status           varchar(255),
+    expected_delivery_date varchar(255)
+);
+
+CREATE TABLE sales_tracking.vehicle_order_details_history (
+    history_id             bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_order_id      varchar(20)  NOT NULL REFERENCES sales_tracking.vehicle_order_details (customer_order_id),
+    changed_at             timestamp(6) NOT NULL,
+    aadhar_no              varchar(255),
+    colour                 varchar(255),
+    current_address        varchar(255),
+    customer_name          varchar(255),
+    email                  varchar(255),
+    fuel_type              varchar(255),
+    model_name             varchar(255),
+    order_status           varchar(255),
+    pan_no                 varchar(255),
+    payment_mode           varchar(255),
+    permanent_address      varchar(255),
+    phone_number           varchar(255),
+    quantity               integer,
+    transmission_type      varchar(255),
+    variant                varchar(255),
+    vehicle_model_id       bigint REFERENCES sales_tracking.vehicle_model (vehicle_model_id),
+    vehicle_variant_id     bigint REFERENCES sales_tracking.vehicle_variant (vehicle_variant_id),
+    order_status_history   varchar(255),
+    expected_delivery_date varchar(255)
+);
+
+CREATE TABLE sales_tracking.finance_details (
+    finance_id        bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_order_id varchar(20)  NOT NULL,
+    customer_name     varchar(255) NOT NULL,
+    finance_status    varchar(255) NOT NULL,
+    approved_by       varchar(255),
+    rejected_by       varchar(255)
+);
+
+CREATE TABLE sales_tracking.finance_details_history (
+    history_id             bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    finance_id             bigint REFERENCES sales_tracking.finance_details (finance_id),
+    customer_order_id      varchar(20)  NOT NULL,
+    customer_name          varchar(255) NOT NULL,
+    finance_status         varchar(255) NOT NULL,
+    approved_by            varchar(255),
+    rejected_by            varchar(255),
+    changed_at             timestamp(6) NOT NULL,
+    finance_status_history varchar(1000)
+);
+
+CREATE TABLE sales_tracking.dispatch_details (
+    dispatch_id       bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_order_id varchar(20) NOT NULL,
+    customer_name     varchar(255),
+    dispatch_status   varchar(255),
+    dispatch_date     timestamp(6),
+    dispatched_by     varchar(255)
+);
+
+CREATE TABLE sales_tracking.dispatch_details_history (
+    history_id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    dispatch_id             bigint       NOT NULL REFERENCES sales_tracking.dispatch_details (dispatch_id),
+    customer_order_id       varchar(20)  NOT NULL,
+    customer_name           varchar(255),
+    dispatch_status         varchar(255),
+    dispatch_date           timestamp(6),
+    dispatched_by           varchar(255),
+    changed_at              timestamp(6) NOT NULL,
+    dispatch_status_history varchar(255)
+);
+
+CREATE TABLE sales_tracking.delivery_details (
+    delivery_id       bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_order_id varchar(20) NOT NULL,
+    customer_name     varchar(255),
+    delivery_status   varchar(255),
+    delivery_date     timestamp(6),
+    delivered_by      varchar(255),
+    recipient_name    varchar(255)
+);
+
+CREATE TABLE sales_tracking.delivery_details_history (
+    history_id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    delivery_id             bigint      NOT NULL REFERENCES sales_tracking.delivery_details (delivery_id),
+    customer_order_id       varchar(20) NOT NULL,
+    customer_name           varchar(255),
+    delivery_status         varchar(255),
+    delivery_date           timestamp(6),
+    delivered_by            varchar(255),
+    recipient_name          varchar(255),
+    delivery_status_history varchar(255)
+);
+
+CREATE TABLE sales_tracking.order_id_sequence (
+    year            varchar(4) PRIMARY KEY,
+    sequence_number bigint NOT NULL
+);
@@ -0,0 +1,72 @@
+-- Indexes for the repository lookups. Built CONCURRENTLY so applying this to a live database does not block writes;
+-- Flyway runs the whole script outside a transaction for that reason, and IF NOT EXISTS makes a retry after a
+-- failed build safe (drop the INVALID index first).
+--
+-- Stock allocation only ever asks for AVAILABLE lots, so those lookups get partial indexes that stay small as sold
+-- and blocked lots pile up. Hibernate binds the status as a parameter; Postgres still matches the partial index
+-- because custom plans see the bound value. findByStockStatus on its own is deliberately left unindexed: a status
+-- matches too large a share of the table for an index to beat a sequential scan.
+
+-- StockDetailsRepository.findByVehicleVariantAndStockStatus / findByModelNameAndVehicleVariantIdAndStockStatus
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_stock_details_available_variant
+    ON sales_tracking.stock_details (vehicle_variant_id, model_name)
+    WHERE stock_status = 'AVAILABLE';
+
+-- StockDetailsRepository.findByModelNameAndVehicleVariantIdVariantId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_stock_details_model_name_variant
+    ON sales_tracking.stock_details (model_name, vehicle_variant_id);
+
+-- StockDetailsRepository.findByVehicleVariantAndVehicleModel
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_stock_details_variant_model
+    ON sales_tracking.stock_details (vehicle_variant_id, vehicle_model_id);
+
+-- MddpStockRepository.findByVehicleVariantIdAndStockStatus
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mddp_stock_available_variant
+    ON sales_tracking.mddp_stock (vehicle_variant_id)
+    WHERE stock_status = 'AVAILABLE';
+
+-- MddpStockRepository.findByModelNameAndVehicleVariantIdVariantId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mddp_stock_model_name_variant
+    ON sales_tracking.mddp_stock (model_name, vehicle_variant_id);
+
+-- ManufacturerOrderRepository.findByModelNameAndVehicleVariantIdVariantId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_manufacturer_order_model_name_variant
+    ON sales_tracking.manufacturer_order (model_name, vehicle_variant_id);
+
+-- VehicleVariantRepository.findByVehicleModelId* and findByVehicleModelId_ModelNameAndVariant (after the model join)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicle_variant_model_variant
+    ON sales_tracking.vehicle_variant (vehicle_model_id, variant);
+
+-- VehicleModelRepository.findByModelName / findByModelNameIgnoreCase (Hibernate emits upper(model_name) = upper(?))
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicle_model_model_name
+    ON sales_tracking.vehicle_model (model_name);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicle_model_model_name_upper
+    ON sales_tracking.vehicle_model (upper(model_name));
+
+-- Finance/Dispatch/DeliveryDetailsRepository.findByCustomerOrderId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_finance_details_customer_order_id
+    ON sales_tracking.finance_details (customer_order_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_dispatch_details_customer_order_id
+    ON sales_tracking.dispatch_details (customer_order_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_delivery_details_customer_order_id
+    ON sales_tracking.delivery_details (customer_order_id);
+
+-- Dashboard counts (countByOrderStatus, countByFinanceStatus, countByDeliveryStatus) become index-only scans
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicle_order_details_order_status
+    ON sales_tracking.vehicle_order_details (order_status);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_finance_details_finance_status
+    ON sales_tracking.finance_details (finance_status);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_delivery_details_delivery_status
+    ON sales_tracking.delivery_details (delivery_status);
+
+-- History rows are looked up and deleted by their parent; Postgres does not index foreign keys on its own
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicle_order_details_history_order
+    ON sales_tracking.vehicle_order_details_history (customer_order_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_stock_details_history_stock
+    ON sales_tracking.stock_details_history (stock_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_finance_details_history_finance
+    ON sales_tracking.finance_details_history (finance_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_dispatch_details_history_dispatch
+    ON sales_tracking.dispatch_details_history (dispatch_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_delivery_details_history_delivery
+    ON sales_tracking.delivery_details_history (delivery_id);
@@ -0,0 +1,211 @@
+-- Declarative range partitioning for the tables that grow without bound:
+--   vehicle_order_details   by order year, taken from the customer order ID (TYT-YYYY-NNN)
+--   *_history               by month of changed_at
+-- Partitions are created ahead of time by PartitionMaintenanceService through the functions below; a DEFAULT
+-- partition on each table catches anything outside the prepared ranges (e.g. synthetic SYN-* orders) instead of
+-- failing the insert. Retiring old history is DROP TABLE on a monthly partition, not a DELETE.
+
+-- Monthly partitions <parent>_pYYYYMM for every month from first_month up to and including last_month
+CREATE OR REPLACE FUNCTION sales_tracking.create_monthly_partitions(parent text, first_month date, last_month date)
+    RETURNS integer
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    month_start    date := date_trunc('month', first_month)::date;
+    partition_name text;
+    created        integer := 0;
+BEGIN
+    -- Serialises maintenance across application nodes
+    PERFORM pg_advisory_xact_lock(hashtext('sales_tracking.partition_maintenance'));
+    WHILE month_start <= last_month LOOP
+        partition_name := parent || '_p' || to_char(month_start, 'YYYYMM');
+        IF to_regclass('sales_tracking.' || partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE sales_tracking.%I PARTITION OF sales_tracking.%I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, parent, month_start, (month_start + interval '1 month')::date);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- Yearly order partitions vehicle_order_details_yYYYY. Bounds are ID prefixes: 'TYT-2025-' <= id < 'TYT-2026-'
+-- holds for every sequence width because the key column uses the "C" collation.
+CREATE OR REPLACE FUNCTION sales_tracking.create_order_year_partitions(first_year integer, last_year integer)
+    RETURNS integer
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition_name text;
+    created        integer := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('sales_tracking.partition_maintenance'));
+    FOR order_year IN first_year .. last_year LOOP
+        partition_name := 'vehicle_order_details_y' || order_year;
+        IF to_regclass('sales_tracking.' || partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE sales_tracking.%I PARTITION OF sales_tracking.vehicle_order_details '
+                               || 'FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, format('TYT-%s-', order_year), format('TYT-%s-', order_year + 1));
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- Drops the monthly partitions of parent that end on or before cutoff. Dropping a partition only removes its
+-- files and catalog entries, so it takes the same time whatever the partition holds.
+CREATE OR REPLACE FUNCTION sales_tracking.drop_monthly_partitions_before(parent text, cutoff date)
+    RETURNS integer
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition_name text;
+    dropped        integer := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('sales_tracking.partition_maintenance'));
+    FOR partition_name IN
+        SELECT child.relname
+        FROM pg_inherits i
+                 JOIN pg_class child ON child.oid = i.inhrelid
+                 JOIN pg_class parent_table ON parent_table.oid = i.inhparent
+                 JOIN pg_namespace n ON n.oid = parent_table.relnamespace
+        WHERE n.nspname = 'sales_tracking'
+          AND parent_table.relname = parent
+          AND child.relname ~ ('^' || parent || '_p[0-9]{6}$')
+          AND (to_date(right(child.relname, 6), 'YYYYMM') + interval '1 month')::date <= cutoff
+        ORDER BY child.relname
+    LOOP
+        EXECUTE format('DROP TABLE sales_tracking.%I', partition_name);
+        dropped := dropped + 1;
+    END LOOP;
+    RETURN dropped;
+END;
+$$;
+
+-- delivery_details_history never recorded when a row was written; existing rows take their delivery date
+ALTER TABLE sales_tracking.delivery_details_history ADD COLUMN changed_at timestamp(6);
+UPDATE sales_tracking.delivery_details_history SET changed_at = coalesce(delivery_date, now());
+ALTER TABLE sales_tracking.delivery_details_history ALTER COLUMN changed_at SET NOT NULL;
+
+-- Orders. The key gets the "C" collation so prefix bounds compare bytewise and equality lookups, which inherit the
+-- column collation, prune to a single partition.
+ALTER TABLE sales_tracking.vehicle_order_details RENAME TO vehicle_order_details_unpartitioned;
+
+CREATE TABLE sales_tracking.vehicle_order_details (
+    customer_order_id      varchar(20) COLLATE "C" NOT NULL,
+    vehicle_model_id       bigint       NOT NULL,
+    vehicle_variant_id     bigint       NOT NULL,
+    customer_name          varchar(100) NOT NULL,
+    phone_number           varchar(15)  NOT NULL,
+    email                  varchar(100) NOT NULL,
+    permanent_address      text,
+    current_address        text,
+    aadhar_no              varchar(20)  NOT NULL,
+    pan_no                 varchar(20)  NOT NULL,
+    model_name             varchar(100) NOT NULL,
+    fuel_type              varchar(50),
+    colour                 varchar(50),
+    transmission_type      varchar(50),
+    variant                varchar(50),
+    quantity               integer      NOT NULL,
+    payment_mode           varchar(50)  NOT NULL,
+    order_status           varchar(255),
+    expected_delivery_date varchar(255)
+) PARTITION BY RANGE (customer_order_id);
+
+DO
+$$
+DECLARE
+    first_year integer;
+BEGIN
+    SELECT coalesce(min(substring(customer_order_id FROM 5 FOR 4)::integer), extract(YEAR FROM now())::integer)
+    INTO first_year
+    FROM sales_tracking.vehicle_order_details_unpartitioned
+    WHERE customer_order_id ~ '^TYT-[0-9]{4}-';
+    PERFORM sales_tracking.create_order_year_partitions(first_year, extract(YEAR FROM now())::integer + 1);
+END;
+$$;
+CREATE TABLE sales_tracking.vehicle_order_details_default PARTITION OF sales_tracking.vehicle_order_details DEFAULT;
+
+INSERT INTO sales_tracking.vehicle_order_details (customer_order_id, vehicle_model_id, vehicle_variant_id,
+                                                  customer_name, phone_number, email, permanent_address,
+                                                  current_address, aadhar_no, pan_no, model_name, fuel_type, colour,
+                                                  transmission_type, variant, quantity, payment_mode, order_status,
+                                                  expected_delivery_date)
+SELECT customer_order_id, vehicle_model_id, vehicle_variant_id, customer_name, phone_number, email,
+       permanent_address, current_address, aadhar_no, pan_no, model_name, fuel_type, colour, transmission_type,
+       variant, quantity, payment_mode, order_status, expected_delivery_date
+FROM sales_tracking.vehicle_order_details_unpartitioned;
+
+-- History tables keep their column layout (LIKE copies it in order, with the identity on history_id) and are
+-- prepared from the month of their oldest row to three months ahead.
+DO
+$$
+DECLARE
+    parent      text;
+    legacy      text;
+    first_month date;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY ['vehicle_order_details_history', 'stock_details_history', 'finance_details_history',
+                                   'dispatch_details_history', 'delivery_details_history'] LOOP
+        legacy := parent || '_unpartitioned';
+        EXECUTE format('ALTER TABLE sales_tracking.%I RENAME TO %I', parent, legacy);
+        EXECUTE format('CREATE TABLE sales_tracking.%I (LIKE sales_tracking.%I INCLUDING DEFAULTS INCLUDING IDENTITY) '
+                           || 'PARTITION BY RANGE (changed_at)', parent, legacy);
+
+        EXECUTE format('SELECT date_trunc(''month'', coalesce(min(changed_at), now()))::date FROM sales_tracking.%I', legacy)
+            INTO first_month;
+        PERFORM sales_tracking.create_monthly_partitions(parent, first_month,
+                                                         (date_trunc('month', now()) + interval '3 months')::date);
+        EXECUTE format('CREATE TABLE sales_tracking.%I PARTITION OF sales_tracking.%I DEFAULT', parent || '_default', parent);
+
+        EXECUTE format('INSERT INTO sales_tracking.%I OVERRIDING SYSTEM VALUE SELECT * FROM sales_tracking.%I', parent, legacy);
+        EXECUTE format('SELECT setval(pg_get_serial_sequence(%L, ''history_id''), '
+                           || '(SELECT coalesce(max(history_id), 0) + 1 FROM sales_tracking.%I), false)',
+                       'sales_tracking.' || parent, parent);
+        EXECUTE format('DROP TABLE sales_tracking.%I', legacy);
+    END LOOP;
+END;
+$$;
+
+-- The order history foreign key pointed at the old orders table and went with the old history table
+DROP TABLE sales_tracking.vehicle_order_details_unpartitioned;
+
+-- Keys and indexes are declared on the parents and cascade to every current and future partition
+ALTER TABLE sales_tracking.vehicle_order_details ADD PRIMARY KEY (customer_order_id);
+ALTER TABLE sales_tracking.vehicle_order_details
+    ADD FOREIGN KEY (vehicle_model_id) REFERENCES sales_tracking.vehicle_model (vehicle_model_id),
+    ADD FOREIGN KEY (vehicle_variant_id) REFERENCES sales_tracking.vehicle_variant (vehicle_variant_id);
+CREATE INDEX idx_vehicle_order_details_order_status ON sales_tracking.vehicle_order_details (order_status);
+
+ALTER TABLE sales_tracking.vehicle_order_details_history ADD PRIMARY KEY (history_id, changed_at);
+ALTER TABLE sales_tracking.vehicle_order_details_history
+    ADD FOREIGN KEY (customer_order_id) REFERENCES sales_tracking.vehicle_order_details (customer_order_id),
+    ADD FOREIGN KEY (vehicle_model_id) REFERENCES sales_tracking.vehicle_model (vehicle_model_id),
+    ADD FOREIGN KEY (vehicle_variant_id) REFERENCES sales_tracking.vehicle_variant (vehicle_variant_id);
+CREATE INDEX idx_vehicle_order_details_history_order
+    ON sales_tracking.vehicle_order_details_history (customer_order_id);
+
+ALTER TABLE sales_tracking.stock_details_history ADD PRIMARY KEY (history_id, changed_at);
+ALTER TABLE sales_tracking.stock_details_history
+    ADD FOREIGN KEY (stock_id) REFERENCES sales_tracking.stock_details (stock_id),
+    ADD FOREIGN KEY (vehicle_model_id) REFERENCES sales_tracking.vehicle_model (vehicle_model_id),
+    ADD FOREIGN KEY (vehicle_variant_id) REFERENCES sales_tracking.vehicle_variant (vehicle_variant_id);
+CREATE INDEX idx_stock_details_history_stock ON sales_tracking.stock_details_history (stock_id);
+
+ALTER TABLE sales_tracking.finance_details_history ADD PRIMARY KEY (history_id, changed_at);
+ALTER TABLE sales_tracking.finance_details_history
+    ADD FOREIGN KEY (finance_id) REFERENCES sales_tracking.finance_details (finance_id);
+CREATE INDEX idx_finance_details_history_finance ON sales_tracking.finance_details_history (finance_id);
+
+ALTER TABLE sales_tracking.dispatch_details_history ADD PRIMARY KEY (history_id, changed_at);
+ALTER TABLE sales_tracking.dispatch_details_history
+    ADD FOREIGN KEY (dispatch_id) REFERENCES sales_tracking.dispatch_details (dispatch_id);
+CREATE INDEX idx_dispatch_details_history_dispatch ON sales_tracking.dispatch_details_history (dispatch_id);
+
+ALTER TABLE sales_tracking.delivery_details_history ADD PRIMARY KEY (history_id, changed_at);
+ALTER TABLE sales_tracking.delivery_details_history
+    ADD FOREIGN KEY (delivery_id) REFERENCES sales_tracking.delivery_details (delivery_id);
+CREATE INDEX idx_delivery_details_history_delivery ON sales_tracking.delivery_details_history (delivery_id);
@@ -0,0 +1,14 @@
+-- Index of orders moved to the cold archive by OrderArchiver: which chunk directory holds their rows. Lookups for
+-- IDs that are no longer in vehicle_order_details land here before touching any archive file.
+CREATE TABLE sales_tracking.archived_order (
+    customer_order_id varchar(20) COLLATE "C" PRIMARY KEY,
+    order_status      varchar(255) NOT NULL,
+    closed_at         timestamp(6) NOT NULL,
+    archived_at       timestamp(6) NOT NULL,
+    archive_chunk     varchar(255) NOT NULL
+);
+
+-- Timeline reads and archive deletes find the workflow history rows of one order by its ID
+CREATE INDEX idx_finance_details_history_order ON sales_tracking.finance_details_history (customer_order_id);
+CREATE INDEX idx_dispatch_details_history_order ON sales_tracking.dispatch_details_history (customer_order_id);
+CREATE INDEX idx_delivery_details_history_order ON sales_tracking.delivery_details_history (customer_order_id);
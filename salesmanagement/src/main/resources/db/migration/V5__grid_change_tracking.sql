@@ -0,0 +1,71 @@
+-- Change tracking for the grid tables, read by ChangeFeedService for since=<changeToken> refreshes.
+--
+-- created_at/updated_at are set by triggers rather than by the application, so bulk JPQL updates, JdbcTemplate
+-- writes and the archiver are covered as well as entity saves. Values are UTC from clock_timestamp(), i.e. when the
+-- row was written, not when its transaction started. Existing rows get the migration time.
+--
+-- Deleted rows leave a tombstone in grid_tombstone so a refresh can drop them from the grid; tombstones are purged
+-- after salesmanagement.changefeed.tombstone-retention, and older change tokens are refused.
+
+CREATE FUNCTION sales_tracking.touch_row_timestamps() RETURNS trigger LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        NEW.created_at := clock_timestamp() AT TIME ZONE 'UTC';
+    ELSE
+        NEW.created_at := OLD.created_at;
+    END IF;
+    NEW.updated_at := clock_timestamp() AT TIME ZONE 'UTC';
+    RETURN NEW;
+END
+$$;
+
+CREATE TABLE sales_tracking.grid_tombstone (
+    table_name varchar(64)  NOT NULL,
+    row_key    varchar(64)  NOT NULL,
+    deleted_at timestamp(6) NOT NULL
+);
+
+CREATE INDEX idx_grid_tombstone_table_deleted ON sales_tracking.grid_tombstone (table_name, deleted_at);
+
+-- TG_ARGV is (table, key column). The table is passed in because on a partition TG_TABLE_NAME is the partition
+CREATE FUNCTION sales_tracking.record_grid_tombstone() RETURNS trigger LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO sales_tracking.grid_tombstone (table_name, row_key, deleted_at)
+    VALUES (TG_ARGV[0], to_jsonb(OLD) ->> TG_ARGV[1], clock_timestamp() AT TIME ZONE 'UTC');
+    RETURN OLD;
+END
+$$;
+
+DO
+$$
+DECLARE
+    tracked  text[][] := ARRAY[
+        ['vehicle_order_details', 'customer_order_id'],
+        ['stock_details', 'stock_id'],
+        ['mddp_stock', 'mddp_id'],
+        ['finance_details', 'finance_id'],
+        ['dispatch_details', 'dispatch_id'],
+        ['delivery_details', 'delivery_id'],
+        ['manufacturer_order', 'manufacturer_id']];
+    entry    text[];
+BEGIN
+    FOREACH entry SLICE 1 IN ARRAY tracked
+    LOOP
+        -- A constant default fills existing rows without rewriting the table
+        EXECUTE format('ALTER TABLE sales_tracking.%I '
+                           || 'ADD COLUMN created_at timestamp(6) NOT NULL DEFAULT (now() AT TIME ZONE ''UTC''), '
+                           || 'ADD COLUMN updated_at timestamp(6) NOT NULL DEFAULT (now() AT TIME ZONE ''UTC'')',
+                       entry[1]);
+        -- On the partitioned vehicle_order_details these cascade to every partition, present and future
+        EXECUTE format('CREATE INDEX %I ON sales_tracking.%I (updated_at, %I)',
+                       'idx_' || entry[1] || '_updated_at', entry[1], entry[2]);
+        EXECUTE format('CREATE TRIGGER touch_row_timestamps BEFORE INSERT OR UPDATE ON sales_tracking.%I '
+                           || 'FOR EACH ROW EXECUTE FUNCTION sales_tracking.touch_row_timestamps()', entry[1]);
+        EXECUTE format('CREATE TRIGGER record_grid_tombstone AFTER DELETE ON sales_tracking.%I '
+                           || 'FOR EACH ROW EXECUTE FUNCTION sales_tracking.record_grid_tombstone(%L, %L)',
+                       entry[1], entry[1], entry[2]);
+    END LOOP;
+END
+$$;
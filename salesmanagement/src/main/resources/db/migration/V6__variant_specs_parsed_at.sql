@@ -0,0 +1,8 @@
+-- Records when VehicleSpecParser last ran over a variant, so the startup backfill only visits rows it has never seen.
+-- Rows whose spec strings cannot be parsed ("N/A", "—") keep NULL typed values but are not picked up again.
+-- Existing rows start NULL and are backfilled once on the next start.
+
+ALTER TABLE sales_tracking.vehicle_variant ADD COLUMN specs_parsed_at timestamp(6);
+
+CREATE INDEX idx_vehicle_variant_specs_unparsed ON sales_tracking.vehicle_variant (vehicle_variant_id)
+    WHERE specs_parsed_at IS NULL;
@@ -0,0 +1,54 @@
+-- Change tokens by transaction visibility instead of by clock.
+--
+-- V5 stamps updated_at/deleted_at when a row is written, but the row only becomes visible when its transaction
+-- commits, so a write that committed more than the token overlap after it was stamped was skipped by every later
+-- refresh. Rows and tombstones now also record the top-level transaction that wrote them, and a change token carries
+-- the snapshot (pg_current_snapshot()) it was taken in: a refresh returns the rows whose transaction was not visible
+-- in that snapshot, i.e. that committed after it, however long they ran. xid8 values are 64-bit and never wrap, so
+-- they are stored as bigint. Rows written before this migration have no xid and are older than any token.
+
+CREATE OR REPLACE FUNCTION sales_tracking.touch_row_timestamps() RETURNS trigger LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        NEW.created_at := clock_timestamp() AT TIME ZONE 'UTC';
+    ELSE
+        NEW.created_at := OLD.created_at;
+    END IF;
+    NEW.updated_at := clock_timestamp() AT TIME ZONE 'UTC';
+    NEW.updated_xid := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END
+$$;
+
+ALTER TABLE sales_tracking.grid_tombstone ADD COLUMN deleted_xid bigint;
+
+CREATE OR REPLACE FUNCTION sales_tracking.record_grid_tombstone() RETURNS trigger LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO sales_tracking.grid_tombstone (table_name, row_key, deleted_at, deleted_xid)
+    VALUES (TG_ARGV[0], to_jsonb(OLD) ->> TG_ARGV[1], clock_timestamp() AT TIME ZONE 'UTC',
+            pg_current_xact_id()::text::bigint);
+    RETURN OLD;
+END
+$$;
+
+CREATE INDEX idx_grid_tombstone_table_deleted_xid ON sales_tracking.grid_tombstone (table_name, deleted_xid);
+
+DO
+$$
+DECLARE
+    tracked text[] := ARRAY['vehicle_order_details', 'stock_details', 'mddp_stock', 'finance_details',
+                            'dispatch_details', 'delivery_details', 'manufacturer_order'];
+    tbl     text;
+BEGIN
+    FOREACH tbl IN ARRAY tracked
+    LOOP
+        -- Nullable without a default: no table rewrite
+        EXECUTE format('ALTER TABLE sales_tracking.%I ADD COLUMN updated_xid bigint', tbl);
+        EXECUTE format('CREATE INDEX %I ON sales_tracking.%I (updated_xid)', 'idx_' || tbl || '_updated_xid', tbl);
+        -- Refreshes no longer range-scan updated_at
+        EXECUTE format('DROP INDEX sales_tracking.%I', 'idx_' || tbl || '_updated_at');
+    END LOOP;
+END
+$$;
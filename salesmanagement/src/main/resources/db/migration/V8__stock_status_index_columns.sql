@@ -0,0 +1,18 @@
+-- Indexes that serve the stock lookups under generic plans as well as custom ones.
+--
+-- V2 gave the AVAILABLE stock lookups partial indexes (WHERE stock_status = 'AVAILABLE') on the grounds that the
+-- planner sees the bound status. It only does for custom plans: after prepareThreshold (5) executions PgJDBC switches
+-- to a named server-side statement, and once Postgres settles on a generic plan the status is an unknown $n that
+-- cannot prove the index predicate, so the lookup scans the table. The status becomes a key column instead, which a
+-- parameter matches in any plan. Built CONCURRENTLY like V2; each new index exists before the one it replaces is
+-- dropped, so the lookups are never left without one.
+
+-- StockDetailsRepository.findByVehicleVariantAndStockStatus / findByModelNameAndVehicleVariantIdAndStockStatus
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_stock_details_variant_status_model
+    ON sales_tracking.stock_details (vehicle_variant_id, stock_status, model_name);
+DROP INDEX CONCURRENTLY IF EXISTS sales_tracking.idx_stock_details_available_variant;
+
+-- MddpStockRepository.findByVehicleVariantIdAndStockStatus / findAllByVehicleVariantIdAndStockStatus
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mddp_stock_variant_status
+    ON sales_tracking.mddp_stock (vehicle_variant_id, stock_status);
+DROP INDEX CONCURRENTLY IF EXISTS sales_tracking.idx_mddp_stock_available_variant;
@@ -6,11 +6,16 @@ import com.vehicle.salesmanagement.domain.dto.apirequest.*;
 import com.vehicle.salesmanagement.domain.dto.apiresponse.*;
 import com.vehicle.salesmanagement.domain.entity.model.*;
 import com.vehicle.salesmanagement.enums.*;
+import com.vehicle.salesmanagement.errorhandling.ChangeTokenExpiredException;
 import com.vehicle.salesmanagement.repository.*;
 import com.vehicle.salesmanagement.service.*;
 import com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflow;
+import io.temporal.api.common.v1.WorkflowExecution;
 import io.temporal.client.WorkflowClient;
+import io.temporal.client.WorkflowNotFoundException;
 import io.temporal.client.WorkflowStub;
+import io.temporal.client.WorkflowUpdateException;
+import io.temporal.failure.ApplicationFailure;
 import io.temporal.worker.WorkerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +39,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.function.Function;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -97,6 +103,18 @@ public class SalesmanagementApplicationTests {
     @MockBean
     private HistoryService historyService;
 
+    @MockBean
+    private OrderLookupService orderLookupService;
+
+    @MockBean
+    private FieldProjectionService fieldProjectionService;
+
+    @MockBean
+    private ChangeFeedService changeFeedService;
+
+    @MockBean
+    private GridAggregateService gridAggregateService;
+
     private VehicleOrderDetails orderDetails;
     private VehicleModel vehicleModel;
     private VehicleVariant vehicleVariant;
@@ -115,6 +133,10 @@ public class SalesmanagementApplicationTests {
 
     @BeforeEach
     void setUp() {
+        // Full grid reads run inside the change feed's transaction
+        when(changeFeedService.readWithToken(any())).thenAnswer(invocation ->
+                invocation.<Function<String, Object>>getArgument(0).apply(null));
+
         ZonedDateTime zonedDateTime = ZonedDateTime.of(2025, 6, 19, 12, 45, 0, 0, ZoneId.of("Asia/Kolkata"));
         LocalDateTime timestamp = zonedDateTime.toLocalDateTime();
 
@@ -604,6 +626,95 @@ public class SalesmanagementApplicationTests {
                 .andExpect(jsonPath("$.data[0].modelName").value(is("Test Model")));
     }
 
+    @Test
+    void testGetAllStockDetails_WithFields() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("stockId", 1L);
+        row.put("quantity", 5);
+        when(fieldProjectionService.findAll(GridProjection.STOCK_DETAILS, "quantity"))
+                .thenReturn(Collections.singletonList(row));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/stockdetails").param("fields", "quantity"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(is(1)))
+                .andExpect(jsonPath("$.data[0].stockId").value(is(1)))
+                .andExpect(jsonPath("$.data[0].quantity").value(is(5)))
+                .andExpect(jsonPath("$.data[0].modelName").doesNotExist());
+        verify(vehicleModelService, never()).getAllStockDetails();
+    }
+
+    @Test
+    void testGetAllStockDetails_UnknownField() throws Exception {
+        when(fieldProjectionService.findAll(GridProjection.STOCK_DETAILS, "aadharNo"))
+                .thenThrow(new IllegalArgumentException("Unknown field 'aadharNo'"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/stockdetails").param("fields", "aadharNo"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value(containsString("aadharNo")));
+    }
+
+    @Test
+    void testGetAllStockDetails_Since() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("stockId", 2L);
+        row.put("quantity", 3);
+        KendoGridResponse<Map<String, Object>> changes = new KendoGridResponse<>(Collections.singletonList(row), 1L, null, null);
+        changes.setDeleted(Collections.singletonList("7"));
+        changes.setChangeToken("next-token");
+        when(changeFeedService.changesSince(GridProjection.STOCK_DETAILS, null, "token")).thenReturn(changes);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/stockdetails").param("since", "token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].stockId").value(is(2)))
+                .andExpect(jsonPath("$.deleted[0]").value(is("7")))
+                .andExpect(jsonPath("$.changeToken").value(is("next-token")));
+        verify(vehicleModelService, never()).getAllStockDetails();
+    }
+
+    @Test
+    void testGetAllStockDetails_SinceExpired() throws Exception {
+        when(changeFeedService.changesSince(GridProjection.STOCK_DETAILS, null, "old-token"))
+                .thenThrow(new ChangeTokenExpiredException("Change token is older than PT168H"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/stockdetails").param("since", "old-token"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.errors[0]").value(containsString("older than")));
+    }
+
+    @Test
+    void testGetAllStockDetails_WithAggregates() throws Exception {
+        Map<String, Object> quantity = new LinkedHashMap<>();
+        quantity.put("sum", 42L);
+        Map<String, Object> group = new LinkedHashMap<>();
+        group.put("field", "modelName");
+        group.put("value", "Test Model");
+        group.put("aggregates", Collections.singletonMap("quantity", quantity));
+        when(gridAggregateService.aggregate(GridProjection.STOCK_DETAILS, "quantity:sum", "modelName"))
+                .thenReturn(new GridAggregateService.Result(Collections.singletonList(group), 3L));
+        when(vehicleModelService.getAllStockDetails()).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/stockdetails")
+                        .param("aggregate", "quantity:sum").param("group", "modelName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aggregateResults[0].value").value(is("Test Model")))
+                .andExpect(jsonPath("$.aggregateResults[0].aggregates.quantity.sum").value(is(42)));
+    }
+
+    @Test
+    void testAggregate_UnknownGrid() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/aggregates/invoices").param("aggregate", "quantity:sum"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value(containsString("stock-details")));
+        verifyNoInteractions(gridAggregateService);
+    }
+
+    @Test
+    void testExport_UnknownFormat() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/export/stock-details").param("format", "pdf"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusMessage").value(containsString("ndjson, csv, xlsx")));
+    }
+
     // VehicleOrderController Tests
     @Test
     void testPlaceSingleOrder_Success() throws Exception {
@@ -797,6 +908,8 @@ public class SalesmanagementApplicationTests {
         // Mock repository and service dependencies
         when(vehicleOrderDetailsRepository.findByCustomerOrderId(customerOrderId))
                 .thenReturn(Optional.of(mockOrderDetails));
+        when(vehicleOrderDetailsRepository.compareAndSetStatus(customerOrderId, OrderStatus.BLOCKED, OrderStatus.CANCELED))
+                .thenReturn(1);
         when(stockDetailsRepository.findByModelNameAndVehicleVariantIdAndStockStatus(
                 eq("TestModel"), eq(mockVariant), eq(StockStatus.AVAILABLE)))
                 .thenReturn(Collections.emptyList()); // No matching stock
@@ -909,6 +1022,18 @@ public class SalesmanagementApplicationTests {
                 .andExpect(jsonPath("$.total").value(is(0)));
     }
 
+    @Test
+    void testGetOrderStatusProgress_Archived() throws Exception {
+        when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.empty());
+        when(orderLookupService.findArchivedOrder("123"))
+                .thenReturn(Optional.of(new OrderResponse("123", OrderStatus.DELIVERED)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/orderstatus/123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(is(1)))
+                .andExpect(jsonPath("$.data[0].orderStatus").value(is("DELIVERED")));
+    }
+
     // FinanceController Tests
     private FinanceRequest createSampleFinanceRequest() {
         FinanceRequest request = new FinanceRequest();
@@ -938,6 +1063,16 @@ public class SalesmanagementApplicationTests {
         return response;
     }
 
+    private static WorkflowUpdateException updateRejected(String updateName, String message) {
+        return new WorkflowUpdateException(WorkflowExecution.newBuilder().setWorkflowId("parent-123").build(),
+                "update-1", updateName, ApplicationFailure.newFailure(message, IllegalStateException.class.getName()));
+    }
+
+    private static WorkflowNotFoundException parentWorkflowNotFound() {
+        return new WorkflowNotFoundException(WorkflowExecution.newBuilder().setWorkflowId("parent-123").build(),
+                "VehicleSalesParentWorkflow", null);
+    }
+
     private VehicleOrderDetails createSampleOrderDetails(String orderId, OrderStatus status) {
         VehicleOrderDetails orderDetails = new VehicleOrderDetails();
         orderDetails.setCustomerOrderId(orderId);
@@ -955,16 +1090,11 @@ public class SalesmanagementApplicationTests {
         when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
         when(financeService.createFinanceDetails(any(FinanceRequest.class))).thenReturn(financeResponse);
 
-        // mocking workflow query to simulate running status
-        var stub = Mockito.mock(io.temporal.client.WorkflowStub.class);
-        when(workflowClient.newUntypedWorkflowStub("parent-123")).thenReturn(stub);
-        when(stub.query(eq("getWorkflowStatus"), eq(String.class))).thenReturn("BLOCKED");
-
+        // the parent workflow accepts the finance update once the finance workflow is running
         var workflowMock = Mockito.mock(com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflow.class);
-        when(workflowClient.newWorkflowStub(eq(com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflow.class), eq("parent-123"), any()))
+        when(workflowClient.newWorkflowStub(com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflow.class, "parent-123"))
                 .thenReturn(workflowMock);
-
-        doNothing().when(workflowMock).initiateFinance(any(FinanceRequest.class));
+        when(workflowMock.requestFinance(any(FinanceRequest.class))).thenReturn(new OrderResponse("123", OrderStatus.BLOCKED));
 
         mockMvc.perform(MockMvcRequestBuilders.post("/api/order/financeInitiate")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -977,7 +1107,96 @@ public class SalesmanagementApplicationTests {
                 .andExpect(jsonPath("$.data.orderStatus", is("BLOCKED")))
                 .andExpect(jsonPath("$.data.modelName", is("Test Model")))
                 .andExpect(jsonPath("$.data.variant", is("Test Variant")));
+
+        verify(workflowMock, times(1)).requestFinance(any(FinanceRequest.class));
+        verify(workflowClient, never()).newUntypedWorkflowStub(anyString());
+    }
+
+    @Test
+    void testInitiateFinance_RejectedByWorkflow() throws Exception {
+        when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
+        when(financeService.createFinanceDetails(any(FinanceRequest.class))).thenReturn(financeResponse);
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.requestFinance(any(FinanceRequest.class)))
+                .thenThrow(updateRejected("requestFinance", "Finance has already been initiated for order 123"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/order/financeInitiate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(financeRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode").value(400))
+                .andExpect(jsonPath("$.statusMessage")
+                        .value("Cannot initiate finance: Finance has already been initiated for order 123"));
+    }
+
+    @Test
+    void testInitiateFinance_RejectedByWorkflow_DiscardsFinanceDetails() throws Exception {
+        when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
+        when(financeService.createFinanceDetails(any(FinanceRequest.class))).thenReturn(financeResponse);
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.requestFinance(any(FinanceRequest.class)))
+                .thenThrow(updateRejected("requestFinance", "Order 123 has been canceled"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/order/financeInitiate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(financeRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusMessage").value("Cannot initiate finance: Order 123 has been canceled"));
+
+        verify(financeService, times(1)).discardPendingFinanceDetails("123");
+    }
+
+    @Test
+    void testInitiateFinance_CanceledWhileStarting_DiscardsFinanceDetails() throws Exception {
+        when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
+        when(financeService.createFinanceDetails(any(FinanceRequest.class))).thenReturn(financeResponse);
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        // Accepted, then failed by the handler when the cancel wins the race with the finance start
+        when(vehicleSalesParentWorkflow.requestFinance(any(FinanceRequest.class))).thenThrow(new WorkflowUpdateException(
+                WorkflowExecution.newBuilder().setWorkflowId("parent-123").build(), "update-1", "requestFinance",
+                ApplicationFailure.newFailure("Order 123 was canceled before finance started", "OrderCanceled")));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/order/financeInitiate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(financeRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusMessage").value("Cannot initiate finance: Order 123 was canceled before finance started"));
+
+        verify(financeService, times(1)).discardPendingFinanceDetails("123");
+    }
+
+    @Test
+    void testInitiateFinance_ParentWorkflowNotRunning_DiscardsFinanceDetails() throws Exception {
+        when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
+        when(financeService.createFinanceDetails(any(FinanceRequest.class))).thenReturn(financeResponse);
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.requestFinance(any(FinanceRequest.class))).thenThrow(parentWorkflowNotFound());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/order/financeInitiate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(financeRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusMessage")
+                        .value("Cannot initiate finance: Parent workflow is not running for order ID: 123"));
+
+        verify(financeService, times(1)).discardPendingFinanceDetails("123");
+    }
+
+    @Test
+    void testInitiateFinance_Accepted_KeepsFinanceDetails() throws Exception {
+        when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
+        when(financeService.createFinanceDetails(any(FinanceRequest.class))).thenReturn(financeResponse);
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.requestFinance(any(FinanceRequest.class))).thenReturn(new OrderResponse("123", OrderStatus.BLOCKED));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/order/financeInitiate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(financeRequest)))
+                .andExpect(status().isAccepted());
+
+        verify(financeService, never()).discardPendingFinanceDetails(anyString());
     }
+
     @Test
     void testInitiateFinance_FinanceAlreadyExists() throws Exception {
         // Given
@@ -1032,9 +1251,7 @@ public class SalesmanagementApplicationTests {
         request.setCustomerOrderId("123");
         request.setApprovedBy("Test Approver");
 
-        WorkflowStub workflowStub = mock(WorkflowStub.class);
-        when(workflowClient.newUntypedWorkflowStub("finance-123")).thenReturn(workflowStub);
-        doNothing().when(workflowStub).signal(eq("approveFinance"), any());
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
 
         FinanceResponse mockResponse = new FinanceResponse();
         mockResponse.setCustomerOrderId("123");
@@ -1043,8 +1260,7 @@ public class SalesmanagementApplicationTests {
         mockResponse.setOrderStatus(OrderStatus.valueOf("ALLOTTED"));
         mockResponse.setCustomerName("Tarun Sai");
         mockResponse.setApprovedBy("Test Approver");
-// You can fill in sample values if needed
-        when(workflowStub.getResult(FinanceResponse.class)).thenReturn(mockResponse);
+        when(vehicleSalesParentWorkflow.approveFinanceRequest("Test Approver")).thenReturn(mockResponse);
 
 
         // Perform & Validate
@@ -1060,7 +1276,25 @@ public class SalesmanagementApplicationTests {
 
         // Verifications
         //  verify(financeService, times(1)).approveFinance("123", "Test Approver");
-        verify(workflowStub, times(1)).signal(anyString(), any());
+        verify(vehicleSalesParentWorkflow, times(1)).approveFinanceRequest("Test Approver");
+    }
+
+    @Test
+    void testApproveFinance_AlreadyDecided() throws Exception {
+        ApproveFinanceRequest request = new ApproveFinanceRequest();
+        request.setCustomerOrderId("123");
+        request.setApprovedBy("Test Approver");
+
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.approveFinanceRequest("Test Approver"))
+                .thenThrow(updateRejected("approveFinanceRequest", "Finance for order 123 has already been REJECTED"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/order/financeApprove")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode").value(400))
+                .andExpect(jsonPath("$.statusMessage").value("Cannot approve finance: Finance for order 123 has already been REJECTED"));
     }
 
     @Test
@@ -1109,7 +1343,7 @@ public class SalesmanagementApplicationTests {
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.statusCode").value(500))
                 .andExpect(jsonPath("$.statusMessage").value(
-                        "Failed to approve finance for workflowId='finance-999': Cannot invoke \"io.temporal.client.WorkflowStub.signal(String, Object[])\" because \"workflow\" is null"
+                        "Failed to approve finance for workflowId='parent-999': Cannot invoke \"com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflow.approveFinanceRequest(String)\" because \"parentWorkflow\" is null"
                 ));
     }
 
@@ -1136,7 +1370,7 @@ public class SalesmanagementApplicationTests {
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.statusCode").value(500))
                 .andExpect(jsonPath("$.statusMessage").value(
-                        "Failed to approve finance for workflowId='finance-123': Cannot invoke \"io.temporal.client.WorkflowStub.signal(String, Object[])\" because \"workflow\" is null"
+                        "Failed to approve finance for workflowId='parent-123': Cannot invoke \"com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflow.approveFinanceRequest(String)\" because \"parentWorkflow\" is null"
                 ));
     }
 
@@ -1147,10 +1381,8 @@ public class SalesmanagementApplicationTests {
         request.setCustomerOrderId("123");
         request.setRejectedBy("Test Rejector");
 
-        // Prepare mocked workflow stub
-        WorkflowStub workflowStub = mock(WorkflowStub.class);
-        when(workflowClient.newUntypedWorkflowStub("finance-123")).thenReturn(workflowStub);
-        doNothing().when(workflowStub).signal(eq("rejectFinance"), any());
+        // Prepare mocked parent workflow stub
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
 
         // Prepare mocked finance response
         FinanceResponse mockResponse = new FinanceResponse();
@@ -1161,7 +1393,7 @@ public class SalesmanagementApplicationTests {
         mockResponse.setCustomerName("Tarun Sai");
         mockResponse.setRejectedBy("Test Rejector");
 
-        when(workflowStub.getResult(FinanceResponse.class)).thenReturn(mockResponse);
+        when(vehicleSalesParentWorkflow.rejectFinanceRequest("Test Rejector")).thenReturn(mockResponse);
 
         // Perform & Validate
         mockMvc.perform(MockMvcRequestBuilders.post("/api/order/financeReject")
@@ -1175,8 +1407,7 @@ public class SalesmanagementApplicationTests {
                 .andExpect(jsonPath("$.data.orderStatus").value("PENDING"));
 
         // Verifications
-        verify(workflowStub, times(1)).signal(eq("rejectFinance"), eq("Test Rejector"));
-        verify(workflowStub, times(1)).getResult(FinanceResponse.class);
+        verify(vehicleSalesParentWorkflow, times(1)).rejectFinanceRequest("Test Rejector");
     }
 
     @Test
@@ -1225,7 +1456,7 @@ public class SalesmanagementApplicationTests {
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.statusCode").value(500))
                 .andExpect(jsonPath("$.statusMessage").value(
-                        "Failed to reject finance for workflowId='finance-999': Cannot invoke \"io.temporal.client.WorkflowStub.signal(String, Object[])\" because \"workflow\" is null"
+                        "Failed to reject finance for workflowId='parent-999': Cannot invoke \"com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflow.rejectFinanceRequest(String)\" because \"parentWorkflow\" is null"
                 ));
     }
 
@@ -1251,7 +1482,7 @@ public class SalesmanagementApplicationTests {
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.statusCode").value(500))
                 .andExpect(jsonPath("$.statusMessage").value(
-                        "Failed to reject finance for workflowId='finance-123': Cannot invoke \"io.temporal.client.WorkflowStub.signal(String, Object[])\" because \"workflow\" is null"
+                        "Failed to reject finance for workflowId='parent-123': Cannot invoke \"com.vehicle.salesmanagement.workflow.VehicleSalesParentWorkflow.rejectFinanceRequest(String)\" because \"parentWorkflow\" is null"
                 ));
     }
 
@@ -1262,12 +1493,10 @@ public class SalesmanagementApplicationTests {
         // Set up order details
         orderDetails.setOrderStatus(OrderStatus.ALLOTTED);
         when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
-        when(dispatchDeliveryService.initiateDispatch(any(DispatchRequest.class))).thenReturn(dispatchResponse);
 
-        // Mock Temporal workflow client and stub
-        WorkflowStub workflowStub = mock(WorkflowStub.class);
-        when(workflowClient.newUntypedWorkflowStub("parent-123")).thenReturn(workflowStub);
-        doNothing().when(workflowStub).signal(eq("initiateDispatch"), any(DispatchRequest.class));
+        // Mock the parent workflow, which dispatches the order in the update
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.requestDispatch(any(DispatchRequest.class))).thenReturn(dispatchResponse);
 
         // Perform the request and validate response
         mockMvc.perform(MockMvcRequestBuilders.post("/api/order/initiateDispatch")
@@ -1277,12 +1506,16 @@ public class SalesmanagementApplicationTests {
                 .andExpect(jsonPath("$.statusCode").value(202))
                 .andExpect(jsonPath("$.statusMessage").value("Dispatch process initiated for order ID: 123"))
                 .andExpect(jsonPath("$.data.customerOrderId").value("123"));
+
+        verify(dispatchDeliveryService, never()).initiateDispatch(any(DispatchRequest.class));
     }
 
     @Test
     void testInitiateDispatch_WorkflowNotFound() throws Exception {
         orderDetails.setOrderStatus(OrderStatus.ALLOTTED);
         when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.requestDispatch(any(DispatchRequest.class))).thenThrow(parentWorkflowNotFound());
         when(dispatchDeliveryService.initiateDispatch(any(DispatchRequest.class)))
                 .thenThrow(new IllegalStateException("Order not found for dispatch"));
 
@@ -1299,8 +1532,9 @@ public class SalesmanagementApplicationTests {
     void testInitiateDispatch_ServiceFailure() throws Exception {
         orderDetails.setOrderStatus(OrderStatus.BLOCKED);
         when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
-        when(dispatchDeliveryService.initiateDispatch(any(DispatchRequest.class)))
-                .thenThrow(new IllegalStateException("Order must be ALLOTTED"));
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.requestDispatch(any(DispatchRequest.class)))
+                .thenThrow(updateRejected("requestDispatch", "Order must be ALLOTTED"));
 
         mockMvc.perform(MockMvcRequestBuilders.post("/api/order/initiateDispatch")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1309,13 +1543,16 @@ public class SalesmanagementApplicationTests {
                 .andExpect(jsonPath("$.statusCode").value(400)) // Check ApiResponse statusCode
                 .andExpect(jsonPath("$.statusMessage").value("Failed to initiate dispatch: Order must be ALLOTTED"))
                 .andExpect(jsonPath("$.data").isEmpty());
+
+        verify(dispatchDeliveryService, never()).initiateDispatch(any(DispatchRequest.class));
     }
     @Test
     void testConfirmDelivery_InvalidState() throws Exception {
         orderDetails.setOrderStatus(OrderStatus.ALLOTTED);
         when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
-        when(dispatchDeliveryService.confirmDelivery(any(DeliveryRequest.class)))
-                .thenThrow(new IllegalStateException("Order must be DISPATCHED"));
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.recordDelivery(any(DeliveryRequest.class)))
+                .thenThrow(updateRejected("recordDelivery", "Order must be DISPATCHED"));
 
         mockMvc.perform(MockMvcRequestBuilders.post("/api/order/confirmDelivery")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1331,12 +1568,10 @@ public class SalesmanagementApplicationTests {
         // Set up order details
         orderDetails.setOrderStatus(OrderStatus.DISPATCHED);
         when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
-        when(dispatchDeliveryService.confirmDelivery(any(DeliveryRequest.class))).thenReturn(deliveryResponse);
 
-        // Mock Temporal workflow client and stub
-        WorkflowStub workflowStub = mock(WorkflowStub.class);
-        when(workflowClient.newUntypedWorkflowStub("parent-123")).thenReturn(workflowStub);
-        doNothing().when(workflowStub).signal(eq("confirmDelivery"), any(DeliveryRequest.class));
+        // Mock the parent workflow, which confirms delivery in the update
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.recordDelivery(any(DeliveryRequest.class))).thenReturn(deliveryResponse);
 
         // Perform the request and validate response
         mockMvc.perform(MockMvcRequestBuilders.post("/api/order/confirmDelivery")
@@ -1351,6 +1586,8 @@ public class SalesmanagementApplicationTests {
     void testConfirmDelivery_WorkflowNotFound() throws Exception {
         orderDetails.setOrderStatus(OrderStatus.DISPATCHED);
         when(vehicleOrderDetailsRepository.findByCustomerOrderId("123")).thenReturn(Optional.of(orderDetails));
+        when(workflowClient.newWorkflowStub(VehicleSalesParentWorkflow.class, "parent-123")).thenReturn(vehicleSalesParentWorkflow);
+        when(vehicleSalesParentWorkflow.recordDelivery(any(DeliveryRequest.class))).thenThrow(parentWorkflowNotFound());
         when(dispatchDeliveryService.confirmDelivery(any(DeliveryRequest.class)))
                 .thenThrow(new IllegalStateException("Order not found for delivery"));
 
@@ -0,0 +1,189 @@
+package com.vehicle.salesmanagement.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.vehicle.salesmanagement.config.OrderArchiveProperties;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderTimelineEntry;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.service.OrderLookupService;
+import com.vehicle.salesmanagement.support.TestDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Archives real rows in the embedded Postgres: the orders and their related rows must leave the hot tables, land in
+ * one chunk directory, and still be served by {@link OrderLookupService}; a chunk that fails must leave both the
+ * database and the archive directory as they were.
+ */
+class OrderArchiverTest {
+
+    private static final String PREFIX = "ARC-";
+
+    @TempDir
+    Path archiveDirectory;
+
+    private final DataSource dataSource = TestDatabase.dataSource();
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OrderArchiver orderArchiver;
+    private OrderLookupService orderLookupService;
+    private long modelId;
+    private long variantId;
+
+    @BeforeEach
+    void setUp() {
+        OrderArchiveProperties properties = new OrderArchiveProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(archiveDirectory.toString());
+        properties.setChunkSize(2);
+        properties.setParallelism(1);
+        properties.setMaxOrdersPerSecond(10_000);
+        // Equal bounds wrap past midnight and cover the whole day
+        properties.setWindowStart(LocalTime.MIDNIGHT);
+        properties.setWindowEnd(LocalTime.MIDNIGHT);
+
+        OrderArchiveStore store = new OrderArchiveStore(jdbcTemplate, objectMapper, properties);
+        orderArchiver = new OrderArchiver(new NamedParameterJdbcTemplate(dataSource),
+                new DataSourceTransactionManager(dataSource), store, properties, meterRegistry);
+        orderLookupService = new OrderLookupService(jdbcTemplate, store, objectMapper);
+
+        modelId = jdbcTemplate.queryForObject("INSERT INTO sales_tracking.vehicle_model (model_name) "
+                + "VALUES ('Archive-Model') RETURNING vehicle_model_id", Long.class);
+        variantId = jdbcTemplate.queryForObject("INSERT INTO sales_tracking.vehicle_variant (vehicle_model_id, variant) "
+                + "VALUES (?, 'AX') RETURNING vehicle_variant_id", Long.class, modelId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        String like = PREFIX + "%";
+        jdbcTemplate.update("DELETE FROM sales_tracking.archived_order WHERE customer_order_id LIKE ?", like);
+        jdbcTemplate.update("DELETE FROM sales_tracking.finance_details_history WHERE customer_order_id LIKE ?", like);
+        jdbcTemplate.update("DELETE FROM sales_tracking.finance_details WHERE customer_order_id LIKE ?", like);
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details_history WHERE customer_order_id LIKE ?", like);
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id LIKE ?", like);
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_variant WHERE vehicle_variant_id = ?", variantId);
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_model WHERE vehicle_model_id = ?", modelId);
+    }
+
+    @Test
+    void closedOrdersMoveToTheArchiveAndAreStillServed() throws IOException {
+        LocalDateTime closedAt = LocalDateTime.now().minusDays(400).withNano(0);
+        seedOrder(PREFIX + "0001", OrderStatus.DELIVERED, closedAt);
+        seedOrder(PREFIX + "0002", OrderStatus.CANCELED, closedAt);
+        seedOrder(PREFIX + "0003", OrderStatus.DELIVERED, closedAt);
+        // Closed too recently, and still open
+        seedOrder(PREFIX + "0004", OrderStatus.DELIVERED, LocalDateTime.now().minusDays(10));
+        seedOrder(PREFIX + "0005", OrderStatus.ALLOTTED, closedAt);
+
+        assertEquals(3, orderArchiver.archiveClosedOrders());
+
+        for (String id : List.of(PREFIX + "0001", PREFIX + "0002", PREFIX + "0003")) {
+            assertEquals(0, rows("vehicle_order_details", id), id + " is still in the hot table");
+            assertEquals(0, rows("vehicle_order_details_history", id));
+            assertEquals(0, rows("finance_details", id));
+            assertEquals(0, rows("finance_details_history", id));
+            assertEquals(1, rows("archived_order", id), id + " is not indexed");
+        }
+        assertEquals(1, rows("vehicle_order_details", PREFIX + "0004"));
+        assertEquals(1, rows("vehicle_order_details", PREFIX + "0005"));
+        // Chunks of two orders, each visible only under its final name
+        assertEquals(2, chunkDirectories().size());
+        assertTrue(chunkDirectories().stream().noneMatch(chunk -> chunk.getFileName().toString().endsWith(".tmp")));
+
+        Optional<OrderResponse> archived = orderLookupService.findArchivedOrder(PREFIX + "0002");
+        assertTrue(archived.isPresent());
+        assertEquals(OrderStatus.CANCELED, archived.get().getOrderStatus());
+        assertEquals("Archive Customer", archived.get().getCustomerName());
+
+        List<OrderTimelineEntry> timeline = orderLookupService.getTimeline(PREFIX + "0001");
+        assertEquals(List.of("FINANCE", "ORDER"), timeline.stream().map(OrderTimelineEntry::getStage).toList());
+        assertEquals("APPROVED", timeline.get(0).getStatus());
+        assertEquals(closedAt, timeline.get(1).getChangedAt());
+        assertEquals(OrderStatus.DELIVERED.name(), timeline.get(1).getStatus());
+
+        assertEquals(3.0, meterRegistry.get("salesmanagement.archive.orders").counter().count());
+    }
+
+    @Test
+    void failedChunkRollsBackAndRemovesItsFiles() throws IOException {
+        LocalDateTime closedAt = LocalDateTime.now().minusDays(400);
+        seedOrder(PREFIX + "0011", OrderStatus.DELIVERED, closedAt);
+        seedOrder(PREFIX + "0012", OrderStatus.DELIVERED, closedAt);
+        // The chunk's index insert collides with this row after its files were written
+        jdbcTemplate.update("INSERT INTO sales_tracking.archived_order "
+                + "(customer_order_id, order_status, closed_at, archived_at, archive_chunk) VALUES (?, ?, ?, ?, ?)",
+                PREFIX + "0012", OrderStatus.DELIVERED.name(), Timestamp.valueOf(closedAt),
+                Timestamp.valueOf(LocalDateTime.now()), "stale-chunk");
+
+        assertEquals(0, orderArchiver.archiveClosedOrders());
+
+        for (String id : List.of(PREFIX + "0011", PREFIX + "0012")) {
+            assertEquals(1, rows("vehicle_order_details", id), id + " was deleted by a rolled back chunk");
+            assertEquals(1, rows("vehicle_order_details_history", id));
+            assertEquals(1, rows("finance_details", id));
+            assertEquals(1, rows("finance_details_history", id));
+        }
+        assertEquals(0, rows("archived_order", PREFIX + "0011"));
+        assertEquals(List.of(), chunkDirectories(), "Rolled back chunk left files behind");
+        assertEquals(1.0, meterRegistry.get("salesmanagement.archive.chunks.failed").counter().count());
+    }
+
+    private void seedOrder(String customerOrderId, OrderStatus status, LocalDateTime changedAt) {
+        jdbcTemplate.update("INSERT INTO sales_tracking.vehicle_order_details (customer_order_id, vehicle_model_id, "
+                        + "vehicle_variant_id, customer_name, phone_number, email, aadhar_no, pan_no, model_name, variant, "
+                        + "quantity, payment_mode, order_status) "
+                        + "VALUES (?, ?, ?, 'Archive Customer', '9876543210', 'archive@example.com', '123412341234', "
+                        + "'ABCDE1234F', 'Archive-Model', 'AX', 1, 'Cash', ?)",
+                customerOrderId, modelId, variantId, status.name());
+        jdbcTemplate.update("INSERT INTO sales_tracking.vehicle_order_details_history (customer_order_id, changed_at, "
+                        + "order_status, order_status_history) VALUES (?, ?, ?, ?)",
+                customerOrderId, Timestamp.valueOf(changedAt), status.name(), "Order " + status.name().toLowerCase());
+        long financeId = jdbcTemplate.queryForObject("INSERT INTO sales_tracking.finance_details (customer_order_id, "
+                        + "customer_name, finance_status, approved_by) VALUES (?, 'Archive Customer', 'APPROVED', 'Manager') "
+                        + "RETURNING finance_id", Long.class, customerOrderId);
+        jdbcTemplate.update("INSERT INTO sales_tracking.finance_details_history (finance_id, customer_order_id, "
+                        + "customer_name, finance_status, changed_at, finance_status_history) "
+                        + "VALUES (?, ?, 'Archive Customer', 'APPROVED', ?, 'Finance approved')",
+                financeId, customerOrderId, Timestamp.valueOf(changedAt.minusDays(1)));
+    }
+
+    private int rows(String table, String customerOrderId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM sales_tracking." + table + " WHERE customer_order_id = ?",
+                Integer.class, customerOrderId);
+    }
+
+    private List<Path> chunkDirectories() throws IOException {
+        if (!Files.exists(archiveDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> chunks = Files.list(archiveDirectory)) {
+            return chunks.toList();
+        }
+    }
+}
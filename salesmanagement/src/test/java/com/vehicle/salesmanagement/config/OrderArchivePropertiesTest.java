@@ -0,0 +1,42 @@
+package com.vehicle.salesmanagement.config;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderArchivePropertiesTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void enabledArchiverRequiresADirectory() {
+        OrderArchiveProperties properties = new OrderArchiveProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(" ");
+
+        Set<ConstraintViolation<OrderArchiveProperties>> violations = validator.validate(properties);
+
+        assertEquals(1, violations.size());
+        assertEquals("directorySetWhenEnabled", violations.iterator().next().getPropertyPath().toString());
+    }
+
+    @Test
+    void disabledArchiverStartsWithoutADirectory() {
+        assertTrue(validator.validate(new OrderArchiveProperties()).isEmpty());
+    }
+
+    @Test
+    void enabledArchiverWithADirectoryIsValid() {
+        OrderArchiveProperties properties = new OrderArchiveProperties();
+        properties.setEnabled(true);
+        properties.setDirectory("/var/lib/salesmanagement/archive");
+
+        assertTrue(validator.validate(properties).isEmpty());
+    }
+}
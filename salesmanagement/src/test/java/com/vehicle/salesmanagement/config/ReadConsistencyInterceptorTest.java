@@ -0,0 +1,69 @@
+package com.vehicle.salesmanagement.config;
+
+import com.vehicle.salesmanagement.datasource.ReplicaLagMonitor;
+import com.vehicle.salesmanagement.datasource.ReplicaRouting;
+import com.vehicle.salesmanagement.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadConsistencyInterceptorTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final ReadReplicaConfig.ReadConsistencyInterceptor interceptor = new ReadReplicaConfig.ReadConsistencyInterceptor();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isUsable()).thenReturn(true);
+        routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor, new SimpleMeterRegistry());
+        routing.afterPropertiesSet();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRouting.clear();
+    }
+
+    @Test
+    void primaryConsistencyHeaderPinsTheRequestToPrimary() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadReplicaConfig.CONSISTENCY_HEADER, "Primary");
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        assertSame(primaryConnection, routing.getConnection());
+
+        interceptor.afterCompletion(request, response, new Object(), null);
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    void requestsWithoutTheHeaderReadFromTheReplica() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ReadReplicaConfig.CONSISTENCY_HEADER, "eventual");
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        assertSame(replicaConnection, routing.getConnection());
+    }
+}
@@ -0,0 +1,140 @@
+package com.vehicle.salesmanagement.config;
+
+import com.vehicle.salesmanagement.datasource.ReplicaLagMonitor;
+import com.vehicle.salesmanagement.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.temporal.activity.ActivityInterface;
+import io.temporal.activity.ActivityOptions;
+import io.temporal.client.WorkflowOptions;
+import io.temporal.common.RetryOptions;
+import io.temporal.common.interceptors.WorkerInterceptor;
+import io.temporal.testing.TestEnvironmentOptions;
+import io.temporal.testing.TestWorkflowEnvironment;
+import io.temporal.worker.Worker;
+import io.temporal.worker.WorkerFactoryOptions;
+import io.temporal.workflow.Workflow;
+import io.temporal.workflow.WorkflowInterface;
+import io.temporal.workflow.WorkflowMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs a read-only activity on a real Temporal activity thread and checks which data source it was routed to.
+ */
+class TemporalActivityPrimaryReadInterceptorTest {
+
+    private static final String TASK_QUEUE = "routing-probe";
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private ReplicaRoutingDataSource routing;
+    private TestWorkflowEnvironment environment;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isUsable()).thenReturn(true);
+        routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor, new SimpleMeterRegistry());
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (environment != null) {
+            environment.close();
+        }
+    }
+
+    @Test
+    void readOnlyActivityReadsFromThePrimary() {
+        assertEquals("primary", probe(new TemporalActivityPrimaryReadInterceptor()));
+    }
+
+    @Test
+    void readOnlyActivityWithoutTheInterceptorReadsFromTheReplica() {
+        assertEquals("replica", probe());
+    }
+
+    private String probe(WorkerInterceptor... interceptors) {
+        environment = TestWorkflowEnvironment.newInstance(TestEnvironmentOptions.newBuilder()
+                .setWorkerFactoryOptions(WorkerFactoryOptions.newBuilder().setWorkerInterceptors(interceptors).build())
+                .build());
+        Worker worker = environment.newWorker(TASK_QUEUE);
+        worker.registerWorkflowImplementationTypes(RoutingProbeWorkflowImpl.class);
+        worker.registerActivitiesImplementations(new RoutingProbeActivitiesImpl(routing, replicaConnection));
+        environment.start();
+
+        RoutingProbeWorkflow workflow = environment.getWorkflowClient().newWorkflowStub(RoutingProbeWorkflow.class,
+                WorkflowOptions.newBuilder().setTaskQueue(TASK_QUEUE).build());
+        return workflow.probe();
+    }
+
+    @WorkflowInterface
+    public interface RoutingProbeWorkflow {
+
+        @WorkflowMethod
+        String probe();
+    }
+
+    public static class RoutingProbeWorkflowImpl implements RoutingProbeWorkflow {
+
+        private final RoutingProbeActivities activities = Workflow.newActivityStub(RoutingProbeActivities.class,
+                ActivityOptions.newBuilder()
+                        .setStartToCloseTimeout(Duration.ofSeconds(10))
+                        .setRetryOptions(RetryOptions.newBuilder().setMaximumAttempts(1).build())
+                        .build());
+
+        @Override
+        public String probe() {
+            return activities.readOnlyTarget();
+        }
+    }
+
+    @ActivityInterface
+    public interface RoutingProbeActivities {
+
+        String readOnlyTarget();
+    }
+
+    /**
+     * Asks for a connection the way a {@code @Transactional(readOnly = true)} service would.
+     */
+    static class RoutingProbeActivitiesImpl implements RoutingProbeActivities {
+
+        private final ReplicaRoutingDataSource routing;
+        private final Connection replicaConnection;
+
+        RoutingProbeActivitiesImpl(ReplicaRoutingDataSource routing, Connection replicaConnection) {
+            this.routing = routing;
+            this.replicaConnection = replicaConnection;
+        }
+
+        @Override
+        public String readOnlyTarget() {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            try {
+                return routing.getConnection() == replicaConnection ? "replica" : "primary";
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+        }
+    }
+}
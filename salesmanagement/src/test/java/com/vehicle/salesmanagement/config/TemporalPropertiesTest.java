@@ -0,0 +1,40 @@
+package com.vehicle.salesmanagement.config;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TemporalPropertiesTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void workerSettingsForAnUnregisteredQueueAreRejected() {
+        TemporalProperties properties = new TemporalProperties();
+        properties.getWorkers().put("finance-queue", new TemporalProperties.WorkerSettings());
+
+        Set<ConstraintViolation<TemporalProperties>> violations = validator.validate(properties);
+
+        assertEquals(1, violations.size());
+        assertEquals("workersForRegisteredTaskQueues", violations.iterator().next().getPropertyPath().toString());
+    }
+
+    @Test
+    void defaultsAreValid() {
+        assertTrue(validator.validate(new TemporalProperties()).isEmpty());
+    }
+
+    @Test
+    void workerSettingsForEveryRegisteredQueueAreValid() {
+        TemporalProperties properties = new TemporalProperties();
+        TemporalProperties.TASK_QUEUES.forEach(queue -> properties.getWorkers().put(queue, new TemporalProperties.WorkerSettings()));
+
+        assertTrue(validator.validate(properties).isEmpty());
+    }
+}
@@ -0,0 +1,159 @@
+package com.vehicle.salesmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.support.DatabaseIntegrationTest;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import com.vehicle.salesmanagement.support.TestDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Refreshes the order grid with {@code since=<changeToken>} after a few writes: the refresh must carry exactly the
+ * orders that were updated and the keys of those deleted. A write whose transaction was open when the token was
+ * issued must still be in the refresh after it commits.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderGridChangeFeedTest extends DatabaseIntegrationTest {
+
+    private static final String PREFIX = "CHANGES-";
+    private static final int ORDERS = 30;
+    private static final int UPDATED = 5;
+    private static final int DELETED = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+        fixtures.seedOrders(fixtures.seedSku("Changes-Model", "CX"), PREFIX, ORDERS);
+    }
+
+    @AfterAll
+    void removeOrders() {
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void refreshCarriesExactlyWhatChanged() throws Exception {
+        String token = fullGridToken();
+
+        JsonNode unchanged = refresh(token);
+        assertEquals(0, unchanged.path("data").size(), "Refresh without writes returned " + unchanged.path("data"));
+        assertEquals(0, unchanged.path("deleted").size(), "Refresh without writes returned " + unchanged.path("deleted"));
+
+        // Plain SQL on purpose: the triggers have to stamp writes that bypass the entities
+        Set<String> updated = new HashSet<>();
+        for (int i = 0; i < UPDATED; i++) {
+            jdbcTemplate.update("UPDATE sales_tracking.vehicle_order_details SET order_status = ? WHERE customer_order_id = ?",
+                    OrderStatus.BLOCKED.name(), orderId(i));
+            updated.add(orderId(i));
+        }
+        Set<String> deleted = new HashSet<>();
+        for (int i = UPDATED; i < UPDATED + DELETED; i++) {
+            jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id = ?", orderId(i));
+            deleted.add(orderId(i));
+        }
+
+        JsonNode refreshed = refresh(token);
+        Set<String> changedIds = new HashSet<>();
+        for (JsonNode row : refreshed.path("data")) {
+            changedIds.add(row.path("customerOrderId").asText());
+            assertEquals(OrderStatus.BLOCKED.name(), row.path("orderStatus").asText(), row.toString());
+        }
+        Set<String> deletedIds = new HashSet<>();
+        refreshed.path("deleted").forEach(key -> deletedIds.add(key.asText()));
+
+        assertEquals(updated, changedIds);
+        assertEquals(deleted, deletedIds);
+        assertFalse(refreshed.path("changeToken").asText("").isEmpty(), "Refresh carried no next token");
+    }
+
+    @Test
+    void writeCommittedAfterTheTokenIsNotSkipped() throws Exception {
+        String orderId = orderId(ORDERS - 1);
+        try (Connection connection = TestDatabase.dataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE sales_tracking.vehicle_order_details SET order_status = ? WHERE customer_order_id = ?")) {
+                update.setString(1, OrderStatus.ALLOTTED.name());
+                update.setString(2, orderId);
+                update.executeUpdate();
+            }
+            // Stamped before the token, committed after it
+            String token = fullGridToken();
+            connection.commit();
+
+            Set<String> changedIds = new HashSet<>();
+            refresh(token).path("data").forEach(row -> changedIds.add(row.path("customerOrderId").asText()));
+            assertTrue(changedIds.contains(orderId), "Refresh skipped a transaction that committed after the token");
+        }
+    }
+
+    @Test
+    void tokenOlderThanTombstonesIsGone() throws Exception {
+        mockMvc.perform(get("/api/vehicleorders").param("since", encoded("2:0:1:1:"))).andExpect(status().isGone());
+        // Clock-based tokens from before transaction tracking make the client reload
+        mockMvc.perform(get("/api/vehicleorders").param("since", encoded("1:0"))).andExpect(status().isGone());
+        mockMvc.perform(get("/api/vehicleorders").param("since", "not-a-token")).andExpect(status().isBadRequest());
+    }
+
+    private String fullGridToken() throws Exception {
+        String token = objectMapper.readTree(mockMvc.perform(get("/api/vehicleorders"))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray()).path("changeToken").asText(null);
+        assertNotNull(token, "Full grid response carried no change token");
+        return token;
+    }
+
+    private JsonNode refresh(String token) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get("/api/vehicleorders").param("since", token))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray());
+    }
+
+    private static String orderId(int i) {
+        return OrderFixtures.orderId(PREFIX, i);
+    }
+
+    private static String encoded(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,76 @@
+package com.vehicle.salesmanagement.controller;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.profiling.SqlAccounting;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.support.DatabaseIntegrationTest;
+import com.vehicle.salesmanagement.support.MaxSqlStatements;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import com.vehicle.salesmanagement.support.SqlStatementCountExtension;
+import com.vehicle.salesmanagement.support.TestDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the order grid against N+1 loading: the statements behind {@code GET /api/vehicleorders} must not grow
+ * with the number of orders listed. MockMvc runs the request on the test thread, so the request's SQL lands in the
+ * scope opened by {@link SqlStatementCountExtension}.
+ */
+@ExtendWith(SqlStatementCountExtension.class)
+class OrderListingSqlBudgetTest extends DatabaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    // Outside the per-test scopes, so the cleanup is not counted against a budget
+    @AfterAll
+    static void removeOrders() {
+        new JdbcTemplate(TestDatabase.dataSource())
+                .update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id LIKE 'BUDGET-%'");
+    }
+
+    @Test
+    void orderGridStatementsDoNotGrowWithRows(SqlAccounting.Scope scope) throws Exception {
+        OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+        VehicleVariant sku = fixtures.seedSku("Budget-Model", "VX");
+        fixtures.seedOrders(sku, "BUDGET-A-", 10);
+        int few = statementsFor(scope);
+
+        fixtures.seedOrders(sku, "BUDGET-B-", 200);
+        int many = statementsFor(scope);
+
+        assertEquals(few, many, "GET /api/vehicleorders ran " + few + " statements for 10 orders but "
+                + many + " for 210");
+    }
+
+    @Test
+    @MaxSqlStatements(5)
+    void orderGridStaysWithinDeclaredBudget() throws Exception {
+        mockMvc.perform(get("/api/vehicleorders")).andExpect(status().isOk());
+    }
+
+    private int statementsFor(SqlAccounting.Scope scope) throws Exception {
+        int before = scope.statements();
+        mockMvc.perform(get("/api/vehicleorders")).andExpect(status().isOk());
+        return scope.statements() - before;
+    }
+}
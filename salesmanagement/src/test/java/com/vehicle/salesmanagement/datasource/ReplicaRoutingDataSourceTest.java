@@ -0,0 +1,161 @@
+package com.vehicle.salesmanagement.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        lagMonitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), meterRegistry);
+        routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRouting.clear();
+    }
+
+    @Test
+    void readOnlyTransactionRoutesToHealthyReplica() throws SQLException {
+        replicaReportsLag(0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(replicaConnection, routing.getConnection());
+        assertEquals(1.0, routedConnections("replica"));
+    }
+
+    @Test
+    void readWriteTransactionRoutesToPrimary() throws SQLException {
+        replicaReportsLag(0);
+
+        assertSame(primaryConnection, routing.getConnection());
+        assertEquals(1.0, routedConnections("primary"));
+    }
+
+    @Test
+    void pinnedThreadRoutesToPrimary() throws SQLException {
+        replicaReportsLag(0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        ReplicaRouting.pinToPrimary();
+        assertSame(primaryConnection, routing.getConnection());
+
+        ReplicaRouting.clear();
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    void onPrimaryRoutesItsBodyToPrimaryOnly() throws SQLException {
+        replicaReportsLag(0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection inside = ReplicaRouting.onPrimary(() -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertSame(primaryConnection, inside);
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    void nestedOnPrimaryRestoresThePreviousPin() {
+        ReplicaRouting.onPrimary(() -> {
+            ReplicaRouting.onPrimary(() -> null);
+            assertTrue(ReplicaRouting.isPinnedToPrimary(), "outer call must still be pinned after the inner one");
+            return null;
+        });
+        assertFalse(ReplicaRouting.isPinnedToPrimary());
+
+        ReplicaRouting.pinToPrimary();
+        ReplicaRouting.onPrimary(() -> null);
+        assertTrue(ReplicaRouting.isPinnedToPrimary(), "a thread pinned before onPrimary stays pinned");
+    }
+
+    @Test
+    void onPrimaryRestoresThePinWhenTheBodyThrows() {
+        assertThrows(IllegalStateException.class, () -> ReplicaRouting.onPrimary(() -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertFalse(ReplicaRouting.isPinnedToPrimary());
+    }
+
+    @Test
+    void replicaIsBypassedUntilTheFirstSample() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertFalse(lagMonitor.isUsable());
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() throws SQLException {
+        replicaReportsLag(10_000);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertFalse(lagMonitor.isUsable());
+        assertEquals(10_000, lagMonitor.lagMillis());
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimaryAndRecovers() throws SQLException {
+        replicaReportsLag(0);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        lagMonitor.refresh();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertFalse(lagMonitor.isUsable());
+        assertEquals(-1, lagMonitor.lagMillis());
+        assertSame(primaryConnection, routing.getConnection());
+
+        reset(replica);
+        replicaReportsLag(0);
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    private void replicaReportsLag(long lagMillis) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(lagMillis);
+        lagMonitor.refresh();
+    }
+
+    private double routedConnections(String target) {
+        return meterRegistry.get("salesmanagement.datasource.routed.connections").tag("target", target).counter().count();
+    }
+}
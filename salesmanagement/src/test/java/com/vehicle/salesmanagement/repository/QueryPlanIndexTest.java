@@ -0,0 +1,236 @@
+package com.vehicle.salesmanagement.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.salesmanagement.config.PartitionProperties;
+import com.vehicle.salesmanagement.service.PartitionMaintenanceService;
+import com.vehicle.salesmanagement.support.TestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the hot repository lookups are served by the indexes of the migrations. The statements mirror the SQL
+ * Hibernate generates for each repository method, with its bind parameters, and are planned the way PgJDBC runs them
+ * once a statement passes prepareThreshold: as a prepared statement under a generic plan, where the planner does not
+ * know the bound values. Sequential scans are disabled so the planner picks an index whenever one is usable, even on
+ * the near-empty tables here; a sequential scan in the plan therefore means no index matches the predicate. On
+ * partitioned tables the plan names each partition's own index, which is resolved back to the index declared on the
+ * parent; the same plans show which partitions a lookup reads.
+ */
+class QueryPlanIndexTest {
+
+    private static final DataSource dataSource = TestDatabase.dataSource();
+    private static final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private static final PartitionMaintenanceService partitionMaintenanceService =
+            new PartitionMaintenanceService(jdbcTemplate, new PartitionProperties());
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void preparePartitions() {
+        partitionMaintenanceService.maintain();
+    }
+
+    @Test
+    void migrationsLeaveNoInvalidIndexes() {
+        Integer invalid = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+                        + "JOIN pg_namespace n ON n.oid = c.relnamespace "
+                        + "WHERE n.nspname = 'sales_tracking' AND NOT i.indisvalid", Integer.class);
+        assertEquals(0, invalid, "A CONCURRENTLY build failed and left an INVALID index behind");
+    }
+
+    @Test
+    void availableStockByVariantUsesStatusIndex() {
+        assertUsesIndex("SELECT * FROM sales_tracking.stock_details s "
+                        + "WHERE s.vehicle_variant_id = $1 AND s.stock_status = $2",
+                "bigint, varchar", "1, 'AVAILABLE'",
+                "idx_stock_details_variant_status_model");
+    }
+
+    @Test
+    void availableStockByModelNameAndVariantUsesStatusIndex() {
+        assertUsesIndex("SELECT * FROM sales_tracking.stock_details s "
+                        + "WHERE s.model_name = $1 AND s.vehicle_variant_id = $2 AND s.stock_status = $3",
+                "varchar, bigint, varchar", "'Camry', 1, 'AVAILABLE'",
+                "idx_stock_details_variant_status_model");
+    }
+
+    @Test
+    void stockByModelNameAndVariantUsesCompositeIndex() {
+        assertUsesIndex("SELECT * FROM sales_tracking.stock_details s "
+                        + "WHERE s.model_name = $1 AND s.vehicle_variant_id = $2",
+                "varchar, bigint", "'Camry', 1",
+                "idx_stock_details_model_name_variant");
+    }
+
+    @Test
+    void stockByVariantAndModelUsesCompositeIndex() {
+        assertUsesIndex("SELECT * FROM sales_tracking.stock_details s "
+                        + "WHERE s.vehicle_variant_id = $1 AND s.vehicle_model_id = $2",
+                "bigint, bigint", "1, 1",
+                "idx_stock_details_variant_model");
+    }
+
+    @Test
+    void availableMddpStockByVariantUsesStatusIndex() {
+        assertUsesIndex("SELECT * FROM sales_tracking.mddp_stock m "
+                        + "WHERE m.vehicle_variant_id = $1 AND m.stock_status = $2",
+                "bigint, varchar", "1, 'AVAILABLE'",
+                "idx_mddp_stock_variant_status");
+    }
+
+    @Test
+    void manufacturerOrderByModelNameAndVariantUsesCompositeIndex() {
+        assertUsesIndex("SELECT * FROM sales_tracking.manufacturer_order m "
+                        + "WHERE m.model_name = $1 AND m.vehicle_variant_id = $2",
+                "varchar, bigint", "'Camry', 1",
+                "idx_manufacturer_order_model_name_variant");
+    }
+
+    @Test
+    void variantsByModelNameAndVariantUseCompositeIndex() {
+        assertUsesIndex("SELECT v.* FROM sales_tracking.vehicle_variant v "
+                        + "JOIN sales_tracking.vehicle_model m ON m.vehicle_model_id = v.vehicle_model_id "
+                        + "WHERE m.model_name = $1 AND v.variant = $2",
+                "varchar, varchar", "'Camry', 'XLE'",
+                "idx_vehicle_variant_model_variant");
+    }
+
+    @Test
+    void modelByNameIgnoringCaseUsesExpressionIndex() {
+        assertUsesIndex("SELECT * FROM sales_tracking.vehicle_model m WHERE upper(m.model_name) = upper($1)",
+                "varchar", "'camry'",
+                "idx_vehicle_model_model_name_upper");
+    }
+
+    @Test
+    void workflowDetailsByCustomerOrderIdUseIndexes() {
+        assertUsesIndex("SELECT * FROM sales_tracking.finance_details f WHERE f.customer_order_id = $1",
+                "varchar", "'ORD-2025-0001'", "idx_finance_details_customer_order_id");
+        assertUsesIndex("SELECT * FROM sales_tracking.dispatch_details d WHERE d.customer_order_id = $1",
+                "varchar", "'ORD-2025-0001'", "idx_dispatch_details_customer_order_id");
+        assertUsesIndex("SELECT * FROM sales_tracking.delivery_details d WHERE d.customer_order_id = $1",
+                "varchar", "'ORD-2025-0001'", "idx_delivery_details_customer_order_id");
+    }
+
+    @Test
+    void dashboardCountsUseStatusIndexes() {
+        assertUsesIndex("SELECT count(*) FROM sales_tracking.vehicle_order_details o WHERE o.order_status = $1",
+                "varchar", "'PENDING'", "idx_vehicle_order_details_order_status");
+        assertUsesIndex("SELECT count(*) FROM sales_tracking.finance_details f WHERE f.finance_status = $1",
+                "varchar", "'APPROVED'", "idx_finance_details_finance_status");
+        assertUsesIndex("SELECT count(*) FROM sales_tracking.delivery_details d WHERE d.delivery_status = $1",
+                "varchar", "'DELIVERED'", "idx_delivery_details_delivery_status");
+    }
+
+    @Test
+    void orderLookupPrunesToItsYearPartition() {
+        int year = Year.now().getValue();
+        // A generic plan keeps every partition and prunes when it is executed, which EXPLAIN shows
+        assertScansOnly("SELECT * FROM sales_tracking.vehicle_order_details o WHERE o.customer_order_id = $1",
+                "varchar", "'TYT-" + year + "-001'",
+                "vehicle_order_details_y" + year);
+    }
+
+    @Test
+    void historyTimeRangePrunesToItsMonthPartition() {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        assertScansOnly("SELECT * FROM sales_tracking.stock_details_history h "
+                        + "WHERE h.changed_at >= $1 AND h.changed_at < $2",
+                "timestamp, timestamp", "'" + month + "', '" + month.plusMonths(1) + "'",
+                String.format("stock_details_history_p%d%02d", month.getYear(), month.getMonthValue()));
+    }
+
+    @Test
+    void historyRetentionDropsWholePartitions() {
+        String table = "finance_details_history";
+        partitionMaintenanceService.createHistoryPartitions(table, LocalDate.of(2001, 1, 1), LocalDate.of(2001, 3, 1));
+
+        assertEquals(2, partitionMaintenanceService.dropHistoryPartitionsBefore(table, LocalDate.of(2001, 3, 1)));
+        assertNull(relation(table + "_p200101"));
+        assertNull(relation(table + "_p200102"));
+        assertNotNull(relation(table + "_p200103"));
+        assertEquals(1, partitionMaintenanceService.dropHistoryPartitionsBefore(table, LocalDate.of(2001, 4, 1)));
+    }
+
+    private void assertUsesIndex(String sql, String parameterTypes, String arguments, String expectedIndex) {
+        JsonNode plan = explainGeneric(sql, parameterTypes, arguments);
+        List<String> nodeTypes = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        List<String> relations = new ArrayList<>();
+        collect(plan, nodeTypes, indexes, relations);
+        indexes.replaceAll(this::rootIndex);
+        assertFalse(nodeTypes.contains("Seq Scan"), "Sequential scan for: " + sql + "\n" + plan.toPrettyString());
+        assertTrue(indexes.contains(expectedIndex),
+                "Expected " + expectedIndex + " but plan used " + indexes + " for: " + sql);
+    }
+
+    private void assertScansOnly(String sql, String parameterTypes, String arguments, String partition) {
+        JsonNode plan = explainGeneric(sql, parameterTypes, arguments);
+        List<String> relations = new ArrayList<>();
+        collect(plan, new ArrayList<>(), new ArrayList<>(), relations);
+        assertEquals(List.of(partition), relations, "Partitions read for: " + sql + "\n" + plan.toPrettyString());
+    }
+
+    private String rootIndex(String index) {
+        return jdbcTemplate.queryForObject(
+                "SELECT coalesce((SELECT root.relname FROM pg_class root WHERE root.oid = pg_partition_root(c.oid)), c.relname) "
+                        + "FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+                        + "WHERE n.nspname = 'sales_tracking' AND c.relname = ?", String.class, index);
+    }
+
+    private String relation(String name) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, "sales_tracking." + name);
+    }
+
+    /**
+     * The generic plan of {@code sql} as a prepared statement, on a connection of its own so that the session
+     * settings and the prepared statement end with it.
+     */
+    private JsonNode explainGeneric(String sql, String parameterTypes, String arguments) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            statement.execute("SET plan_cache_mode = force_generic_plan");
+            statement.execute("PREPARE lookup (" + parameterTypes + ") AS " + sql);
+            try (ResultSet rs = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE lookup (" + arguments + ")")) {
+                rs.next();
+                return objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+            }
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("Cannot explain: " + sql, e);
+        }
+    }
+
+    private static void collect(JsonNode node, List<String> nodeTypes, List<String> indexes, List<String> relations) {
+        nodeTypes.add(node.path("Node Type").asText());
+        if (node.has("Index Name")) {
+            indexes.add(node.get("Index Name").asText());
+        }
+        if (node.has("Relation Name")) {
+            relations.add(node.get("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodeTypes, indexes, relations);
+        }
+    }
+}
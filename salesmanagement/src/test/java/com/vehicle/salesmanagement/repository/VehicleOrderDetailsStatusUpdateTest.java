@@ -0,0 +1,87 @@
+package com.vehicle.salesmanagement.repository;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.profiling.SqlAccounting;
+import com.vehicle.salesmanagement.support.DatabaseIntegrationTest;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * A status transition on the bytecode-enhanced, {@code @DynamicUpdate} {@link VehicleOrderDetails} marks only the
+ * status dirty and flushes as one update, without loading the lazy address columns.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VehicleOrderDetailsStatusUpdateTest extends DatabaseIntegrationTest {
+
+    private static final String PREFIX = "WRITE-";
+    private static final String ADDRESS = "Flat 1204, Tower B, Prestige Lakeside Habitat, Whitefield, Bengaluru 560087";
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeAll
+    void seed() {
+        OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+        fixtures.seedOrders(fixtures.seedSku("Write-Model", "ZX"), PREFIX, 1, (order, i) -> {
+            order.setPermanentAddress(ADDRESS);
+            order.setCurrentAddress(ADDRESS);
+        });
+    }
+
+    @AfterAll
+    void removeOrders() {
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void statusTransitionTouchesOnlyTheStatusColumn() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            VehicleOrderDetails order = entityManager.find(VehicleOrderDetails.class, OrderFixtures.orderId(PREFIX, 0));
+            SelfDirtinessTracker tracker = assertInstanceOf(SelfDirtinessTracker.class, order,
+                    "VehicleOrderDetails is not enhanced; is the org.hibernate.orm plugin applied?");
+            assertFalse(Hibernate.isPropertyInitialized(order, "permanentAddress"),
+                    "Addresses should stay unloaded until read");
+
+            order.setOrderStatus(OrderStatus.ALLOTTED);
+            assertArrayEquals(new String[]{"orderStatus"}, tracker.$$_hibernate_getDirtyAttributes());
+
+            try (SqlAccounting.Scope scope = SqlAccounting.open("test", "flush")) {
+                entityManager.flush();
+                assertEquals(1, scope.updates(), scope.toString());
+                assertEquals(0, scope.selects(), "Flushing a status change loaded the lazy columns: " + scope);
+            }
+        });
+    }
+}
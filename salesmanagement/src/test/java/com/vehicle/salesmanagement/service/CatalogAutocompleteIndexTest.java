@@ -0,0 +1,110 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.dto.apiresponse.AutocompleteSuggestion;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogAutocompleteIndexTest {
+
+    private final CatalogAutocompleteIndex index = new CatalogAutocompleteIndex();
+
+    @Test
+    void matchesPrefixesOfTheLabelAndOfEachWord() {
+        index.rebuild(List.of(model(1L, "Toyota Fortuner"), model(2L, "Toyota Innova"), model(3L, "Honda City")),
+                List.of());
+
+        assertEquals(List.of("Toyota Innova", "Toyota Fortuner"), texts(index.suggest("toy", 10)));
+        assertEquals(List.of("Toyota Fortuner"), texts(index.suggest("fort", 10)));
+        assertEquals(List.of("Honda City"), texts(index.suggest("c", 10)));
+        assertTrue(index.suggest("xyz", 10).isEmpty());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void foldsCaseAndWhitespaceButKeepsTheOriginalSpelling() {
+        index.rebuild(List.of(model(1L, "Toyota Innova"), model(2L, "HONDA city")), List.of());
+
+        assertEquals(List.of("Toyota Innova"), texts(index.suggest("  TOYOTA   inn ", 10)));
+        assertEquals(List.of("HONDA city"), texts(index.suggest("Honda C", 10)));
+        assertEquals(List.of("HONDA city"), texts(index.suggest("CITY", 10)));
+    }
+
+    @Test
+    void ranksByKindThenLengthThenText() {
+        VehicleModel vento = model(10L, "Vento");
+        index.rebuild(List.of(vento), List.of(
+                variant(100L, vento, "VXi Plus", "V2", "Ventilated Seats"),
+                variant(101L, vento, "VX", "V1", null)));
+
+        List<AutocompleteSuggestion> suggestions = index.suggest("v", 20);
+
+        assertEquals(List.of("Vento", "VX", "VXi Plus", "V1", "V2", "Ventilated Seats"), texts(suggestions));
+        assertEquals(List.of("MODEL", "VARIANT", "VARIANT", "SUFFIX", "SUFFIX", "FEATURE"),
+                suggestions.stream().map(AutocompleteSuggestion::getType).collect(Collectors.toList()));
+        assertEquals(10L, suggestions.get(1).getVehicleModelId());
+        assertEquals(101L, suggestions.get(1).getVehicleVariantId());
+        assertEquals(List.of("Vento", "VX"), texts(index.suggest("v", 2)));
+    }
+
+    @Test
+    void keepsOnlyTheTopSuggestionsPerPrefix() {
+        List<VehicleModel> models = new ArrayList<>();
+        for (int i = 25; i >= 1; i--) {
+            models.add(model((long) i, String.format("Model %02d", i)));
+        }
+        index.rebuild(models, List.of());
+
+        List<String> suggestions = texts(index.suggest("model", 50));
+
+        assertEquals(CatalogAutocompleteIndex.MAX_SUGGESTIONS, suggestions.size());
+        assertEquals("Model 01", suggestions.get(0));
+        assertEquals("Model 20", suggestions.get(suggestions.size() - 1));
+    }
+
+    @Test
+    void upsertReplacesAnOwnersPreviousLabels() {
+        index.rebuild(List.of(model(1L, "Toyota Fortuner")), List.of());
+
+        index.upsertModels(List.of(model(1L, "Toyota Legender"), model(2L, "Toyota Innova")));
+
+        assertTrue(index.suggest("fort", 10).isEmpty());
+        assertEquals(List.of("Toyota Innova", "Toyota Legender"), texts(index.suggest("toyota", 10)));
+    }
+
+    @Test
+    void rebuildDropsEverythingNotInTheNewCatalog() {
+        index.rebuild(List.of(model(1L, "Toyota Fortuner")), List.of());
+        index.rebuild(List.of(model(2L, "Honda City")), List.of());
+
+        assertTrue(index.suggest("toyota", 10).isEmpty());
+        assertEquals(List.of("Honda City"), texts(index.suggest("honda", 10)));
+    }
+
+    private static List<String> texts(List<AutocompleteSuggestion> suggestions) {
+        return suggestions.stream().map(AutocompleteSuggestion::getText).collect(Collectors.toList());
+    }
+
+    private static VehicleModel model(Long id, String name) {
+        VehicleModel model = new VehicleModel();
+        model.setVehicleModelId(id);
+        model.setModelName(name);
+        return model;
+    }
+
+    private static VehicleVariant variant(Long id, VehicleModel model, String name, String suffix, String comfort) {
+        VehicleVariant variant = new VehicleVariant();
+        variant.setVehicleVariantId(id);
+        variant.setVehicleModelId(model);
+        variant.setVariant(name);
+        variant.setSuffix(suffix);
+        variant.setComfort(comfort);
+        return variant;
+    }
+}
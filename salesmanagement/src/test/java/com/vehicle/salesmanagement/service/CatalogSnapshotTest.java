@@ -0,0 +1,142 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsModelsVariantsAndDictionaryStrings() throws IOException {
+        VehicleModel fortuner = model(2L, "Fortuner");
+        VehicleModel innova = model(1L, "Innova");
+        VehicleVariant gx = variant(30L, innova, "GX", "Red, Pearl White");
+        gx.setPrice(new BigDecimal("1999999.50"));
+        gx.setMaxPower("148 bhp");
+        gx.setLength("4,735 mm");
+        gx.setSeatingCapacity(7);
+        VehicleSpecParser.applyParsedSpecs(gx);
+        VehicleVariant vx = variant(10L, innova, "VX", "Red");
+        VehicleVariant legender = variant(20L, fortuner, "Legender", null);
+
+        Path path = dir.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, 7L, List.of(fortuner, innova), List.of(gx, legender, vx));
+        CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+
+        assertEquals(7L, snapshot.catalogVersion());
+        assertEquals(2, snapshot.modelCount());
+        assertEquals(3, snapshot.variantCount());
+        assertEquals(List.of(1L, 2L), snapshot.models().stream().map(VehicleModel::getVehicleModelId).collect(Collectors.toList()));
+        assertEquals("Fortuner", snapshot.model(2L).orElseThrow().getModelName());
+        assertTrue(snapshot.model(3L).isEmpty());
+
+        // Variants come back grouped by model, then by id
+        assertEquals(List.of(10L, 30L, 20L), ids(snapshot.variants()));
+        assertEquals(List.of(10L, 30L), ids(snapshot.variantsOfModel(1L)));
+        assertTrue(snapshot.variantsOfModel(5L).isEmpty());
+
+        VehicleVariant read = snapshot.variant(30L).orElseThrow();
+        assertEquals("GX", read.getVariant());
+        assertEquals("Innova", read.getVehicleModelId().getModelName());
+        assertEquals("Red, Pearl White", read.getColour());
+        assertEquals(List.of("red", "pearl white"), read.getColours());
+        assertEquals(new BigDecimal("1999999.50"), read.getPrice());
+        assertEquals(new BigDecimal("148.00"), read.getMaxPowerBhp());
+        assertEquals(4735, read.getLengthMm());
+        assertEquals(7, read.getSeatingCapacity());
+        assertNull(read.getSuffix());
+        assertNull(read.getTopSpeedKmph());
+        assertNull(read.getMileageCity());
+
+        // "Innova" is stored once in the dictionary and decoded once for every variant that references it
+        assertSame(snapshot.variant(10L).orElseThrow().getModelName(), read.getModelName());
+        assertNull(snapshot.variant(20L).orElseThrow().getColour());
+    }
+
+    @Test
+    void variantLookupByIdFindsEveryRecordAcrossModels() throws IOException {
+        List<VehicleModel> models = new ArrayList<>();
+        List<VehicleVariant> variants = new ArrayList<>();
+        for (long m = 1; m <= 5; m++) {
+            VehicleModel model = model(m, "Model " + m);
+            models.add(model);
+            // Ids interleave across models, so record order and id order differ
+            for (long v = 0; v < 20; v++) {
+                variants.add(variant(1000 - (v * 5 + m), model, "V" + v, null));
+            }
+        }
+        Path path = dir.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, 1L, models, variants);
+        CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+
+        for (VehicleVariant expected : variants) {
+            VehicleVariant actual = snapshot.variant(expected.getVehicleVariantId()).orElseThrow();
+            assertEquals(expected.getVariant(), actual.getVariant());
+            assertEquals(expected.getVehicleModelId().getVehicleModelId(), actual.getVehicleModelId().getVehicleModelId());
+        }
+        assertTrue(snapshot.variant(1000L).isEmpty());
+        assertTrue(snapshot.variant(0L).isEmpty());
+    }
+
+    @Test
+    void emptyCatalogRoundTrips() throws IOException {
+        Path path = dir.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, 0L, List.of(), List.of());
+        CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+
+        assertEquals(0, snapshot.variantCount());
+        assertTrue(snapshot.variant(1L).isEmpty());
+        assertTrue(snapshot.models().isEmpty());
+    }
+
+    @Test
+    void rejectsTruncatedOrForeignFiles() throws IOException {
+        Path path = dir.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, 1L, List.of(model(1L, "Innova")), List.of());
+        byte[] bytes = Files.readAllBytes(path);
+
+        Path truncated = dir.resolve("truncated.snapshot");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IllegalStateException.class, () -> CatalogSnapshot.open(truncated));
+
+        Path foreign = dir.resolve("foreign.snapshot");
+        Files.write(foreign, new byte[64]);
+        assertThrows(IllegalStateException.class, () -> CatalogSnapshot.open(foreign));
+    }
+
+    private static List<Long> ids(List<VehicleVariant> variants) {
+        return variants.stream().map(VehicleVariant::getVehicleVariantId).collect(Collectors.toList());
+    }
+
+    private static VehicleModel model(Long id, String name) {
+        VehicleModel model = new VehicleModel();
+        model.setVehicleModelId(id);
+        model.setModelName(name);
+        return model;
+    }
+
+    private static VehicleVariant variant(Long id, VehicleModel model, String name, String colour) {
+        VehicleVariant variant = new VehicleVariant();
+        variant.setVehicleVariantId(id);
+        variant.setVehicleModelId(model);
+        variant.setModelName(model.getModelName());
+        variant.setVariant(name);
+        variant.setColour(colour);
+        return variant;
+    }
+}
@@ -0,0 +1,87 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.errorhandling.ChangeTokenExpiredException;
+import com.vehicle.salesmanagement.support.TestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Change tokens against the V7 triggers in the embedded Postgres: a write whose transaction was still open when a
+ * snapshot was taken must count as changed after it, whenever it was stamped.
+ */
+class ChangeFeedServiceTest {
+
+    private static final String ORDER_ID = "CFS-0001";
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(TestDatabase.dataSource());
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM sales_tracking.finance_details WHERE customer_order_id = ?", ORDER_ID);
+    }
+
+    @Test
+    void tokenRoundTrips() {
+        ChangeFeedService.Token token = new ChangeFeedService.Token(TransactionSnapshot.parse("740:745:740,743"),
+                LocalDateTime.of(2025, 6, 19, 7, 15, 0, 123000));
+
+        ChangeFeedService.Token decoded = ChangeFeedService.decode(ChangeFeedService.encode(token));
+
+        assertEquals(token, decoded);
+        assertEquals(List.of(740L, 743L), decoded.snapshot().inProgress());
+        assertEquals(List.of(), TransactionSnapshot.parse("745:745:").inProgress());
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ChangeFeedService.decode("not-a-token"));
+        assertThrows(IllegalArgumentException.class, () -> ChangeFeedService.decode(encoded("2:12")));
+        assertThrows(IllegalArgumentException.class, () -> ChangeFeedService.decode(encoded("2:12:1:x:")));
+        // Clock-based tokens can no longer be served, so the grid reloads
+        assertThrows(ChangeTokenExpiredException.class, () -> ChangeFeedService.decode(encoded("1:0")));
+    }
+
+    @Test
+    void writeCommittedAfterTheSnapshotIsNotVisibleInIt() throws SQLException {
+        try (Connection writer = TestDatabase.dataSource().getConnection()) {
+            writer.setAutoCommit(false);
+            long xid;
+            try (PreparedStatement insert = writer.prepareStatement("INSERT INTO sales_tracking.finance_details "
+                    + "(customer_order_id, customer_name, finance_status) VALUES (?, 'Change Feed', 'PENDING') RETURNING updated_xid")) {
+                insert.setString(1, ORDER_ID);
+                try (ResultSet rs = insert.executeQuery()) {
+                    rs.next();
+                    xid = rs.getLong(1);
+                }
+            }
+
+            // Taken while the writer is open, as a token issued during a long write transaction would be
+            TransactionSnapshot during = snapshot();
+            writer.commit();
+            TransactionSnapshot after = snapshot();
+
+            assertTrue(during.notVisible(xid), "Open transaction " + xid + " is visible in " + during);
+            assertFalse(after.notVisible(xid), "Committed transaction " + xid + " is not visible in " + after);
+        }
+    }
+
+    private TransactionSnapshot snapshot() {
+        return TransactionSnapshot.parse(jdbcTemplate.queryForObject("SELECT pg_current_snapshot()::text", String.class));
+    }
+
+    private static String encoded(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,67 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.profiling.SqlAccounting;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.support.DatabaseIntegrationTest;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A {@code fields=} projection reads the selected columns in one query and never hydrates entities.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FieldProjectionServiceTest extends DatabaseIntegrationTest {
+
+    private static final String PREFIX = "FIELDS-";
+    private static final int ORDERS = 20;
+
+    @Autowired
+    private FieldProjectionService fieldProjectionService;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+        fixtures.seedOrders(fixtures.seedSku("Fields-Model", "LX"), PREFIX, ORDERS);
+    }
+
+    @AfterAll
+    void removeOrders() {
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void projectionLoadsNoEntities() {
+        try (SqlAccounting.Scope scope = SqlAccounting.open("test", "projection")) {
+            List<Map<String, Object>> rows = fieldProjectionService.findAll(GridProjection.VEHICLE_ORDERS,
+                    FieldProjectionService.DEFAULT_FIELDS);
+            assertTrue(rows.size() >= ORDERS);
+            assertEquals(0, scope.entitiesLoaded(), "Projection hydrated entities: " + scope);
+            assertEquals(1, scope.selects(), scope.toString());
+        }
+    }
+}
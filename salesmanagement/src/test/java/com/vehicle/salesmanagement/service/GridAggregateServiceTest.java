@@ -0,0 +1,123 @@
+package com.vehicle.salesmanagement.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.profiling.SqlAccounting;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.support.DatabaseIntegrationTest;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks {@code aggregate=} totals against the same totals summed over the full order grid, as the browser used to,
+ * and that they cost one grouped query without entities.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GridAggregateServiceTest extends DatabaseIntegrationTest {
+
+    private static final String PREFIX = "AGGREGATE-";
+    private static final int ORDERS = 40;
+    private static final List<OrderStatus> STATUSES = List.of(OrderStatus.PENDING, OrderStatus.ALLOTTED,
+            OrderStatus.DISPATCHED, OrderStatus.DELIVERED);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private GridAggregateService gridAggregateService;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+        fixtures.seedOrders(fixtures.seedSku("Aggregate-Model", "AX"), PREFIX, ORDERS, (order, i) -> {
+            order.setQuantity(1 + i % 3);
+            order.setOrderStatus(STATUSES.get(i % STATUSES.size()));
+        });
+    }
+
+    @AfterAll
+    void removeOrders() {
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void groupedTotalsMatchTheFullGrid() throws Exception {
+        byte[] fullBody = mockMvc.perform(get("/api/vehicleorders").param("fields", "orderStatus,quantity"))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray();
+        Map<String, Long> expectedQuantity = new HashMap<>();
+        Map<String, Long> expectedMaxQuantity = new HashMap<>();
+        Map<String, Long> expectedCount = new HashMap<>();
+        for (JsonNode row : objectMapper.readTree(fullBody).path("data")) {
+            String orderStatus = row.path("orderStatus").asText();
+            expectedQuantity.merge(orderStatus, row.path("quantity").asLong(), Long::sum);
+            expectedMaxQuantity.merge(orderStatus, row.path("quantity").asLong(), Long::max);
+            expectedCount.merge(orderStatus, 1L, Long::sum);
+        }
+
+        byte[] aggregateBody = mockMvc.perform(get("/api/aggregates/vehicle-orders")
+                        .param("aggregate", "quantity:sum,quantity:max,customerOrderId:count").param("group", "orderStatus"))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray();
+        JsonNode aggregated = objectMapper.readTree(aggregateBody);
+        assertEquals(0, aggregated.path("data").size());
+        assertEquals(expectedCount.values().stream().mapToLong(Long::longValue).sum(), aggregated.path("total").asLong());
+        assertEquals(expectedQuantity.size(), aggregated.path("aggregateResults").size());
+        for (JsonNode group : aggregated.path("aggregateResults")) {
+            String orderStatus = group.path("value").asText();
+            assertEquals(expectedQuantity.get(orderStatus), group.at("/aggregates/quantity/sum").asLong(), orderStatus);
+            assertEquals(expectedMaxQuantity.get(orderStatus), group.at("/aggregates/quantity/max").asLong(), orderStatus);
+            assertEquals(expectedCount.get(orderStatus), group.at("/aggregates/customerOrderId/count").asLong(), orderStatus);
+        }
+    }
+
+    @Test
+    void aggregatesAreOneQueryWithoutEntities() {
+        try (SqlAccounting.Scope scope = SqlAccounting.open("test", "aggregate")) {
+            GridAggregateService.Result result = gridAggregateService.aggregate(GridProjection.VEHICLE_ORDERS,
+                    "quantity:sum,quantity:average", null);
+            assertTrue(result.rows() >= ORDERS);
+            assertEquals(1, scope.selects(), scope.toString());
+            assertEquals(0, scope.entitiesLoaded(), scope.toString());
+        }
+    }
+
+    @Test
+    void sumOfTextFieldIsRejected() throws Exception {
+        mockMvc.perform(get("/api/aggregates/vehicle-orders").param("aggregate", "customerName:sum"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/aggregates/vehicle-orders").param("aggregate", "quantity:median"))
+                .andExpect(status().isBadRequest());
+    }
+}
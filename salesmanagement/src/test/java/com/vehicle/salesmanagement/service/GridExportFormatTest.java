@@ -0,0 +1,140 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.export.ExportFormat;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import com.vehicle.salesmanagement.support.DatabaseIntegrationTest;
+import com.vehicle.salesmanagement.support.OrderFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exports the order grid in each format against the database and reads it back: every order is written once,
+ * after a header where the format has one. The export page size is smaller than the grid, so the keyset pages are
+ * stitched together as well.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GridExportFormatTest extends DatabaseIntegrationTest {
+
+    private static final String PREFIX = "EXPORT-";
+    private static final int ORDERS = 1_200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GridExportService gridExportService;
+
+    @Autowired
+    private VehicleModelRepository vehicleModelRepository;
+
+    @Autowired
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @Autowired
+    private VehicleOrderDetailsRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        OrderFixtures fixtures = new OrderFixtures(vehicleModelRepository, vehicleVariantRepository, orderRepository);
+        // A name that needs CSV quoting
+        fixtures.seedOrders(fixtures.seedSku("Export-Model", "EX"), PREFIX, ORDERS,
+                (order, i) -> order.setCustomerName("Export Customer, \"Reconciliation\" " + i));
+    }
+
+    @AfterAll
+    void removeOrders() {
+        jdbcTemplate.update("DELETE FROM sales_tracking.vehicle_order_details WHERE customer_order_id LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    void csvExportHasHeaderAndEveryRow() throws Exception {
+        List<String> columns = gridExportService.columns(GridProjection.VEHICLE_ORDERS, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = gridExportService.export(GridProjection.VEHICLE_ORDERS, columns, ExportFormat.CSV, false, out);
+
+        assertEquals(orders(), rows);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r?\n");
+        assertEquals(rows + 1, lines.length, "CSV should hold a header plus one line per order");
+        assertTrue(lines[0].contains("customerOrderId"), lines[0]);
+    }
+
+    @Test
+    void gzipNdjsonExportStreamsEveryRow() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/export/vehicle-orders")
+                        .param("format", "ndjson").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        long lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(body)), StandardCharsets.UTF_8))) {
+            lines = reader.lines().filter(line -> line.startsWith("{\"customerOrderId\":")).count();
+        }
+        assertEquals(orders(), lines);
+    }
+
+    @Test
+    void xlsxExportHasHeaderAndEveryRow() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = gridExportService.export(GridProjection.VEHICLE_ORDERS, List.of("customerOrderId", "orderStatus"),
+                ExportFormat.XLSX, false, out);
+
+        long rowElements = 0;
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.add(entry.getName());
+                if (entry.getName().startsWith("xl/worksheets/")) {
+                    Matcher matcher = Pattern.compile("<row>").matcher(new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+                    while (matcher.find()) {
+                        rowElements++;
+                    }
+                }
+            }
+        }
+        assertTrue(entries.containsAll(List.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml")), String.join(", ", entries));
+        assertEquals(orders(), rows);
+        assertEquals(rows + 1, rowElements);
+    }
+
+    private long orders() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM sales_tracking.vehicle_order_details", Long.class);
+    }
+}
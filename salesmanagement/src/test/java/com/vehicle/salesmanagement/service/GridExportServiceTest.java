@@ -0,0 +1,68 @@
+package com.vehicle.salesmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vehicle.salesmanagement.config.ExportProperties;
+import com.vehicle.salesmanagement.export.ExportFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GridExportServiceTest {
+
+    private static final List<String> COLUMNS = List.of("financeId", "customerName");
+
+    private final FieldProjectionService fieldProjectionService = mock(FieldProjectionService.class);
+    private final ExportProperties exportProperties = new ExportProperties();
+    private final GridExportService exportService =
+            new GridExportService(fieldProjectionService, new ObjectMapper(), exportProperties);
+
+    @Test
+    void readsKeysetPagesAfterTheLastKeyWritten() throws Exception {
+        exportProperties.setPageSize(2);
+        when(fieldProjectionService.page(GridProjection.FINANCE_DETAILS, COLUMNS, null, 2))
+                .thenReturn(List.of(row(1L, "Asha"), row(4L, "Ravi")));
+        when(fieldProjectionService.page(GridProjection.FINANCE_DETAILS, COLUMNS, 4L, 2))
+                .thenReturn(List.of(row(7L, "Meera"), row(9L, "John")));
+        when(fieldProjectionService.page(GridProjection.FINANCE_DETAILS, COLUMNS, 9L, 2))
+                .thenReturn(List.of(row(12L, "Kiran")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.export(GridProjection.FINANCE_DETAILS, COLUMNS, ExportFormat.CSV, false, out);
+
+        assertEquals(5, rows);
+        assertEquals(6, out.toString(StandardCharsets.UTF_8).split("\r?\n").length);
+        // A short page ends the export without another query
+        verify(fieldProjectionService, times(3)).page(eq(GridProjection.FINANCE_DETAILS), eq(COLUMNS), any(), eq(2));
+    }
+
+    @Test
+    void fullLastPageNeedsOneEmptyPageToFinish() throws Exception {
+        exportProperties.setPageSize(2);
+        when(fieldProjectionService.page(GridProjection.FINANCE_DETAILS, COLUMNS, null, 2))
+                .thenReturn(List.of(row(1L, "Asha"), row(4L, "Ravi")));
+        when(fieldProjectionService.page(GridProjection.FINANCE_DETAILS, COLUMNS, 4L, 2))
+                .thenReturn(List.of());
+
+        long rows = exportService.export(GridProjection.FINANCE_DETAILS, COLUMNS, ExportFormat.NDJSON, false,
+                new ByteArrayOutputStream());
+
+        assertEquals(2, rows);
+    }
+
+    @Test
+    void rejectsColumnsWithoutTheKey() {
+        assertThrows(IllegalArgumentException.class, () -> exportService.export(GridProjection.FINANCE_DETAILS,
+                List.of("customerName"), ExportFormat.CSV, false, new ByteArrayOutputStream()));
+        verifyNoInteractions(fieldProjectionService);
+    }
+
+    private static Object[] row(Long financeId, String customerName) {
+        return new Object[]{financeId, customerName};
+    }
+}
@@ -0,0 +1,111 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariantSimilarityIndexTest {
+
+    private final VariantSimilarityIndex index = new VariantSimilarityIndex();
+
+    @Test
+    void nearestIsOrderedByDistanceAndExcludesTheQuery() {
+        index.upsert(1L, features(0));
+        index.upsert(2L, features(1));
+        index.upsert(3L, features(3));
+        index.upsert(4L, features(10));
+
+        assertEquals(List.of(2L, 3L, 4L), index.nearest(1L, 3));
+        assertEquals(List.of(2L), index.nearest(1L, 1));
+        assertEquals(List.of(3L, 2L, 1L), index.nearest(4L, 10));
+    }
+
+    @Test
+    void nearestToAFeatureVectorIncludesExactMatches() {
+        index.upsert(1L, features(0));
+        index.upsert(2L, features(5));
+        index.upsert(3L, features(10));
+
+        assertEquals(List.of(2L, 3L), index.nearest(features(6), 2));
+        assertThrows(IllegalArgumentException.class, () -> index.nearest(new double[3], 1));
+    }
+
+    @Test
+    void missingFeatureCostsAFixedPenaltyAndDoesNotWidenTheRange() {
+        index.upsert(1L, features(0));
+        index.upsert(2L, features(1));
+        index.upsert(3L, features(3));
+        index.upsert(4L, features(10));
+        index.upsert(5L, features(Double.NaN));
+
+        // Range stays 0..10: distances from 1 are 0.01, 0.09, 0.25 (penalty) and 1.0
+        assertEquals(List.of(2L, 3L, 5L, 4L), index.nearest(1L, 4));
+        // A query with the feature missing sees every row at the same penalty, so nothing beats anything else
+        assertEquals(4, index.nearest(5L, 4).size());
+    }
+
+    @Test
+    void unknownIdOrEmptyKYieldsNothing() {
+        index.upsert(1L, features(0));
+
+        assertTrue(index.nearest(99L, 3).isEmpty());
+        assertTrue(index.nearest(1L, 0).isEmpty());
+        assertTrue(index.nearest(1L, 3).isEmpty());
+    }
+
+    @Test
+    void upsertAllUpdatesExistingRowsAndAppendsNewOnes() {
+        index.rebuild(List.of(variant(1L, 100), variant(2L, 200), variant(3L, 900)));
+        assertEquals(List.of(2L, 3L), index.nearest(1L, 2));
+
+        index.upsertAll(List.of(variant(2L, 880), variant(4L, 120)));
+
+        assertEquals(4, index.size());
+        assertEquals(List.of(4L, 2L, 3L), index.nearest(1L, 3));
+        assertEquals(List.of(3L, 4L, 1L), index.nearest(2L, 3));
+    }
+
+    @Test
+    void removeDropsTheRowAndKeepsTheOthersAddressable() {
+        index.rebuild(List.of(variant(1L, 100), variant(2L, 200), variant(3L, 900), variant(4L, 120)));
+
+        // Removing a middle row moves the last one into its slot
+        index.remove(2L);
+        index.remove(99L);
+
+        assertEquals(3, index.size());
+        assertFalse(index.contains(2L));
+        assertEquals(List.of(4L, 3L), index.nearest(1L, 3));
+        assertEquals(List.of(4L, 1L), index.nearest(3L, 3));
+    }
+
+    @Test
+    void rebuildReplacesEverything() {
+        index.rebuild(List.of(variant(1L, 100), variant(2L, 200)));
+        index.rebuild(List.of(variant(3L, 300)));
+
+        assertEquals(1, index.size());
+        assertFalse(index.contains(1L));
+        assertTrue(index.contains(3L));
+    }
+
+    private static double[] features(double first) {
+        double[] features = new double[VariantSimilarityIndex.FEATURES];
+        Arrays.fill(features, 1.0);
+        features[0] = first;
+        return features;
+    }
+
+    private static VehicleVariant variant(long id, long price) {
+        VehicleVariant variant = new VehicleVariant();
+        variant.setVehicleVariantId(id);
+        variant.setPrice(BigDecimal.valueOf(price));
+        variant.setSeatingCapacity(5);
+        return variant;
+    }
+}
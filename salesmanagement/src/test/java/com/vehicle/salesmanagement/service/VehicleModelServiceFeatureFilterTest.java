@@ -0,0 +1,74 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.dto.apiresponse.KendoGridResponse;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleModelServiceFeatureFilterTest {
+
+    @Mock
+    private VehicleVariantRepository vehicleVariantRepository;
+
+    @InjectMocks
+    private VehicleModelService vehicleModelService;
+
+    @Test
+    void colourFilterIsLowerCasedForTheArrayLookup() {
+        VehicleVariant red = variant(1L, "Red, Pearl White", "ABS", "Sunroof");
+        when(vehicleVariantRepository.findByColoursContaining("pearl white")).thenReturn(List.of(red));
+
+        KendoGridResponse<VehicleVariant> response = vehicleModelService.getVehicleVariantsByFeature(" Pearl WHITE ", null, null);
+
+        assertEquals(List.of(red), response.getData());
+        verify(vehicleVariantRepository).findByColoursContaining("pearl white");
+    }
+
+    @Test
+    void remainingFiltersMatchCaseInsensitively() {
+        VehicleVariant both = variant(1L, "Red", "ABS, Airbags", "Sunroof");
+        VehicleVariant noSunroof = variant(2L, "Red", "abs", "Ventilated Seats");
+        VehicleVariant noAbs = variant(3L, "Red", "Airbags", "SUNROOF");
+        when(vehicleVariantRepository.findByColoursContaining("red")).thenReturn(List.of(both, noSunroof, noAbs));
+
+        KendoGridResponse<VehicleVariant> response = vehicleModelService.getVehicleVariantsByFeature("RED", "Abs", "sunRoof");
+
+        assertEquals(List.of(both), response.getData());
+    }
+
+    @Test
+    void safetyFeatureAloneUsesItsOwnIndex() {
+        VehicleVariant abs = variant(1L, null, "ABS", null);
+        when(vehicleVariantRepository.findBySafetyFeaturesContaining("abs")).thenReturn(List.of(abs));
+
+        KendoGridResponse<VehicleVariant> response = vehicleModelService.getVehicleVariantsByFeature(null, "ABS", null);
+
+        assertEquals(List.of(abs), response.getData());
+        verify(vehicleVariantRepository, never()).findByColoursContaining(anyString());
+    }
+
+    @Test
+    void noFilterIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> vehicleModelService.getVehicleVariantsByFeature(" ", null, ""));
+    }
+
+    private static VehicleVariant variant(long id, String colour, String safetyFeature, String comfort) {
+        VehicleVariant variant = new VehicleVariant();
+        variant.setVehicleVariantId(id);
+        variant.setColour(colour);
+        variant.setSafetyFeature(safetyFeature);
+        variant.setComfort(comfort);
+        VehicleSpecParser.applyParsedSpecs(variant);
+        return variant;
+    }
+}
@@ -0,0 +1,101 @@
+package com.vehicle.salesmanagement.service;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleSpecParserTest {
+
+    @Test
+    void parseLengthMm_convertsUnitsToMillimetres() {
+        assertEquals(2600, VehicleSpecParser.parseLengthMm("2600 mm"));
+        assertEquals(2600, VehicleSpecParser.parseLengthMm("2600"));
+        assertEquals(2600, VehicleSpecParser.parseLengthMm("260 cm"));
+        assertEquals(4350, VehicleSpecParser.parseLengthMm("4.35 m"));
+        assertEquals(2540, VehicleSpecParser.parseLengthMm("100 inches"));
+        assertEquals(254, VehicleSpecParser.parseLengthMm("10\""));
+        assertEquals(3048, VehicleSpecParser.parseLengthMm("10 ft"));
+        assertEquals(3048, VehicleSpecParser.parseLengthMm("10 FEET"));
+    }
+
+    @Test
+    void parseLengthMm_handlesThousandsSeparators() {
+        assertEquals(4995, VehicleSpecParser.parseLengthMm("4,995 mm"));
+        assertEquals(1234567, VehicleSpecParser.parseLengthMm("1,234,567"));
+    }
+
+    @Test
+    void parseLengthMm_unknownUnitYieldsNull() {
+        for (String value : new String[]{"4.35 metres", "4.35 meters", "4.35 mtr", "4350 yd"}) {
+            assertNull(VehicleSpecParser.parseLengthMm(value), value);
+        }
+    }
+
+    @Test
+    void parseSpeedKmph_convertsMph() {
+        assertEquals(180, VehicleSpecParser.parseSpeedKmph("180 km/h"));
+        assertEquals(180, VehicleSpecParser.parseSpeedKmph("180 kmph"));
+        assertEquals(161, VehicleSpecParser.parseSpeedKmph("100 mph"));
+    }
+
+    @Test
+    void parsePowerBhp_convertsKilowattsAndPs() {
+        assertEquals(new BigDecimal("118.00"), VehicleSpecParser.parsePowerBhp("118 bhp"));
+        assertEquals(new BigDecimal("134.10"), VehicleSpecParser.parsePowerBhp("100 kW"));
+        assertEquals(new BigDecimal("98.63"), VehicleSpecParser.parsePowerBhp("100 PS"));
+        assertEquals(new BigDecimal("1001.50"), VehicleSpecParser.parsePowerBhp("1,001.5 hp @ 6000 rpm"));
+    }
+
+    @Test
+    void unparseableInput_yieldsNull() {
+        for (String value : new String[]{null, "", "   ", "N/A", "—", "TBD"}) {
+            assertNull(VehicleSpecParser.parseLengthMm(value), value);
+            assertNull(VehicleSpecParser.parseSpeedKmph(value), value);
+            assertNull(VehicleSpecParser.parsePowerBhp(value), value);
+        }
+    }
+
+    @Test
+    void splitMultiValued_foldsCaseTrimsAndDropsDuplicatesAndBlanks() {
+        assertEquals(List.of("red", "blue"), VehicleSpecParser.splitMultiValued(" Red, BLUE,,red , "));
+        assertNull(VehicleSpecParser.splitMultiValued(" "));
+        assertNull(VehicleSpecParser.splitMultiValued(null));
+    }
+
+    @Test
+    void splitDisplayValues_keepsCase() {
+        assertEquals(List.of("Pearl White", "Red"), VehicleSpecParser.splitDisplayValues("Pearl White, Red, Red"));
+    }
+
+    @Test
+    void applyParsedSpecs_stampsParsedAndReportsChanges() {
+        VehicleVariant variant = new VehicleVariant();
+        variant.setMaxPower("118 bhp");
+        variant.setTopSpeed("N/A");
+        variant.setLength("4,350 mm");
+
+        assertTrue(VehicleSpecParser.applyParsedSpecs(variant));
+        assertNotNull(variant.getSpecsParsedAt());
+        assertEquals(new BigDecimal("118.00"), variant.getMaxPowerBhp());
+        assertNull(variant.getTopSpeedKmph());
+        assertEquals(4350, variant.getLengthMm());
+
+        // Re-parsing the same strings changes nothing, even with a differently scaled stored value
+        variant.setMaxPowerBhp(new BigDecimal("118.0"));
+        assertFalse(VehicleSpecParser.applyParsedSpecs(variant));
+    }
+
+    @Test
+    void applyParsedSpecs_unparseableOnlyRowIsUnchanged() {
+        VehicleVariant variant = new VehicleVariant();
+        variant.setMaxPower("N/A");
+        variant.setWidth("—");
+
+        assertFalse(VehicleSpecParser.applyParsedSpecs(variant));
+        assertNotNull(variant.getSpecsParsedAt());
+    }
+}
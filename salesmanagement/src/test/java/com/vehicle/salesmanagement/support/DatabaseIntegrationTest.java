@@ -0,0 +1,33 @@
+package com.vehicle.salesmanagement.support;
+
+import io.temporal.client.WorkflowClient;
+import io.temporal.worker.WorkerFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Base for Spring Boot tests that run the real services and repositories against {@link TestDatabase}. Temporal is
+ * mocked out ({@code TemporalWorkerConfig} is off under the {@code test} profile), so these tests cover what the
+ * application does with the database, not the workflows. Subclasses share one cached application context.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class DatabaseIntegrationTest {
+
+    @MockBean
+    protected WorkflowClient workflowClient;
+
+    @MockBean
+    protected WorkerFactory workerFactory;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+        registry.add("catalog.snapshot.path", () -> "build/test/catalog.snapshot");
+    }
+}
@@ -0,0 +1,18 @@
+package com.vehicle.salesmanagement.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails a test run with {@link SqlStatementCountExtension} if it prepared more SQL statements than {@link #value()}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxSqlStatements {
+
+    int value();
+}
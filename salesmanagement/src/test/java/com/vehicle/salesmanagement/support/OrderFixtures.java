@@ -0,0 +1,96 @@
+package com.vehicle.salesmanagement.support;
+
+import com.vehicle.salesmanagement.domain.entity.model.VehicleModel;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleOrderDetails;
+import com.vehicle.salesmanagement.domain.entity.model.VehicleVariant;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import com.vehicle.salesmanagement.repository.VehicleModelRepository;
+import com.vehicle.salesmanagement.repository.VehicleOrderDetailsRepository;
+import com.vehicle.salesmanagement.repository.VehicleVariantRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Seeds a SKU and pending orders for it through the repositories, for the Spring Boot tests and the load harness that
+ * run against {@link TestDatabase}. Order IDs are {@code <prefix><7-digit index>}; give each test its own prefix.
+ */
+public final class OrderFixtures {
+
+    private final VehicleModelRepository vehicleModelRepository;
+    private final VehicleVariantRepository vehicleVariantRepository;
+    private final VehicleOrderDetailsRepository orderRepository;
+
+    public OrderFixtures(VehicleModelRepository vehicleModelRepository, VehicleVariantRepository vehicleVariantRepository,
+                         VehicleOrderDetailsRepository orderRepository) {
+        this.vehicleModelRepository = vehicleModelRepository;
+        this.vehicleVariantRepository = vehicleVariantRepository;
+        this.orderRepository = orderRepository;
+    }
+
+    public static String orderId(String prefix, int i) {
+        return String.format("%s%07d", prefix, i);
+    }
+
+    /**
+     * Saves a new model with a single variant.
+     */
+    public VehicleVariant seedSku(String modelName, String variantName) {
+        VehicleModel model = vehicleModelRepository.save(new VehicleModel(null, modelName));
+        VehicleVariant variant = new VehicleVariant();
+        variant.setVehicleModelId(model);
+        variant.setModelName(model.getModelName());
+        variant.setVariant(variantName);
+        variant.setColour("Pearl White");
+        variant.setFuelType("Petrol");
+        variant.setTransmissionType("Automatic");
+        return vehicleVariantRepository.save(variant);
+    }
+
+    public List<VehicleOrderDetails> seedOrders(VehicleVariant sku, String prefix, int count) {
+        return seedOrders(sku, prefix, count, (order, i) -> {
+        });
+    }
+
+    /**
+     * Saves {@code count} pending orders for the SKU, letting {@code customize} change each one, with its index,
+     * before they are saved in one batch.
+     */
+    public List<VehicleOrderDetails> seedOrders(VehicleVariant sku, String prefix, int count,
+                                                ObjIntConsumer<VehicleOrderDetails> customize) {
+        List<VehicleOrderDetails> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            VehicleOrderDetails order = newOrder(sku, orderId(prefix, i));
+            customize.accept(order, i);
+            orders.add(order);
+        }
+        return orderRepository.saveAll(orders);
+    }
+
+    /**
+     * A pending order for the SKU with every required field filled in, not yet saved.
+     */
+    public static VehicleOrderDetails newOrder(VehicleVariant sku, String customerOrderId) {
+        VehicleOrderDetails order = new VehicleOrderDetails();
+        order.setCustomerOrderId(customerOrderId);
+        order.setVehicleModelId(sku.getVehicleModelId());
+        order.setVehicleVariantId(sku);
+        order.setCustomerName("Customer " + customerOrderId);
+        order.setPhoneNumber("9876543210");
+        order.setEmail(customerOrderId.toLowerCase(Locale.ROOT) + "@example.com");
+        order.setAadharNo("123412341234");
+        order.setPanNo("ABCDE1234F");
+        order.setModelName(sku.getModelName());
+        order.setVariant(sku.getVariant());
+        order.setColour(sku.getColour());
+        order.setFuelType(sku.getFuelType());
+        order.setTransmissionType(sku.getTransmissionType());
+        order.setQuantity(1);
+        order.setPaymentMode("Cash");
+        order.setOrderStatus(OrderStatus.PENDING);
+        order.setExpectedDeliveryDate("2025-12-31");
+        return order;
+    }
+}
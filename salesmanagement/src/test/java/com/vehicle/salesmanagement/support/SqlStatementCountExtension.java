@@ -0,0 +1,53 @@
+package com.vehicle.salesmanagement.support;
+
+import com.vehicle.salesmanagement.profiling.SqlAccounting;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Opens a {@link SqlAccounting} scope around each test method so it can assert how much SQL it caused.
+ * <p>
+ * Anything the test thread runs is counted, including MockMvc requests, whose own per-request scopes add into this
+ * one when they close. Declare {@link MaxSqlStatements} on the method for a hard limit, or take a
+ * {@link SqlAccounting.Scope} parameter and compare {@link SqlAccounting.Scope#statements()} before and after a call.
+ * Work handed to other threads (Temporal activities, async executors) is not seen here.
+ */
+public class SqlStatementCountExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlStatementCountExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlAccounting.open("test", context.getDisplayName()));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlAccounting.Scope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlAccounting.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        MaxSqlStatements limit = context.getRequiredTestMethod().getAnnotation(MaxSqlStatements.class);
+        if (limit != null && context.getExecutionException().isEmpty()) {
+            assertTrue(scope.statements() <= limit.value(),
+                    () -> context.getDisplayName() + " allowed " + limit.value() + " SQL statements but ran " + scope);
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == SqlAccounting.Scope.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).get(extensionContext.getUniqueId(), SqlAccounting.Scope.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.vehicle.salesmanagement.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Embedded Postgres (real binaries unpacked from the classpath, no container) migrated with the application's Flyway
+ * scripts. It starts once per JVM and stops on exit, and is shared by the database tests and the load harness.
+ * <p>
+ * Tests that build components by hand use {@link #dataSource()}; Spring Boot tests call {@link #register} from a
+ * {@code @DynamicPropertySource}. Tests share the database, so each one seeds rows under its own ID prefix.
+ */
+public final class TestDatabase {
+
+    private static TestDatabase instance;
+
+    private final EmbeddedPostgres postgres;
+
+    private TestDatabase() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS sales_tracking");
+        }
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .schemas("sales_tracking")
+                .defaultSchema("sales_tracking")
+                .load()
+                .migrate();
+    }
+
+    public static synchronized TestDatabase get() {
+        if (instance == null) {
+            try {
+                instance = new TestDatabase();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to prepare embedded Postgres", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::close, "test-database-shutdown"));
+        }
+        return instance;
+    }
+
+    /**
+     * Points the application context at the embedded database; call from a {@code @DynamicPropertySource}.
+     */
+    public static void register(DynamicPropertyRegistry registry) {
+        TestDatabase database = get();
+        registry.add("spring.datasource.url", database::jdbcUrl);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    public static DataSource dataSource() {
+        return get().postgres.getPostgresDatabase();
+    }
+
+    public String jdbcUrl() {
+        return postgres.getJdbcUrl("postgres", "postgres") + "&currentSchema=sales_tracking";
+    }
+
+    private void close() {
+        try {
+            postgres.close();
+        } catch (IOException ignored) {
+            // JVM is exiting; the data directory is temporary
+        }
+    }
+}
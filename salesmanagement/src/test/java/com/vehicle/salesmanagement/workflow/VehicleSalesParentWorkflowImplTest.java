@@ -0,0 +1,306 @@
+package com.vehicle.salesmanagement.workflow;
+
+import com.vehicle.salesmanagement.domain.dto.apirequest.DispatchRequest;
+import com.vehicle.salesmanagement.domain.dto.apirequest.FinanceRequest;
+import com.vehicle.salesmanagement.domain.dto.apirequest.OrderRequest;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.FinanceResponse;
+import com.vehicle.salesmanagement.domain.dto.apiresponse.OrderResponse;
+import com.vehicle.salesmanagement.enums.FinanceStatus;
+import com.vehicle.salesmanagement.enums.OrderStatus;
+import io.temporal.client.WorkflowClient;
+import io.temporal.client.WorkflowOptions;
+import io.temporal.client.WorkflowUpdateException;
+import io.temporal.common.interceptors.Header;
+import io.temporal.common.interceptors.WorkerInterceptor;
+import io.temporal.common.interceptors.WorkerInterceptorBase;
+import io.temporal.common.interceptors.WorkflowInboundCallsInterceptor;
+import io.temporal.common.interceptors.WorkflowInboundCallsInterceptorBase;
+import io.temporal.common.interceptors.WorkflowOutboundCallsInterceptor;
+import io.temporal.common.interceptors.WorkflowOutboundCallsInterceptorBase;
+import io.temporal.failure.ApplicationFailure;
+import io.temporal.testing.TestEnvironmentOptions;
+import io.temporal.testing.TestWorkflowEnvironment;
+import io.temporal.worker.Worker;
+import io.temporal.worker.WorkerFactoryOptions;
+import io.temporal.workflow.Workflow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the finance updates of the parent workflow on Temporal's in-memory test server, with stand-ins for the order
+ * and finance children: the order is placed as BLOCKED at once, and finance settles with whatever decision it is
+ * signalled.
+ */
+class VehicleSalesParentWorkflowImplTest {
+
+    private static final String ORDER_ID = "TYT-2025-001";
+    private static final String ORDER_TASK_QUEUE = "vehicle-order-task-queue";
+    private static final String FINANCE_TASK_QUEUE = "finance-task-queue";
+
+    // Finance children started, counted by the stand-in; static because Temporal instantiates it
+    private static final AtomicInteger financeStarts = new AtomicInteger();
+
+    private TestWorkflowEnvironment environment;
+    private VehicleSalesParentWorkflow parent;
+
+    @BeforeEach
+    void resetFinanceStarts() {
+        financeStarts.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (environment != null) {
+            environment.close();
+        }
+    }
+
+    @Test
+    void financeDecisionBeforeInitiationIsRejected() {
+        placeOrder();
+
+        assertRejected("Finance has not been initiated for order " + ORDER_ID, () -> parent.approveFinanceRequest("Manager"));
+        assertRejected("Finance has not been initiated for order " + ORDER_ID, () -> parent.rejectFinanceRequest("Manager"));
+        assertRejected("Order must be ALLOTTED: finance for order " + ORDER_ID + " is PENDING",
+                () -> parent.requestDispatch(dispatchRequest()));
+        assertEquals(0, financeStarts.get());
+    }
+
+    @Test
+    void financeIsRequestedOnceAndOnlyForThisOrder() {
+        placeOrder();
+
+        FinanceRequest otherOrder = financeRequest();
+        otherOrder.setCustomerOrderId("TYT-2025-002");
+        assertRejected("Request is for order TYT-2025-002 but this workflow handles " + ORDER_ID,
+                () -> parent.requestFinance(otherOrder));
+
+        OrderResponse started = parent.requestFinance(financeRequest());
+        assertEquals(ORDER_ID, started.getCustomerOrderId());
+        assertRejected("Finance has already been initiated for order " + ORDER_ID, () -> parent.requestFinance(financeRequest()));
+        assertEquals(1, financeStarts.get());
+    }
+
+    @Test
+    void approvedFinanceAllotsTheOrder() {
+        placeOrder();
+        parent.requestFinance(financeRequest());
+
+        assertRejected("Finance decision must name who made it", () -> parent.approveFinanceRequest(" "));
+        FinanceResponse approved = parent.approveFinanceRequest("Manager");
+
+        assertEquals(FinanceStatus.APPROVED, approved.getFinanceStatus());
+        assertEquals("Manager", approved.getApprovedBy());
+        assertEquals(OrderStatus.ALLOTTED, approved.getOrderStatus());
+        assertRejected("Finance for order " + ORDER_ID + " has already been APPROVED", () -> parent.rejectFinanceRequest("Manager"));
+    }
+
+    @Test
+    void rejectedFinanceKeepsTheOrderFromDispatch() {
+        placeOrder();
+        parent.requestFinance(financeRequest());
+
+        FinanceResponse rejected = parent.rejectFinanceRequest("Manager");
+
+        assertEquals(FinanceStatus.REJECTED, rejected.getFinanceStatus());
+        assertEquals("Manager", rejected.getRejectedBy());
+        assertRejected("Finance for order " + ORDER_ID + " has already been REJECTED", () -> parent.approveFinanceRequest("Manager"));
+        assertRejected("Order must be ALLOTTED: finance for order " + ORDER_ID + " is REJECTED",
+                () -> parent.requestDispatch(dispatchRequest()));
+    }
+
+    @Test
+    void decisionThatCannotBeSignalledCanBeRetried() {
+        placeOrder(new FailFirstApproval());
+        parent.requestFinance(financeRequest());
+
+        ApplicationFailure failure = updateFailure(() -> parent.approveFinanceRequest("Manager"));
+        assertEquals("FinanceFailed", failure.getType());
+        assertEquals("Failed to signal finance-" + ORDER_ID + ": finance worker unreachable", failure.getOriginalMessage());
+
+        FinanceResponse approved = parent.approveFinanceRequest("Manager");
+        assertEquals(FinanceStatus.APPROVED, approved.getFinanceStatus());
+    }
+
+    @Test
+    void cancelBehindAnAcceptedFinanceRequestFailsIt() {
+        placeOrder(new CancelBehindFinanceRequest());
+
+        // Before the fix the update waited for a finance start that never came
+        ApplicationFailure failure = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> updateFailure(() -> parent.requestFinance(financeRequest())));
+
+        assertEquals("OrderCanceled", failure.getType());
+        assertEquals("Order " + ORDER_ID + " was canceled before finance started", failure.getOriginalMessage());
+        assertEquals(0, financeStarts.get());
+    }
+
+    /**
+     * Starts the parent on the test server and waits until the order is placed, the point from which it takes updates.
+     */
+    private void placeOrder(WorkerInterceptor... interceptors) {
+        environment = TestWorkflowEnvironment.newInstance(TestEnvironmentOptions.newBuilder()
+                .setWorkerFactoryOptions(WorkerFactoryOptions.newBuilder().setWorkerInterceptors(interceptors).build())
+                .build());
+        Worker orderWorker = environment.newWorker(ORDER_TASK_QUEUE);
+        orderWorker.registerWorkflowImplementationTypes(VehicleSalesParentWorkflowImpl.class, BlockedOrderWorkflow.class);
+        environment.newWorker(FINANCE_TASK_QUEUE).registerWorkflowImplementationTypes(SignalledFinanceWorkflow.class);
+        environment.start();
+
+        parent = environment.getWorkflowClient().newWorkflowStub(VehicleSalesParentWorkflow.class,
+                WorkflowOptions.newBuilder().setWorkflowId("parent-" + ORDER_ID).setTaskQueue(ORDER_TASK_QUEUE).build());
+        WorkflowClient.start(parent::processOrder, orderRequest());
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (parent.getOrderStatus().getCustomerOrderId() == null) {
+            assertTrue(System.nanoTime() < deadline, "Order was not placed");
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static void assertRejected(String message, Executable update) {
+        assertEquals(message, updateFailure(update).getOriginalMessage());
+    }
+
+    private static ApplicationFailure updateFailure(Executable update) {
+        WorkflowUpdateException e = assertThrows(WorkflowUpdateException.class, update);
+        return assertInstanceOf(ApplicationFailure.class, e.getCause());
+    }
+
+    private static OrderRequest orderRequest() {
+        OrderRequest request = new OrderRequest();
+        request.setCustomerOrderId(ORDER_ID);
+        request.setCustomerName("Test Customer");
+        request.setVehicleModelId(1L);
+        request.setVehicleVariantId(1L);
+        request.setModelName("Test Model");
+        request.setVariant("Test Variant");
+        request.setQuantity(1);
+        return request;
+    }
+
+    private static FinanceRequest financeRequest() {
+        FinanceRequest request = new FinanceRequest();
+        request.setCustomerOrderId(ORDER_ID);
+        request.setCustomerName("Test Customer");
+        request.setVehicleModelId(1L);
+        request.setVehicleVariantId(1L);
+        return request;
+    }
+
+    private static DispatchRequest dispatchRequest() {
+        DispatchRequest request = new DispatchRequest();
+        request.setCustomerOrderId(ORDER_ID);
+        request.setDispatchedBy("Dispatcher");
+        return request;
+    }
+
+    public static class BlockedOrderWorkflow implements VehicleOrderWorkflow {
+
+        @Override
+        public OrderResponse placeOrder(OrderRequest orderRequest) {
+            return new OrderResponse(orderRequest.getCustomerOrderId(), OrderStatus.BLOCKED);
+        }
+
+        @Override
+        public void cancelOrder(String orderId) {
+        }
+    }
+
+    public static class SignalledFinanceWorkflow implements FinanceWorkflow {
+
+        private FinanceStatus decision;
+        private String decidedBy;
+
+        @Override
+        public FinanceResponse processFinance(FinanceRequest financeRequest) {
+            if (!Workflow.isReplaying()) {
+                financeStarts.incrementAndGet();
+            }
+            Workflow.await(() -> decision != null);
+            FinanceResponse response = new FinanceResponse();
+            response.setCustomerOrderId(financeRequest.getCustomerOrderId());
+            response.setCustomerName(financeRequest.getCustomerName());
+            response.setFinanceStatus(decision);
+            if (decision == FinanceStatus.APPROVED) {
+                response.setApprovedBy(decidedBy);
+                response.setOrderStatus(OrderStatus.ALLOTTED);
+            } else {
+                response.setRejectedBy(decidedBy);
+                response.setOrderStatus(OrderStatus.PENDING);
+            }
+            return response;
+        }
+
+        @Override
+        public void approveFinance(String approvedBy) {
+            decision = FinanceStatus.APPROVED;
+            decidedBy = approvedBy;
+        }
+
+        @Override
+        public void rejectFinance(String rejectedBy) {
+            decision = FinanceStatus.REJECTED;
+            decidedBy = rejectedBy;
+        }
+    }
+
+    /**
+     * Fails the parent's first approval signal to the finance child, as an unreachable finance worker would.
+     */
+    static class FailFirstApproval extends WorkerInterceptorBase {
+
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        @Override
+        public WorkflowInboundCallsInterceptor interceptWorkflow(WorkflowInboundCallsInterceptor next) {
+            return new WorkflowInboundCallsInterceptorBase(next) {
+                @Override
+                public void init(WorkflowOutboundCallsInterceptor outboundCalls) {
+                    super.init(new WorkflowOutboundCallsInterceptorBase(outboundCalls) {
+                        @Override
+                        public SignalExternalOutput signalExternalWorkflow(SignalExternalInput input) {
+                            if (input.getSignalName().equals("approveFinance") && failed.compareAndSet(false, true)) {
+                                return new SignalExternalOutput(Workflow.newFailedPromise(
+                                        ApplicationFailure.newFailure("finance worker unreachable", "SignalFailed")));
+                            }
+                            return super.signalExternalWorkflow(input);
+                        }
+                    });
+                }
+            };
+        }
+    }
+
+    /**
+     * Delivers a cancel signal right behind an accepted finance request, before its handler runs, as when both land
+     * in the same workflow task: processOrder then never gets as far as starting finance.
+     */
+    static class CancelBehindFinanceRequest extends WorkerInterceptorBase {
+
+        @Override
+        public WorkflowInboundCallsInterceptor interceptWorkflow(WorkflowInboundCallsInterceptor next) {
+            return new WorkflowInboundCallsInterceptorBase(next) {
+                @Override
+                public UpdateOutput executeUpdate(UpdateInput input) {
+                    if (input.getUpdateName().equals("requestFinance")) {
+                        handleSignal(new SignalInput("cancelOrder", new Object[]{ORDER_ID}, 0, Header.empty()));
+                    }
+                    return super.executeUpdate(input);
+                }
+            };
+        }
+    }
+}